@@ -24,7 +24,7 @@ public class BigDecimalTest {
 
   private static final ObjectMapper mapper = new ObjectMapper();
 
-  private static final Jsonb jsonbStandard = Jsonb.newBuilder().adapter(new JacksonAdapter()).build();
+  private static final Jsonb jsonbStandard = Jsonb.builder().adapter(new JacksonAdapter()).build();
   private static final JsonType<MyMathBigD> jsonbType = jsonbStandard.type(MyMathBigD.class);
 
   private MyMathBigD testData;
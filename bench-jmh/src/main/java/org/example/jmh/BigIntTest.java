@@ -26,7 +26,7 @@ public class BigIntTest {
 
   private static final ObjectMapper mapper = new ObjectMapper();
 
-  private static final Jsonb jsonbStandard = Jsonb.newBuilder().adapter(new JacksonAdapter()).build();
+  private static final Jsonb jsonbStandard = Jsonb.builder().adapter(new JacksonAdapter()).build();
   private static final JsonType<MyMathBigInt> jsonbType = jsonbStandard.type(MyMathBigInt.class);
 
   private MyMathBigInt testData;
@@ -0,0 +1,131 @@
+package org.example.jmh;
+
+import io.avaje.json.JsonWriter;
+import io.avaje.json.stream.JsonOutput;
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.Jsonb;
+import org.example.jmh.model.NestAddress;
+import org.example.jmh.model.NestCust;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare writing a multi-MB export to a FileChannel and a loopback SocketChannel
+ * via JsonOutput.ofStream() and JsonOutput.ofChannel().
+ */
+@BenchmarkMode(Mode.Throughput)
+@Timeout(time = 20)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ChannelOutputTest {
+
+  private static final Jsonb jsonb = Jsonb.builder().build();
+  private static final JsonType<List<NestCust>> listType = jsonb.type(NestCust.class).list();
+
+  private final ByteBuffer directBuffer = ByteBuffer.allocateDirect(64 * 1024);
+
+  private List<NestCust> testData;
+  private Path file;
+  private FileChannel fileChannel;
+  private OutputStream fileStream;
+  private ServerSocketChannel server;
+  private SocketChannel socketChannel;
+  private OutputStream socketStream;
+  private Thread drain;
+
+  @Setup
+  public void setup() throws IOException {
+    testData = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      NestAddress billing = new NestAddress("street" + i, "street2", "suburb", "city");
+      NestAddress shipping = new NestAddress("ship street" + i, null, "ship suburb", "ship city");
+      testData.add(new NestCust(i, "name" + i, "2024-03-15T10:15:30Z", "2024-03-16T10:15:30Z", "some notes for customer " + i, billing, shipping));
+    }
+
+    file = Files.createTempFile("channel-bench", ".json");
+    fileChannel = FileChannel.open(file, StandardOpenOption.WRITE);
+    fileStream = Channels.newOutputStream(fileChannel);
+
+    server = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    socketChannel = SocketChannel.open(server.getLocalAddress());
+    SocketChannel accepted = server.accept();
+    socketStream = socketChannel.socket().getOutputStream();
+    drain = new Thread(() -> {
+      ByteBuffer sink = ByteBuffer.allocateDirect(256 * 1024);
+      try {
+        while (accepted.read(sink) >= 0) {
+          sink.clear();
+        }
+      } catch (IOException e) {
+        // closed
+      }
+    });
+    drain.setDaemon(true);
+    drain.start();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    socketChannel.close();
+    server.close();
+    fileChannel.close();
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public long file_ofStream() throws IOException {
+    fileChannel.position(0);
+    write(JsonOutput.ofStream(fileStream));
+    return fileChannel.position();
+  }
+
+  @Benchmark
+  public long file_ofChannel() throws IOException {
+    fileChannel.position(0);
+    write(JsonOutput.ofChannel(fileChannel, directBuffer));
+    return fileChannel.position();
+  }
+
+  @Benchmark
+  public void socket_ofStream() {
+    write(JsonOutput.ofStream(socketStream));
+  }
+
+  @Benchmark
+  public void socket_ofChannel() {
+    write(JsonOutput.ofChannel(socketChannel, directBuffer));
+  }
+
+  private void write(JsonOutput output) {
+    // not closing the output such that the channel is reused
+    try (JsonWriter writer = jsonb.writer(output)) {
+      listType.toJson(testData, writer);
+    }
+  }
+
+  public static void main(String[] args) throws IOException {
+    ChannelOutputTest test = new ChannelOutputTest();
+    test.setup();
+    System.out.println(test.file_ofStream());
+    System.out.println(test.file_ofChannel());
+    test.socket_ofStream();
+    test.socket_ofChannel();
+    test.tearDown();
+  }
+}
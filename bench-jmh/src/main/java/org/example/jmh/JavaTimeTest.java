@@ -0,0 +1,105 @@
+package org.example.jmh;
+
+import io.avaje.json.JsonAdapter;
+import io.avaje.json.JsonReader;
+import io.avaje.json.JsonWriter;
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.Jsonb;
+import org.example.jmh.model.TimestampData;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compare the built-in java time adapters (ISO-8601 formatted and parsed on the
+ * buffer) with adapters that use toString() and X.parse(String).
+ */
+@BenchmarkMode(Mode.Throughput)
+@Timeout(time = 20)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JavaTimeTest {
+
+  private static final Jsonb jsonb = Jsonb.builder().build();
+  private static final JsonType<TimestampData> directType = jsonb.type(TimestampData.class);
+
+  private static final Jsonb stringJsonb = Jsonb.builder()
+    .add(Instant.class, new StringAdapter<>(Instant::parse))
+    .add(LocalDate.class, new StringAdapter<>(LocalDate::parse))
+    .add(LocalDateTime.class, new StringAdapter<>(LocalDateTime::parse))
+    .add(OffsetDateTime.class, new StringAdapter<>(OffsetDateTime::parse))
+    .add(ZonedDateTime.class, new StringAdapter<>(ZonedDateTime::parse))
+    .add(Duration.class, new StringAdapter<>(Duration::parse))
+    .build();
+  private static final JsonType<TimestampData> stringType = stringJsonb.type(TimestampData.class);
+
+  private TimestampData testData;
+  private byte[] content;
+
+  @Setup
+  public void setup() {
+    Instant created = Instant.parse("2024-03-15T10:15:30.123Z");
+    testData = new TimestampData(
+      "evt-0001",
+      created,
+      created.plusNanos(987_654_321),
+      LocalDate.of(2024, 3, 15),
+      LocalDateTime.of(2024, 3, 15, 10, 15, 30, 500_000_000),
+      OffsetDateTime.of(2024, 3, 15, 10, 15, 30, 0, ZoneOffset.ofHours(10)),
+      ZonedDateTime.of(2024, 3, 15, 10, 15, 30, 0, ZoneId.of("Europe/Paris")),
+      Duration.ofMillis(93_784_005));
+    content = directType.toJsonBytes(testData);
+  }
+
+  @Benchmark
+  public byte[] toJson_direct() {
+    return directType.toJsonBytes(testData);
+  }
+
+  @Benchmark
+  public byte[] toJson_string() {
+    return stringType.toJsonBytes(testData);
+  }
+
+  @Benchmark
+  public TimestampData fromJson_direct() {
+    return directType.fromJson(content);
+  }
+
+  @Benchmark
+  public TimestampData fromJson_string() {
+    return stringType.fromJson(content);
+  }
+
+  static final class StringAdapter<T> implements JsonAdapter<T> {
+
+    private final Function<String, T> parse;
+
+    StringAdapter(Function<String, T> parse) {
+      this.parse = parse;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, T value) {
+      writer.value(value.toString());
+    }
+
+    @Override
+    public T fromJson(JsonReader reader) {
+      return parse.apply(reader.readString());
+    }
+  }
+
+  public static void main(String[] args) {
+    JavaTimeTest test = new JavaTimeTest();
+    test.setup();
+
+    System.out.println(new String(test.toJson_direct()));
+    System.out.println(new String(test.toJson_string()));
+    System.out.println(test.fromJson_direct());
+    System.out.println(test.fromJson_string());
+  }
+}
@@ -0,0 +1,115 @@
+package org.example.jmh;
+
+import io.avaje.json.JsonAdapter;
+import io.avaje.json.JsonReader;
+import io.avaje.json.JsonWriter;
+import io.avaje.json.PropertyNames;
+import io.avaje.jsonb.Jsonb;
+import org.example.jmh.model.NumericData;
+
+/**
+ * Adapter in the shape generated prior to direct primitive reads and writes,
+ * every primitive is boxed via JsonAdapter&lt;Integer&gt; etc.
+ */
+public class MyBoxedNumericAdapter implements JsonAdapter<NumericData> {
+
+  private final JsonAdapter<Integer> pintJsonAdapter;
+  private final JsonAdapter<Long> plongJsonAdapter;
+  private final JsonAdapter<Double> pdoubleJsonAdapter;
+  private final JsonAdapter<Boolean> pbooleanJsonAdapter;
+  private final JsonAdapter<Integer> integerJsonAdapter;
+  private final JsonAdapter<Long> longJsonAdapter;
+  private final PropertyNames names;
+
+  public MyBoxedNumericAdapter(Jsonb jsonb) {
+    this.pintJsonAdapter = jsonb.adapter(int.class);
+    this.plongJsonAdapter = jsonb.adapter(long.class);
+    this.pdoubleJsonAdapter = jsonb.adapter(double.class);
+    this.pbooleanJsonAdapter = jsonb.adapter(boolean.class);
+    this.integerJsonAdapter = jsonb.adapter(Integer.class);
+    this.longJsonAdapter = jsonb.adapter(Long.class);
+    this.names = jsonb.properties("count", "timestamp", "value", "active", "min", "max", "total", "mean", "optCount", "optTotal");
+  }
+
+  @Override
+  public void toJson(JsonWriter writer, NumericData data) {
+    writer.beginObject(names);
+    writer.name(0);
+    pintJsonAdapter.toJson(writer, data.count());
+    writer.name(1);
+    plongJsonAdapter.toJson(writer, data.timestamp());
+    writer.name(2);
+    pdoubleJsonAdapter.toJson(writer, data.value());
+    writer.name(3);
+    pbooleanJsonAdapter.toJson(writer, data.active());
+    writer.name(4);
+    pintJsonAdapter.toJson(writer, data.min());
+    writer.name(5);
+    pintJsonAdapter.toJson(writer, data.max());
+    writer.name(6);
+    plongJsonAdapter.toJson(writer, data.total());
+    writer.name(7);
+    pdoubleJsonAdapter.toJson(writer, data.mean());
+    writer.name(8);
+    integerJsonAdapter.toJson(writer, data.optCount());
+    writer.name(9);
+    longJsonAdapter.toJson(writer, data.optTotal());
+    writer.endObject();
+  }
+
+  @Override
+  public NumericData fromJson(JsonReader reader) {
+    int     _val$count = 0;
+    long    _val$timestamp = 0;
+    double  _val$value = 0;
+    boolean _val$active = false;
+    int     _val$min = 0;
+    int     _val$max = 0;
+    long    _val$total = 0;
+    double  _val$mean = 0;
+    Integer _val$optCount = null;
+    Long    _val$optTotal = null;
+
+    reader.beginObject(names);
+    while (reader.hasNextField()) {
+      final String fieldName = reader.nextField();
+      switch (fieldName) {
+        case "count":
+          _val$count = pintJsonAdapter.fromJson(reader);
+          break;
+        case "timestamp":
+          _val$timestamp = plongJsonAdapter.fromJson(reader);
+          break;
+        case "value":
+          _val$value = pdoubleJsonAdapter.fromJson(reader);
+          break;
+        case "active":
+          _val$active = pbooleanJsonAdapter.fromJson(reader);
+          break;
+        case "min":
+          _val$min = pintJsonAdapter.fromJson(reader);
+          break;
+        case "max":
+          _val$max = pintJsonAdapter.fromJson(reader);
+          break;
+        case "total":
+          _val$total = plongJsonAdapter.fromJson(reader);
+          break;
+        case "mean":
+          _val$mean = pdoubleJsonAdapter.fromJson(reader);
+          break;
+        case "optCount":
+          _val$optCount = integerJsonAdapter.fromJson(reader);
+          break;
+        case "optTotal":
+          _val$optTotal = longJsonAdapter.fromJson(reader);
+          break;
+        default:
+          reader.unmappedField(fieldName);
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return new NumericData(_val$count, _val$timestamp, _val$value, _val$active, _val$min, _val$max, _val$total, _val$mean, _val$optCount, _val$optTotal);
+  }
+}
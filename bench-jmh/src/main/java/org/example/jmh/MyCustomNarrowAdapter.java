@@ -1,10 +1,10 @@
 package org.example.jmh;
 
-import io.avaje.jsonb.JsonAdapter;
-import io.avaje.jsonb.JsonReader;
-import io.avaje.jsonb.JsonWriter;
+import io.avaje.json.JsonAdapter;
+import io.avaje.json.JsonReader;
+import io.avaje.json.JsonWriter;
 import io.avaje.jsonb.Jsonb;
-import io.avaje.jsonb.spi.PropertyNames;
+import io.avaje.json.PropertyNames;
 import org.example.jmh.model.NarrowNamesRecord;
 
 public class MyCustomNarrowAdapter implements JsonAdapter<NarrowNamesRecord> {
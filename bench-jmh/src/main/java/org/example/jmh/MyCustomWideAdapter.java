@@ -1,9 +1,10 @@
 package org.example.jmh;
 
+import io.avaje.json.*;
 import io.avaje.jsonb.*;
 import java.util.Random;
 
-import io.avaje.jsonb.spi.PropertyNames;
+import io.avaje.json.PropertyNames;
 import org.example.jmh.model.WideNamesRecord;
 
 public class MyCustomWideAdapter implements JsonAdapter<WideNamesRecord> {
@@ -1,13 +1,14 @@
 package org.example.jmh;
 
+import io.avaje.json.*;
 import io.avaje.jsonb.*;
 import java.io.IOException;
 import java.lang.invoke.MethodHandle;
 import java.time.Instant;
 import java.util.List;
 
-import io.avaje.jsonb.spi.ViewBuilder;
-import io.avaje.jsonb.spi.ViewBuilderAware;
+import io.avaje.json.view.ViewBuilder;
+import io.avaje.json.view.ViewBuilderAware;
 import org.example.jmh.model.SomePropertyData;
 
 public class MyViewAdapter implements JsonAdapter<SomePropertyData>, ViewBuilderAware {
@@ -31,7 +31,7 @@ public class NestSmallTest {
 
   private static final ObjectMapper mapper = new ObjectMapper();
 
-  private static final Jsonb jsonbStandard = Jsonb.newBuilder().adapter(new JacksonAdapter()).build();
+  private static final Jsonb jsonbStandard = Jsonb.builder().adapter(new JacksonAdapter()).build();
   private static final JsonType<NestCust> jsonbNestCust = jsonbStandard.type(NestCust.class);
 
   private NestCust testData;
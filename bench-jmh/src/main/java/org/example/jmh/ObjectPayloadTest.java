@@ -0,0 +1,85 @@
+package org.example.jmh;
+
+import io.avaje.json.stream.NumberMode;
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.Jsonb;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing heterogeneous Map / Object payloads where the adapter is determined
+ * by the runtime class of each value, and parsing them with each untyped NumberMode.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Timeout(time = 20)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ObjectPayloadTest {
+
+  private static final Jsonb jsonb = Jsonb.builder().build();
+  private static final JsonType<Map<String, Object>> mapType = jsonb.type(Object.class).map();
+  private static final JsonType<Map<String, Object>> longOrDoubleType = Jsonb.builder().numberMode(NumberMode.LONG_OR_DOUBLE).build().type(Object.class).map();
+  private static final JsonType<Map<String, Object>> lazyType = Jsonb.builder().numberMode(NumberMode.LAZY).build().type(Object.class).map();
+
+  private Map<String, Object> payload;
+  private byte[] content;
+
+  @Setup
+  public void setup() {
+    List<Object> items = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      Map<String, Object> item = new LinkedHashMap<>();
+      item.put("id", (long) i);
+      item.put("name", "item" + i);
+      item.put("price", i * 1.25);
+      item.put("active", i % 2 == 0);
+      item.put("tags", List.of("a", "b"));
+      item.put("attributes", Map.of("key", i));
+      items.add(item);
+    }
+    payload = new LinkedHashMap<>();
+    payload.put("items", items);
+    payload.put("count", items.size());
+    payload.put("owner", "someone");
+    content = jsonb.toJsonBytes(payload);
+  }
+
+  @Benchmark
+  public byte[] toJson_object() {
+    return jsonb.toJsonBytes(payload);
+  }
+
+  @Benchmark
+  public byte[] toJson_mapType() {
+    return mapType.toJsonBytes(payload);
+  }
+
+  @Benchmark
+  public Map<String, Object> fromJson_wholeAsLong() {
+    return mapType.fromJson(content);
+  }
+
+  @Benchmark
+  public Map<String, Object> fromJson_longOrDouble() {
+    return longOrDoubleType.fromJson(content);
+  }
+
+  @Benchmark
+  public Map<String, Object> fromJson_lazy() {
+    return lazyType.fromJson(content);
+  }
+
+  public static void main(String[] args) {
+    ObjectPayloadTest test = new ObjectPayloadTest();
+    test.setup();
+    System.out.println(new String(test.toJson_object()));
+    System.out.println(new String(test.toJson_mapType()));
+    System.out.println(test.fromJson_lazy());
+  }
+}
@@ -0,0 +1,93 @@
+package org.example.jmh;
+
+import io.avaje.json.JsonWriter;
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.Jsonb;
+import org.example.jmh.model.NestAddress;
+import org.example.jmh.model.NestCust;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Throughput of decoding a newline delimited json file with parallelLines() on
+ * 1 to N worker threads compared to the sequential streamAsLines().
+ */
+@BenchmarkMode(Mode.Throughput)
+@Timeout(time = 60)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@OutputTimeUnit(TimeUnit.MINUTES)
+public class ParallelLinesTest {
+
+  private static final Jsonb jsonb = Jsonb.builder().build();
+  private static final JsonType<NestCust> type = jsonb.type(NestCust.class);
+
+  @Param({"1", "2", "4", "8"})
+  int threads;
+
+  private Path file;
+  private ForkJoinPool pool;
+
+  @Setup
+  public void setup() throws IOException {
+    file = Files.createTempFile("parallel-lines", ".json");
+    try (OutputStream os = Files.newOutputStream(file); JsonWriter writer = jsonb.writer(os)) {
+      for (int i = 0; i < 500_000; i++) {
+        NestAddress billing = new NestAddress("street" + i, "street2", "suburb", "city");
+        NestAddress shipping = new NestAddress("ship street" + i, null, "ship suburb", "ship city");
+        type.toJson(new NestCust(i, "name" + i, "2024-03-15T10:15:30Z", "2024-03-16T10:15:30Z", "some notes for customer " + i, billing, shipping), writer);
+        writer.writeNewLine();
+      }
+    }
+    pool = new ForkJoinPool(threads);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    pool.shutdown();
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public long parallelLines_unordered() throws ExecutionException, InterruptedException {
+    return pool.submit(() -> {
+      try (Stream<NestCust> values = type.parallelLines(file)) {
+        return values.unordered().mapToLong(NestCust::id).sum();
+      }
+    }).get();
+  }
+
+  @Benchmark
+  public long parallelLines_ordered() throws ExecutionException, InterruptedException {
+    return pool.submit(() -> {
+      try (Stream<NestCust> values = type.parallelLines(file)) {
+        return values.map(NestCust::id).reduce(0L, (a, b) -> a * 31 + b);
+      }
+    }).get();
+  }
+
+  @Benchmark
+  public long sequential_streamAsLines() throws IOException {
+    try (InputStream is = Files.newInputStream(file); Stream<NestCust> values = type.streamAsLines().fromJson(is)) {
+      return values.mapToLong(NestCust::id).sum();
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    ParallelLinesTest test = new ParallelLinesTest();
+    test.threads = Runtime.getRuntime().availableProcessors();
+    test.setup();
+    System.out.println(test.parallelLines_unordered());
+    System.out.println(test.sequential_streamAsLines());
+    test.tearDown();
+  }
+}
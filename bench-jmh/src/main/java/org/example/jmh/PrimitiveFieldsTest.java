@@ -0,0 +1,65 @@
+package org.example.jmh;
+
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.Jsonb;
+import org.example.jmh.model.NumericData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the generated adapter (direct primitive reads and writes) with
+ * an adapter that boxes each primitive via JsonAdapter&lt;Integer&gt; etc.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Timeout(time = 20)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PrimitiveFieldsTest {
+
+  private static final Jsonb jsonb = Jsonb.builder().build();
+  private static final JsonType<NumericData> generatedType = jsonb.type(NumericData.class);
+
+  private static final Jsonb boxedJsonb = Jsonb.builder().add(NumericData.class, MyBoxedNumericAdapter::new).build();
+  private static final JsonType<NumericData> boxedType = boxedJsonb.type(NumericData.class);
+
+  private NumericData testData;
+  private byte[] content;
+
+  @Setup
+  public void setup() {
+    testData = new NumericData(42_000, 1_700_000_000_000L, 1234.5678, true, -1_000, 1_000_000, 9_876_543_210L, 0.125, 77_777, 123_456_789_012L);
+    content = generatedType.toJsonBytes(testData);
+  }
+
+  @Benchmark
+  public byte[] toJson_generated() {
+    return generatedType.toJsonBytes(testData);
+  }
+
+  @Benchmark
+  public byte[] toJson_boxed() {
+    return boxedType.toJsonBytes(testData);
+  }
+
+  @Benchmark
+  public NumericData fromJson_generated() {
+    return generatedType.fromJson(content);
+  }
+
+  @Benchmark
+  public NumericData fromJson_boxed() {
+    return boxedType.fromJson(content);
+  }
+
+  public static void main(String[] args) {
+    PrimitiveFieldsTest test = new PrimitiveFieldsTest();
+    test.setup();
+
+    System.out.println(new String(test.toJson_generated()));
+    System.out.println(new String(test.toJson_boxed()));
+    System.out.println(test.fromJson_generated());
+    System.out.println(test.fromJson_boxed());
+  }
+}
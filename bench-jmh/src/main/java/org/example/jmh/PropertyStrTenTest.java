@@ -9,7 +9,7 @@ import io.avaje.jsonb.JsonType;
 import io.avaje.jsonb.JsonView;
 import io.avaje.jsonb.Jsonb;
 import io.avaje.jsonb.jackson.JacksonAdapter;
-import io.avaje.jsonb.stream.JsonStream;
+import io.avaje.json.stream.JsonStream;
 import org.example.jmh.model.OtherPropertyData;
 import org.example.jmh.model.SomePropertyData;
 import org.openjdk.jmh.annotations.*;
@@ -32,10 +32,10 @@ public class PropertyStrTenTest {
 
   private static final ObjectMapper mapper = new ObjectMapper();
 
-  private static final Jsonb dieselJsonb = Jsonb.newBuilder().adapter(new JsonStream(false, false, false)).build();
+  private static final Jsonb dieselJsonb = Jsonb.builder().adapter(JsonStream.builder().build()).build();
   private static final JsonType<SomePropertyData> dieselJsonbType = dieselJsonb.type(SomePropertyData.class);
 
-  private static final Jsonb jsonb = Jsonb.newBuilder().adapter(new JacksonAdapter()).build();
+  private static final Jsonb jsonb = Jsonb.builder().adapter(new JacksonAdapter()).build();
   private static final JsonType<SomePropertyData> jsonbType = jsonb.type(SomePropertyData.class);
   private JsonView<SomePropertyData> allView;
   private JsonView<SomePropertyData> prop35View;
@@ -52,7 +52,7 @@ public class PropertyStrTenTest {
   @Setup
   public void setup() {
 
-    Jsonb viewAwareJsonb = Jsonb.newBuilder().adapter(new JacksonAdapter()).add(SomePropertyData.class, MyViewAdapter::new).build();
+    Jsonb viewAwareJsonb = Jsonb.builder().adapter(new JacksonAdapter()).add(SomePropertyData.class, MyViewAdapter::new).build();
     JsonType<SomePropertyData> viewAwareType = viewAwareJsonb.type(SomePropertyData.class);
     allView = viewAwareType.view("(*)");
     prop35View = viewAwareType.view("(anotherSimilarProperty3, lastButNotLeastProperty5)");
@@ -9,7 +9,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.avaje.jsonb.JsonType;
 import io.avaje.jsonb.Jsonb;
 import io.avaje.jsonb.jackson.JacksonAdapter;
-import io.avaje.jsonb.stream.JsonStream;
+import io.avaje.json.stream.JsonStream;
 import org.example.jmh.model.NarrowNamesRecord;
 import org.example.jmh.model.WideNamesRecord;
 import org.openjdk.jmh.annotations.*;
@@ -33,7 +33,7 @@ public class RecordBasicTest {
   private static final ObjectMapper mapper = new ObjectMapper();
   private static final JsonFactory jsonFactory = new JsonFactory();
 
-  private static final Jsonb jsonbX = Jsonb.newBuilder().adapter(new JacksonAdapter())
+  private static final Jsonb jsonbX = Jsonb.builder().adapter(new JacksonAdapter())
     .add(WideNamesRecord.class, MyCustomWideAdapter::new)
     .add(NarrowNamesRecord.class, MyCustomNarrowAdapter::new)
     .build();
@@ -41,20 +41,20 @@ public class RecordBasicTest {
   private static final JsonType<WideNamesRecord> jsonbXWide = jsonbX.type(WideNamesRecord.class);
   private static final JsonType<NarrowNamesRecord> jsonbXNarrow = jsonbX.type(NarrowNamesRecord.class);
 
-  private static final Jsonb jsonbStandard = Jsonb.newBuilder().adapter(new JacksonAdapter()).build();
+  private static final Jsonb jsonbStandard = Jsonb.builder().adapter(new JacksonAdapter()).build();
   private static final JsonType<WideNamesRecord> jsonbWideNames = jsonbStandard.type(WideNamesRecord.class);
   private static final JsonType<NarrowNamesRecord> jsonbNarrowNames = jsonbStandard.type(NarrowNamesRecord.class);
 
-//  private static final Jsonb jakartaJsonb = Jsonb.newBuilder().adapter(new JakartaAdapter()).build();
+//  private static final Jsonb jakartaJsonb = Jsonb.builder().adapter(new JakartaAdapter()).build();
 //  private static final JsonType<WideNamesRecord> jakartaJsonbWideNames = jakartaJsonb.type(WideNamesRecord.class);
 //  private static final JsonType<NarrowNamesRecord> jakartaJsonbNarrowNames = jakartaJsonb.type(NarrowNamesRecord.class);
 
-  private static final Jsonb dieselJsonb = Jsonb.newBuilder().adapter(new JsonStream(false, false, false)).build();
+  private static final Jsonb dieselJsonb = Jsonb.builder().adapter(JsonStream.builder().build()).build();
   private static final JsonType<WideNamesRecord> dieselJsonbWideNames = dieselJsonb.type(WideNamesRecord.class);
   private static final JsonType<NarrowNamesRecord> dieselJsonbNarrowNames = dieselJsonb.type(NarrowNamesRecord.class);
 
 
-//  private static final Jsonb jakartaJsonbBase = Jsonb.newBuilder().adapter(new JakartaIOAdapter())
+//  private static final Jsonb jakartaJsonbBase = Jsonb.builder().adapter(new JakartaIOAdapter())
 //    .add(WideNamesRecord.class, MyCustomWideAdapter::new)
 //    .add(NarrowNamesRecord.class, MyCustomNarrowAdapter::new)
 //    .build();
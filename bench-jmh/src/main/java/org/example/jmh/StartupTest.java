@@ -0,0 +1,48 @@
+package org.example.jmh;
+
+import io.avaje.jsonb.Jsonb;
+import org.example.jmh.model.NestAddress;
+import org.example.jmh.model.NestCust;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start cost of building the Jsonb instance and the first use of one type.
+ * <p>
+ * Each measurement runs in a fresh JVM. Generated components register their adapters by
+ * type name, so only the adapters (and adapted types) actually used are loaded and built.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Fork(20)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StartupTest {
+
+  @Benchmark
+  public Jsonb jsonbInstance() {
+    return Jsonb.builder().build();
+  }
+
+  @Benchmark
+  public byte[] jsonbInstance_firstUse() {
+    Jsonb jsonb = Jsonb.builder().build();
+    NestAddress address = new NestAddress("street", null, "suburb", "city");
+    return jsonb.type(NestCust.class).toJsonBytes(new NestCust(1, "name", "2024-03-15T10:15:30Z", "2024-03-16T10:15:30Z", "notes", address, address));
+  }
+
+  public static void main(String[] args) {
+    var classLoading = ManagementFactory.getClassLoadingMXBean();
+    long start = System.nanoTime();
+    int loaded = classLoading.getLoadedClassCount();
+    new StartupTest().jsonbInstance();
+    long built = System.nanoTime();
+    int loadedBuilt = classLoading.getLoadedClassCount();
+    new StartupTest().jsonbInstance_firstUse();
+    long used = System.nanoTime();
+    System.out.printf("build %dms classes:%d%n", TimeUnit.NANOSECONDS.toMillis(built - start), loadedBuilt - loaded);
+    System.out.printf("first use %dms classes:%d%n", TimeUnit.NANOSECONDS.toMillis(used - built), classLoading.getLoadedClassCount() - loadedBuilt);
+  }
+}
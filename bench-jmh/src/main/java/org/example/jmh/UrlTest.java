@@ -27,7 +27,7 @@ public class UrlTest {
 
   private static final ObjectMapper mapper = new ObjectMapper();
 
-  private static final Jsonb jsonb = Jsonb.newBuilder().adapter(new JacksonAdapter()).build();
+  private static final Jsonb jsonb = Jsonb.builder().adapter(new JacksonAdapter()).build();
   private static final JsonType<UrlData> jsonbUrlType = jsonb.type(UrlData.class);
   private static final JsonType<UriData> jsonbUriType = jsonb.type(UriData.class);
 
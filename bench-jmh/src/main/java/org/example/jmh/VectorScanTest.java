@@ -0,0 +1,80 @@
+package org.example.jmh;
+
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.Jsonb;
+import org.example.jmh.model.LongStringData;
+import org.example.jmh.model.SkipTarget;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Large payloads with long strings and many skipped fields, comparing the
+ * scalar parser scanning with the Vector API scanning (jdk.incubator.vector).
+ */
+@BenchmarkMode(Mode.Throughput)
+@Timeout(time = 20)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VectorScanTest {
+
+  private static final String VECTOR = "--add-modules=jdk.incubator.vector";
+  private static final String SCALAR = "-Djsonb.parserVectorScan=0";
+
+  private static final Jsonb jsonb = Jsonb.builder().build();
+  private static final JsonType<SkipTarget> skipType = jsonb.type(SkipTarget.class);
+  private static final JsonType<LongStringData> longStringType = jsonb.type(LongStringData.class);
+
+  private byte[] skipContent;
+  private byte[] longStringContent;
+
+  @Setup
+  public void setup() {
+    String text = "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor. ";
+    StringBuilder sb = new StringBuilder(64_000).append("{\"id\":\"a1\"");
+    for (int i = 0; i < 100; i++) {
+      sb.append(",\"description").append(i).append("\":\"").append(text.repeat(4)).append('"');
+      sb.append(",\"nested").append(i).append("\":{\"tags\":[\"").append(text).append("\",\"")
+        .append(text).append("\"],\"note\":\"").append(text.repeat(2)).append("\",\"count\":").append(i).append('}');
+    }
+    sb.append(",\"version\":42}");
+    skipContent = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+    LongStringData data = new LongStringData("a1", text, text.repeat(200), text.repeat(50));
+    longStringContent = longStringType.toJsonBytes(data);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = SCALAR)
+  public SkipTarget skipFields_scalar() {
+    return skipType.fromJson(skipContent);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = VECTOR)
+  public SkipTarget skipFields_vector() {
+    return skipType.fromJson(skipContent);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = SCALAR)
+  public LongStringData longStrings_scalar() {
+    return longStringType.fromJson(longStringContent);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = VECTOR)
+  public LongStringData longStrings_vector() {
+    return longStringType.fromJson(longStringContent);
+  }
+
+  public static void main(String[] args) {
+    VectorScanTest test = new VectorScanTest();
+    test.setup();
+
+    System.out.println(test.skipFields_scalar() + " from " + test.skipContent.length + " bytes");
+    System.out.println(test.longStrings_scalar().body().length() + " from " + test.longStringContent.length + " bytes");
+  }
+}
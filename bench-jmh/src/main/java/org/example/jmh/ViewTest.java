@@ -0,0 +1,59 @@
+package org.example.jmh;
+
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.JsonView;
+import io.avaje.jsonb.Jsonb;
+import org.example.jmh.model.NestAddress;
+import org.example.jmh.model.NestCust;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing via JsonView compared to the full generated adapter.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Timeout(time = 20)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ViewTest {
+
+  private static final Jsonb jsonb = Jsonb.builder().build();
+  private static final JsonType<NestCust> type = jsonb.type(NestCust.class);
+  private static final JsonView<NestCust> allView = type.view("(*)");
+  private static final JsonView<NestCust> partialView = type.view("(id,name,billingAddress(street1,city))");
+
+  private NestCust testData;
+
+  @Setup
+  public void setup() {
+    NestAddress bill = new NestAddress("123 foobar street", "somewhere interesting", "forever", "place");
+    NestAddress ship = new NestAddress("234 foobar street", "somewhere else", "temporal", "person");
+    testData = new NestCust(424234L, "my first customer", Instant.now().toString(), Instant.now().toString(), "5asodmasd", bill, ship);
+  }
+
+  @Benchmark
+  public byte[] toJson_type() {
+    return type.toJsonBytes(testData);
+  }
+
+  @Benchmark
+  public byte[] toJson_allView() {
+    return allView.toJsonBytes(testData);
+  }
+
+  @Benchmark
+  public byte[] toJson_partialView() {
+    return partialView.toJsonBytes(testData);
+  }
+
+  public static void main(String[] args) {
+    ViewTest test = new ViewTest();
+    test.setup();
+    System.out.println(new String(test.toJson_type()));
+    System.out.println(new String(test.toJson_allView()));
+    System.out.println(new String(test.toJson_partialView()));
+  }
+}
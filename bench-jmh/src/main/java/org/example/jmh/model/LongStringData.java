@@ -0,0 +1,7 @@
+package org.example.jmh.model;
+
+import io.avaje.jsonb.Json;
+
+@Json
+public record LongStringData(String id, String title, String body, String notes) {
+}
@@ -0,0 +1,18 @@
+package org.example.jmh.model;
+
+import io.avaje.jsonb.Json;
+
+@Json
+public record NumericData(
+  int count,
+  long timestamp,
+  double value,
+  boolean active,
+  int min,
+  int max,
+  long total,
+  double mean,
+  Integer optCount,
+  Long optTotal
+) {
+}
@@ -0,0 +1,10 @@
+package org.example.jmh.model;
+
+import io.avaje.jsonb.Json;
+
+/**
+ * Reads 2 properties out of a large document, all other properties are skipped.
+ */
+@Json
+public record SkipTarget(String id, long version) {
+}
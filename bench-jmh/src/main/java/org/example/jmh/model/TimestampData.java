@@ -0,0 +1,23 @@
+package org.example.jmh.model;
+
+import io.avaje.jsonb.Json;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+
+@Json
+public record TimestampData(
+  String id,
+  Instant created,
+  Instant updated,
+  LocalDate day,
+  LocalDateTime local,
+  OffsetDateTime offset,
+  ZonedDateTime zoned,
+  Duration elapsed
+) {
+}
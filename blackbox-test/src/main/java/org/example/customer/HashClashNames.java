@@ -0,0 +1,10 @@
+package org.example.customer;
+
+import io.avaje.jsonb.Json;
+
+/**
+ * The property names glbvs and yacxa have the same FNV-1a hash.
+ */
+@Json
+public record HashClashNames(String glbvs, String yacxa, @Json.Alias("other") int id) {
+}
@@ -0,0 +1,43 @@
+package org.example.customer;
+
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.Jsonb;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashClashNamesTest {
+
+  Jsonb jsonb = Jsonb.builder().build();
+  JsonType<HashClashNames> type = jsonb.type(HashClashNames.class);
+
+  @Test
+  void toJsonFromJson() {
+    var bean = new HashClashNames("a", "b", 42);
+    String asJson = type.toJson(bean);
+    assertThat(asJson).isEqualTo("{\"glbvs\":\"a\",\"yacxa\":\"b\",\"id\":42}");
+
+    assertThat(type.fromJson(asJson)).isEqualTo(bean);
+    assertThat(type.fromJson("{\"yacxa\":\"b\",\"glbvs\":\"a\",\"other\":42}")).isEqualTo(bean);
+  }
+
+  @Test
+  void fromObject() {
+    var bean = type.fromObject(Map.of("glbvs", "a", "yacxa", "b", "other", 42));
+    assertThat(bean).isEqualTo(new HashClashNames("a", "b", 42));
+  }
+
+  @Test
+  void fromJson_unknownField() {
+    assertThat(type.fromJson("{\"glbvs\":\"a\",\"unknown\":{\"glbvs\":1},\"id\":42}"))
+      .isEqualTo(new HashClashNames("a", null, 42));
+
+    JsonType<HashClashNames> strictType = Jsonb.builder().failOnUnknown(true).build().type(HashClashNames.class);
+    assertThatThrownBy(() -> strictType.fromJson("{\"glbvs\":\"a\",\"unknown\":1}"))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageContaining("Unknown property unknown");
+  }
+}
@@ -4,6 +4,7 @@ import io.avaje.jsonb.Jsonb;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SomePrimitiveTypesTest {
@@ -29,4 +30,39 @@ class SomePrimitiveTypesTest {
     assertEquals((short)15, beanFromJson.getF6());
 
   }
+
+  @Test
+  void toJsonFromJson_wrappers() {
+    SomePrimitiveTypes bean = new SomePrimitiveTypes(1, 2L, false, 3D, 'y', (byte) 4, (short) 5);
+    bean.setG0(42);
+    bean.setG1(43L);
+    bean.setG2(true);
+    bean.setG3(44.5D);
+
+    Jsonb jsonb = Jsonb.builder().build();
+    var jsonType = jsonb.type(SomePrimitiveTypes.class);
+    String asJson = jsonType.toJson(bean);
+    assertEquals("{\"f0\":1,\"f1\":2,\"f2\":false,\"f3\":3.0,\"f4\":\"y\",\"f5\":4,\"f6\":5,\"g0\":42,\"g1\":43,\"g2\":true,\"g3\":44.5}", asJson);
+
+    SomePrimitiveTypes beanFromJson = jsonType.fromJson(asJson);
+    assertEquals(42, beanFromJson.getG0());
+    assertEquals(43L, beanFromJson.getG1());
+    assertTrue(beanFromJson.getG2());
+    assertEquals(44.5D, beanFromJson.getG3());
+  }
+
+  @Test
+  void fromJson_nullWrappers() {
+    Jsonb jsonb = Jsonb.builder().failOnNullPrimitives(true).build();
+    var jsonType = jsonb.type(SomePrimitiveTypes.class);
+
+    SomePrimitiveTypes bean = jsonType.fromJson("{\"f0\":1,\"f1\":2,\"f2\":false,\"f3\":3.0,\"f4\":\"y\",\"f5\":4,\"f6\":5,\"g0\":null,\"g1\":null,\"g2\":null,\"g3\":null}");
+    assertNull(bean.getG0());
+    assertNull(bean.getG1());
+    assertNull(bean.getG2());
+    assertNull(bean.getG3());
+
+    String asJson = Jsonb.builder().serializeNulls(true).build().type(SomePrimitiveTypes.class).toJson(bean);
+    assertTrue(asJson.contains("\"g0\":null,\"g1\":null,\"g2\":null,\"g3\":null"));
+  }
 }
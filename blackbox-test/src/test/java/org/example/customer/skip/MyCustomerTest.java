@@ -5,6 +5,7 @@ import io.avaje.jsonb.Jsonb;
 import io.avaje.json.stream.JsonStream;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -40,6 +41,24 @@ class MyCustomerTest {
     assertThat(fromJsonBytes.notes()).isEqualTo(myCustomer.notes());
   }
 
+  @Test
+  void fromJson_byteBuffer() {
+    Jsonb jsonb = Jsonb.builder().adapter(JsonStream.builder().build()).build();
+    JsonType<MyCustomer> type = jsonb.type(MyCustomer.class);
+
+    byte[] content = "  {\"id\":42,\"name\":\"rob\",\"notes\":\"foo\"}  ".getBytes(StandardCharsets.UTF_8);
+    ByteBuffer heap = ByteBuffer.wrap(content, 1, content.length - 1).slice();
+    MyCustomer fromHeap = type.fromJson(heap);
+    assertThat(fromHeap.id()).isEqualTo(42);
+    assertThat(fromHeap.name()).isEqualTo("rob");
+    assertThat(heap.position()).isEqualTo(0);
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(content.length).put(content).flip();
+    MyCustomer fromDirect = type.fromJson(direct);
+    assertThat(fromDirect.notes()).isEqualTo("foo");
+    assertThat(direct.remaining()).isEqualTo(content.length);
+  }
+
   @Test
   void list_toJson_fromJson() {
 
@@ -0,0 +1,174 @@
+package org.example.customer.unmapped;
+
+import io.avaje.json.JsonReader;
+import io.avaje.json.PropertyNames;
+import io.avaje.jsonb.Jsonb;
+import org.example.customer.Address;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Generated adapters reading via a JsonReader that only implements the abstract methods.
+ */
+class CustomReaderTest {
+
+  Jsonb jsonb = Jsonb.builder().build();
+
+  @Test
+  void fromJson_unknownFieldSkipped() {
+    String json = "{\"id\":42,\"street\":\"main\",\"other\":{\"a\":1},\"suburb\":\"akl\"}";
+    try (JsonReader reader = new PlainReader(jsonb.reader(json))) {
+      Address address = jsonb.type(Address.class).fromJson(reader);
+      assertThat(address.getId()).isEqualTo(42L);
+      assertThat(address.getStreet()).isEqualTo("main");
+      assertThat(address.getSuburb()).isEqualTo("akl");
+    }
+  }
+
+  @Test
+  void fromJson_unmapped() {
+    String json = "{\"id\":42,\"xone\":57,\"name\":\"foo\",\"xtwo\":{\"nm\":\"fred\"}}";
+    try (JsonReader reader = new PlainReader(jsonb.reader(json))) {
+      UnmappedOne bean = jsonb.type(UnmappedOne.class).fromJson(reader);
+      assertThat(bean.id()).isEqualTo(42L);
+      assertThat(bean.name()).isEqualTo("foo");
+      assertThat(bean.unmapped()).containsOnlyKeys("xone", "xtwo");
+    }
+  }
+
+  /**
+   * Delegates only the abstract methods such that all the default methods are used.
+   */
+  static final class PlainReader implements JsonReader {
+
+    private final JsonReader delegate;
+
+    PlainReader(JsonReader delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+      return delegate.unwrap(type);
+    }
+
+    @Override
+    public void beginArray() {
+      delegate.beginArray();
+    }
+
+    @Override
+    public void endArray() {
+      delegate.endArray();
+    }
+
+    @Override
+    public boolean hasNextElement() {
+      return delegate.hasNextElement();
+    }
+
+    @Override
+    public void beginObject(PropertyNames names) {
+      delegate.beginObject(names);
+    }
+
+    @Override
+    public void beginObject() {
+      delegate.beginObject();
+    }
+
+    @Override
+    public void endObject() {
+      delegate.endObject();
+    }
+
+    @Override
+    public boolean hasNextField() {
+      return delegate.hasNextField();
+    }
+
+    @Override
+    public String nextField() {
+      return delegate.nextField();
+    }
+
+    @Override
+    public boolean isNullValue() {
+      return delegate.isNullValue();
+    }
+
+    @Override
+    public boolean readBoolean() {
+      return delegate.readBoolean();
+    }
+
+    @Override
+    public int readInt() {
+      return delegate.readInt();
+    }
+
+    @Override
+    public long readLong() {
+      return delegate.readLong();
+    }
+
+    @Override
+    public double readDouble() {
+      return delegate.readDouble();
+    }
+
+    @Override
+    public BigDecimal readDecimal() {
+      return delegate.readDecimal();
+    }
+
+    @Override
+    public BigInteger readBigInteger() {
+      return delegate.readBigInteger();
+    }
+
+    @Override
+    public String readString() {
+      return delegate.readString();
+    }
+
+    @Override
+    public byte[] readBinary() {
+      return delegate.readBinary();
+    }
+
+    @Override
+    public String readRaw() {
+      return delegate.readRaw();
+    }
+
+    @Override
+    public String location() {
+      return delegate.location();
+    }
+
+    @Override
+    public Token currentToken() {
+      return delegate.currentToken();
+    }
+
+    @Override
+    public void close() {
+      delegate.close();
+    }
+
+    @Override
+    public void skipValue() {
+      delegate.skipValue();
+    }
+
+    @Override
+    public void unmappedField(String fieldName) {
+      delegate.unmappedField(fieldName);
+    }
+  }
+}
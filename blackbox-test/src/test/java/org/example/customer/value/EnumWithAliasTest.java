@@ -1,9 +1,11 @@
 package org.example.customer.value;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.Test;
 
+import io.avaje.json.JsonDataException;
 import io.avaje.jsonb.Json;
 import io.avaje.jsonb.JsonType;
 import io.avaje.jsonb.Jsonb;
@@ -36,4 +38,16 @@ class EnumWithAliasTest {
     assertThat(json).isEqualTo("{\"value\":\"YUTA\"}");
     assertThat(type.fromJson(json)).isEqualTo(bean);
   }
+
+  @Test
+  void unknown_value_throws() {
+    assertThatThrownBy(() -> type.fromJson("{\"value\":\"Bob\"}"))
+      .isInstanceOf(JsonDataException.class)
+      .hasMessageContaining("Unable to determine EnumWithAlias enum value");
+  }
+
+  @Test
+  void null_value() {
+    assertThat(type.fromJson("{\"value\":null}").value()).isNull();
+  }
 }
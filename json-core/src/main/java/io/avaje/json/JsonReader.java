@@ -18,6 +18,13 @@ package io.avaje.json;
 import java.io.Closeable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 
 /**
  * Reads json content as a stream of JSON tokens and content.
@@ -103,6 +110,40 @@ public interface JsonReader extends Closeable {
    */
   String nextField();
 
+  /**
+   * Return true if this reader supports {@link #nextFieldIndex(PropertyNames)} along with
+   * {@link #lastFieldName()}.
+   * <p>
+   * When false adapters read fields via {@link #nextField()} and look up the index themselves.
+   */
+  default boolean supportsFieldIndex() {
+    return false;
+  }
+
+  /**
+   * Read the next field returning its index position in the given names or
+   * -1 when the field is not one of the names.
+   * <p>
+   * This allows known fields to be read without creating a String for the name.
+   * The names are expected to be the same as those passed to {@link #beginObject(PropertyNames)}.
+   *
+   * @see #lastFieldName()
+   */
+  default int nextFieldIndex(PropertyNames names) {
+    return names.indexOf(nextField());
+  }
+
+  /**
+   * Return the name of the field last read via {@link #nextFieldIndex(PropertyNames)}
+   * or {@link #nextField()}. This is typically used for unknown fields.
+   * <p>
+   * Only supported when {@link #supportsFieldIndex()} returns true, otherwise this throws
+   * UnsupportedOperationException.
+   */
+  default String lastFieldName() {
+    throw new UnsupportedOperationException("lastFieldName() is not supported by " + getClass().getName());
+  }
+
   /**
    * Return true if the value to be read is a null.
    */
@@ -138,11 +179,84 @@ public interface JsonReader extends Closeable {
    */
   BigInteger readBigInteger();
 
+  /**
+   * Read and return the next number value when the type of number is not known.
+   * <p>
+   * Integers that fit in a long are returned as Long, all other numbers as Double.
+   */
+  default Number readNumber() {
+    final BigDecimal value = readDecimal();
+    if (value.scale() == 0 && value.unscaledValue().bitLength() < 64) {
+      return value.longValue();
+    }
+    return value.doubleValue();
+  }
+
   /**
    * Read and return the next value as String.
    */
   String readString();
 
+  /**
+   * Read a String value returning its index position in the given names or -1
+   * when the value is not one of the names.
+   * <p>
+   * This is typically used for enum constants such that known values are read
+   * without creating a String.
+   */
+  default int readStringIndex(PropertyNames names) {
+    return names.indexOf(readString());
+  }
+
+  /**
+   * Read an ISO-8601 Instant value.
+   */
+  default Instant readInstant() {
+    return Instant.parse(readString());
+  }
+
+  /**
+   * Read an ISO-8601 LocalDate value.
+   */
+  default LocalDate readLocalDate() {
+    return LocalDate.parse(readString());
+  }
+
+  /**
+   * Read an ISO-8601 LocalTime value.
+   */
+  default LocalTime readLocalTime() {
+    return LocalTime.parse(readString());
+  }
+
+  /**
+   * Read an ISO-8601 LocalDateTime value.
+   */
+  default LocalDateTime readLocalDateTime() {
+    return LocalDateTime.parse(readString());
+  }
+
+  /**
+   * Read an ISO-8601 OffsetDateTime value.
+   */
+  default OffsetDateTime readOffsetDateTime() {
+    return OffsetDateTime.parse(readString());
+  }
+
+  /**
+   * Read an ISO-8601 ZonedDateTime value.
+   */
+  default ZonedDateTime readZonedDateTime() {
+    return ZonedDateTime.parse(readString());
+  }
+
+  /**
+   * Read an ISO-8601 Duration value.
+   */
+  default Duration readDuration() {
+    return Duration.parse(readString());
+  }
+
   /**
    * Read and return the binary value from base64.
    */
@@ -153,6 +267,17 @@ public interface JsonReader extends Closeable {
    */
   String readRaw();
 
+  /**
+   * Read and return the json text of the next number value, validated as a json number.
+   * <p>
+   * This is used to read numbers without converting them such as with
+   * {@link io.avaje.json.stream.NumberMode#LAZY}. The default implementation returns the
+   * text of {@link #readDecimal()}.
+   */
+  default String readRawNumber() {
+    return readDecimal().toString();
+  }
+
   /**
    * Return the current location. This is typically used when reporting errors.
    */
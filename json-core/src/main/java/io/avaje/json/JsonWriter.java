@@ -19,6 +19,14 @@ import java.io.Closeable;
 import java.io.Flushable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 
 /**
  * Writes json content.
@@ -79,6 +87,13 @@ public interface JsonWriter extends Closeable, Flushable {
    */
   void pretty(boolean pretty);
 
+  /**
+   * Return true if the json is output in pretty format.
+   */
+  default boolean pretty() {
+    return false;
+  }
+
   /**
    * Return the current path.
    */
@@ -149,6 +164,16 @@ public interface JsonWriter extends Closeable, Flushable {
    */
   void value(String value);
 
+  /**
+   * Write the pre-encoded string value at the given index position of the names.
+   * <p>
+   * This is typically used for enum constants where the names are the constant values.
+   * The names are expected to {@link PropertyNames#supportsIndex() support index} lookup.
+   */
+  default void value(PropertyNames names, int index) {
+    value(names.name(index));
+  }
+
   /**
    * Write a boolean value.
    */
@@ -199,6 +224,83 @@ public interface JsonWriter extends Closeable, Flushable {
    */
   void value(BigInteger value);
 
+  /**
+   * Write an Instant value as ISO-8601.
+   */
+  default void value(Instant value) {
+    if (value == null) {
+      nullValue();
+    } else {
+      value(value.toString());
+    }
+  }
+
+  /**
+   * Write a LocalDate value as ISO-8601.
+   */
+  default void value(LocalDate value) {
+    if (value == null) {
+      nullValue();
+    } else {
+      value(value.toString());
+    }
+  }
+
+  /**
+   * Write a LocalTime value as ISO-8601.
+   */
+  default void value(LocalTime value) {
+    if (value == null) {
+      nullValue();
+    } else {
+      value(value.toString());
+    }
+  }
+
+  /**
+   * Write a LocalDateTime value as ISO-8601.
+   */
+  default void value(LocalDateTime value) {
+    if (value == null) {
+      nullValue();
+    } else {
+      value(value.toString());
+    }
+  }
+
+  /**
+   * Write an OffsetDateTime value as ISO-8601.
+   */
+  default void value(OffsetDateTime value) {
+    if (value == null) {
+      nullValue();
+    } else {
+      value(value.toString());
+    }
+  }
+
+  /**
+   * Write a ZonedDateTime value as ISO-8601.
+   */
+  default void value(ZonedDateTime value) {
+    if (value == null) {
+      nullValue();
+    } else {
+      value(value.toString());
+    }
+  }
+
+  /**
+   * Write a Duration value as ISO-8601.
+   */
+  default void value(Duration value) {
+    if (value == null) {
+      nullValue();
+    } else {
+      value(value.toString());
+    }
+  }
+
   /**
    * Write binary content as base64.
    */
@@ -219,6 +321,20 @@ public interface JsonWriter extends Closeable, Flushable {
    */
   void rawValue(String value);
 
+  /**
+   * Write raw JSON content that is UTF-8 encoded in the given byte array.
+   * <p>
+   * This is used to copy a section of some json input to the output without
+   * decoding and re-encoding it.
+   *
+   * @param content The byte array containing the UTF-8 json content
+   * @param offset  The start offset of the content
+   * @param length  The number of bytes of content
+   */
+  default void rawValue(byte[] content, int offset, int length) {
+    rawValue(new String(content, offset, length, StandardCharsets.UTF_8));
+  }
+
   /**
    * Start writing a value as multiple raw chunks of JSON content.
    * <p>
@@ -8,6 +8,36 @@ package io.avaje.json;
  *
  * @see JsonWriter#allNames(PropertyNames)
  * @see JsonWriter#name(int)
+ * @see JsonReader#nextFieldIndex(PropertyNames)
  */
 public interface PropertyNames {
+
+  /**
+   * Return true if these names support {@link #indexOf(String)} and {@link #name(int)}.
+   * <p>
+   * When false adapters read and write the names as strings rather than by index position.
+   */
+  default boolean supportsIndex() {
+    return false;
+  }
+
+  /**
+   * Return the index position of the given name or -1 if it is not one of the names.
+   * <p>
+   * Only supported when {@link #supportsIndex()} returns true, otherwise this throws
+   * UnsupportedOperationException.
+   */
+  default int indexOf(String name) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Return the name at the given index position.
+   * <p>
+   * Only supported when {@link #supportsIndex()} returns true, otherwise this throws
+   * UnsupportedOperationException.
+   */
+  default String name(int index) {
+    throw new UnsupportedOperationException();
+  }
 }
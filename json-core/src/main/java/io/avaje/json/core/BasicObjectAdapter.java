@@ -3,6 +3,8 @@ package io.avaje.json.core;
 import io.avaje.json.JsonAdapter;
 import io.avaje.json.JsonReader;
 import io.avaje.json.JsonWriter;
+import io.avaje.json.stream.LazyNumber;
+import io.avaje.json.stream.NumberMode;
 
 import java.util.List;
 import java.util.Map;
@@ -16,8 +18,10 @@ final class BasicObjectAdapter implements JsonAdapter<Object>, CoreTypes.CoreAda
   private final JsonAdapter<Boolean> booleanAdapter;
   private final JsonAdapter<List<Object>> listAdapter;
   private final JsonAdapter<Map<String,Object>> mapAdapter;
+  private final NumberMode numberMode;
 
-  BasicObjectAdapter() {
+  BasicObjectAdapter(NumberMode numberMode) {
+    this.numberMode = numberMode;
     this.stringAdapter = CoreTypes.create(String.class);
     this.intAdapter = CoreTypes.create(Integer.class);
     this.doubleAdapter = CoreTypes.create(Double.class);
@@ -52,11 +56,7 @@ final class BasicObjectAdapter implements JsonAdapter<Object>, CoreTypes.CoreAda
       case STRING:
         return stringAdapter.fromJson(reader);
       case NUMBER:
-        var d = doubleAdapter.fromJson(reader);
-        if (d % 1 == 0) {
-          return d.longValue();
-        }
-        return d;
+        return numberMode.read(reader);
       case BOOLEAN:
         return booleanAdapter.fromJson(reader);
       case NULL:
@@ -89,6 +89,8 @@ final class BasicObjectAdapter implements JsonAdapter<Object>, CoreTypes.CoreAda
       doubleAdapter.toJson(writer, (Double)value);
     } else if (Map.class.isAssignableFrom(valueClass)) {
       mapAdapter.toJson(writer, (Map)value);
+    } else if (valueClass == LazyNumber.class) {
+      writer.rawValue(value.toString());
     } else {
       throw new UnsupportedOperationException("Type not supported " + value.getClass());
     }
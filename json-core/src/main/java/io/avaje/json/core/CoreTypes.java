@@ -3,6 +3,7 @@ package io.avaje.json.core;
 import io.avaje.json.JsonAdapter;
 import io.avaje.json.JsonReader;
 import io.avaje.json.JsonWriter;
+import io.avaje.json.stream.NumberMode;
 
 import java.lang.reflect.Type;
 import java.util.List;
@@ -99,7 +100,14 @@ public final class CoreTypes {
    * of those types.
    */
   public static CoreAdapters createCoreAdapters() {
-    return new BasicObjectAdapter();
+    return createCoreAdapters(NumberMode.WHOLE_AS_LONG);
+  }
+
+  /**
+   * Create the core adapters reading untyped numbers using the given mode.
+   */
+  public static CoreAdapters createCoreAdapters(NumberMode numberMode) {
+    return new BasicObjectAdapter(numberMode);
   }
 
   private static JsonAdapter<?> createAdapter(Type type) {
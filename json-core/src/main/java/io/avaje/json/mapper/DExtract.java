@@ -2,12 +2,9 @@ package io.avaje.json.mapper;
 
 import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Pattern;
 
 final class DExtract implements JsonExtract {
 
-  private static final Pattern PATH_PATTERN = Pattern.compile("\\.");
-
   private final Map<String, Object> map;
 
   DExtract(Map<String, Object> map) {
@@ -16,15 +13,20 @@ final class DExtract implements JsonExtract {
 
   @SuppressWarnings("unchecked")
   private Object find(String path, Map<String, Object> map) {
-    final String[] paths = PATH_PATTERN.split(path, 2);
-    final Object child = map.get(paths[0]);
-    if (child == null || paths.length == 1) {
-      return child;
-    }
-    if (child instanceof Map) {
-      return find(paths[1], (Map<String, Object>) child);
+    Map<String, Object> current = map;
+    int start = 0;
+    while (true) {
+      final int dot = path.indexOf('.', start);
+      final Object child = current.get(dot < 0 ? path.substring(start) : path.substring(start, dot));
+      if (child == null || dot < 0) {
+        return child;
+      }
+      if (!(child instanceof Map)) {
+        return null;
+      }
+      current = (Map<String, Object>) child;
+      start = dot + 1;
     }
-    return null;
   }
 
   @Override
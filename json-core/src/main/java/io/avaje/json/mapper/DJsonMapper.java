@@ -14,12 +14,14 @@ import java.util.function.Function;
 final class DJsonMapper implements JsonMapper {
 
   private final JsonStream jsonStream;
+  private final JsonAdapter<Object> objectAdapter;
   private final Type<Object> objectType;
   private final Type<Map<String,Object>> mapType;
   private final Type<List<Object>> listType;
 
   DJsonMapper(JsonStream jsonStream, CoreTypes.CoreAdapters adapters) {
     this.jsonStream = jsonStream;
+    this.objectAdapter = adapters.objectAdapter();
     this.objectType = new DTypeMapper<>(adapters.objectAdapter(), jsonStream);
     this.mapType = new DTypeMapper<>(adapters.mapAdapter(), jsonStream);
     this.listType = new DTypeMapper<>(adapters.listAdapter(), jsonStream);
@@ -40,6 +42,11 @@ final class DJsonMapper implements JsonMapper {
     return type(adapterFunction.apply(this));
   }
 
+  @Override
+  public JsonProjection<Object> projection(String... paths) {
+    return JsonProjection.of(jsonStream, objectAdapter, paths);
+  }
+
   @Override
   public Type<Object> object() {
     return objectType;
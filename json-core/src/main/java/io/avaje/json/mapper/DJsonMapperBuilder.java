@@ -2,10 +2,14 @@ package io.avaje.json.mapper;
 
 import io.avaje.json.core.CoreTypes;
 import io.avaje.json.stream.JsonStream;
+import io.avaje.json.stream.NumberMode;
+
+import static java.util.Objects.requireNonNull;
 
 final class DJsonMapperBuilder implements JsonMapper.Builder {
 
   private JsonStream jsonStream;
+  private NumberMode numberMode = NumberMode.WHOLE_AS_LONG;
 
   @Override
   public JsonMapper.Builder jsonStream(JsonStream jsonStream) {
@@ -13,10 +17,16 @@ final class DJsonMapperBuilder implements JsonMapper.Builder {
     return this;
   }
 
+  @Override
+  public JsonMapper.Builder numberMode(NumberMode numberMode) {
+    this.numberMode = requireNonNull(numberMode);
+    return this;
+  }
+
   @Override
   public JsonMapper build() {
     final var stream = jsonStream != null ? jsonStream : JsonStream.builder().build();
-    final var coreAdapters = CoreTypes.createCoreAdapters();
+    final var coreAdapters = CoreTypes.createCoreAdapters(numberMode);
     return new DJsonMapper(stream, coreAdapters);
   }
 }
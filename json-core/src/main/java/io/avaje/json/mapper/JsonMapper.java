@@ -5,6 +5,7 @@ import io.avaje.json.JsonReader;
 import io.avaje.json.JsonWriter;
 import io.avaje.json.PropertyNames;
 import io.avaje.json.stream.JsonStream;
+import io.avaje.json.stream.NumberMode;
 
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -160,6 +161,25 @@ public interface JsonMapper {
     return new DExtract(map);
   }
 
+  /**
+   * Return a projection that reads the values of the given paths in a single pass.
+   * <p>
+   * Rather than reading the full content into a Map and then extracting the values,
+   * the projection only reads the values at the paths and skips the rest of the content.
+   *
+   * <pre>{@code
+   *
+   *   static final JsonProjection<Object> PROJECTION = jsonMapper.projection("id", "customer.name", "orders[0].total");
+   *
+   *   Object[] values = PROJECTION.read(json);
+   *
+   * }</pre>
+   *
+   * @param paths The paths using dot notation with {@code [n]} for array elements
+   * @see JsonPath
+   */
+  JsonProjection<Object> projection(String... paths);
+
   /**
    * Build the JsonNodeMapper.
    */
@@ -174,6 +194,13 @@ public interface JsonMapper {
      */
     Builder jsonStream(JsonStream jsonStream);
 
+    /**
+     * Set how numbers are read for untyped values such as {@code Map<String,Object>}.
+     * <p>
+     * Defaults to {@link NumberMode#WHOLE_AS_LONG}.
+     */
+    Builder numberMode(NumberMode numberMode);
+
     /**
      * Build and return the JsonNodeMapper.
      */
@@ -0,0 +1,247 @@
+package io.avaje.json.mapper;
+
+import io.avaje.json.JsonAdapter;
+import io.avaje.json.JsonReader;
+import io.avaje.json.core.CoreTypes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compiled path used to find a value in a tree of Maps and Lists, a JsonNode tree
+ * or directly from a JsonReader.
+ * <p>
+ * The path uses dot notation for object keys and {@code [n]} for array elements like
+ * {@code "address.city"} or {@code "orders[2].lines[0].product"}. The path is split into
+ * its segments once so ideally a JsonPath is compiled once and used many times.
+ *
+ * <pre>{@code
+ *
+ *   static final JsonPath PRODUCT = JsonPath.compile("orders[2].lines[0].product");
+ *
+ *   // Map<String, Object> tree from JsonMapper
+ *   Object product = PRODUCT.find(mapFromJson);
+ *
+ *   // streaming, skipping over the content that does not match
+ *   try (JsonReader reader = jsonStream.reader(json)) {
+ *     Object product = PRODUCT.find(reader);
+ *   }
+ *
+ * }</pre>
+ */
+public final class JsonPath {
+
+  private static final JsonAdapter<Object> OBJECT_ADAPTER = CoreTypes.createCoreAdapters().objectAdapter();
+
+  private final String path;
+  /** The object key for each segment, null for array index segments. */
+  private final String[] names;
+  private final int[] indexes;
+
+  private JsonPath(String path, String[] names, int[] indexes) {
+    this.path = path;
+    this.names = names;
+    this.indexes = indexes;
+  }
+
+  /**
+   * Compile the given path.
+   *
+   * @param path The path like {@code "a.b[2].c"}
+   * @throws IllegalArgumentException When the path is not valid
+   */
+  public static JsonPath compile(String path) {
+    final List<String> names = new ArrayList<>();
+    final List<Integer> indexes = new ArrayList<>();
+    final int length = path.length();
+    int pos = 0;
+    while (pos < length) {
+      final char ch = path.charAt(pos);
+      if (ch == '[') {
+        final int end = path.indexOf(']', pos);
+        if (end < 0) {
+          throw new IllegalArgumentException("Missing ']' in path " + path);
+        }
+        names.add(null);
+        indexes.add(parseIndex(path, pos + 1, end));
+        pos = end + 1;
+        if (pos < length && path.charAt(pos) == '.') {
+          pos++;
+          if (pos == length) {
+            throw new IllegalArgumentException("Empty segment in path " + path);
+          }
+        } else if (pos < length && path.charAt(pos) != '[') {
+          throw new IllegalArgumentException("Expected '.' or '[' after ']' in path " + path);
+        }
+      } else {
+        int end = pos;
+        while (end < length && path.charAt(end) != '.' && path.charAt(end) != '[') {
+          end++;
+        }
+        if (end == pos) {
+          throw new IllegalArgumentException("Empty segment in path " + path);
+        }
+        names.add(path.substring(pos, end));
+        indexes.add(-1);
+        pos = end;
+        if (pos < length && path.charAt(pos) == '.') {
+          pos++;
+          if (pos == length) {
+            throw new IllegalArgumentException("Empty segment in path " + path);
+          }
+        }
+      }
+    }
+    if (names.isEmpty()) {
+      throw new IllegalArgumentException("Empty path");
+    }
+    final int[] idx = new int[indexes.size()];
+    for (int i = 0; i < idx.length; i++) {
+      idx[i] = indexes.get(i);
+    }
+    return new JsonPath(path, names.toArray(new String[0]), idx);
+  }
+
+  private static int parseIndex(String path, int start, int end) {
+    if (start == end) {
+      throw new IllegalArgumentException("Missing array index in path " + path);
+    }
+    int value = 0;
+    for (int i = start; i < end; i++) {
+      final int digit = path.charAt(i) - '0';
+      if (digit < 0 || digit > 9 || value > (Integer.MAX_VALUE - digit) / 10) {
+        throw new IllegalArgumentException("Invalid array index in path " + path);
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  /**
+   * Return the number of segments of the path.
+   */
+  public int size() {
+    return names.length;
+  }
+
+  /**
+   * Return true if the segment is an array index.
+   */
+  public boolean isIndex(int segment) {
+    return names[segment] == null;
+  }
+
+  /**
+   * Return the object key of the segment or null if it is an array index.
+   */
+  public String name(int segment) {
+    return names[segment];
+  }
+
+  /**
+   * Return the array index of the segment or -1 if it is an object key.
+   */
+  public int index(int segment) {
+    return indexes[segment];
+  }
+
+  /**
+   * Find the value at this path in a tree of Maps and Lists.
+   *
+   * @param root The root Map or List
+   * @return The value at the path or null when missing
+   */
+  @SuppressWarnings("unchecked")
+  public Object find(Object root) {
+    Object node = root;
+    for (int i = 0; i < names.length && node != null; i++) {
+      final String name = names[i];
+      if (name != null) {
+        node = node instanceof Map ? ((Map<String, Object>) node).get(name) : null;
+      } else if (node instanceof List) {
+        final List<Object> list = (List<Object>) node;
+        node = indexes[i] < list.size() ? list.get(indexes[i]) : null;
+      } else {
+        node = null;
+      }
+    }
+    return node;
+  }
+
+  /**
+   * Read the value at this path from the reader returning null when missing.
+   * <p>
+   * The value is read as Map, List, String, Boolean or Number. Content that
+   * does not lead to the path is skipped without being read. The reader is left
+   * positioned after the value and is expected to be closed by the caller.
+   */
+  public Object find(JsonReader reader) {
+    return find(reader, OBJECT_ADAPTER);
+  }
+
+  /**
+   * Read the value at this path from the reader using the given adapter
+   * returning null when missing.
+   * <p>
+   * Content that does not lead to the path is skipped without being read. The reader
+   * is left positioned after the value and is expected to be closed by the caller.
+   */
+  public <T> T find(JsonReader reader, JsonAdapter<T> adapter) {
+    for (int i = 0; i < names.length; i++) {
+      if (!moveTo(reader, i)) {
+        return null;
+      }
+    }
+    if (reader.isNullValue()) {
+      return null;
+    }
+    return adapter.fromJson(reader);
+  }
+
+  private boolean moveTo(JsonReader reader, int segment) {
+    final String name = names[segment];
+    if (name != null) {
+      if (reader.currentToken() != JsonReader.Token.BEGIN_OBJECT) {
+        return false;
+      }
+      reader.beginObject();
+      while (reader.hasNextField()) {
+        if (name.equals(reader.nextField())) {
+          return true;
+        }
+        reader.skipValue();
+      }
+      return false;
+    }
+    if (reader.currentToken() != JsonReader.Token.BEGIN_ARRAY) {
+      return false;
+    }
+    reader.beginArray();
+    final int index = indexes[segment];
+    for (int i = 0; reader.hasNextElement(); i++) {
+      if (i == index) {
+        return true;
+      }
+      reader.skipValue();
+    }
+    return false;
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) return true;
+    if (!(object instanceof JsonPath)) return false;
+    return path.equals(((JsonPath) object).path);
+  }
+
+  @Override
+  public int hashCode() {
+    return path.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return path;
+  }
+}
@@ -0,0 +1,342 @@
+package io.avaje.json.mapper;
+
+import io.avaje.json.JsonAdapter;
+import io.avaje.json.JsonReader;
+import io.avaje.json.PropertyNames;
+import io.avaje.json.stream.BufferRecycleStrategy;
+import io.avaje.json.stream.JsonStream;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads the values of many paths in a single pass over json content.
+ * <p>
+ * The paths are compiled into a tree of segments. Reading walks the content once,
+ * reading only the values at the paths and skipping everything else. Reading stops
+ * as soon as all the paths have been found so the rest of the content is not read.
+ * <p>
+ * A projection is thread safe and ideally created once and used many times.
+ *
+ * <pre>{@code
+ *
+ *   static final JsonProjection<Object> PROJECTION =
+ *     jsonMapper.projection("id", "customer.name", "orders[0].total");
+ *
+ *   Object[] values = PROJECTION.read(json);
+ *   // values[0] is the id, values[1] the customer name ...
+ *
+ * }</pre>
+ *
+ * @param <T> The type the values are read as
+ */
+public final class JsonProjection<T> {
+
+  private final JsonStream jsonStream;
+  private final JsonAdapter<T> adapter;
+  private final List<JsonPath> paths;
+  private final Segment root;
+  /** Reads the raw content of paths that are parents of other paths, null when there are none. */
+  private final JsonStream rawStream;
+
+  private JsonProjection(JsonStream jsonStream, JsonAdapter<T> adapter, List<JsonPath> paths) {
+    this.jsonStream = jsonStream;
+    this.adapter = adapter;
+    this.paths = paths;
+    final var builder = new SegmentBuilder();
+    for (int i = 0; i < paths.size(); i++) {
+      builder.add(paths.get(i), 0, i);
+    }
+    this.root = builder.build(jsonStream);
+    this.rawStream = builder.hasNestedTargets()
+      ? JsonStream.builder().bufferRecycling(BufferRecycleStrategy.NO_RECYCLING).build()
+      : null;
+  }
+
+  /**
+   * Create a projection for the given paths reading the values with the given adapter.
+   *
+   * @param jsonStream The JsonStream used to read content
+   * @param adapter    The adapter used to read the values at the paths
+   * @param paths      The paths to read
+   */
+  public static <T> JsonProjection<T> of(JsonStream jsonStream, JsonAdapter<T> adapter, List<JsonPath> paths) {
+    if (paths.isEmpty()) {
+      throw new IllegalArgumentException("No paths for projection");
+    }
+    return new JsonProjection<>(jsonStream, adapter, List.copyOf(paths));
+  }
+
+  /**
+   * Create a projection for the given paths reading the values with the given adapter.
+   */
+  public static <T> JsonProjection<T> of(JsonStream jsonStream, JsonAdapter<T> adapter, String... paths) {
+    final var compiled = new ArrayList<JsonPath>(paths.length);
+    for (String path : paths) {
+      compiled.add(JsonPath.compile(path));
+    }
+    return of(jsonStream, adapter, compiled);
+  }
+
+  /**
+   * Return the paths of the projection in the order of the values read.
+   */
+  public List<JsonPath> paths() {
+    return paths;
+  }
+
+  /**
+   * Read the values of the paths from the json content.
+   *
+   * @return The values in the order of the paths with null for missing paths
+   */
+  public Object[] read(String json) {
+    try (JsonReader reader = jsonStream.reader(json)) {
+      return read(reader);
+    }
+  }
+
+  /**
+   * Read the values of the paths from the json content.
+   *
+   * @return The values in the order of the paths with null for missing paths
+   */
+  public Object[] read(byte[] json) {
+    try (JsonReader reader = jsonStream.reader(json)) {
+      return read(reader);
+    }
+  }
+
+  /**
+   * Read the values of the paths from the json content.
+   *
+   * @return The values in the order of the paths with null for missing paths
+   */
+  public Object[] read(InputStream json) {
+    try (JsonReader reader = jsonStream.reader(json)) {
+      return read(reader);
+    }
+  }
+
+  /**
+   * Read the values of the paths from the reader.
+   *
+   * @return The values in the order of the paths with null for missing paths
+   */
+  public Object[] read(JsonReader reader) {
+    final var values = new Object[paths.size()];
+    read(reader, values);
+    return values;
+  }
+
+  /**
+   * Read the values of the paths from the reader into the given array.
+   * <p>
+   * This allows the array to be reused. Values of paths that are missing are set to null.
+   * When all the paths are found the reader is left positioned after the last value read
+   * and the remaining content is not read.
+   *
+   * @param reader The reader positioned at the start of the content
+   * @param values The array to fill, with a length of at least the number of paths
+   * @return The number of paths found
+   */
+  public int read(JsonReader reader, Object[] values) {
+    Arrays.fill(values, 0, paths.size(), null);
+    final var state = new State(values, paths.size());
+    walk(reader, root, state);
+    return paths.size() - state.remaining;
+  }
+
+  /**
+   * Read the values of the paths from the reader returning a map keyed by path.
+   * <p>
+   * The map only contains the paths that are found and is ordered by the paths.
+   */
+  @SuppressWarnings("unchecked")
+  public Map<String, T> readMap(JsonReader reader) {
+    final Object[] values = read(reader);
+    final var map = new LinkedHashMap<String, T>();
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != null) {
+        map.putIfAbsent(paths.get(i).toString(), (T) values[i]);
+      }
+    }
+    return map;
+  }
+
+  private void walk(JsonReader reader, Segment segment, State state) {
+    if (segment.targets != null) {
+      readTarget(reader, segment, state);
+      return;
+    }
+    final JsonReader.Token token = reader.currentToken();
+    if (segment.names != null && token == JsonReader.Token.BEGIN_OBJECT) {
+      reader.beginObject(segment.names);
+      while (state.remaining > 0 && reader.hasNextField()) {
+        final int index = reader.nextFieldIndex(segment.names);
+        if (index < 0) {
+          reader.skipValue();
+        } else {
+          walk(reader, segment.children[index], state);
+        }
+      }
+      if (state.remaining > 0) {
+        reader.endObject();
+      }
+    } else if (segment.elements != null && token == JsonReader.Token.BEGIN_ARRAY) {
+      reader.beginArray();
+      final int[] indexes = segment.elementIndexes;
+      int next = 0;
+      for (int i = 0; state.remaining > 0 && reader.hasNextElement(); i++) {
+        if (next < indexes.length && indexes[next] == i) {
+          walk(reader, segment.elements[next++], state);
+        } else {
+          reader.skipValue();
+        }
+      }
+      if (state.remaining > 0) {
+        reader.endArray();
+      }
+    } else {
+      reader.skipValue();
+    }
+  }
+
+  private void readTarget(JsonReader reader, Segment segment, State state) {
+    if (reader.isNullValue()) {
+      // found with a null value
+      state.found(segment.targets, null);
+      return;
+    }
+    if (!segment.hasChildren()) {
+      state.found(segment.targets, adapter.fromJson(reader));
+      return;
+    }
+    // a path that is also the parent of other paths, read it twice from the raw content
+    // using parsers that are not recycled as the recycled parser is in use by the reader
+    final String raw = reader.readRaw();
+    try (JsonReader valueReader = rawStream.reader(raw)) {
+      state.found(segment.targets, adapter.fromJson(valueReader));
+    }
+    try (JsonReader childReader = rawStream.reader(raw)) {
+      walk(childReader, segment.withoutTargets, state);
+    }
+  }
+
+  private static final class State {
+
+    private final Object[] values;
+    private final boolean[] seen;
+    private int remaining;
+
+    State(Object[] values, int size) {
+      this.values = values;
+      this.seen = new boolean[size];
+      this.remaining = size;
+    }
+
+    void found(int[] targets, Object value) {
+      for (int target : targets) {
+        // the first value wins for duplicate keys
+        if (!seen[target]) {
+          seen[target] = true;
+          values[target] = value;
+          remaining--;
+        }
+      }
+    }
+  }
+
+  /**
+   * A node in the tree of path segments.
+   */
+  private static final class Segment {
+
+    /** The indexes of the paths that end at this segment or null. */
+    private final int[] targets;
+    private final PropertyNames names;
+    private final Segment[] children;
+    /** The ascending array indexes and their segments. */
+    private final int[] elementIndexes;
+    private final Segment[] elements;
+    private final Segment withoutTargets;
+
+    Segment(int[] targets, PropertyNames names, Segment[] children, int[] elementIndexes, Segment[] elements) {
+      this.targets = targets;
+      this.names = names;
+      this.children = children;
+      this.elementIndexes = elementIndexes;
+      this.elements = elements;
+      this.withoutTargets = targets == null || !hasChildren() ? null : new Segment(null, names, children, elementIndexes, elements);
+    }
+
+    boolean hasChildren() {
+      return names != null || elements != null;
+    }
+  }
+
+  private static final class SegmentBuilder {
+
+    private final List<Integer> targets = new ArrayList<>();
+    private final Map<String, SegmentBuilder> names = new LinkedHashMap<>();
+    private final Map<Integer, SegmentBuilder> elements = new TreeMap<>();
+
+    void add(JsonPath path, int segment, int target) {
+      if (segment == path.size()) {
+        targets.add(target);
+      } else if (path.isIndex(segment)) {
+        elements.computeIfAbsent(path.index(segment), i -> new SegmentBuilder()).add(path, segment + 1, target);
+      } else {
+        names.computeIfAbsent(path.name(segment), n -> new SegmentBuilder()).add(path, segment + 1, target);
+      }
+    }
+
+    boolean hasNestedTargets() {
+      if (!targets.isEmpty() && (!names.isEmpty() || !elements.isEmpty())) {
+        return true;
+      }
+      for (SegmentBuilder child : names.values()) {
+        if (child.hasNestedTargets()) {
+          return true;
+        }
+      }
+      for (SegmentBuilder child : elements.values()) {
+        if (child.hasNestedTargets()) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    Segment build(JsonStream jsonStream) {
+      final int[] targetArray = targets.isEmpty() ? null : targets.stream().mapToInt(Integer::intValue).toArray();
+      PropertyNames propertyNames = null;
+      Segment[] children = null;
+      if (!names.isEmpty()) {
+        propertyNames = jsonStream.properties(names.keySet().toArray(new String[0]));
+        children = new Segment[names.size()];
+        int i = 0;
+        for (SegmentBuilder child : names.values()) {
+          children[i++] = child.build(jsonStream);
+        }
+      }
+      int[] elementIndexes = null;
+      Segment[] elementArray = null;
+      if (!elements.isEmpty()) {
+        elementIndexes = new int[elements.size()];
+        elementArray = new Segment[elements.size()];
+        int i = 0;
+        for (Map.Entry<Integer, SegmentBuilder> entry : elements.entrySet()) {
+          elementIndexes[i] = entry.getKey();
+          elementArray[i++] = entry.getValue().build(jsonStream);
+        }
+      }
+      return new Segment(targetArray, propertyNames, children, elementIndexes, elementArray);
+    }
+  }
+}
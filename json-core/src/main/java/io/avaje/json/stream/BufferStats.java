@@ -0,0 +1,78 @@
+package io.avaje.json.stream;
+
+/**
+ * A snapshot of the buffer recycling statistics.
+ * <p>
+ * Statistics are only collected when enabled via the {@code jsonb.bufferStats} system
+ * property or {@code JSONB_BUFFER_STATS} environment variable. When not enabled all
+ * the counts are 0 and the collection has no cost.
+ * <p>
+ * The counts are global across all JsonStream instances and accumulate from when the
+ * application started. Compare 2 snapshots to get the counts for a period.
+ *
+ * <pre>{@code
+ *
+ *   BufferStats stats = JsonStream.bufferStats();
+ *   long misses = stats.generatorCreated();
+ *
+ * }</pre>
+ *
+ * @see JsonStream#bufferStats()
+ */
+public interface BufferStats {
+
+  /**
+   * Return true if statistics collection is enabled.
+   */
+  boolean enabled();
+
+  /**
+   * Return the number of generators obtained from the recycler.
+   */
+  long generatorAcquired();
+
+  /**
+   * Return the number of generators that were newly created (pool misses).
+   */
+  long generatorCreated();
+
+  /**
+   * Return the number of parsers obtained from the recycler.
+   */
+  long parserAcquired();
+
+  /**
+   * Return the number of parsers that were newly created (pool misses).
+   */
+  long parserCreated();
+
+  /**
+   * Return the number of failed compare and set attempts on the lock free pool.
+   */
+  long casRetries();
+
+  /**
+   * Return the number of recycled instances not retained because the lock free pool stripe was full.
+   */
+  long poolDropped();
+
+  /**
+   * Return the number of recycled instances that had oversized buffers trimmed.
+   */
+  long buffersTrimmed();
+
+  /**
+   * Return the number of times a generator buffer was enlarged.
+   */
+  long generatorGrowth();
+
+  /**
+   * Return the number of times a full generator buffer was flushed to the output.
+   */
+  long generatorFlushes();
+
+  /**
+   * Return the number of times a parser char buffer was enlarged.
+   */
+  long parserCharGrowth();
+}
@@ -7,6 +7,14 @@ import io.avaje.json.JsonWriter;
  */
 public interface BufferedJsonWriter extends JsonWriter {
 
+  /**
+   * Return the size of the json content in bytes prior to obtaining the {@link #result()},
+   * or -1 when the size is not known.
+   */
+  default int size() {
+    return -1;
+  }
+
   /**
    * Return result as json string content.
    */
@@ -2,6 +2,8 @@ package io.avaje.json.stream;
 
 import io.avaje.json.JsonWriter;
 
+import java.nio.ByteBuffer;
+
 /**
  * JsonWriter optimised for returning json as byte array.
  */
@@ -11,4 +13,33 @@ public interface BytesJsonWriter extends JsonWriter {
    * Return the json result as byte array.
    */
   byte[] result();
+
+  /**
+   * Write the json result into the target array starting at offset returning the number of bytes.
+   * <p>
+   * When the writer was obtained via {@link JsonStream#bufferedWriterAsBytes(byte[], int)} with
+   * the same array the content is already in place and is not copied.
+   *
+   * @throws IndexOutOfBoundsException when the json content does not fit in the target
+   */
+  default int result(byte[] target, int offset) {
+    final byte[] result = result();
+    if (result.length > target.length - offset) {
+      throw new IndexOutOfBoundsException("Json content of " + result.length + " bytes does not fit in the array from offset " + offset);
+    }
+    System.arraycopy(result, 0, target, offset, result.length);
+    return result.length;
+  }
+
+  /**
+   * Put the json result into the target buffer returning the number of bytes.
+   * The position of the buffer is advanced by the number of bytes.
+   *
+   * @throws java.nio.BufferOverflowException when the json content does not fit in the target
+   */
+  default int result(ByteBuffer target) {
+    final byte[] result = result();
+    target.put(result);
+    return result.length;
+  }
 }
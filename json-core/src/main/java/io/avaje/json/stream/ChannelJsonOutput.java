@@ -0,0 +1,129 @@
+package io.avaje.json.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * JsonOutput that writes to a WritableByteChannel.
+ * <p>
+ * Without a buffer the generator content is wrapped and written to the channel directly.
+ * With a (typically reused direct) buffer the generator content is copied into the buffer
+ * and the buffer is written to the channel when full. This batches the generator buffers
+ * into fewer channel writes and avoids the extra copy the channel makes for heap buffers.
+ */
+final class ChannelJsonOutput implements JsonOutput {
+
+  private final WritableByteChannel channel;
+  /** The staging buffer or null to write the content directly. */
+  private final ByteBuffer buffer;
+  private OutputStream outputStream;
+
+  ChannelJsonOutput(WritableByteChannel channel, ByteBuffer buffer) {
+    if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+      throw new IllegalArgumentException("channel must be in blocking mode");
+    }
+    this.channel = channel;
+    this.buffer = buffer == null ? null : buffer.clear();
+  }
+
+  @Override
+  public void write(byte[] content, int offset, int length) throws IOException {
+    if (buffer == null) {
+      writeFully(ByteBuffer.wrap(content, offset, length));
+      return;
+    }
+    while (length > 0) {
+      if (!buffer.hasRemaining()) {
+        drain();
+      }
+      final int count = Math.min(length, buffer.remaining());
+      buffer.put(content, offset, count);
+      offset += count;
+      length -= count;
+    }
+  }
+
+  @Override
+  public void writeLast(byte[] content, int offset, int length) throws IOException {
+    write(content, offset, length);
+    flush();
+  }
+
+  /**
+   * Write all the buffered content to the channel.
+   */
+  private void drain() throws IOException {
+    buffer.flip();
+    writeFully(buffer);
+    buffer.clear();
+  }
+
+  /**
+   * Write all the remaining content to the channel handling partial writes.
+   */
+  private void writeFully(ByteBuffer content) throws IOException {
+    while (content.hasRemaining()) {
+      channel.write(content);
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    if (buffer != null && buffer.position() > 0) {
+      drain();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      channel.close();
+    }
+  }
+
+  @Override
+  public OutputStream unwrapOutputStream() {
+    if (outputStream == null) {
+      outputStream = new ChannelOutputStream();
+    }
+    return outputStream;
+  }
+
+  /**
+   * OutputStream that writes via the buffer of this output.
+   */
+  private final class ChannelOutputStream extends OutputStream {
+
+    @Override
+    public void write(int b) throws IOException {
+      if (buffer == null) {
+        ChannelJsonOutput.this.write(new byte[]{(byte) b}, 0, 1);
+        return;
+      }
+      if (!buffer.hasRemaining()) {
+        drain();
+      }
+      buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] content, int offset, int length) throws IOException {
+      ChannelJsonOutput.this.write(content, offset, length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      ChannelJsonOutput.this.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      ChannelJsonOutput.this.close();
+    }
+  }
+}
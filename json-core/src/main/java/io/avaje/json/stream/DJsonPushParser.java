@@ -0,0 +1,224 @@
+package io.avaje.json.stream;
+
+import io.avaje.json.JsonDataException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Default implementation of JsonPushParser.
+ * <p>
+ * Scans the pushed input tracking nesting depth and string state to find the end of
+ * each value. The values themselves are not parsed here but by the reader of the
+ * returned buffer.
+ */
+final class DJsonPushParser implements JsonPushParser {
+
+  private static final int BEFORE_ARRAY = 0;
+  private static final int FIRST_ELEMENT = 1;
+  private static final int NEXT_ELEMENT = 2;
+  private static final int AFTER_ELEMENT = 3;
+  private static final int AFTER_ARRAY = 4;
+  private static final int VALUES = 5;
+
+  private static final int SCALAR = 0;
+  private static final int STRING = 1;
+  private static final int CONTAINER = 2;
+
+  private byte[] buffer = new byte[4096];
+  /** Start of the content not yet returned. */
+  private int start;
+  /** Position of the next byte to scan. */
+  private int scan;
+  /** End of the pushed content. */
+  private int limit;
+  /** Number of bytes dropped from the front of the buffer. */
+  private long dropped;
+
+  private int state;
+  private int valueStart = -1;
+  private int valueKind;
+  private int depth;
+  private boolean inString;
+  private boolean escape;
+  private boolean ended;
+  private boolean complete;
+
+  DJsonPushParser(boolean array) {
+    this.state = array ? BEFORE_ARRAY : VALUES;
+  }
+
+  @Override
+  public void push(byte[] chunk, int offset, int length) {
+    ensureCapacity(length);
+    System.arraycopy(chunk, offset, buffer, limit, length);
+    limit += length;
+  }
+
+  @Override
+  public void push(ByteBuffer chunk) {
+    final int length = chunk.remaining();
+    ensureCapacity(length);
+    chunk.get(buffer, limit, length);
+    limit += length;
+  }
+
+  private void ensureCapacity(int length) {
+    if (ended) {
+      throw new IllegalStateException("push() after end()");
+    }
+    if (limit + length <= buffer.length) {
+      return;
+    }
+    // compact, dropping the content already returned
+    final int retain = limit - start;
+    if (retain + length > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, retain + length));
+    }
+    System.arraycopy(buffer, start, buffer, 0, retain);
+    scan -= start;
+    if (valueStart >= 0) {
+      valueStart -= start;
+    }
+    limit = retain;
+    dropped += start;
+    start = 0;
+  }
+
+  @Override
+  public void end() {
+    ended = true;
+  }
+
+  @Override
+  public boolean isComplete() {
+    return complete;
+  }
+
+  @Override
+  public ByteBuffer next() {
+    final byte[] buf = buffer;
+    while (scan < limit) {
+      final byte b = buf[scan];
+      if (valueStart < 0) {
+        if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+          start = ++scan;
+          continue;
+        }
+        switch (state) {
+          case BEFORE_ARRAY:
+            if (b != '[') {
+              throw unexpected(b, "expecting '['");
+            }
+            state = FIRST_ELEMENT;
+            start = ++scan;
+            continue;
+          case FIRST_ELEMENT:
+            if (b == ']') {
+              state = AFTER_ARRAY;
+              start = ++scan;
+              continue;
+            }
+            break;
+          case AFTER_ELEMENT:
+            if (b == ',') {
+              state = NEXT_ELEMENT;
+            } else if (b == ']') {
+              state = AFTER_ARRAY;
+            } else {
+              throw unexpected(b, "expecting ',' or ']'");
+            }
+            start = ++scan;
+            continue;
+          case AFTER_ARRAY:
+            throw unexpected(b, "after the end of the array");
+          default:
+            break;
+        }
+        if (b == ',' || b == ']' || b == '}' || b == ':') {
+          throw unexpected(b, "expecting a value");
+        }
+        valueStart = scan++;
+        if (b == '{' || b == '[') {
+          valueKind = CONTAINER;
+          depth = 1;
+        } else if (b == '"') {
+          valueKind = STRING;
+          inString = true;
+        } else {
+          valueKind = SCALAR;
+        }
+      } else if (inString) {
+        scan++;
+        if (escape) {
+          escape = false;
+        } else if (b == '\\') {
+          escape = true;
+        } else if (b == '"') {
+          inString = false;
+          if (valueKind == STRING) {
+            return value(scan);
+          }
+        }
+      } else if (valueKind == CONTAINER) {
+        scan++;
+        if (b == '"') {
+          inString = true;
+        } else if (b == '{' || b == '[') {
+          depth++;
+        } else if ((b == '}' || b == ']') && --depth == 0) {
+          return value(scan);
+        }
+      } else if (isScalarEnd(b)) {
+        return value(scan);
+      } else {
+        scan++;
+      }
+    }
+    if (ended) {
+      if (valueStart >= 0) {
+        if (valueKind == SCALAR) {
+          return value(scan);
+        }
+        throw new JsonDataException("Unexpected end of input inside a json value");
+      }
+      if (state != VALUES && state != AFTER_ARRAY) {
+        throw new JsonDataException("Unexpected end of input before the end of the array");
+      }
+      complete = true;
+    }
+    return null;
+  }
+
+  private static boolean isScalarEnd(byte b) {
+    switch (b) {
+      case ' ':
+      case '\n':
+      case '\r':
+      case '\t':
+      case ',':
+      case ']':
+      case '}':
+      case '{':
+      case '[':
+      case '"':
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private ByteBuffer value(int end) {
+    final ByteBuffer value = ByteBuffer.wrap(buffer, valueStart, end - valueStart).slice();
+    valueStart = -1;
+    start = end;
+    if (state != VALUES) {
+      state = AFTER_ELEMENT;
+    }
+    return value;
+  }
+
+  private JsonDataException unexpected(byte b, String expecting) {
+    return new JsonDataException("Unexpected character '" + (char) b + "' " + expecting + " at offset " + (dropped + scan));
+  }
+}
@@ -5,6 +5,13 @@ import io.avaje.json.PropertyNames;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 
 /**
  * Provides a delegating JsonWriter.
@@ -52,6 +59,11 @@ public abstract class DelegateJsonWriter implements JsonWriter {
     delegate.pretty(pretty);
   }
 
+  @Override
+  public final boolean pretty() {
+    return delegate.pretty();
+  }
+
   @Override
   public final String path() {
     return delegate.path();
@@ -112,6 +124,11 @@ public abstract class DelegateJsonWriter implements JsonWriter {
     delegate.value(value);
   }
 
+  @Override
+  public final void value(PropertyNames names, int index) {
+    delegate.value(names, index);
+  }
+
   @Override
   public final void value(boolean value) {
     delegate.value(value);
@@ -152,6 +169,41 @@ public abstract class DelegateJsonWriter implements JsonWriter {
     delegate.value(value);
   }
 
+  @Override
+  public final void value(Instant value) {
+    delegate.value(value);
+  }
+
+  @Override
+  public final void value(LocalDate value) {
+    delegate.value(value);
+  }
+
+  @Override
+  public final void value(LocalTime value) {
+    delegate.value(value);
+  }
+
+  @Override
+  public final void value(LocalDateTime value) {
+    delegate.value(value);
+  }
+
+  @Override
+  public final void value(OffsetDateTime value) {
+    delegate.value(value);
+  }
+
+  @Override
+  public final void value(ZonedDateTime value) {
+    delegate.value(value);
+  }
+
+  @Override
+  public final void value(Duration value) {
+    delegate.value(value);
+  }
+
   @Override
   public final void value(BigDecimal value) {
     delegate.value(value);
@@ -172,6 +224,11 @@ public abstract class DelegateJsonWriter implements JsonWriter {
     delegate.rawValue(value);
   }
 
+  @Override
+  public void rawValue(byte[] content, int offset, int length) {
+    delegate.rawValue(content, offset, length);
+  }
+
   @Override
   public void rawChunkStart() {
     delegate.rawChunkStart();
@@ -5,6 +5,8 @@ import io.helidon.webserver.http.ServerResponse;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * Output that can be aware of server content chunking.
@@ -26,6 +28,26 @@ public interface JsonOutput extends Closeable {
     return new DJsonOutput(outputStream);
   }
 
+  /**
+   * Create for a WritableByteChannel such as a FileChannel or SocketChannel.
+   * <p>
+   * The content of the generator buffer is written to the channel directly without
+   * an intermediate buffer. The channel must be in blocking mode.
+   */
+  static JsonOutput ofChannel(WritableByteChannel channel) {
+    return new ChannelJsonOutput(channel, null);
+  }
+
+  /**
+   * Create for a WritableByteChannel using the given buffer.
+   * <p>
+   * Typically, the buffer is a direct ByteBuffer that is reused for many outputs
+   * (by the same thread). The channel must be in blocking mode.
+   */
+  static JsonOutput ofChannel(WritableByteChannel channel, ByteBuffer buffer) {
+    return new ChannelJsonOutput(channel, buffer);
+  }
+
   /**
    * @deprecated migrate to {@link #ofStream(OutputStream)}.
    */
@@ -0,0 +1,88 @@
+package io.avaje.json.stream;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Non-blocking parser where the caller pushes chunks of input as they arrive.
+ * <p>
+ * The parser splits the input into complete json values. These are either the elements
+ * of a top level json array or the values of a whitespace / newline delimited stream
+ * (NDJSON). Each value is returned as a ByteBuffer that can be read via
+ * {@code JsonStream.reader(ByteBuffer)} or {@code JsonType.fromJson(ByteBuffer)}.
+ * <p>
+ * {@link #next()} returns null when more input is needed.
+ *
+ * <pre>{@code
+ *
+ *   JsonPushParser parser = JsonPushParser.ofArray();
+ *
+ *   // as each chunk arrives
+ *   parser.push(chunk);
+ *   ByteBuffer value;
+ *   while ((value = parser.next()) != null) {
+ *     Customer customer = customerType.fromJson(value);
+ *     ...
+ *   }
+ *
+ *   // at the end of input
+ *   parser.end();
+ *   ...
+ *
+ * }</pre>
+ * <p>
+ * A JsonPushParser is not thread safe.
+ */
+public interface JsonPushParser {
+
+  /**
+   * Create for the elements of a top level json array.
+   */
+  static JsonPushParser ofArray() {
+    return new DJsonPushParser(true);
+  }
+
+  /**
+   * Create for whitespace or newline delimited json values (NDJSON).
+   */
+  static JsonPushParser ofValues() {
+    return new DJsonPushParser(false);
+  }
+
+  /**
+   * Push the next chunk of input.
+   * <p>
+   * The content is copied and the buffers returned by {@link #next()} prior
+   * to this call should no longer be used.
+   */
+  void push(byte[] chunk, int offset, int length);
+
+  /**
+   * Push the remaining bytes of the chunk as the next input.
+   * <p>
+   * The content is copied and the position of the chunk is moved to its limit.
+   */
+  void push(ByteBuffer chunk);
+
+  /**
+   * Signal that there is no more input.
+   * <p>
+   * A trailing value that is terminated by the end of input (like a number) is then
+   * returned by {@link #next()}.
+   */
+  void end();
+
+  /**
+   * Return the next complete json value or null if more input is needed.
+   * <p>
+   * The returned buffer is valid until the next push.
+   *
+   * @throws io.avaje.json.JsonDataException when the input is not a json array or delimited
+   *                                         json values, or when the input ends inside a value
+   */
+  ByteBuffer next();
+
+  /**
+   * Return true when {@link #end()} has been called and all the values have been returned.
+   */
+  boolean isComplete();
+}
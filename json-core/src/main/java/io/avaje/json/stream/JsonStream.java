@@ -4,8 +4,10 @@ import io.avaje.json.JsonReader;
 import io.avaje.json.JsonWriter;
 import io.avaje.json.PropertyNames;
 import io.avaje.json.stream.core.JsonStreamBuilder;
+import io.avaje.json.stream.core.RecyclerStatistics;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 
 /**
  * Provides the underlying JsonReader and JsonWriter to use.
@@ -32,6 +34,21 @@ public interface JsonStream {
    */
   JsonReader reader(InputStream inputStream);
 
+  /**
+   * Return the JsonReader given json content in the remaining bytes of the ByteBuffer.
+   * <p>
+   * Heap buffers are parsed directly over the backing array without copying. Direct
+   * buffers are read in blocks straight into the parser buffer. The position of the
+   * given buffer is not changed.
+   * <p>
+   * A {@code MemorySegment} can be read via {@code reader(segment.asByteBuffer())}.
+   */
+  default JsonReader reader(ByteBuffer json) {
+    final byte[] content = new byte[json.remaining()];
+    json.duplicate().get(content);
+    return reader(content);
+  }
+
   /**
    * Return the JsonWriter given writer to use.
    */
@@ -57,6 +74,44 @@ public interface JsonStream {
    */
   BytesJsonWriter bufferedWriterAsBytes();
 
+  /**
+   * Return a JsonWriter for use for writing to json string given the expected size
+   * of the content such that the buffer can be sized up front.
+   */
+  default BufferedJsonWriter bufferedWriter(int sizeHint) {
+    return bufferedWriter();
+  }
+
+  /**
+   * Return a JsonWriter to use for writing json to byte array given the expected size
+   * of the content such that the buffer can be sized up front.
+   */
+  default BytesJsonWriter bufferedWriterAsBytes(int sizeHint) {
+    return bufferedWriterAsBytes();
+  }
+
+  /**
+   * Return a JsonWriter that writes json into the given array starting at offset.
+   * <p>
+   * Use {@link BytesJsonWriter#result(byte[], int)} with the same array and offset to
+   * obtain the number of bytes written. The built-in implementation writes json directly
+   * into the array without an intermediate buffer or final copy.
+   */
+  default BytesJsonWriter bufferedWriterAsBytes(byte[] target, int offset) {
+    return bufferedWriterAsBytes();
+  }
+
+  /**
+   * Pre-fill the buffer pool such that the first reads and writes use pooled buffers.
+   * <p>
+   * Pools shared across threads are filled with up to {@code count} generators and parsers
+   * per stripe, limited by the maximum retained per stripe. Thread local pools are filled
+   * for the calling thread.
+   */
+  default void prefillBuffers(int count) {
+    // do nothing by default
+  }
+
   /**
    * Return PropertyNames given the names of properties.
    * <p>
@@ -76,6 +131,16 @@ public interface JsonStream {
     return new JsonStreamBuilder();
   }
 
+  /**
+   * Return a snapshot of the buffer recycling statistics of the default JsonStream implementation.
+   * <p>
+   * Collection is enabled via the {@code jsonb.bufferStats} system property or the
+   * {@code JSONB_BUFFER_STATS} environment variable.
+   */
+  static BufferStats bufferStats() {
+    return RecyclerStatistics.snapshot();
+  }
+
   /** Used to build JsonStream with custom settings. */
   interface Builder {
 
@@ -0,0 +1,107 @@
+package io.avaje.json.stream;
+
+import java.math.BigDecimal;
+
+/**
+ * A number held as the digits read from json and converted on first access.
+ * <p>
+ * Written back to json as the original digits, so no precision is lost when content is
+ * read and written without the numbers being used.
+ *
+ * @see NumberMode#LAZY
+ */
+public final class LazyNumber extends Number {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String value;
+  private transient Number number;
+
+  /**
+   * Create given the json number content.
+   */
+  public LazyNumber(String value) {
+    this.value = value.trim();
+  }
+
+  /**
+   * Return true if the number has no fraction or exponent.
+   */
+  public boolean isIntegral() {
+    for (int i = 0; i < value.length(); i++) {
+      final char ch = value.charAt(i);
+      if (ch == '.' || ch == 'e' || ch == 'E') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Return the number as a BigDecimal without loss of precision.
+   */
+  public BigDecimal decimalValue() {
+    return new BigDecimal(value);
+  }
+
+  private Number number() {
+    Number result = number;
+    if (result == null) {
+      result = parse();
+      number = result;
+    }
+    return result;
+  }
+
+  private Number parse() {
+    final int digits = value.length() - (value.charAt(0) == '-' ? 1 : 0);
+    if (digits <= 18 && isIntegral()) {
+      return Long.parseLong(value);
+    }
+    final BigDecimal decimal = decimalValue();
+    if (decimal.scale() == 0 && decimal.unscaledValue().bitLength() < 64) {
+      return decimal.longValue();
+    }
+    return decimal.doubleValue();
+  }
+
+  @Override
+  public int intValue() {
+    return number().intValue();
+  }
+
+  @Override
+  public long longValue() {
+    return number().longValue();
+  }
+
+  @Override
+  public float floatValue() {
+    return number().floatValue();
+  }
+
+  @Override
+  public double doubleValue() {
+    return number().doubleValue();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) return true;
+    if (!(obj instanceof LazyNumber)) return false;
+    return value.equals(((LazyNumber) obj).value);
+  }
+
+  @Override
+  public int hashCode() {
+    return value.hashCode();
+  }
+
+  /**
+   * Return the json number content.
+   */
+  @Override
+  public String toString() {
+    return value;
+  }
+}
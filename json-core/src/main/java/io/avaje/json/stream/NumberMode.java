@@ -0,0 +1,54 @@
+package io.avaje.json.stream;
+
+import io.avaje.json.JsonReader;
+
+/**
+ * How numbers are read when the type is not known, such as the values of {@code Map<String,Object>}.
+ */
+public enum NumberMode {
+
+  /**
+   * Numbers with a whole value are returned as Long, other numbers as Double.
+   * <p>
+   * Integers that fit in a long are read exactly. Decimal values that are whole such as
+   * {@code 1.0} are also returned as Long. This is the default.
+   */
+  WHOLE_AS_LONG {
+    @Override
+    public Number read(JsonReader reader) {
+      final Number value = reader.readNumber();
+      if (value instanceof Double) {
+        final double d = value.doubleValue();
+        if (d % 1 == 0) {
+          return (long) d;
+        }
+      }
+      return value;
+    }
+  },
+
+  /**
+   * Integers that fit in a long are returned as Long, all other numbers as Double.
+   */
+  LONG_OR_DOUBLE {
+    @Override
+    public Number read(JsonReader reader) {
+      return reader.readNumber();
+    }
+  },
+
+  /**
+   * Numbers are returned as {@link LazyNumber} holding the digits as read, converted on first access.
+   */
+  LAZY {
+    @Override
+    public Number read(JsonReader reader) {
+      return new LazyNumber(reader.readRawNumber());
+    }
+  };
+
+  /**
+   * Read the current number value.
+   */
+  public abstract Number read(JsonReader reader);
+}
@@ -27,7 +27,14 @@ interface BufferRecycler {
   /**
    * Return the JsonParser given the content in bytes.
    */
-  JsonParser parser(byte[] bytes);
+  default JsonParser parser(byte[] bytes) {
+    return parser(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Return the JsonParser given the content in bytes from offset for length bytes.
+   */
+  JsonParser parser(byte[] bytes, int offset, int length);
 
   /**
    * Return the JsonParser given the content inputStream.
@@ -44,6 +51,13 @@ interface BufferRecycler {
    */
   void recycle(JsonParser recycler);
 
+  /**
+   * Pre-fill the pool with up to the given number of generators and parsers.
+   */
+  default void prefill(int count) {
+    // nothing to do
+  }
+
   /**
    * @return Globally shared instance of {@link HybridBufferRecycler};
    */
@@ -0,0 +1,50 @@
+package io.avaje.json.stream.core;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * InputStream over the remaining content of a ByteBuffer.
+ * <p>
+ * Used for direct (and read only) buffers that do not expose a backing array such
+ * that the content is copied in bulk straight into the parser buffer.
+ */
+final class ByteBufferInputStream extends InputStream {
+
+  private final ByteBuffer buffer;
+
+  ByteBufferInputStream(ByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  @Override
+  public int read() {
+    return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+  }
+
+  @Override
+  public int read(byte[] bytes, int off, int len) {
+    if (len == 0) {
+      return 0;
+    }
+    final int remaining = buffer.remaining();
+    if (remaining == 0) {
+      return -1;
+    }
+    final int count = Math.min(len, remaining);
+    buffer.get(bytes, off, count);
+    return count;
+  }
+
+  @Override
+  public long skip(long n) {
+    final int count = (int) Math.min(Math.max(n, 0), buffer.remaining());
+    buffer.position(buffer.position() + count);
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return buffer.remaining();
+  }
+}
@@ -0,0 +1,47 @@
+package io.avaje.json.stream.core;
+
+/**
+ * Scans the parser buffer for the bytes that end a run of plain string content.
+ * <p>
+ * This is the scalar implementation. The Java 21 version of this class uses the
+ * incubating Vector API when the {@code jdk.incubator.vector} module is available.
+ */
+final class ByteScan {
+
+  private ByteScan() {}
+
+  /**
+   * Return true if the vector implementation is in use.
+   */
+  static boolean vector() {
+    return false;
+  }
+
+  /**
+   * Return the index of the first double quote or backslash between from and to,
+   * or {@code to} if there is none.
+   */
+  static int indexOfQuoteOrEscape(final byte[] buffer, int from, final int to) {
+    for (; from < to; from++) {
+      final byte b = buffer[from];
+      if (b == '"' || b == '\\') {
+        return from;
+      }
+    }
+    return to;
+  }
+
+  /**
+   * Return the index of the first double quote, backslash or non-ASCII byte between
+   * from and to, or {@code to} if there is none.
+   */
+  static int indexOfStringSpecial(final byte[] buffer, int from, final int to) {
+    for (; from < to; from++) {
+      final byte b = buffer[from];
+      if (b == '"' || (b ^ '\\') < 1) {
+        return from;
+      }
+    }
+    return to;
+  }
+}
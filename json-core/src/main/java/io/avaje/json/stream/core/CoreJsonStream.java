@@ -6,6 +6,7 @@ import io.avaje.json.PropertyNames;
 import io.avaje.json.stream.*;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 /** Default implementation of JsonStreamAdapter provided with Jsonb. */
@@ -55,6 +56,11 @@ final class CoreJsonStream implements JsonStream {
     return new JsonStreamBuilder();
   }
 
+  @Override
+  public void prefillBuffers(int count) {
+    recycle.prefill(count);
+  }
+
   @Override
   public PropertyNames properties(String... names) {
     return JsonNames.of(names);
@@ -82,6 +88,14 @@ final class CoreJsonStream implements JsonStream {
     return new JsonReadAdapter(parser, recycle, failOnUnknown, failOnNullPrimitives);
   }
 
+  @Override
+  public JsonReader reader(ByteBuffer json) {
+    JsonParser parser = json.hasArray()
+      ? recycle.parser(json.array(), json.arrayOffset() + json.position(), json.remaining())
+      : recycle.parser(new ByteBufferInputStream(json.duplicate()));
+    return new JsonReadAdapter(parser, recycle, failOnUnknown, failOnNullPrimitives);
+  }
+
   @Override
   public JsonWriter writer(Writer writer) {
     // TODO: Could recycle buffer used
@@ -110,6 +124,26 @@ final class CoreJsonStream implements JsonStream {
     return new BytesWriter(wrap(generator), generator);
   }
 
+  @Override
+  public BufferedJsonWriter bufferedWriter(int sizeHint) {
+    JsonGenerator generator = recycle.generator();
+    generator.sizeHint(sizeHint);
+    return new BufferedWriter(wrap(generator), generator);
+  }
+
+  @Override
+  public BytesJsonWriter bufferedWriterAsBytes(int sizeHint) {
+    JsonGenerator generator = recycle.generator();
+    generator.sizeHint(sizeHint);
+    return new BytesWriter(wrap(generator), generator);
+  }
+
+  @Override
+  public BytesJsonWriter bufferedWriterAsBytes(byte[] target, int offset) {
+    JsonGenerator generator = recycle.generator().prepare(target, offset);
+    return new BytesWriter(wrap(generator), generator);
+  }
+
   private JsonGenerator gen(JsonOutput output) {
     return recycle.generator(output);
   }
@@ -127,6 +161,11 @@ final class CoreJsonStream implements JsonStream {
       this.generator = generator;
     }
 
+    @Override
+    public int size() {
+      return generator.size();
+    }
+
     @Override
     public String result() {
       return generator.toString();
@@ -146,5 +185,15 @@ final class CoreJsonStream implements JsonStream {
     public byte[] result() {
       return generator.toByteArray();
     }
+
+    @Override
+    public int result(byte[] target, int offset) {
+      return generator.writeTo(target, offset);
+    }
+
+    @Override
+    public int result(ByteBuffer target) {
+      return generator.writeTo(target);
+    }
   }
 }
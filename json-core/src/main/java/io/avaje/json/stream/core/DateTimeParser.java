@@ -0,0 +1,387 @@
+package io.avaje.json.stream.core;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Parses quoted ISO-8601 java time values from the parsed string characters.
+ * <p>
+ * The common forms (4 digit years, optional fraction of up to 9 digits, {@code Z} or
+ * {@code +HH:MM} offsets) are parsed directly. Any other form, as well as invalid
+ * values, fall back to the JDK parse methods such that behaviour and exceptions
+ * match those of {@code X.parse(String)}.
+ */
+final class DateTimeParser {
+
+  private static final long SECONDS_PER_DAY = 86400;
+  private static final long DAYS_0000_TO_1970 = 719528;
+  private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+
+  private DateTimeParser() {}
+
+  static Instant parseInstant(final JParser reader) {
+    final int len = reader.parseString();
+    final char[] buf = reader.chars;
+    if (len >= 20 && isDate(buf, 0) && buf[10] == 'T' && isTime(buf, 11, len)) {
+      final int end = timeEnd(buf, 11, len);
+      if (end > 16 && offsetSeconds(buf, end, len) != Integer.MIN_VALUE) {
+        final int year = digits4(buf, 0);
+        final int month = digits2(buf, 5);
+        final int day = digits2(buf, 8);
+        final int hour = digits2(buf, 11);
+        final int minute = digits2(buf, 14);
+        final int second = digits2(buf, 17);
+        if (validDate(year, month, day) && hour < 24 && minute < 60 && second < 60) {
+          final long epochSecond = epochDay(year, month, day) * SECONDS_PER_DAY
+            + hour * 3600 + minute * 60 + second - offsetSeconds(buf, end, len);
+          return Instant.ofEpochSecond(epochSecond, nano(buf, 19, end));
+        }
+      }
+    }
+    return Instant.parse(new String(buf, 0, len));
+  }
+
+  static LocalDate parseLocalDate(final JParser reader) {
+    final int len = reader.parseString();
+    final char[] buf = reader.chars;
+    if (len == 10 && isDate(buf, 0)) {
+      final LocalDate value = localDate(buf);
+      if (value != null) {
+        return value;
+      }
+    }
+    return LocalDate.parse(new String(buf, 0, len));
+  }
+
+  static LocalTime parseLocalTime(final JParser reader) {
+    final int len = reader.parseString();
+    final char[] buf = reader.chars;
+    if (isTime(buf, 0, len) && timeEnd(buf, 0, len) == len) {
+      final LocalTime value = localTime(buf, 0, len);
+      if (value != null) {
+        return value;
+      }
+    }
+    return LocalTime.parse(new String(buf, 0, len));
+  }
+
+  static LocalDateTime parseLocalDateTime(final JParser reader) {
+    final int len = reader.parseString();
+    final char[] buf = reader.chars;
+    if (isDateTime(buf, len) && timeEnd(buf, 11, len) == len) {
+      final LocalDateTime value = localDateTime(buf, len);
+      if (value != null) {
+        return value;
+      }
+    }
+    return LocalDateTime.parse(new String(buf, 0, len));
+  }
+
+  static OffsetDateTime parseOffsetDateTime(final JParser reader) {
+    final int len = reader.parseString();
+    final char[] buf = reader.chars;
+    if (isDateTime(buf, len)) {
+      final int end = timeEnd(buf, 11, len);
+      final ZoneOffset offset = end < 0 ? null : offset(buf, end, len);
+      if (offset != null) {
+        final LocalDateTime dateTime = localDateTime(buf, end);
+        if (dateTime != null) {
+          return OffsetDateTime.of(dateTime, offset);
+        }
+      }
+    }
+    return OffsetDateTime.parse(new String(buf, 0, len));
+  }
+
+  static ZonedDateTime parseZonedDateTime(final JParser reader) {
+    final int len = reader.parseString();
+    final char[] buf = reader.chars;
+    if (isDateTime(buf, len)) {
+      final int end = timeEnd(buf, 11, len);
+      final int zoneStart = end < 0 ? len : indexOf(buf, end, len, '[');
+      final ZoneOffset offset = end < 0 ? null : offset(buf, end, zoneStart);
+      if (offset != null) {
+        final LocalDateTime dateTime = localDateTime(buf, end);
+        if (dateTime != null) {
+          if (zoneStart == len) {
+            return ZonedDateTime.of(dateTime, offset);
+          }
+          if (buf[len - 1] == ']' && zoneStart + 2 < len) {
+            final ZoneId zone = zoneId(buf, zoneStart + 1, len - 1);
+            if (zone != null) {
+              return ZonedDateTime.ofInstant(dateTime, offset, zone);
+            }
+          }
+        }
+      }
+    }
+    return ZonedDateTime.parse(new String(buf, 0, len));
+  }
+
+  static Duration parseDuration(final JParser reader) {
+    final int len = reader.parseString();
+    final char[] buf = reader.chars;
+    final Duration value = duration(buf, len);
+    return value != null ? value : Duration.parse(new String(buf, 0, len));
+  }
+
+  /**
+   * Parse the positive PTnHnMn.nS form returning null for other forms.
+   */
+  private static Duration duration(final char[] buf, final int len) {
+    if (len < 4 || buf[0] != 'P' || buf[1] != 'T') {
+      return null;
+    }
+    long seconds = 0;
+    int nanos = 0;
+    int pos = 2;
+    int unitOrder = 0;
+    try {
+      while (pos < len) {
+        final int start = pos;
+        long value = 0;
+        while (pos < len && isDigit(buf[pos])) {
+          value = value * 10 + (buf[pos++] - '0');
+        }
+        final int numDigits = pos - start;
+        if (numDigits == 0 || numDigits > 18 || pos == len) {
+          return null;
+        }
+        final char unit = buf[pos];
+        if (unit == 'H' && unitOrder < 1) {
+          seconds = Math.addExact(seconds, Math.multiplyExact(value, 3600));
+          unitOrder = 1;
+        } else if (unit == 'M' && unitOrder < 2) {
+          seconds = Math.addExact(seconds, Math.multiplyExact(value, 60));
+          unitOrder = 2;
+        } else if ((unit == 'S' || unit == '.') && unitOrder < 3) {
+          seconds = Math.addExact(seconds, value);
+          if (unit == '.') {
+            final int fractionEnd = digitsEnd(buf, pos + 1, len);
+            if (fractionEnd == pos + 1 || fractionEnd - pos - 1 > 9 || fractionEnd == len || buf[fractionEnd] != 'S') {
+              return null;
+            }
+            nanos = nano(buf, pos, fractionEnd);
+            pos = fractionEnd;
+          }
+          unitOrder = 3;
+        } else {
+          return null;
+        }
+        pos++;
+      }
+    } catch (ArithmeticException e) {
+      return null;
+    }
+    return Duration.ofSeconds(seconds, nanos);
+  }
+
+  private static LocalDate localDate(final char[] buf) {
+    final int year = digits4(buf, 0);
+    final int month = digits2(buf, 5);
+    final int day = digits2(buf, 8);
+    return validDate(year, month, day) ? LocalDate.of(year, month, day) : null;
+  }
+
+  private static LocalTime localTime(final char[] buf, final int start, final int end) {
+    final int hour = digits2(buf, start);
+    final int minute = digits2(buf, start + 3);
+    final int second = end > start + 5 ? digits2(buf, start + 6) : 0;
+    if (hour > 23 || minute > 59 || second > 59) {
+      return null;
+    }
+    return LocalTime.of(hour, minute, second, nano(buf, start + 8, end));
+  }
+
+  /**
+   * Return the LocalDateTime where the time ends at the given position.
+   */
+  private static LocalDateTime localDateTime(final char[] buf, final int end) {
+    final LocalDate date = localDate(buf);
+    if (date == null) {
+      return null;
+    }
+    final LocalTime time = localTime(buf, 11, end);
+    return time == null ? null : LocalDateTime.of(date, time);
+  }
+
+  private static ZoneOffset offset(final char[] buf, final int start, final int end) {
+    final int totalSeconds = offsetSeconds(buf, start, end);
+    if (totalSeconds == Integer.MIN_VALUE) {
+      return null;
+    }
+    return ZoneOffset.ofTotalSeconds(totalSeconds);
+  }
+
+  /**
+   * Return the offset in seconds for {@code Z}, {@code +HH:MM} or {@code +HH:MM:SS}
+   * or Integer.MIN_VALUE for other forms.
+   */
+  private static int offsetSeconds(final char[] buf, final int start, final int end) {
+    final int len = end - start;
+    if (len == 1 && buf[start] == 'Z') {
+      return 0;
+    }
+    if ((len != 6 && len != 9) || (buf[start] != '+' && buf[start] != '-')
+      || !isDigits2(buf, start + 1) || buf[start + 3] != ':' || !isDigits2(buf, start + 4)
+      || (len == 9 && (buf[start + 6] != ':' || !isDigits2(buf, start + 7)))) {
+      return Integer.MIN_VALUE;
+    }
+    final int minutes = digits2(buf, start + 4);
+    final int secs = len == 9 ? digits2(buf, start + 7) : 0;
+    if (minutes > 59 || secs > 59) {
+      return Integer.MIN_VALUE;
+    }
+    final int seconds = digits2(buf, start + 1) * 3600 + minutes * 60 + secs;
+    if (seconds > MAX_OFFSET_SECONDS) {
+      return Integer.MIN_VALUE;
+    }
+    return buf[start] == '-' ? -seconds : seconds;
+  }
+
+  private static ZoneId zoneId(final char[] buf, final int start, final int end) {
+    try {
+      return ZoneId.of(new String(buf, start, end - start));
+    } catch (DateTimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Return true if the buffer starts with yyyy-MM-ddTHH:mm.
+   */
+  private static boolean isDateTime(final char[] buf, final int len) {
+    return len >= 16 && isDate(buf, 0) && buf[10] == 'T' && isTime(buf, 11, len);
+  }
+
+  private static boolean isDate(final char[] buf, final int start) {
+    return isDigits2(buf, start) && isDigits2(buf, start + 2) && buf[start + 4] == '-'
+      && isDigits2(buf, start + 5) && buf[start + 7] == '-' && isDigits2(buf, start + 8);
+  }
+
+  /**
+   * Return true if the buffer at start has HH:mm.
+   */
+  private static boolean isTime(final char[] buf, final int start, final int len) {
+    return len - start >= 5 && isDigits2(buf, start) && buf[start + 2] == ':' && isDigits2(buf, start + 3);
+  }
+
+  /**
+   * Return the end position of HH:mm[:ss[.nnnnnnnnn]] or -1 when seconds or fraction are malformed.
+   */
+  private static int timeEnd(final char[] buf, final int start, final int len) {
+    int pos = start + 5;
+    if (pos < len && buf[pos] == ':') {
+      if (pos + 3 > len || !isDigits2(buf, pos + 1)) {
+        return -1;
+      }
+      pos += 3;
+      if (pos < len && buf[pos] == '.') {
+        final int end = digitsEnd(buf, pos + 1, len);
+        if (end == pos + 1 || end - pos - 1 > 9) {
+          return -1;
+        }
+        pos = end;
+      }
+    }
+    return pos;
+  }
+
+  /**
+   * Return the nano of second for the fraction digits between the '.' at start and end.
+   */
+  private static int nano(final char[] buf, final int start, final int end) {
+    int nano = 0;
+    int i = start + 1;
+    for (; i < end; i++) {
+      nano = nano * 10 + (buf[i] - '0');
+    }
+    for (int digits = end - start - 1; digits < 9; digits++) {
+      nano *= 10;
+    }
+    return nano;
+  }
+
+  private static int indexOf(final char[] buf, final int start, final int end, final char ch) {
+    for (int i = start; i < end; i++) {
+      if (buf[i] == ch) {
+        return i;
+      }
+    }
+    return end;
+  }
+
+  private static int digitsEnd(final char[] buf, int pos, final int len) {
+    while (pos < len && isDigit(buf[pos])) {
+      pos++;
+    }
+    return pos;
+  }
+
+  private static boolean validDate(final int year, final int month, final int day) {
+    if (month < 1 || month > 12 || day < 1) {
+      return false;
+    }
+    if (day <= 28) {
+      return true;
+    }
+    switch (month) {
+      case 2:
+        return day == 29 && isLeap(year);
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return day <= 30;
+      default:
+        return day <= 31;
+    }
+  }
+
+  private static boolean isLeap(final long year) {
+    return ((year & 3) == 0) && ((year % 100) != 0 || (year % 400) == 0);
+  }
+
+  /**
+   * Same as LocalDate.toEpochDay().
+   */
+  private static long epochDay(final int year, final int month, final int day) {
+    final long y = year;
+    final long m = month;
+    long total = 365 * y;
+    total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+    total += ((367 * m - 362) / 12);
+    total += day - 1;
+    if (m > 2) {
+      total--;
+      if (!isLeap(year)) {
+        total--;
+      }
+    }
+    return total - DAYS_0000_TO_1970;
+  }
+
+  private static boolean isDigit(final char ch) {
+    return ch >= '0' && ch <= '9';
+  }
+
+  private static boolean isDigits2(final char[] buf, final int pos) {
+    return isDigit(buf[pos]) && isDigit(buf[pos + 1]);
+  }
+
+  private static int digits2(final char[] buf, final int pos) {
+    return (buf[pos] - '0') * 10 + buf[pos + 1] - '0';
+  }
+
+  private static int digits4(final char[] buf, final int pos) {
+    return digits2(buf, pos) * 100 + digits2(buf, pos + 2);
+  }
+}
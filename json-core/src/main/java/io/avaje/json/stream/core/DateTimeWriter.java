@@ -0,0 +1,284 @@
+package io.avaje.json.stream.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Writes java time values as quoted ISO-8601 directly into the generator buffer.
+ * <p>
+ * The output matches the respective {@code toString()} of the java time types. Each
+ * method returns false when the value is outside the supported range (years other
+ * than 0000 to 9999 and negative durations) such that the caller falls back to
+ * writing {@code toString()}.
+ */
+final class DateTimeWriter {
+
+  private static final byte QUOTE = '"';
+  private static final long SECONDS_PER_DAY = 86400;
+  private static final long DAYS_0000_TO_1970 = 719528;
+  private static final long DAYS_PER_CYCLE = 146097;
+  /** Epoch seconds of 0000-01-01T00:00:00Z */
+  private static final long MIN_SECOND = -DAYS_0000_TO_1970 * SECONDS_PER_DAY;
+  /** Epoch seconds of 9999-12-31T23:59:59Z */
+  private static final long MAX_SECOND = 253402300799L;
+
+  private DateTimeWriter() {}
+
+  static boolean writeInstant(final Instant value, final JGenerator sw) {
+    final long epochSecond = value.getEpochSecond();
+    if (epochSecond < MIN_SECOND || epochSecond > MAX_SECOND) {
+      return false;
+    }
+    final long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+    final int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+    final byte[] buf = sw.ensureCapacity(32);
+    int pos = sw.position();
+    buf[pos++] = QUOTE;
+    pos = writeEpochDay(buf, pos, epochDay);
+    buf[pos++] = 'T';
+    pos = write2(buf, pos, secondOfDay / 3600);
+    buf[pos++] = ':';
+    pos = write2(buf, pos, (secondOfDay / 60) % 60);
+    buf[pos++] = ':';
+    pos = write2(buf, pos, secondOfDay % 60);
+    pos = writeNanoGroups(buf, pos, value.getNano());
+    buf[pos++] = 'Z';
+    buf[pos++] = QUOTE;
+    sw.advance(pos - sw.position());
+    return true;
+  }
+
+  static boolean writeLocalDate(final LocalDate value, final JGenerator sw) {
+    if (!supportedYear(value.getYear())) {
+      return false;
+    }
+    final byte[] buf = sw.ensureCapacity(12);
+    int pos = sw.position();
+    buf[pos++] = QUOTE;
+    pos = writeDate(buf, pos, value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+    buf[pos++] = QUOTE;
+    sw.advance(pos - sw.position());
+    return true;
+  }
+
+  static boolean writeLocalTime(final LocalTime value, final JGenerator sw) {
+    final byte[] buf = sw.ensureCapacity(20);
+    int pos = sw.position();
+    buf[pos++] = QUOTE;
+    pos = writeTime(buf, pos, value);
+    buf[pos++] = QUOTE;
+    sw.advance(pos - sw.position());
+    return true;
+  }
+
+  static boolean writeLocalDateTime(final LocalDateTime value, final JGenerator sw) {
+    if (!supportedYear(value.getYear())) {
+      return false;
+    }
+    final byte[] buf = sw.ensureCapacity(32);
+    final int pos = writeDateTime(buf, sw.position(), value);
+    buf[pos] = QUOTE;
+    sw.advance(pos + 1 - sw.position());
+    return true;
+  }
+
+  static boolean writeOffsetDateTime(final OffsetDateTime value, final JGenerator sw) {
+    final LocalDateTime dateTime = value.toLocalDateTime();
+    if (!supportedYear(dateTime.getYear())) {
+      return false;
+    }
+    final byte[] buf = sw.ensureCapacity(42);
+    int pos = writeDateTime(buf, sw.position(), dateTime);
+    pos = writeAscii(buf, pos, value.getOffset().getId());
+    buf[pos] = QUOTE;
+    sw.advance(pos + 1 - sw.position());
+    return true;
+  }
+
+  static boolean writeZonedDateTime(final ZonedDateTime value, final JGenerator sw) {
+    final LocalDateTime dateTime = value.toLocalDateTime();
+    if (!supportedYear(dateTime.getYear())) {
+      return false;
+    }
+    final ZoneOffset offset = value.getOffset();
+    final ZoneId zone = value.getZone();
+    final String zoneId = offset == zone ? null : zone.getId();
+    final byte[] buf = sw.ensureCapacity(zoneId == null ? 42 : 44 + zoneId.length());
+    int pos = writeDateTime(buf, sw.position(), dateTime);
+    pos = writeAscii(buf, pos, offset.getId());
+    if (zoneId != null) {
+      buf[pos++] = '[';
+      pos = writeAscii(buf, pos, zoneId);
+      buf[pos++] = ']';
+    }
+    buf[pos] = QUOTE;
+    sw.advance(pos + 1 - sw.position());
+    return true;
+  }
+
+  static boolean writeDuration(final Duration value, final JGenerator sw) {
+    final long seconds = value.getSeconds();
+    if (seconds < 0) {
+      return false;
+    }
+    final int nanos = value.getNano();
+    final long hours = seconds / 3600;
+    final int minutes = (int) ((seconds % 3600) / 60);
+    final int secs = (int) (seconds % 60);
+    final byte[] buf = sw.ensureCapacity(48);
+    int pos = sw.position();
+    buf[pos++] = QUOTE;
+    buf[pos++] = 'P';
+    buf[pos++] = 'T';
+    if (hours != 0) {
+      pos = writeLong(buf, pos, hours);
+      buf[pos++] = 'H';
+    }
+    if (minutes != 0) {
+      pos = writeLong(buf, pos, minutes);
+      buf[pos++] = 'M';
+    }
+    if (secs != 0 || nanos != 0 || (hours == 0 && minutes == 0)) {
+      pos = writeLong(buf, pos, secs);
+      if (nanos > 0) {
+        buf[pos++] = '.';
+        int fraction = nanos;
+        int digits = 9;
+        while (fraction % 10 == 0) {
+          fraction /= 10;
+          digits--;
+        }
+        pos = writePadded(buf, pos, fraction, digits);
+      }
+      buf[pos++] = 'S';
+    }
+    buf[pos++] = QUOTE;
+    sw.advance(pos - sw.position());
+    return true;
+  }
+
+  private static boolean supportedYear(int year) {
+    return year >= 0 && year <= 9999;
+  }
+
+  /**
+   * Write the opening quote, date and time (without the closing quote).
+   */
+  private static int writeDateTime(final byte[] buf, int pos, final LocalDateTime value) {
+    buf[pos++] = QUOTE;
+    pos = writeDate(buf, pos, value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+    buf[pos++] = 'T';
+    return writeTime(buf, pos, value.toLocalTime());
+  }
+
+  private static int writeDate(final byte[] buf, int pos, int year, int month, int day) {
+    pos = writePadded(buf, pos, year, 4);
+    buf[pos++] = '-';
+    pos = write2(buf, pos, month);
+    buf[pos++] = '-';
+    return write2(buf, pos, day);
+  }
+
+  /**
+   * Same format as LocalTime.toString() with seconds omitted when zero.
+   */
+  private static int writeTime(final byte[] buf, int pos, final LocalTime value) {
+    pos = write2(buf, pos, value.getHour());
+    buf[pos++] = ':';
+    pos = write2(buf, pos, value.getMinute());
+    final int second = value.getSecond();
+    final int nano = value.getNano();
+    if (second > 0 || nano > 0) {
+      buf[pos++] = ':';
+      pos = write2(buf, pos, second);
+      pos = writeNanoGroups(buf, pos, nano);
+    }
+    return pos;
+  }
+
+  /**
+   * Write the fraction using 3, 6 or 9 digits as necessary.
+   */
+  private static int writeNanoGroups(final byte[] buf, int pos, final int nano) {
+    if (nano == 0) {
+      return pos;
+    }
+    buf[pos++] = '.';
+    if (nano % 1000_000 == 0) {
+      return writePadded(buf, pos, nano / 1000_000, 3);
+    } else if (nano % 1000 == 0) {
+      return writePadded(buf, pos, nano / 1000, 6);
+    } else {
+      return writePadded(buf, pos, nano, 9);
+    }
+  }
+
+  /**
+   * Convert the epoch day into year, month and day and write the date.
+   */
+  private static int writeEpochDay(final byte[] buf, final int pos, final long epochDay) {
+    long zeroDay = epochDay + DAYS_0000_TO_1970;
+    // find the march-based year
+    zeroDay -= 60;  // adjust to 0000-03-01 so leap day is at end of four year cycle
+    long adjust = 0;
+    if (zeroDay < 0) {
+      // adjust negative years to positive for calculation
+      final long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+      adjust = adjustCycles * 400;
+      zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+    }
+    long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+    long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+    if (doyEst < 0) {
+      yearEst--;
+      doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+    }
+    yearEst += adjust;
+    final int marchDoy0 = (int) doyEst;
+    final int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+    final int month = (marchMonth0 + 2) % 12 + 1;
+    final int day = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+    yearEst += marchMonth0 / 10;
+    return writeDate(buf, pos, (int) yearEst, month, day);
+  }
+
+  private static int write2(final byte[] buf, final int pos, final int value) {
+    buf[pos] = (byte) ('0' + value / 10);
+    buf[pos + 1] = (byte) ('0' + value % 10);
+    return pos + 2;
+  }
+
+  private static int writePadded(final byte[] buf, final int pos, int value, final int digits) {
+    for (int i = pos + digits - 1; i >= pos; i--) {
+      buf[i] = (byte) ('0' + value % 10);
+      value /= 10;
+    }
+    return pos + digits;
+  }
+
+  private static int writeLong(final byte[] buf, final int pos, long value) {
+    int digits = 1;
+    for (long v = value / 10; v != 0; v /= 10) {
+      digits++;
+    }
+    for (int i = pos + digits - 1; i >= pos; i--) {
+      buf[i] = (byte) ('0' + value % 10);
+      value /= 10;
+    }
+    return pos + digits;
+  }
+
+  private static int writeAscii(final byte[] buf, int pos, final String value) {
+    for (int i = 0, len = value.length(); i < len; i++) {
+      buf[pos++] = (byte) value.charAt(i);
+    }
+    return pos;
+  }
+}
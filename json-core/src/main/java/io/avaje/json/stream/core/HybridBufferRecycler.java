@@ -52,10 +52,10 @@ final class HybridBufferRecycler implements BufferRecycler {
   }
 
   @Override
-  public JsonParser parser(byte[] bytes) {
+  public JsonParser parser(byte[] bytes, int offset, int length) {
     return VT_ENABLED && ThreadFunctions.isVirtual()
-      ? VIRTUAL_RECYCLER.parser(bytes)
-      : NATIVE_RECYCLER.parser(bytes);
+      ? VIRTUAL_RECYCLER.parser(bytes, offset, length)
+      : NATIVE_RECYCLER.parser(bytes, offset, length);
   }
 
   @Override
@@ -69,6 +69,8 @@ final class HybridBufferRecycler implements BufferRecycler {
   public void recycle(JsonGenerator recycler) {
     if (recycler instanceof VThreadJGenerator) {
       VIRTUAL_RECYCLER.recycle(recycler);
+    } else {
+      NATIVE_RECYCLER.recycle(recycler);
     }
   }
 
@@ -76,9 +78,19 @@ final class HybridBufferRecycler implements BufferRecycler {
   public void recycle(JsonParser recycler) {
     if (recycler instanceof VThreadJParser) {
       VIRTUAL_RECYCLER.recycle(recycler);
+    } else {
+      NATIVE_RECYCLER.recycle(recycler);
     }
   }
 
+  @Override
+  public void prefill(int count) {
+    if (VT_ENABLED) {
+      VIRTUAL_RECYCLER.prefill(count);
+    }
+    NATIVE_RECYCLER.prefill(count);
+  }
+
   static final class StripedLockFreePool implements BufferRecycler {
     private static final StripedLockFreePool INSTANCE = new StripedLockFreePool(Runtime.getRuntime().availableProcessors());
 
@@ -104,8 +116,8 @@ final class HybridBufferRecycler implements BufferRecycler {
     }
 
     @Override
-    public JsonParser parser(byte[] bytes) {
-      return parser().process(bytes, bytes.length);
+    public JsonParser parser(byte[] bytes, int offset, int length) {
+      return parser().process(bytes, offset, length);
     }
 
     @Override
@@ -115,10 +127,12 @@ final class HybridBufferRecycler implements BufferRecycler {
 
     @Override
     public JsonGenerator generator(JsonOutput target) {
+      if (RecyclerStatistics.ENABLED) RecyclerStatistics.GENERATOR_ACQUIRED.increment();
       final int index = threadProbe.index();
       var currentHead = generatorStacks.get(index);
       while (true) {
         if (currentHead == null) {
+          if (RecyclerStatistics.ENABLED) RecyclerStatistics.GENERATOR_CREATED.increment();
           return new VThreadJGenerator(index).prepare(target);
         }
 
@@ -126,16 +140,19 @@ final class HybridBufferRecycler implements BufferRecycler {
           currentHead.next = null;
           return currentHead.value.prepare(target);
         }
+        if (RecyclerStatistics.ENABLED) RecyclerStatistics.CAS_RETRIES.increment();
         currentHead = generatorStacks.get(index);
       }
     }
 
     private JsonParser parser() {
+      if (RecyclerStatistics.ENABLED) RecyclerStatistics.PARSER_ACQUIRED.increment();
       int index = threadProbe.index();
 
       var currentHead = parserStacks.get(index);
       while (true) {
         if (currentHead == null) {
+          if (RecyclerStatistics.ENABLED) RecyclerStatistics.PARSER_CREATED.increment();
           return new VThreadJParser(index);
         }
 
@@ -143,6 +160,7 @@ final class HybridBufferRecycler implements BufferRecycler {
           currentHead.next = null;
           return currentHead.value;
         }
+        if (RecyclerStatistics.ENABLED) RecyclerStatistics.CAS_RETRIES.increment();
         currentHead = parserStacks.get(index);
       }
     }
@@ -150,15 +168,22 @@ final class HybridBufferRecycler implements BufferRecycler {
     @Override
     public void recycle(JsonGenerator recycler) {
       var vThreadBufferRecycler = (VThreadJGenerator) recycler;
+      vThreadBufferRecycler.trimBuffers(Recyclers.MAX_RETAINED_BUFFER_SIZE);
       var newHead = new JNode(vThreadBufferRecycler);
 
       var next = generatorStacks.get(vThreadBufferRecycler.slot);
       while (true) {
+        if (next != null && next.level >= Recyclers.POOL_MAX_PER_STRIPE) {
+          // stripe is full, drop it
+          if (RecyclerStatistics.ENABLED) RecyclerStatistics.POOL_DROPPED.increment();
+          return;
+        }
         newHead.level = next == null ? 1 : next.level + 1;
+        newHead.next = next;
         if (generatorStacks.compareAndSet(vThreadBufferRecycler.slot, next, newHead)) {
-          newHead.next = next;
           return;
         }
+        if (RecyclerStatistics.ENABLED) RecyclerStatistics.CAS_RETRIES.increment();
         next = generatorStacks.get(vThreadBufferRecycler.slot);
       }
     }
@@ -166,19 +191,49 @@ final class HybridBufferRecycler implements BufferRecycler {
     @Override
     public void recycle(JsonParser recycler) {
       var vThreadBufferRecycler = (VThreadJParser) recycler;
+      vThreadBufferRecycler.trimBuffers(Recyclers.MAX_RETAINED_BUFFER_SIZE);
       var newHead = new PNode(vThreadBufferRecycler);
 
       var next = parserStacks.get(vThreadBufferRecycler.slot);
       while (true) {
+        if (next != null && next.level >= Recyclers.POOL_MAX_PER_STRIPE) {
+          // stripe is full, drop it
+          if (RecyclerStatistics.ENABLED) RecyclerStatistics.POOL_DROPPED.increment();
+          return;
+        }
         newHead.level = next == null ? 1 : next.level + 1;
+        newHead.next = next;
         if (parserStacks.compareAndSet(vThreadBufferRecycler.slot, next, newHead)) {
-          newHead.next = next;
           return;
         }
+        if (RecyclerStatistics.ENABLED) RecyclerStatistics.CAS_RETRIES.increment();
         next = parserStacks.get(vThreadBufferRecycler.slot);
       }
     }
 
+    @Override
+    public void prefill(int count) {
+      final int target = Math.min(count, Recyclers.POOL_MAX_PER_STRIPE);
+      for (int slot = 0; slot < generatorStacks.length(); slot += CACHE_LINE_PADDING) {
+        for (int i = level(generatorStacks.get(slot)); i < target; i++) {
+          if (RecyclerStatistics.ENABLED) RecyclerStatistics.GENERATOR_CREATED.increment();
+          recycle(new VThreadJGenerator(slot));
+        }
+        for (int i = level(parserStacks.get(slot)); i < target; i++) {
+          if (RecyclerStatistics.ENABLED) RecyclerStatistics.PARSER_CREATED.increment();
+          recycle(new VThreadJParser(slot));
+        }
+      }
+    }
+
+    private static int level(JNode head) {
+      return head == null ? 0 : head.level;
+    }
+
+    private static int level(PNode head) {
+      return head == null ? 0 : head.level;
+    }
+
     private static final class JNode {
       final VThreadJGenerator value;
       JNode next;
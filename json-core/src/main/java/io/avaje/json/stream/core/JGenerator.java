@@ -6,11 +6,20 @@ import io.avaje.json.stream.JsonOutput;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Deque;
+import java.util.Objects;
 
 /**
  * DslJson writes JSON into JsonWriter which has two primary modes of operation:
@@ -76,7 +85,10 @@ class JGenerator implements JsonGenerator {
   private final Grisu3.FastDtoaBuilder doubleBuilder = new Grisu3.FastDtoaBuilder();
   private final int largeStringMax;
   private final int largeAsciiMax;
+  private final int initialSize;
   private byte[] buffer;
+  private byte[] ownBuffer;
+  private int arrayOffset;
   private JsonOutput target;
   private int lastOp;
   private int position;
@@ -99,6 +111,7 @@ class JGenerator implements JsonGenerator {
 
   JGenerator(final byte[] buffer) {
     this.buffer = buffer;
+    this.initialSize = buffer.length;
     // each char can take up to 6 bytes when Unicode escaped, round down 1/8 number of chars
     this.largeStringMax = buffer.length >> 3;
     this.largeAsciiMax = buffer.length - 10;
@@ -117,10 +130,41 @@ class JGenerator implements JsonGenerator {
     return this;
   }
 
+  @Override
+  public JsonGenerator prepare(byte[] array, int offset) {
+    Objects.checkFromToIndex(offset, array.length, array.length);
+    prepare((JsonOutput) null);
+    ownBuffer = buffer;
+    buffer = array;
+    arrayOffset = offset;
+    position = offset;
+    return this;
+  }
+
+  @Override
+  public void sizeHint(int expectedLength) {
+    if (expectedLength > buffer.length && position == 0 && ownBuffer == null) {
+      buffer = new byte[expectedLength];
+    }
+  }
+
   int position() {
     return position;
   }
 
+  @Override
+  public int size() {
+    return position - start();
+  }
+
+  @Override
+  public final void trimBuffers(int maxRetainedLength) {
+    if (buffer.length > maxRetainedLength) {
+      if (RecyclerStatistics.ENABLED) RecyclerStatistics.BUFFERS_TRIMMED.increment();
+      buffer = new byte[initialSize];
+    }
+  }
+
   byte[] ensureCapacity(final int free) {
     if (position + free >= buffer.length) {
       enlargeOrFlush(position, free);
@@ -140,14 +184,20 @@ class JGenerator implements JsonGenerator {
         throw new JsonIoException("Unable to write to target stream.", ex);
       }
       position = 0;
+      if (RecyclerStatistics.ENABLED) RecyclerStatistics.GENERATOR_FLUSHES.increment();
       if (padding > buffer.length) {
-        buffer = Arrays.copyOf(buffer, buffer.length + buffer.length / 2 + padding);
+        enlarge(padding);
       }
     } else {
-      buffer = Arrays.copyOf(buffer, buffer.length + buffer.length / 2 + padding);
+      enlarge(padding);
     }
   }
 
+  private void enlarge(final int padding) {
+    if (RecyclerStatistics.ENABLED) RecyclerStatistics.GENERATOR_GROWTH.increment();
+    buffer = Arrays.copyOf(buffer, buffer.length + buffer.length / 2 + padding);
+  }
+
   private void writeByte(final byte value) {
     if (position == buffer.length) {
       enlargeOrFlush(position, 0);
@@ -361,7 +411,8 @@ class JGenerator implements JsonGenerator {
 
   @Override
   public String toString() {
-    return new String(buffer, 0, position, UTF_8);
+    final int start = start();
+    return new String(buffer, start, position - start, UTF_8);
   }
 
   @Override
@@ -369,7 +420,37 @@ class JGenerator implements JsonGenerator {
     if (target != null) {
       throw new IllegalStateException("Method is not available when targeting stream");
     }
-    return Arrays.copyOf(buffer, position);
+    return Arrays.copyOfRange(buffer, start(), position);
+  }
+
+  /**
+   * Return the start of the content which is the offset when writing into a prepared array.
+   */
+  private int start() {
+    return ownBuffer != null ? arrayOffset : 0;
+  }
+
+  @Override
+  public int writeTo(byte[] array, int offset) {
+    if (ownBuffer != null) {
+      if (buffer != array || offset != arrayOffset) {
+        // the buffer was enlarged as the content did not fit
+        throw new IndexOutOfBoundsException("Json content of " + (position - arrayOffset) + " bytes does not fit in the array from offset " + arrayOffset);
+      }
+      return position - offset;
+    }
+    if (position > array.length - offset) {
+      throw new IndexOutOfBoundsException("Json content of " + position + " bytes does not fit in the array from offset " + offset);
+    }
+    System.arraycopy(buffer, 0, array, offset, position);
+    return position;
+  }
+
+  @Override
+  public int writeTo(ByteBuffer target) {
+    final int start = start();
+    target.put(buffer, start, position - start);
+    return position - start;
   }
 
   @Override
@@ -394,6 +475,11 @@ class JGenerator implements JsonGenerator {
 
   @Override
   public void close() {
+    if (ownBuffer != null) {
+      // release the caller supplied array
+      buffer = ownBuffer;
+      ownBuffer = null;
+    }
     if (incomplete) return;
     flush();
   }
@@ -423,6 +509,11 @@ class JGenerator implements JsonGenerator {
     this.pretty = pretty;
   }
 
+  @Override
+  public boolean pretty() {
+    return pretty;
+  }
+
   private void writeStartObject() {
     if (lastOp == OP_END) {
       writeByte(COMMA);
@@ -580,6 +671,68 @@ class JGenerator implements JsonGenerator {
     writeString(value);
   }
 
+  @Override
+  public void writeValue(JsonNames names, int index) {
+    prefixValue();
+    writeAscii(names.key(index));
+  }
+
+  @Override
+  public void write(Instant value) {
+    prefixValue();
+    if (!DateTimeWriter.writeInstant(value, this)) {
+      writeString(value.toString());
+    }
+  }
+
+  @Override
+  public void write(LocalDate value) {
+    prefixValue();
+    if (!DateTimeWriter.writeLocalDate(value, this)) {
+      writeString(value.toString());
+    }
+  }
+
+  @Override
+  public void write(LocalTime value) {
+    prefixValue();
+    if (!DateTimeWriter.writeLocalTime(value, this)) {
+      writeString(value.toString());
+    }
+  }
+
+  @Override
+  public void write(LocalDateTime value) {
+    prefixValue();
+    if (!DateTimeWriter.writeLocalDateTime(value, this)) {
+      writeString(value.toString());
+    }
+  }
+
+  @Override
+  public void write(OffsetDateTime value) {
+    prefixValue();
+    if (!DateTimeWriter.writeOffsetDateTime(value, this)) {
+      writeString(value.toString());
+    }
+  }
+
+  @Override
+  public void write(ZonedDateTime value) {
+    prefixValue();
+    if (!DateTimeWriter.writeZonedDateTime(value, this)) {
+      writeString(value.toString());
+    }
+  }
+
+  @Override
+  public void write(Duration value) {
+    prefixValue();
+    if (!DateTimeWriter.writeDuration(value, this)) {
+      writeString(value.toString());
+    }
+  }
+
   @Override
   public void write(byte[] value) {
     prefixValue();
@@ -592,6 +745,21 @@ class JGenerator implements JsonGenerator {
     writeAscii(value);
   }
 
+  @Override
+  public void writeRaw(byte[] value, int offset, int length) {
+    prefixValue();
+    while (length > 0) {
+      if (position + length >= buffer.length) {
+        enlargeOrFlush(position, Math.min(length, largeAsciiMax));
+      }
+      final int len = Math.min(length, buffer.length - position);
+      System.arraycopy(value, offset, buffer, position, len);
+      position += len;
+      offset += len;
+      length -= len;
+    }
+  }
+
   @Override
   public void startRawChunk() {
     prefixValue();
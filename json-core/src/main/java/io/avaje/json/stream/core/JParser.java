@@ -10,6 +10,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
@@ -60,6 +67,7 @@ class JParser implements JsonParser {
   private int tokenStart;
   private int nameEnd;
   private int currentIndex = 0;
+  private int startIndex = 0;
   private long currentPosition = 0;
   private byte last = ' ';
 
@@ -120,17 +128,32 @@ class JParser implements JsonParser {
     bufferLenWithExtraSpace = originalBufferLenWithExtraSpace;
     last = ' ';
     currentIndex = 0;
+    startIndex = 0;
     length = 0;
     readLimit = 0;
     nameStack.clear();
     stream = null;
   }
 
+  private char[] growChars(int newSize) {
+    if (RecyclerStatistics.ENABLED) RecyclerStatistics.PARSER_CHAR_GROWTH.increment();
+    return Arrays.copyOf(chars, newSize);
+  }
+
+  @Override
+  public final void trimBuffers(int maxRetainedLength) {
+    if (chars.length > maxRetainedLength) {
+      if (RecyclerStatistics.ENABLED) RecyclerStatistics.BUFFERS_TRIMMED.increment();
+      chars = tmp;
+    }
+  }
+
   @Override
   public final JParser process(final InputStream newStream) {
     nameStack.clear();
     currentPosition = 0;
     currentIndex = 0;
+    startIndex = 0;
     stream = newStream;
     if (newStream != null) {
       readLimit = Math.min(length, bufferLenWithExtraSpace);
@@ -143,18 +166,26 @@ class JParser implements JsonParser {
 
   @Override
   public final JParser process(final byte[] newBuffer, final int newLength) {
+    return process(newBuffer, 0, newLength);
+  }
+
+  @Override
+  public final JParser process(final byte[] newBuffer, final int offset, final int newLength) {
     if (newBuffer != null) {
       buffer = newBuffer;
       bufferLenWithExtraSpace = buffer.length - 38; // maximum padding is for uuid
     }
-    if (newLength > buffer.length) {
-      throw new IllegalArgumentException("length can't be longer than buffer.length");
+    if (offset < 0 || newLength < 0 || offset + newLength > buffer.length) {
+      throw new IllegalArgumentException("offset and length must be within buffer.length");
     }
     nameStack.clear();
-    currentIndex = 0;
-    length = newLength;
+    // positions are reported relative to the start of the content
+    currentPosition = -offset;
+    currentIndex = offset;
+    startIndex = offset;
+    length = offset + newLength;
     stream = null;
-    readLimit = newLength;
+    readLimit = length;
     return this;
   }
 
@@ -167,7 +198,7 @@ class JParser implements JsonParser {
 
   @Override
   public final String toString() {
-    return new String(buffer, 0, length, utf8);
+    return new String(buffer, startIndex, length - startIndex, utf8);
   }
 
   private static int readFully(final byte[] buffer, final InputStream stream, final int offset) {
@@ -253,7 +284,7 @@ class JParser implements JsonParser {
    */
   @Override
   public final byte currentToken() {
-    return currentIndex == 0 ? nextToken() : last;
+    return currentIndex == startIndex ? nextToken() : last;
   }
 
   @Override
@@ -265,9 +296,9 @@ class JParser implements JsonParser {
 
   private void positionDescription(int offset, StringBuilder error) {
     error.append("at position: ").append(positionInStream(offset));
-    if (currentIndex > offset) {
+    if (currentIndex - offset > startIndex) {
       try {
-        int maxLen = Math.min(currentIndex - offset, 20);
+        int maxLen = Math.min(currentIndex - offset - startIndex, 20);
         String prefix = new String(buffer, currentIndex - offset - maxLen, maxLen, utf8);
         error.append(", following: `");
         error.append(prefix);
@@ -311,7 +342,7 @@ class JParser implements JsonParser {
       throw newParseErrorWith("Too many digits detected in number", len, "Too many digits detected in number", len, "");
     }
     while (chars.length < len) {
-      chars = Arrays.copyOf(chars, chars.length * 2);
+      chars = growChars(chars.length * 2);
     }
     final char[] _tmp = chars;
     final byte[] _buf = buffer;
@@ -393,6 +424,28 @@ class JParser implements JsonParser {
     return NumberParser.deserializeBigInt(this);
   }
 
+  @Override
+  public final Number readNumber() {
+    final byte[] _buf = buffer;
+    int i = currentIndex - 1;
+    if (_buf[i] == '-') i++;
+    final int digitsStart = i;
+    while (i < length && _buf[i] >= '0' && _buf[i] <= '9') i++;
+    final int digits = i - digitsStart;
+    if (i == length && stream != null || digits > 18) {
+      // possibly continues in the next block or may not fit a long
+      return NumberParser.toNumber(readDecimal());
+    }
+    if (digits > 0 && (i == length || !isFractionOrExponent(_buf[i]))) {
+      return NumberParser.deserializeLong(this);
+    }
+    return NumberParser.deserializeDouble(this);
+  }
+
+  private static boolean isFractionOrExponent(byte b) {
+    return b == '.' || b == 'e' || b == 'E';
+  }
+
   @Override
   public final boolean readBoolean() {
     if (wasTrue()) {
@@ -418,36 +471,46 @@ class JParser implements JsonParser {
     return new String(chars, 0, len);
   }
 
+  @Override
+  public final int readStringIndex(JsonNames names) {
+    if (last != '"') throw newParseError("Expecting '\"' for string start");
+    final int end = ByteScan.indexOfQuoteOrEscape(buffer, currentIndex, length);
+    if (end == length || buffer[end] == '\\') {
+      // escaped or spanning the buffer, match on the decoded value
+      return names.indexOf(readString());
+    }
+    return readFieldIndex(names);
+  }
+
   final int parseString() {
     final int startIndex = currentIndex;
     if (last != '"') throw newParseError("Expecting '\"' for string start");
     else if (currentIndex == length) throw newParseErrorAt("Premature end of JSON string", 0);
 
-    byte bb;
     int ci = currentIndex;
     char[] _tmp = chars;
     final int remaining = length - currentIndex;
     int _tmpLen = Math.min(_tmp.length, remaining);
-    int i = 0;
-    while (i < _tmpLen) {
-      bb = buffer[ci++];
-      if (bb == '"') {
-        currentIndex = ci;
-        return i;
-      }
-      // If we encounter a backslash, which is a beginning of an escape sequence
-      // or a high bit was set - indicating an UTF-8 encoded multibyte character,
-      // there is no chance that we can decode the string without instantiating
-      // a temporary buffer, so quit this loop
-      if ((bb ^ '\\') < 1) break;
-      _tmp[i++] = (char) bb;
+    // If we encounter a backslash, which is a beginning of an escape sequence
+    // or a high bit was set - indicating an UTF-8 encoded multibyte character,
+    // there is no chance that we can decode the string without instantiating
+    // a temporary buffer, so quit the fast path
+    final int end = ByteScan.indexOfStringSpecial(buffer, ci, ci + _tmpLen);
+    int i = end - ci;
+    for (int j = 0; j < i; j++) {
+      _tmp[j] = (char) buffer[ci + j];
+    }
+    ci = end;
+    if (i < _tmpLen && buffer[ci++] == '"') {
+      currentIndex = ci;
+      return i;
     }
     if (i == _tmp.length) {
       final int newSize = chars.length * 2;
       if (newSize > maxStringBuffer) {
         throw newParseErrorWith("Maximum string buffer limit exceeded", maxStringBuffer);
       }
-      _tmp = chars = Arrays.copyOf(chars, newSize);
+      _tmp = chars = growChars(newSize);
     }
     _tmpLen = _tmp.length;
     currentIndex = ci;
@@ -465,7 +528,7 @@ class JParser implements JsonParser {
           if (newSize > maxStringBuffer) {
             throw newParseErrorWith("Maximum string buffer limit exceeded", maxStringBuffer);
           }
-          _tmp = chars = Arrays.copyOf(chars, newSize);
+          _tmp = chars = growChars(newSize);
           _tmpLen = _tmp.length;
         }
         bc = buffer[currentIndex++];
@@ -506,7 +569,7 @@ class JParser implements JsonParser {
           if (newSize > maxStringBuffer) {
             throw newParseErrorWith("Maximum string buffer limit exceeded", maxStringBuffer);
           }
-          _tmp = chars = Arrays.copyOf(chars, newSize);
+          _tmp = chars = growChars(newSize);
           _tmpLen = _tmp.length;
         }
         final int u2 = buffer[currentIndex++];
@@ -544,7 +607,7 @@ class JParser implements JsonParser {
         if (newSize > maxStringBuffer) {
           throw newParseErrorWith("Maximum string buffer limit exceeded", maxStringBuffer);
         }
-        _tmp = chars = Arrays.copyOf(chars, newSize);
+        _tmp = chars = growChars(newSize);
         _tmpLen = _tmp.length;
       }
 
@@ -724,12 +787,13 @@ class JParser implements JsonParser {
   }
 
   private int lastNameLen;
+  private String lastFieldName;
 
   private int calcHashAndCopyName(int hash, int ci) {
     int soFar = ci - tokenStart;
     long startPosition = currentPosition - soFar;
     while (chars.length < soFar) {
-      chars = Arrays.copyOf(chars, chars.length * 2);
+      chars = growChars(chars.length * 2);
     }
     int i = 0;
     for (; i < soFar; i++) {
@@ -746,7 +810,7 @@ class JParser implements JsonParser {
         return hash;
       }
       if (i == chars.length) {
-        chars = Arrays.copyOf(chars, chars.length * 2);
+        chars = growChars(chars.length * 2);
       }
       chars[i++] = (char) b;
       hash ^= b;
@@ -756,7 +820,7 @@ class JParser implements JsonParser {
     throw newParseErrorAt("JSON string was not closed with a double quote", (int) startPosition);
   }
 
-  private String lastFieldName() {
+  private String readFieldName() {
     if (stream != null && nameEnd == -1) {
       return new String(chars, 0, lastNameLen);
     }
@@ -764,13 +828,28 @@ class JParser implements JsonParser {
   }
 
   private byte skipString() {
-    byte c = read();
-    boolean inEscape = false;
-    while (c != '"' || inEscape) {
-      inEscape = !inEscape && c == '\\';
-      c = read();
+    while (true) {
+      final int end = ByteScan.indexOfQuoteOrEscape(buffer, currentIndex, length);
+      if (end < length) {
+        currentIndex = end + 1;
+        if (buffer[end] == '"') {
+          last = '"';
+          return nextToken();
+        }
+        // skip the escaped byte
+        read();
+      } else {
+        currentIndex = length;
+        if (isEndOfStream()) {
+          throw new JsonEofException("Unexpected end of JSON input");
+        }
+      }
     }
-    return nextToken();
+  }
+
+  @Override
+  public final String readRawNumber() {
+    return NumberParser.deserializeRaw(this);
   }
 
   @Override
@@ -870,6 +949,41 @@ class JParser implements JsonParser {
     return nextToken();
   }
 
+  @Override
+  public final Instant readInstant() {
+    return DateTimeParser.parseInstant(this);
+  }
+
+  @Override
+  public final LocalDate readLocalDate() {
+    return DateTimeParser.parseLocalDate(this);
+  }
+
+  @Override
+  public final LocalTime readLocalTime() {
+    return DateTimeParser.parseLocalTime(this);
+  }
+
+  @Override
+  public final LocalDateTime readLocalDateTime() {
+    return DateTimeParser.parseLocalDateTime(this);
+  }
+
+  @Override
+  public final OffsetDateTime readOffsetDateTime() {
+    return DateTimeParser.parseOffsetDateTime(this);
+  }
+
+  @Override
+  public final ZonedDateTime readZonedDateTime() {
+    return DateTimeParser.parseZonedDateTime(this);
+  }
+
+  @Override
+  public final Duration readDuration() {
+    return DateTimeParser.parseDuration(this);
+  }
+
   @Override
   public final byte[] readBinary() {
     if (stream != null && Base64.findEnd(buffer, currentIndex) == buffer.length) {
@@ -891,18 +1005,43 @@ class JParser implements JsonParser {
   @Override
   public final String nextField() {
     if (currentNames != null) {
-      final int hash = calcHash();
-      String key = currentNames.lookup(hash);
-      if (key == null) {
-        key = lastFieldName();
-      }
-      if ((read() != ':') && (!wasWhiteSpace() || nextToken() != ':')) {
-        throw newParseError("Expecting ':' after attribute name");
-      }
-      nextToken(); // position to read the value/next
-      return key;
+      final int index = readFieldIndex(currentNames);
+      final String key = index == -1 ? readFieldName() : currentNames.name(index);
+      readFieldEnd();
+      return lastFieldName = key;
+    }
+    return lastFieldName = readKey();
+  }
+
+  @Override
+  public final int nextFieldIndex(JsonNames names) {
+    final int index = readFieldIndex(names);
+    lastFieldName = index == -1 ? readFieldName() : names.name(index);
+    readFieldEnd();
+    return index;
+  }
+
+  @Override
+  public final String lastFieldName() {
+    return lastFieldName;
+  }
+
+  /**
+   * Read the field name returning the index matching the name bytes or -1 when unknown.
+   */
+  private int readFieldIndex(JsonNames names) {
+    final int hash = calcHash();
+    if (stream != null && nameEnd == -1) {
+      return names.indexOf(hash, chars, lastNameLen);
+    }
+    return names.indexOf(hash, buffer, tokenStart, nameEnd - 1);
+  }
+
+  private void readFieldEnd() {
+    if ((read() != ':') && (!wasWhiteSpace() || nextToken() != ':')) {
+      throw newParseError("Expecting ':' after attribute name");
     }
-    return readKey();
+    nextToken(); // position to read the value/next
   }
 
   /**
@@ -6,6 +6,14 @@ import java.io.Closeable;
 import java.io.Flushable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 
 /**
  * Generate JSON content.
@@ -17,6 +25,11 @@ interface JsonGenerator extends Closeable, Flushable {
    */
   void pretty(boolean pretty);
 
+  /**
+   * Return true if pretty json formatting is enabled.
+   */
+  boolean pretty();
+
   /**
    * Write start of an ARRAY.
    */
@@ -102,6 +115,46 @@ interface JsonGenerator extends Closeable, Flushable {
    */
   void write(String value);
 
+  /**
+   * Write the pre-encoded String value at the index position of the names.
+   */
+  void writeValue(JsonNames names, int index);
+
+  /**
+   * Write an Instant value as ISO-8601.
+   */
+  void write(Instant value);
+
+  /**
+   * Write a LocalDate value as ISO-8601.
+   */
+  void write(LocalDate value);
+
+  /**
+   * Write a LocalTime value as ISO-8601.
+   */
+  void write(LocalTime value);
+
+  /**
+   * Write a LocalDateTime value as ISO-8601.
+   */
+  void write(LocalDateTime value);
+
+  /**
+   * Write an OffsetDateTime value as ISO-8601.
+   */
+  void write(OffsetDateTime value);
+
+  /**
+   * Write a ZonedDateTime value as ISO-8601.
+   */
+  void write(ZonedDateTime value);
+
+  /**
+   * Write a Duration value as ISO-8601.
+   */
+  void write(Duration value);
+
   /**
    * Write a binary value as base64.
    */
@@ -112,6 +165,11 @@ interface JsonGenerator extends Closeable, Flushable {
    */
   void writeRaw(String value);
 
+  /**
+   * Write raw UTF-8 content that is assumed to be valid json.
+   */
+  void writeRaw(byte[] value, int offset, int length);
+
   /**
    * Start writing raw chunks.
    */
@@ -147,11 +205,43 @@ interface JsonGenerator extends Closeable, Flushable {
    */
   void close();
 
+  /**
+   * Revert the buffer to its initial size if it has grown larger than the given length.
+   */
+  void trimBuffers(int maxRetainedLength);
+
+  /**
+   * Ensure the buffer is at least the expected length prior to writing content.
+   */
+  void sizeHint(int expectedLength);
+
+  /**
+   * Return the number of bytes of content in the buffer.
+   */
+  int size();
+
   /**
    * Return the underlying content as bytes.
    */
   byte[] toByteArray();
 
+  /**
+   * Copy the content into the target array returning the number of bytes.
+   * <p>
+   * When the content was written directly into the array via {@link #prepare(byte[], int)}
+   * there is no copy.
+   *
+   * @throws IndexOutOfBoundsException when the content does not fit in the target
+   */
+  int writeTo(byte[] target, int offset);
+
+  /**
+   * Put the content into the target buffer returning the number of bytes.
+   *
+   * @throws java.nio.BufferOverflowException when the content does not fit in the target
+   */
+  int writeTo(ByteBuffer target);
+
   /**
    * Mark that json generation was not completed due to an error.
    */
@@ -162,4 +252,11 @@ interface JsonGenerator extends Closeable, Flushable {
    * reference to stream will be released.
    */
   JsonGenerator prepare(JsonOutput targetStream);
+
+  /**
+   * Prepare to write content directly into the given array starting at the offset.
+   * <p>
+   * The array is released when the generator is closed.
+   */
+  JsonGenerator prepare(byte[] target, int offset);
 }
@@ -10,41 +10,160 @@ import java.util.*;
  */
 final class JsonNames implements PropertyNames {
 
-  static final JsonNames EMPTY = new JsonNames(new byte[0][0], Collections.emptyMap());
+  static final JsonNames EMPTY = of();
+  private final String[] names;
   private final byte[][] nameArray;
-  private final Map<Integer, String> nameHash;
+  private final Map<String, Integer> nameIndex;
 
-  JsonNames(byte[][] nameArray, Map<Integer, String> nameHash) {
+  /**
+   * Open addressing table of name hash to index position. Names that share
+   * the same hash are all included and resolved via byte comparison.
+   */
+  private final int[] slotHash;
+  private final int[] slotIndex;
+  private final int mask;
+
+  JsonNames(String[] names, byte[][] nameArray) {
+    this.names = names;
     this.nameArray = nameArray;
-    this.nameHash = nameHash;
+    this.nameIndex = new HashMap<>();
+    int capacity = 2;
+    while (capacity < names.length * 2) {
+      capacity <<= 1;
+    }
+    this.mask = capacity - 1;
+    this.slotHash = new int[capacity];
+    this.slotIndex = new int[capacity];
+    Arrays.fill(slotIndex, -1);
+    for (int i = 0; i < names.length; i++) {
+      if (nameIndex.putIfAbsent(names[i], i) == null) {
+        final int hash = parserHash(nameArray[i]);
+        int slot = spread(hash) & mask;
+        while (slotIndex[slot] != -1) {
+          slot = (slot + 1) & mask;
+        }
+        slotHash[slot] = hash;
+        slotIndex[slot] = i;
+      }
+    }
   }
 
   /**
    * Create given the names.
    */
   public static JsonNames of(String... names) {
-    final Set<Integer> clashKeys = new HashSet<>();
-    final Map<Integer, String> nameHash = new HashMap<>();
     final byte[][] nameArray = new byte[names.length][];
     for (int i = 0; i < names.length; i++) {
       nameArray[i] = Escape.quoteEscape(names[i]);
-      final int hash = Escape.nameHash(names[i]);
-      final String priorKey = nameHash.put(hash, names[i]);
-      if (priorKey != null && !priorKey.equals(names[i])) {
-        clashKeys.add(hash);
-      }
     }
-    for (Integer clashKey : clashKeys) {
-      nameHash.remove(clashKey);
+    return new JsonNames(names, nameArray);
+  }
+
+  /**
+   * Return the hash as computed by the parser over the escaped name bytes (excluding quotes).
+   */
+  private static int parserHash(byte[] key) {
+    int hash = 0x811c9dc5;
+    for (int i = 1, end = key.length - 1; i < end; i++) {
+      byte b = key[i];
+      if (b == '\\') {
+        b = key[++i];
+      }
+      hash ^= b;
+      hash *= 0x1000193;
     }
-    return new JsonNames(nameArray, nameHash);
+    return hash;
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
   }
 
   byte[] key(int namePos) {
     return nameArray[namePos];
   }
 
+  @Override
+  public boolean supportsIndex() {
+    return true;
+  }
+
+  @Override
+  public String name(int index) {
+    return names[index];
+  }
+
+  /**
+   * Return the name for the given hash or null if unknown or the hash clashes.
+   */
   String lookup(int hash) {
-     return nameHash.get(hash);
+    String found = null;
+    int slot = spread(hash) & mask;
+    int index;
+    while ((index = slotIndex[slot]) != -1) {
+      if (slotHash[slot] == hash) {
+        if (found != null) {
+          return null;
+        }
+        found = names[index];
+      }
+      slot = (slot + 1) & mask;
+    }
+    return found;
+  }
+
+  @Override
+  public int indexOf(String name) {
+    final Integer index = nameIndex.get(name);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * Return the index of the name given its hash and escaped bytes (excluding quotes)
+   * or -1 if the name is not known.
+   */
+  int indexOf(int hash, byte[] buffer, int start, int end) {
+    int slot = spread(hash) & mask;
+    int index;
+    while ((index = slotIndex[slot]) != -1) {
+      if (slotHash[slot] == hash) {
+        final byte[] key = nameArray[index];
+        if (Arrays.equals(key, 1, key.length - 1, buffer, start, end)) {
+          return index;
+        }
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  /**
+   * Return the index of the name given its hash and the name as copied by the
+   * parser (escape characters removed) or -1 if the name is not known.
+   */
+  int indexOf(int hash, char[] chars, int len) {
+    int slot = spread(hash) & mask;
+    int index;
+    while ((index = slotIndex[slot]) != -1) {
+      if (slotHash[slot] == hash && matches(nameArray[index], chars, len)) {
+        return index;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  private static boolean matches(byte[] key, char[] chars, int len) {
+    int pos = 0;
+    for (int i = 1, end = key.length - 1; i < end; i++) {
+      byte b = key[i];
+      if (b == '\\') {
+        b = key[++i];
+      }
+      if (pos == len || chars[pos++] != (char) b) {
+        return false;
+      }
+    }
+    return pos == len;
   }
 }
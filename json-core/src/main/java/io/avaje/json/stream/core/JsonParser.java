@@ -4,6 +4,13 @@ import java.io.Closeable;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 
 /**
  * Parse JSON content.
@@ -36,6 +43,21 @@ interface JsonParser extends Closeable {
    */
   String nextField();
 
+  /**
+   * Read the field name returning its index position in the names or -1 if unknown.
+   */
+  int nextFieldIndex(JsonNames names);
+
+  /**
+   * Return the name of the field last read.
+   */
+  String lastFieldName();
+
+  /**
+   * Read a String value returning its index position in the names or -1 if unknown.
+   */
+  int readStringIndex(JsonNames names);
+
   /**
    * Start a stream which could be an ARRAY or x-json-stream new line delimited json.
    */
@@ -118,6 +140,12 @@ interface JsonParser extends Closeable {
    */
   BigInteger readBigInteger();
 
+  /**
+   * Read and return a number of unknown type as a Long when it is an integer that fits,
+   * otherwise as a Double.
+   */
+  Number readNumber();
+
   /**
    * Read and return a boolean value.
    */
@@ -128,11 +156,51 @@ interface JsonParser extends Closeable {
    */
   String readString();
 
+  /**
+   * Read and return an Instant value from ISO-8601.
+   */
+  Instant readInstant();
+
+  /**
+   * Read and return a LocalDate value from ISO-8601.
+   */
+  LocalDate readLocalDate();
+
+  /**
+   * Read and return a LocalTime value from ISO-8601.
+   */
+  LocalTime readLocalTime();
+
+  /**
+   * Read and return a LocalDateTime value from ISO-8601.
+   */
+  LocalDateTime readLocalDateTime();
+
+  /**
+   * Read and return an OffsetDateTime value from ISO-8601.
+   */
+  OffsetDateTime readOffsetDateTime();
+
+  /**
+   * Read and return a ZonedDateTime value from ISO-8601.
+   */
+  ZonedDateTime readZonedDateTime();
+
+  /**
+   * Read and return a Duration value from ISO-8601.
+   */
+  Duration readDuration();
+
   /**
    * Read and return a binary value from base64.
    */
   byte[] readBinary();
 
+  /**
+   * Read and return the json text of a number validated against the number grammar.
+   */
+  String readRawNumber();
+
   /**
    * Read and return raw json content.
    */
@@ -148,6 +216,11 @@ interface JsonParser extends Closeable {
    */
   void close();
 
+  /**
+   * Revert buffers that have grown larger than the given length to their initial size.
+   */
+  void trimBuffers(int maxRetainedLength);
+
   /**
    * Bind input stream for processing. Stream will be processed in byte[] chunks. If stream is null,
    * reference to stream will be released.
@@ -163,4 +236,14 @@ interface JsonParser extends Closeable {
    * @param newLength length of buffer which can be used
    */
   JParser process(byte[] newBuffer, int newLength);
+
+  /**
+   * Bind the content of byte[] buffer from offset for length bytes for processing.
+   * The buffer is used as is without copying, positions are relative to the offset.
+   *
+   * @param newBuffer new buffer to use for processing
+   * @param offset    the index of the first byte of content
+   * @param newLength the number of bytes of content
+   */
+  JParser process(byte[] newBuffer, int offset, int newLength);
 }
@@ -6,6 +6,13 @@ import io.avaje.json.PropertyNames;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 
 final class JsonReadAdapter implements JsonReader {
 
@@ -89,6 +96,21 @@ final class JsonReadAdapter implements JsonReader {
     return reader.nextField();
   }
 
+  @Override
+  public boolean supportsFieldIndex() {
+    return true;
+  }
+
+  @Override
+  public int nextFieldIndex(PropertyNames names) {
+    return reader.nextFieldIndex((JsonNames) names);
+  }
+
+  @Override
+  public String lastFieldName() {
+    return reader.lastFieldName();
+  }
+
   @Override
   public boolean readBoolean() {
     if (failOnNullPrimitives && reader.isNullValue()) throw new JsonDataException("Read NULL value for boolean");
@@ -123,11 +145,56 @@ final class JsonReadAdapter implements JsonReader {
     return reader.readBigInteger();
   }
 
+  @Override
+  public Number readNumber() {
+    return reader.readNumber();
+  }
+
   @Override
   public String readString() {
     return reader.readString();
   }
 
+  @Override
+  public int readStringIndex(PropertyNames names) {
+    return reader.readStringIndex((JsonNames) names);
+  }
+
+  @Override
+  public Instant readInstant() {
+    return reader.readInstant();
+  }
+
+  @Override
+  public LocalDate readLocalDate() {
+    return reader.readLocalDate();
+  }
+
+  @Override
+  public LocalTime readLocalTime() {
+    return reader.readLocalTime();
+  }
+
+  @Override
+  public LocalDateTime readLocalDateTime() {
+    return reader.readLocalDateTime();
+  }
+
+  @Override
+  public OffsetDateTime readOffsetDateTime() {
+    return reader.readOffsetDateTime();
+  }
+
+  @Override
+  public ZonedDateTime readZonedDateTime() {
+    return reader.readZonedDateTime();
+  }
+
+  @Override
+  public Duration readDuration() {
+    return reader.readDuration();
+  }
+
   @Override
   public byte[] readBinary() {
     return reader.readBinary();
@@ -175,6 +242,11 @@ final class JsonReadAdapter implements JsonReader {
     reader.skipValue();
   }
 
+  @Override
+  public String readRawNumber() {
+    return reader.readRawNumber();
+  }
+
   @Override
   public String readRaw() {
     return reader.readRaw();
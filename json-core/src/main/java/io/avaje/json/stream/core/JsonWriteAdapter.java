@@ -5,6 +5,13 @@ import io.avaje.json.PropertyNames;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -52,6 +59,11 @@ final class JsonWriteAdapter implements JsonWriter {
     generator.pretty(pretty);
   }
 
+  @Override
+  public boolean pretty() {
+    return generator.pretty();
+  }
+
   @Override
   public void serializeNulls(boolean serializeNulls) {
     this.serializeNulls = serializeNulls;
@@ -171,6 +183,12 @@ final class JsonWriteAdapter implements JsonWriter {
     }
   }
 
+  @Override
+  public void value(PropertyNames names, int index) {
+    writeDeferredName();
+    generator.writeValue((JsonNames) names, index);
+  }
+
   @Override
   public void value(boolean value) {
     writeDeferredName();
@@ -246,6 +264,76 @@ final class JsonWriteAdapter implements JsonWriter {
     }
   }
 
+  @Override
+  public void value(Instant value) {
+    if (value == null) {
+      nullValue();
+    } else {
+      writeDeferredName();
+      generator.write(value);
+    }
+  }
+
+  @Override
+  public void value(LocalDate value) {
+    if (value == null) {
+      nullValue();
+    } else {
+      writeDeferredName();
+      generator.write(value);
+    }
+  }
+
+  @Override
+  public void value(LocalTime value) {
+    if (value == null) {
+      nullValue();
+    } else {
+      writeDeferredName();
+      generator.write(value);
+    }
+  }
+
+  @Override
+  public void value(LocalDateTime value) {
+    if (value == null) {
+      nullValue();
+    } else {
+      writeDeferredName();
+      generator.write(value);
+    }
+  }
+
+  @Override
+  public void value(OffsetDateTime value) {
+    if (value == null) {
+      nullValue();
+    } else {
+      writeDeferredName();
+      generator.write(value);
+    }
+  }
+
+  @Override
+  public void value(ZonedDateTime value) {
+    if (value == null) {
+      nullValue();
+    } else {
+      writeDeferredName();
+      generator.write(value);
+    }
+  }
+
+  @Override
+  public void value(Duration value) {
+    if (value == null) {
+      nullValue();
+    } else {
+      writeDeferredName();
+      generator.write(value);
+    }
+  }
+
   @Override
   public void value(BigInteger value) {
     if (value == null) {
@@ -276,6 +364,12 @@ final class JsonWriteAdapter implements JsonWriter {
     }
   }
 
+  @Override
+  public void rawValue(byte[] content, int offset, int length) {
+    writeDeferredName();
+    generator.writeRaw(content, offset, length);
+  }
+
   @Override
   public void rawChunkStart() {
     writeDeferredName();
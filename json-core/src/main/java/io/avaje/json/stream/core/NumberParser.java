@@ -456,6 +456,67 @@ final class NumberParser {
     }
   }
 
+  /**
+   * Read the number as its json text validating it against the json number grammar.
+   */
+  static String deserializeRaw(final JParser reader) {
+    final int start = reader.scanNumber();
+    final int end = reader.getCurrentIndex();
+    final char[] buf;
+    final int len;
+    if (end == reader.length()) {
+      final NumberInfo info = readLongNumber(reader, start);
+      buf = info.buffer;
+      len = info.length;
+    } else {
+      len = end - start;
+      buf = reader.prepareBuffer(start, len);
+    }
+    final int numberEnd = numberEnd(buf, len);
+    if (numberEnd < 0) {
+      throw reader.newParseErrorWith("Error parsing number", len, "Invalid number", new String(buf, 0, len).trim(), ". Error parsing number");
+    }
+    return new String(buf, 0, numberEnd);
+  }
+
+  /**
+   * Return the end of the number or -1 when the content does not match the number grammar
+   * or is followed by anything other than whitespace.
+   */
+  private static int numberEnd(final char[] buf, final int len) {
+    int i = 0;
+    if (i < len && buf[i] == '-') i++;
+    if (i < len && buf[i] == '0') {
+      i++;
+    } else {
+      final int digitsStart = i;
+      i = digitsEnd(buf, i, len);
+      if (i == digitsStart) return -1;
+    }
+    if (i < len && buf[i] == '.') {
+      final int digitsStart = ++i;
+      i = digitsEnd(buf, i, len);
+      if (i == digitsStart) return -1;
+    }
+    if (i < len && (buf[i] == 'e' || buf[i] == 'E')) {
+      i++;
+      if (i < len && (buf[i] == '+' || buf[i] == '-')) i++;
+      final int digitsStart = i;
+      i = digitsEnd(buf, i, len);
+      if (i == digitsStart) return -1;
+    }
+    for (int j = i; j < len; j++) {
+      final char ch = buf[j];
+      if (ch != ' ' && ch != '\n' && ch != '\r' && ch != '\t') return -1;
+    }
+    return i;
+  }
+
+  private static int digitsEnd(final char[] buf, int i, final int len) {
+    while (i < len && buf[i] >= '0' && buf[i] <= '9') i++;
+    return i;
+  }
+
   static BigDecimal deserializeDecimal(final JParser reader) {
     if (reader.currentToken() == '"') {
       final int len = reader.parseString();
@@ -632,6 +693,16 @@ final class NumberParser {
     }
   }
 
+  /**
+   * Return the value as a Long when it is an integer that fits, otherwise as a Double.
+   */
+  static Number toNumber(BigDecimal value) {
+    if (value.scale() == 0 && value.unscaledValue().bitLength() < 64) {
+      return value.longValue();
+    }
+    return value.doubleValue();
+  }
+
   static BigInteger deserializeBigInt(JParser reader) {
     int start;
     if (reader.currentToken() == 34) {
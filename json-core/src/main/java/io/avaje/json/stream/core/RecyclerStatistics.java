@@ -0,0 +1,149 @@
+package io.avaje.json.stream.core;
+
+import io.avaje.json.stream.BufferStats;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for buffer recycling and buffer growth.
+ * <p>
+ * All updates are guarded by the static final {@link #ENABLED} flag such that
+ * when disabled the JIT removes them.
+ */
+public final class RecyclerStatistics {
+
+  static final boolean ENABLED = Recyclers.booleanSetting("jsonb.bufferStats", "JSONB_BUFFER_STATS");
+
+  static final LongAdder GENERATOR_ACQUIRED = new LongAdder();
+  static final LongAdder GENERATOR_CREATED = new LongAdder();
+  static final LongAdder PARSER_ACQUIRED = new LongAdder();
+  static final LongAdder PARSER_CREATED = new LongAdder();
+  static final LongAdder CAS_RETRIES = new LongAdder();
+  static final LongAdder POOL_DROPPED = new LongAdder();
+  static final LongAdder BUFFERS_TRIMMED = new LongAdder();
+  static final LongAdder GENERATOR_GROWTH = new LongAdder();
+  static final LongAdder GENERATOR_FLUSHES = new LongAdder();
+  static final LongAdder PARSER_CHAR_GROWTH = new LongAdder();
+
+  private RecyclerStatistics() {}
+
+  /**
+   * Return a snapshot of the current statistics.
+   */
+  public static BufferStats snapshot() {
+    return new Snapshot(
+      ENABLED,
+      GENERATOR_ACQUIRED.sum(),
+      GENERATOR_CREATED.sum(),
+      PARSER_ACQUIRED.sum(),
+      PARSER_CREATED.sum(),
+      CAS_RETRIES.sum(),
+      POOL_DROPPED.sum(),
+      BUFFERS_TRIMMED.sum(),
+      GENERATOR_GROWTH.sum(),
+      GENERATOR_FLUSHES.sum(),
+      PARSER_CHAR_GROWTH.sum());
+  }
+
+  private static final class Snapshot implements BufferStats {
+
+    private final boolean enabled;
+    private final long generatorAcquired;
+    private final long generatorCreated;
+    private final long parserAcquired;
+    private final long parserCreated;
+    private final long casRetries;
+    private final long poolDropped;
+    private final long buffersTrimmed;
+    private final long generatorGrowth;
+    private final long generatorFlushes;
+    private final long parserCharGrowth;
+
+    Snapshot(boolean enabled, long generatorAcquired, long generatorCreated, long parserAcquired, long parserCreated,
+             long casRetries, long poolDropped, long buffersTrimmed, long generatorGrowth, long generatorFlushes,
+             long parserCharGrowth) {
+      this.enabled = enabled;
+      this.generatorAcquired = generatorAcquired;
+      this.generatorCreated = generatorCreated;
+      this.parserAcquired = parserAcquired;
+      this.parserCreated = parserCreated;
+      this.casRetries = casRetries;
+      this.poolDropped = poolDropped;
+      this.buffersTrimmed = buffersTrimmed;
+      this.generatorGrowth = generatorGrowth;
+      this.generatorFlushes = generatorFlushes;
+      this.parserCharGrowth = parserCharGrowth;
+    }
+
+    @Override
+    public boolean enabled() {
+      return enabled;
+    }
+
+    @Override
+    public long generatorAcquired() {
+      return generatorAcquired;
+    }
+
+    @Override
+    public long generatorCreated() {
+      return generatorCreated;
+    }
+
+    @Override
+    public long parserAcquired() {
+      return parserAcquired;
+    }
+
+    @Override
+    public long parserCreated() {
+      return parserCreated;
+    }
+
+    @Override
+    public long casRetries() {
+      return casRetries;
+    }
+
+    @Override
+    public long poolDropped() {
+      return poolDropped;
+    }
+
+    @Override
+    public long buffersTrimmed() {
+      return buffersTrimmed;
+    }
+
+    @Override
+    public long generatorGrowth() {
+      return generatorGrowth;
+    }
+
+    @Override
+    public long generatorFlushes() {
+      return generatorFlushes;
+    }
+
+    @Override
+    public long parserCharGrowth() {
+      return parserCharGrowth;
+    }
+
+    @Override
+    public String toString() {
+      return "BufferStats{enabled=" + enabled
+        + ", generatorAcquired=" + generatorAcquired
+        + ", generatorCreated=" + generatorCreated
+        + ", parserAcquired=" + parserAcquired
+        + ", parserCreated=" + parserCreated
+        + ", casRetries=" + casRetries
+        + ", poolDropped=" + poolDropped
+        + ", buffersTrimmed=" + buffersTrimmed
+        + ", generatorGrowth=" + generatorGrowth
+        + ", generatorFlushes=" + generatorFlushes
+        + ", parserCharGrowth=" + parserCharGrowth
+        + '}';
+    }
+  }
+}
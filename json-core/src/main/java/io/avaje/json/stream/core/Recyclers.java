@@ -16,6 +16,10 @@ final class Recyclers {
   static final int PARSER_CHAR_BUFFER_SIZE = intSetting("jsonb.parserCharBufferSize", "JSONB_PARSER_CHAR_BUFFER_SIZE", 4096);
   static final int PARSER_MAX_NUMBER_DIGITS = intSetting("jsonb.parserMaxNumberDigits", "JSONB_PARSER_MAX_NUMBER_DIGITS", 309);
   static final int PARSER_MAX_STRING_BUFFER = intSetting("jsonb.parserMaxStringBuffer", "JSONB_PARSER_MAX_STRING_BUFFER", 50_000);
+  /** Buffers that have grown larger than this are trimmed back to their initial size when recycled. */
+  static final int MAX_RETAINED_BUFFER_SIZE = intSetting("jsonb.maxRetainedBufferSize", "JSONB_MAX_RETAINED_BUFFER_SIZE", 256 * 1024);
+  /** The maximum number of generators and parsers pooled per stripe of the lock free pool. */
+  static final int POOL_MAX_PER_STRIPE = intSetting("jsonb.poolMaxPerStripe", "JSONB_POOL_MAX_PER_STRIPE", 64);
 
   static int intSetting(String sysProp, String envVar, int defaultValue) {
     String val = System.getProperty(sysProp);
@@ -25,11 +29,21 @@ final class Recyclers {
     return defaultValue;
   }
 
+  static boolean booleanSetting(String sysProp, String envVar) {
+    String val = System.getProperty(sysProp);
+    if (val == null) {
+      val = System.getenv(envVar);
+    }
+    return Boolean.parseBoolean(val);
+  }
+
   private static JGenerator createGenerator() {
+    if (RecyclerStatistics.ENABLED) RecyclerStatistics.GENERATOR_CREATED.increment();
     return new JGenerator(GENERATOR_BUFFER_SIZE);
   }
 
   static JParser createParser() {
+    if (RecyclerStatistics.ENABLED) RecyclerStatistics.PARSER_CREATED.increment();
     final char[] ch = new char[PARSER_CHAR_BUFFER_SIZE];
     final byte[] by = new byte[PARSER_BUFFER_SIZE];
     return new JParser(
@@ -64,27 +78,38 @@ final class Recyclers {
 
     @Override
     public JsonGenerator generator(JsonOutput target) {
+      if (RecyclerStatistics.ENABLED) RecyclerStatistics.GENERATOR_ACQUIRED.increment();
       return GENERATOR.get().prepare(target);
     }
 
     @Override
-    public JsonParser parser(byte[] bytes) {
-      return PARSER.get().process(bytes, bytes.length);
+    public JsonParser parser(byte[] bytes, int offset, int length) {
+      if (RecyclerStatistics.ENABLED) RecyclerStatistics.PARSER_ACQUIRED.increment();
+      return PARSER.get().process(bytes, offset, length);
     }
 
     @Override
     public JsonParser parser(InputStream in) {
+      if (RecyclerStatistics.ENABLED) RecyclerStatistics.PARSER_ACQUIRED.increment();
       return PARSER.get().process(in);
     }
 
     @Override
     public void recycle(JsonGenerator recycler) {
-      // nothing to do
+      recycler.trimBuffers(MAX_RETAINED_BUFFER_SIZE);
+    }
+
+    @Override
+    public void prefill(int count) {
+      if (count > 0) {
+        PARSER.get();
+        GENERATOR.get();
+      }
     }
 
     @Override
     public void recycle(JsonParser recycler) {
-      // nothing to do
+      recycler.trimBuffers(MAX_RETAINED_BUFFER_SIZE);
     }
   }
 
@@ -104,16 +129,19 @@ final class Recyclers {
 
     @Override
     public JsonGenerator generator(JsonOutput target) {
+      if (RecyclerStatistics.ENABLED) RecyclerStatistics.GENERATOR_ACQUIRED.increment();
       return createGenerator().prepare(target);
     }
 
     @Override
-    public JsonParser parser(byte[] bytes) {
-      return createParser().process(bytes, bytes.length);
+    public JsonParser parser(byte[] bytes, int offset, int length) {
+      if (RecyclerStatistics.ENABLED) RecyclerStatistics.PARSER_ACQUIRED.increment();
+      return createParser().process(bytes, offset, length);
     }
 
     @Override
     public JsonParser parser(InputStream in) {
+      if (RecyclerStatistics.ENABLED) RecyclerStatistics.PARSER_ACQUIRED.increment();
       return createParser().process(in);
     }
 
@@ -0,0 +1,77 @@
+package io.avaje.json.stream.core;
+
+import java.util.Optional;
+
+/**
+ * Scans the parser buffer for the bytes that end a run of plain string content.
+ * <p>
+ * Uses {@link VectorScan} when the {@code jdk.incubator.vector} module is in the boot
+ * layer (for example via {@code --add-modules jdk.incubator.vector}) and otherwise the
+ * scalar loops. Set {@code jsonb.parserVectorScan=0} to turn off the vector path.
+ */
+final class ByteScan {
+
+  private static final boolean VECTOR = vectorEnabled();
+
+  /** Shorter runs than this are faster scanned by the scalar loop. */
+  private static final int MIN_VECTOR_LENGTH = 32;
+
+  private ByteScan() {}
+
+  private static boolean vectorEnabled() {
+    if (Recyclers.intSetting("jsonb.parserVectorScan", "JSONB_PARSER_VECTOR_SCAN", 1) == 0) {
+      return false;
+    }
+    final Optional<Module> vectorModule = ModuleLayer.boot().findModule("jdk.incubator.vector");
+    if (vectorModule.isEmpty()) {
+      return false;
+    }
+    try {
+      ByteScan.class.getModule().addReads(vectorModule.get());
+      return VectorScan.supported();
+    } catch (LinkageError e) {
+      return false;
+    }
+  }
+
+  /**
+   * Return true if the vector implementation is in use.
+   */
+  static boolean vector() {
+    return VECTOR;
+  }
+
+  /**
+   * Return the index of the first double quote or backslash between from and to,
+   * or {@code to} if there is none.
+   */
+  static int indexOfQuoteOrEscape(final byte[] buffer, int from, final int to) {
+    if (VECTOR && to - from >= MIN_VECTOR_LENGTH) {
+      return VectorScan.indexOfQuoteOrEscape(buffer, from, to);
+    }
+    for (; from < to; from++) {
+      final byte b = buffer[from];
+      if (b == '"' || b == '\\') {
+        return from;
+      }
+    }
+    return to;
+  }
+
+  /**
+   * Return the index of the first double quote, backslash or non-ASCII byte between
+   * from and to, or {@code to} if there is none.
+   */
+  static int indexOfStringSpecial(final byte[] buffer, int from, final int to) {
+    if (VECTOR && to - from >= MIN_VECTOR_LENGTH) {
+      return VectorScan.indexOfStringSpecial(buffer, from, to);
+    }
+    for (; from < to; from++) {
+      final byte b = buffer[from];
+      if (b == '"' || (b ^ '\\') < 1) {
+        return from;
+      }
+    }
+    return to;
+  }
+}
@@ -0,0 +1,60 @@
+package io.avaje.json.stream.core;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementation of the {@link ByteScan} methods comparing 16 to 64 bytes
+ * at a time (depending on the preferred species of the platform).
+ * <p>
+ * Only loaded when the {@code jdk.incubator.vector} module is available.
+ */
+final class VectorScan {
+
+  private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+  private static final byte QUOTE = '"';
+  private static final byte ESCAPE = '\\';
+
+  private VectorScan() {}
+
+  static boolean supported() {
+    return SPECIES.length() >= 16;
+  }
+
+  static int indexOfQuoteOrEscape(final byte[] buffer, int from, final int to) {
+    final int bound = from + SPECIES.loopBound(to - from);
+    for (; from < bound; from += SPECIES.length()) {
+      final ByteVector vector = ByteVector.fromArray(SPECIES, buffer, from);
+      final VectorMask<Byte> found = vector.eq(QUOTE).or(vector.eq(ESCAPE));
+      if (found.anyTrue()) {
+        return from + found.firstTrue();
+      }
+    }
+    for (; from < to; from++) {
+      final byte b = buffer[from];
+      if (b == QUOTE || b == ESCAPE) {
+        return from;
+      }
+    }
+    return to;
+  }
+
+  static int indexOfStringSpecial(final byte[] buffer, int from, final int to) {
+    final int bound = from + SPECIES.loopBound(to - from);
+    for (; from < bound; from += SPECIES.length()) {
+      final ByteVector vector = ByteVector.fromArray(SPECIES, buffer, from);
+      final VectorMask<Byte> found = vector.eq(QUOTE).or(vector.eq(ESCAPE)).or(vector.lt((byte) 0));
+      if (found.anyTrue()) {
+        return from + found.firstTrue();
+      }
+    }
+    for (; from < to; from++) {
+      final byte b = buffer[from];
+      if (b == QUOTE || (b ^ ESCAPE) < 1) {
+        return from;
+      }
+    }
+    return to;
+  }
+}
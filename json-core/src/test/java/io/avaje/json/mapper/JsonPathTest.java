@@ -0,0 +1,100 @@
+package io.avaje.json.mapper;
+
+import io.avaje.json.JsonReader;
+import io.avaje.json.core.CoreTypes;
+import io.avaje.json.stream.JsonStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonPathTest {
+
+  static final JsonMapper mapper = JsonMapper.builder().build();
+  static final JsonStream stream = JsonStream.builder().build();
+
+  static final String JSON = "{\"id\":1,\"skip\":{\"a\":[1,2,{\"b\":\"c\"}]},\"orders\":[" +
+    "{\"lines\":[{\"product\":\"p0\"}]}," +
+    "{\"lines\":[{\"product\":\"p1\",\"qty\":3},{\"product\":\"p2\",\"tags\":[\"x\",null]}]}]," +
+    "\"customer\":{\"name\":\"Rob\",\"address\":{\"city\":\"Auckland\"}}}";
+
+  @Test
+  void compile() {
+    JsonPath path = JsonPath.compile("orders[1].lines[0].product");
+    assertThat(path.size()).isEqualTo(5);
+    assertThat(path.name(0)).isEqualTo("orders");
+    assertThat(path.isIndex(1)).isTrue();
+    assertThat(path.index(1)).isEqualTo(1);
+    assertThat(path.index(0)).isEqualTo(-1);
+    assertThat(path.name(4)).isEqualTo("product");
+    assertThat(path.toString()).isEqualTo("orders[1].lines[0].product");
+    assertThat(path).isEqualTo(JsonPath.compile("orders[1].lines[0].product"));
+
+    JsonPath matrix = JsonPath.compile("[0][2]");
+    assertThat(matrix.size()).isEqualTo(2);
+    assertThat(matrix.index(1)).isEqualTo(2);
+  }
+
+  @Test
+  void compile_invalid() {
+    assertThatThrownBy(() -> JsonPath.compile("")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> JsonPath.compile("a..b")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> JsonPath.compile("a.")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> JsonPath.compile("a[1")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> JsonPath.compile("a[]")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> JsonPath.compile("a[-1]")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> JsonPath.compile("a[1]b")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void find_map() {
+    Map<String, Object> map = mapper.fromJsonObject(JSON);
+    assertThat(JsonPath.compile("orders[1].lines[0].product").find(map)).isEqualTo("p1");
+    assertThat(JsonPath.compile("orders[1].lines[0].qty").find(map)).isEqualTo(3L);
+    assertThat(JsonPath.compile("orders[1].lines[1].tags[0]").find(map)).isEqualTo("x");
+    assertThat(JsonPath.compile("customer.address.city").find(map)).isEqualTo("Auckland");
+    assertThat(JsonPath.compile("customer.address").find(map)).isEqualTo(Map.of("city", "Auckland"));
+    assertThat(JsonPath.compile("orders[2]").find(map)).isNull();
+    assertThat(JsonPath.compile("orders.lines").find(map)).isNull();
+    assertThat(JsonPath.compile("id[0]").find(map)).isNull();
+    assertThat(JsonPath.compile("missing.path").find(map)).isNull();
+
+    List<Object> list = mapper.fromJsonArray("[[1,2],[3,4]]");
+    assertThat(JsonPath.compile("[1][0]").find(list)).isEqualTo(3L);
+  }
+
+  @Test
+  void find_reader() {
+    assertThat(find("orders[1].lines[0].product")).isEqualTo("p1");
+    assertThat(find("orders[1].lines[1].tags")).isEqualTo(Arrays.asList("x", null));
+    assertThat(find("orders[1].lines[1].tags[1]")).isNull();
+    assertThat(find("customer.address")).isEqualTo(Map.of("city", "Auckland"));
+    assertThat(find("customer.address.city")).isEqualTo("Auckland");
+    assertThat(find("id")).isEqualTo(1L);
+    assertThat(find("orders[2]")).isNull();
+    assertThat(find("orders.lines")).isNull();
+    assertThat(find("id.other")).isNull();
+    assertThat(find("missing")).isNull();
+  }
+
+  @Test
+  void find_readerWithAdapter() {
+    JsonPath path = JsonPath.compile("orders[1].lines[0].qty");
+    try (JsonReader reader = stream.reader(new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)))) {
+      Integer qty = path.find(reader, CoreTypes.<Integer>create(Integer.class));
+      assertThat(qty).isEqualTo(3);
+    }
+  }
+
+  private static Object find(String path) {
+    try (JsonReader reader = stream.reader(JSON)) {
+      return JsonPath.compile(path).find(reader);
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package io.avaje.json.mapper;
+
+import io.avaje.json.JsonReader;
+import io.avaje.json.core.CoreTypes;
+import io.avaje.json.stream.JsonStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonProjectionTest {
+
+  static final JsonMapper mapper = JsonMapper.builder().build();
+  static final JsonStream stream = JsonStream.builder().build();
+
+  static final String JSON = "{\"id\":1,\"skip\":{\"a\":[1,2,{\"b\":\"c\"}]},\"orders\":[" +
+    "{\"lines\":[{\"product\":\"p0\"}]}," +
+    "{\"lines\":[{\"product\":\"p1\",\"qty\":3},{\"product\":\"p2\",\"tags\":[\"x\",null]}]}]," +
+    "\"customer\":{\"name\":\"Rob\",\"address\":{\"city\":\"Auckland\"}},\"none\":null}";
+
+  @Test
+  void read() {
+    JsonProjection<Object> projection = mapper.projection(
+      "customer.name", "orders[1].lines[0].qty", "id", "orders[0].lines[0].product",
+      "orders[1].lines[1].tags[0]", "missing", "customer.address", "orders[5].lines");
+
+    Object[] values = projection.read(JSON);
+    assertThat(values).containsExactly("Rob", 3L, 1L, "p0", "x", null, Map.of("city", "Auckland"), null);
+    assertThat(projection.paths()).hasSize(8);
+    assertThat(projection.paths().get(0)).isEqualTo(JsonPath.compile("customer.name"));
+
+    assertThat(projection.read(JSON.getBytes(StandardCharsets.UTF_8))).isEqualTo(values);
+    assertThat(projection.read(new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)))).isEqualTo(values);
+  }
+
+  @Test
+  void read_reuseArray() {
+    JsonProjection<Object> projection = mapper.projection("id", "none", "missing");
+    Object[] values = new Object[] {"a", "b", "c"};
+    try (JsonReader reader = stream.reader(JSON)) {
+      assertThat(projection.read(reader, values)).isEqualTo(2);
+    }
+    assertThat(values).containsExactly(1L, null, null);
+  }
+
+  @Test
+  void read_parentAndChildPaths() {
+    JsonProjection<Object> projection = mapper.projection("customer", "customer.address.city", "orders[1].lines", "orders[1].lines[1].product");
+    Object[] values = projection.read(JSON);
+    assertThat(values[0]).isEqualTo(Map.of("name", "Rob", "address", Map.of("city", "Auckland")));
+    assertThat(values[1]).isEqualTo("Auckland");
+    assertThat(values[2]).asInstanceOf(org.assertj.core.api.InstanceOfAssertFactories.LIST).hasSize(2);
+    assertThat(values[3]).isEqualTo("p2");
+  }
+
+  @Test
+  void read_stopsWhenAllFound() {
+    // the content after the found values is not read
+    String truncated = "{\"id\":1,\"skip\":[1,2],\"customer\":{\"name\":\"Rob\",\"other\":";
+    Object[] values = mapper.projection("customer.name", "id").read(truncated);
+    assertThat(values).containsExactly("Rob", 1L);
+
+    assertThatThrownBy(() -> mapper.projection("customer.name", "missing").read(truncated))
+      .isInstanceOf(RuntimeException.class);
+  }
+
+  @Test
+  void read_duplicateKeyFirstWins() {
+    Object[] values = mapper.projection("a", "b").read("{\"a\":1,\"a\":2,\"b\":3}");
+    assertThat(values).containsExactly(1L, 3L);
+  }
+
+  @Test
+  void readMap() {
+    JsonProjection<Object> projection = mapper.projection("id", "customer.name", "missing");
+    try (JsonReader reader = stream.reader(JSON)) {
+      Map<String, Object> map = projection.readMap(reader);
+      assertThat(map).containsExactly(Map.entry("id", 1L), Map.entry("customer.name", "Rob"));
+    }
+  }
+
+  @Test
+  void withAdapter() {
+    JsonProjection<String> projection = JsonProjection.of(stream, CoreTypes.<String>create(String.class), List.of(JsonPath.compile("customer.name")));
+    assertThat(projection.read(JSON)).containsExactly("Rob");
+    assertThatThrownBy(() -> JsonProjection.of(stream, CoreTypes.<String>create(String.class), List.of()))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,128 @@
+package io.avaje.json.mapper;
+
+import io.avaje.json.JsonDataException;
+import io.avaje.json.JsonReader;
+import io.avaje.json.stream.JsonStream;
+import io.avaje.json.stream.LazyNumber;
+import io.avaje.json.stream.NumberMode;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NumberModeTest {
+
+  static final String JSON = "{\"a\":9007199254740993,\"b\":1.0,\"c\":1.5,\"d\":-12,\"e\":1e3,\"f\":123456789012345678901,\"g\":-9223372036854775808,\"h\":0}";
+
+  @Test
+  void wholeAsLong_default() {
+    Map<String, Object> map = JsonMapper.builder().build().fromJsonObject(JSON);
+    assertThat(map.get("a")).isEqualTo(9007199254740993L);
+    assertThat(map.get("b")).isEqualTo(1L);
+    assertThat(map.get("c")).isEqualTo(1.5D);
+    assertThat(map.get("d")).isEqualTo(-12L);
+    assertThat(map.get("e")).isEqualTo(1000L);
+    assertThat(map.get("g")).isEqualTo(Long.MIN_VALUE);
+    assertThat(map.get("h")).isEqualTo(0L);
+  }
+
+  @Test
+  void longOrDouble() {
+    Map<String, Object> map = JsonMapper.builder().numberMode(NumberMode.LONG_OR_DOUBLE).build().fromJsonObject(JSON);
+    assertThat(map.get("a")).isEqualTo(9007199254740993L);
+    assertThat(map.get("b")).isEqualTo(1.0D);
+    assertThat(map.get("c")).isEqualTo(1.5D);
+    assertThat(map.get("d")).isEqualTo(-12L);
+    assertThat(map.get("e")).isEqualTo(1000.0D);
+    assertThat(map.get("f")).isEqualTo(1.2345678901234568E20D);
+    assertThat(map.get("g")).isEqualTo(Long.MIN_VALUE);
+  }
+
+  @Test
+  void lazy() {
+    JsonMapper mapper = JsonMapper.builder().numberMode(NumberMode.LAZY).build();
+    Map<String, Object> map = mapper.fromJsonObject(JSON);
+    assertThat(map.get("a")).isInstanceOf(LazyNumber.class);
+    LazyNumber a = (LazyNumber) map.get("a");
+    assertThat(a.toString()).isEqualTo("9007199254740993");
+    assertThat(a.isIntegral()).isTrue();
+    assertThat(a.longValue()).isEqualTo(9007199254740993L);
+
+    LazyNumber f = (LazyNumber) map.get("f");
+    assertThat(f.decimalValue()).isEqualTo(new BigDecimal("123456789012345678901"));
+    assertThat(((LazyNumber) map.get("c")).doubleValue()).isEqualTo(1.5D);
+    assertThat(((LazyNumber) map.get("e")).isIntegral()).isFalse();
+    assertThat(((LazyNumber) map.get("e")).intValue()).isEqualTo(1000);
+    assertThat(map.get("b")).isEqualTo(new LazyNumber("1.0"));
+
+    // written back with the original digits
+    assertThat(mapper.toJson(map)).isEqualTo(JSON);
+  }
+
+  @Test
+  void readNumber_inputStream() {
+    JsonStream stream = JsonStream.builder().build();
+    String json = "[1,-2.5,9223372036854775807,18446744073709551616,3]";
+    List<Number> values = new ArrayList<>();
+    try (JsonReader reader = stream.reader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))) {
+      reader.beginArray();
+      while (reader.hasNextElement()) {
+        values.add(reader.readNumber());
+      }
+      reader.endArray();
+    }
+    assertThat(values).containsExactly(1L, -2.5D, Long.MAX_VALUE, 1.8446744073709552E19D, 3L);
+  }
+
+  @Test
+  void lazy_invalidNumber() {
+    JsonMapper mapper = JsonMapper.builder().numberMode(NumberMode.LAZY).build();
+    for (String invalid : List.of("12abc", "--1", "1.", "01", "1e", "-", "1.5.2")) {
+      assertThatThrownBy(() -> mapper.fromJsonObject("{\"a\":" + invalid + "}"))
+        .describedAs(invalid)
+        .isInstanceOf(JsonDataException.class);
+    }
+    assertThat(mapper.fromJsonObject("{\"a\":-0.5E+2 }").get("a")).isEqualTo(new LazyNumber("-0.5E+2"));
+  }
+
+  @Test
+  void lazy_inputStream() {
+    JsonStream stream = JsonStream.builder().build();
+    StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < 3000; i++) {
+      json.append("12345678901234567890.125e-3,");
+    }
+    json.append("7]");
+    List<Number> values = new ArrayList<>();
+    try (JsonReader reader = stream.reader(new ByteArrayInputStream(json.toString().getBytes(StandardCharsets.UTF_8)))) {
+      reader.beginArray();
+      while (reader.hasNextElement()) {
+        values.add(NumberMode.LAZY.read(reader));
+      }
+      reader.endArray();
+    }
+    assertThat(values).hasSize(3001);
+    assertThat(values).allSatisfy(value -> assertThat(value).isInstanceOf(LazyNumber.class));
+    assertThat(values.subList(0, 3000)).containsOnly(new LazyNumber("12345678901234567890.125e-3"));
+    assertThat(values.get(3000)).isEqualTo(new LazyNumber("7"));
+  }
+
+  @Test
+  void lazy_inputStream_invalid() {
+    JsonStream stream = JsonStream.builder().build();
+    try (JsonReader reader = stream.reader(new ByteArrayInputStream("[12abc]".getBytes(StandardCharsets.UTF_8)))) {
+      reader.beginArray();
+      assertThat(reader.hasNextElement()).isTrue();
+      assertThatThrownBy(() -> NumberMode.LAZY.read(reader))
+        .isInstanceOf(JsonDataException.class)
+        .hasMessageContaining("12abc");
+    }
+  }
+}
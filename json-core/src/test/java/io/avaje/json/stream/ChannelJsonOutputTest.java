@@ -0,0 +1,135 @@
+package io.avaje.json.stream;
+
+import io.avaje.json.JsonWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChannelJsonOutputTest {
+
+  static final JsonStream stream = JsonStream.builder().build();
+
+  @Test
+  void partialWrites() throws IOException {
+    PartialChannel channel = new PartialChannel(7);
+    JsonOutput output = JsonOutput.ofChannel(channel, ByteBuffer.allocateDirect(16));
+    String expected = writeArray(output, 2_000);
+    assertThat(channel.content()).isEqualTo(expected);
+
+    output.close();
+    assertThat(channel.closed).isTrue();
+  }
+
+  @Test
+  void partialWrites_unbuffered() throws IOException {
+    PartialChannel channel = new PartialChannel(7);
+    String expected = writeArray(JsonOutput.ofChannel(channel), 2_000);
+    assertThat(channel.content()).isEqualTo(expected);
+  }
+
+  @Test
+  void unwrapOutputStream_unbuffered() throws IOException {
+    PartialChannel channel = new PartialChannel(3);
+    JsonOutput output = JsonOutput.ofChannel(channel);
+    output.write("[1,".getBytes(StandardCharsets.UTF_8), 0, 3);
+    output.unwrapOutputStream().write('2');
+    output.unwrapOutputStream().write("]".getBytes(StandardCharsets.UTF_8));
+    assertThat(channel.content()).isEqualTo("[1,2]");
+  }
+
+  @Test
+  void fileChannel() throws IOException {
+    Path file = Files.createTempFile("channel-output", ".json");
+    try {
+      String expected;
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+        expected = writeArray(JsonOutput.ofChannel(channel), 20_000);
+      }
+      assertThat(Files.readString(file)).isEqualTo(expected);
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  void unwrapOutputStream_sharesBuffer() throws IOException {
+    PartialChannel channel = new PartialChannel(3);
+    JsonOutput output = JsonOutput.ofChannel(channel, ByteBuffer.allocate(8));
+    output.write("[1,".getBytes(StandardCharsets.UTF_8), 0, 3);
+    output.unwrapOutputStream().write("2]".getBytes(StandardCharsets.UTF_8));
+    output.flush();
+    assertThat(channel.content()).isEqualTo("[1,2]");
+  }
+
+  @Test
+  void nonBlockingChannel_notAllowed() throws IOException {
+    try (SocketChannel channel = SocketChannel.open()) {
+      channel.configureBlocking(false);
+      assertThatThrownBy(() -> JsonOutput.ofChannel(channel))
+        .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  private static String writeArray(JsonOutput output, int count) {
+    StringBuilder expected = new StringBuilder("[");
+    try (JsonWriter writer = stream.writer(output)) {
+      writer.beginArray();
+      for (int i = 0; i < count; i++) {
+        String value = "value-" + i;
+        writer.value(value);
+        expected.append(i == 0 ? "" : ",").append('"').append(value).append('"');
+      }
+      writer.endArray();
+    }
+    return expected.append(']').toString();
+  }
+
+  /**
+   * Channel that writes at most maxWrite bytes per call.
+   */
+  static final class PartialChannel implements WritableByteChannel {
+
+    final ByteArrayOutputStream content = new ByteArrayOutputStream();
+    final int maxWrite;
+    boolean closed;
+
+    PartialChannel(int maxWrite) {
+      this.maxWrite = maxWrite;
+    }
+
+    String content() {
+      return content.toString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+      int count = Math.min(maxWrite, src.remaining());
+      for (int i = 0; i < count; i++) {
+        content.write(src.get());
+      }
+      return count;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return !closed;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
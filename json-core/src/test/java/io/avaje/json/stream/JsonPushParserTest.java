@@ -0,0 +1,122 @@
+package io.avaje.json.stream;
+
+import io.avaje.json.JsonDataException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonPushParserTest {
+
+  static final String ARRAY = " [ {\"a\":\"x]}\\\"\",\"b\":[1,{}]} , \"s,\\\\\" ,42, -1.5e3,true,null,[] ] ";
+  static final List<String> ARRAY_VALUES = List.of("{\"a\":\"x]}\\\"\",\"b\":[1,{}]}", "\"s,\\\\\"", "42", "-1.5e3", "true", "null", "[]");
+
+  @Test
+  void array_singleChunk() {
+    JsonPushParser parser = JsonPushParser.ofArray();
+    assertThat(pushAll(parser, ARRAY, ARRAY.length())).isEqualTo(ARRAY_VALUES);
+    assertThat(parser.isComplete()).isTrue();
+  }
+
+  @Test
+  void array_chunkSizes() {
+    for (int chunkSize = 1; chunkSize < ARRAY.length(); chunkSize++) {
+      assertThat(pushAll(JsonPushParser.ofArray(), ARRAY, chunkSize)).isEqualTo(ARRAY_VALUES);
+    }
+  }
+
+  @Test
+  void array_empty() {
+    assertThat(pushAll(JsonPushParser.ofArray(), " [ ] ", 2)).isEmpty();
+  }
+
+  @Test
+  void array_needMoreInput() {
+    JsonPushParser parser = JsonPushParser.ofArray();
+    parser.push(bytes("[{\"a\":1"), 0, 7);
+    assertThat(parser.next()).isNull();
+    parser.push(ByteBuffer.wrap(bytes("},2")));
+    assertThat(asString(parser.next())).isEqualTo("{\"a\":1}");
+    // a trailing number is only complete when followed by a delimiter
+    assertThat(parser.next()).isNull();
+    parser.push(ByteBuffer.wrap(bytes("]")));
+    assertThat(asString(parser.next())).isEqualTo("2");
+    assertThat(parser.next()).isNull();
+    assertThat(parser.isComplete()).isFalse();
+    parser.end();
+    assertThat(parser.next()).isNull();
+    assertThat(parser.isComplete()).isTrue();
+  }
+
+  @Test
+  void values_newlineDelimited() {
+    String content = "{\"id\":1}\n{\"id\":2}\r\n\n\"three\"\n4\n[5]";
+    List<String> expected = List.of("{\"id\":1}", "{\"id\":2}", "\"three\"", "4", "[5]");
+    for (int chunkSize = 1; chunkSize <= content.length(); chunkSize++) {
+      assertThat(pushAll(JsonPushParser.ofValues(), content, chunkSize)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void values_trailingScalarAtEnd() {
+    assertThat(pushAll(JsonPushParser.ofValues(), "1 2 3", 5)).containsExactly("1", "2", "3");
+  }
+
+  @Test
+  void largeValues_growBuffer() {
+    String large = "\"" + "x".repeat(10_000) + "\"";
+    String content = "[" + large + "," + large + "]";
+    assertThat(pushAll(JsonPushParser.ofArray(), content, 3000)).containsExactly(large, large);
+  }
+
+  @Test
+  void invalid() {
+    assertThatThrownBy(() -> pushAll(JsonPushParser.ofArray(), "{}", 2))
+      .isInstanceOf(JsonDataException.class)
+      .hasMessageContaining("expecting '['");
+    assertThatThrownBy(() -> pushAll(JsonPushParser.ofArray(), "[1,,2]", 2))
+      .isInstanceOf(JsonDataException.class)
+      .hasMessageContaining("at offset 3");
+    assertThatThrownBy(() -> pushAll(JsonPushParser.ofArray(), "[{} {}]", 2))
+      .isInstanceOf(JsonDataException.class)
+      .hasMessageContaining("expecting ',' or ']'");
+    assertThatThrownBy(() -> pushAll(JsonPushParser.ofArray(), "[1,2", 2))
+      .isInstanceOf(JsonDataException.class)
+      .hasMessageContaining("end of the array");
+    assertThatThrownBy(() -> pushAll(JsonPushParser.ofValues(), "{\"a\":[1}", 2))
+      .isInstanceOf(JsonDataException.class)
+      .hasMessageContaining("inside a json value");
+  }
+
+  private static List<String> pushAll(JsonPushParser parser, String content, int chunkSize) {
+    byte[] bytes = bytes(content);
+    List<String> values = new ArrayList<>();
+    for (int i = 0; i < bytes.length; i += chunkSize) {
+      parser.push(bytes, i, Math.min(chunkSize, bytes.length - i));
+      ByteBuffer value;
+      while ((value = parser.next()) != null) {
+        values.add(asString(value));
+      }
+    }
+    parser.end();
+    ByteBuffer value;
+    while ((value = parser.next()) != null) {
+      values.add(asString(value));
+    }
+    assertThat(parser.isComplete()).isTrue();
+    return values;
+  }
+
+  private static byte[] bytes(String content) {
+    return content.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String asString(ByteBuffer value) {
+    return StandardCharsets.UTF_8.decode(value).toString();
+  }
+}
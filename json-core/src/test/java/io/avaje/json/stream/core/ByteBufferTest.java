@@ -0,0 +1,90 @@
+package io.avaje.json.stream.core;
+
+import io.avaje.json.JsonDataException;
+import io.avaje.json.JsonReader;
+import io.avaje.json.stream.JsonStream;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ByteBufferTest {
+
+  final JsonStream stream = JsonStream.builder().build();
+
+  @Test
+  void heap_withOffset() {
+    byte[] content = "xx[\"a\",\"b\"]yy".getBytes(StandardCharsets.UTF_8);
+    ByteBuffer buffer = ByteBuffer.wrap(content, 2, content.length - 4).slice();
+    assertThat(readList(buffer)).containsExactly("a", "b");
+    // position not changed
+    assertThat(buffer.position()).isEqualTo(0);
+
+    ByteBuffer positioned = ByteBuffer.wrap(content);
+    positioned.position(2).limit(content.length - 2);
+    assertThat(readList(positioned)).containsExactly("a", "b");
+    assertThat(positioned.position()).isEqualTo(2);
+  }
+
+  @Test
+  void heap_topLevelValue() {
+    byte[] content = "[42,true]".getBytes(StandardCharsets.UTF_8);
+    try (JsonReader reader = stream.reader(ByteBuffer.wrap(content, 1, 2))) {
+      reader.isNullValue();
+      assertThat(reader.readInt()).isEqualTo(42);
+    }
+  }
+
+  @Test
+  void heap_errorLocation_relativeToContent() {
+    byte[] content = "0123456789[\"a\",}".getBytes(StandardCharsets.UTF_8);
+    ByteBuffer buffer = ByteBuffer.wrap(content, 10, content.length - 10).slice();
+    assertThatThrownBy(() -> readList(buffer))
+      .isInstanceOf(JsonDataException.class)
+      .hasMessageContaining("at position: 6")
+      .hasMessageNotContaining("0123456789");
+  }
+
+  @Test
+  void direct() {
+    byte[] content = "[\"a\",\"b\"]".getBytes(StandardCharsets.UTF_8);
+    ByteBuffer buffer = ByteBuffer.allocateDirect(content.length).put(content).flip();
+    assertThat(readList(buffer)).containsExactly("a", "b");
+    assertThat(buffer.remaining()).isEqualTo(content.length);
+  }
+
+  @Test
+  void direct_largerThanParserBuffer() {
+    List<String> expected = new ArrayList<>();
+    StringBuilder sb = new StringBuilder("[");
+    for (int i = 0; i < 2_000; i++) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      String value = "value-" + i;
+      expected.add(value);
+      sb.append('"').append(value).append('"');
+    }
+    byte[] content = sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    ByteBuffer buffer = ByteBuffer.allocateDirect(content.length).put(content).flip();
+    assertThat(readList(buffer)).isEqualTo(expected);
+    assertThat(readList(buffer.asReadOnlyBuffer())).isEqualTo(expected);
+  }
+
+  private List<String> readList(ByteBuffer buffer) {
+    List<String> values = new ArrayList<>();
+    try (JsonReader reader = stream.reader(buffer)) {
+      reader.beginArray();
+      while (reader.hasNextElement()) {
+        values.add(reader.readString());
+      }
+      reader.endArray();
+    }
+    return values;
+  }
+}
@@ -0,0 +1,67 @@
+package io.avaje.json.stream.core;
+
+import io.avaje.json.JsonReader;
+import io.avaje.json.PropertyNames;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteScanTest {
+
+  private static final String LONG = "lorem ipsum dolor sit amet ".repeat(5);
+
+  @Test
+  void indexOfQuoteOrEscape() {
+    byte[] bytes = (LONG + "\\n" + LONG + "\"").getBytes(StandardCharsets.UTF_8);
+    int escape = LONG.length();
+    assertThat(ByteScan.indexOfQuoteOrEscape(bytes, 0, bytes.length)).isEqualTo(escape);
+    assertThat(ByteScan.indexOfQuoteOrEscape(bytes, escape + 1, bytes.length)).isEqualTo(bytes.length - 1);
+    assertThat(ByteScan.indexOfQuoteOrEscape(bytes, 0, escape)).isEqualTo(escape);
+    assertThat(ByteScan.indexOfQuoteOrEscape(bytes, 3, 3)).isEqualTo(3);
+  }
+
+  @Test
+  void indexOfStringSpecial() {
+    byte[] bytes = (LONG + "é" + LONG + "\"").getBytes(StandardCharsets.UTF_8);
+    int nonAscii = LONG.length();
+    assertThat(ByteScan.indexOfStringSpecial(bytes, 0, bytes.length)).isEqualTo(nonAscii);
+    assertThat(ByteScan.indexOfStringSpecial(bytes, nonAscii + 2, bytes.length)).isEqualTo(bytes.length - 1);
+    assertThat(ByteScan.indexOfStringSpecial(bytes, 0, nonAscii)).isEqualTo(nonAscii);
+    assertThat(ByteScan.indexOfQuoteOrEscape(bytes, 0, bytes.length)).isEqualTo(bytes.length - 1);
+  }
+
+  @Test
+  void skipLongStrings() {
+    String value = LONG + "\\\"" + LONG + "\\\\";
+    String json = "{\"a\":\"" + value + "\",\"b\":{\"c\":[\"" + value + "\",\"é" + value + "\"]},\"keep\":\"" + value + "\"}";
+    String expected = LONG + "\"" + LONG + "\\";
+
+    try (JsonReader reader = CoreJsonStream.builder().build().reader(json)) {
+      assertThat(readKeep(reader, JsonNames.of("keep"))).isEqualTo(expected);
+    }
+    // stream with a small buffer such that strings span multiple reads
+    byte[] by = new byte[64];
+    JParser jr = new JParser(new char[4], by, by.length, JParser.DoublePrecision.DEFAULT, JParser.UnknownNumberParsing.BIGDECIMAL, 100, 50_000);
+    jr.process(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    try (JsonReader reader = new JsonReadAdapter(jr, Recyclers.ThreadLocalPool.shared(), true, true)) {
+      assertThat(readKeep(reader, JsonNames.of("keep"))).isEqualTo(expected);
+    }
+  }
+
+  private static String readKeep(JsonReader reader, PropertyNames names) {
+    String keep = null;
+    reader.beginObject(names);
+    while (reader.hasNextField()) {
+      if (reader.nextFieldIndex(names) == 0) {
+        keep = reader.readString();
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return keep;
+  }
+}
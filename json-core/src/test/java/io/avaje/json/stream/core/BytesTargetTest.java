@@ -0,0 +1,116 @@
+package io.avaje.json.stream.core;
+
+import io.avaje.json.stream.BytesJsonWriter;
+import io.avaje.json.stream.JsonStream;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BytesTargetTest {
+
+  final JsonStream stream = JsonStream.builder().build();
+
+  @Test
+  void writeIntoArray_atOffset() {
+    byte[] target = new byte[64];
+    target[0] = '#';
+    int length;
+    try (BytesJsonWriter writer = stream.bufferedWriterAsBytes(target, 1)) {
+      writeContent(writer);
+      length = writer.result(target, 1);
+    }
+    assertThat(target[0]).isEqualTo((byte) '#');
+    assertThat(new String(target, 1, length, StandardCharsets.UTF_8)).isEqualTo("{\"id\":42,\"name\":\"hello\"}");
+  }
+
+  @Test
+  void writeIntoArray_resultExcludesOffset() {
+    byte[] target = new byte[64];
+    target[0] = '#';
+    try (BytesJsonWriter writer = stream.bufferedWriterAsBytes(target, 1)) {
+      writeContent(writer);
+      assertThat(writer.result()).isEqualTo("{\"id\":42,\"name\":\"hello\"}".getBytes(StandardCharsets.UTF_8));
+    }
+    // content that does not fit is moved to an enlarged buffer keeping the offset
+    try (BytesJsonWriter writer = stream.bufferedWriterAsBytes(new byte[4], 2)) {
+      writeContent(writer);
+      assertThat(writer.result()).isEqualTo("{\"id\":42,\"name\":\"hello\"}".getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  void writeIntoArray_generatorReleasesArray() {
+    byte[] target = new byte[64];
+    try (BytesJsonWriter writer = stream.bufferedWriterAsBytes(target, 0)) {
+      writeContent(writer);
+      writer.result(target, 0);
+    }
+    // the recycled generator no longer writes into the caller array
+    try (BytesJsonWriter writer = stream.bufferedWriterAsBytes()) {
+      writer.value("other");
+      assertThat(writer.result()).isEqualTo("\"other\"".getBytes(StandardCharsets.UTF_8));
+    }
+    assertThat(new String(target, 0, 24, StandardCharsets.UTF_8)).isEqualTo("{\"id\":42,\"name\":\"hello\"}");
+  }
+
+  @Test
+  void writeIntoArray_doesNotFit() {
+    byte[] target = new byte[10];
+    try (BytesJsonWriter writer = stream.bufferedWriterAsBytes(target, 2)) {
+      writeContent(writer);
+      assertThatThrownBy(() -> writer.result(target, 2))
+        .isInstanceOf(IndexOutOfBoundsException.class)
+        .hasMessageContaining("does not fit");
+    }
+  }
+
+  @Test
+  void copyIntoArray() {
+    byte[] target = new byte[64];
+    try (BytesJsonWriter writer = stream.bufferedWriterAsBytes()) {
+      writeContent(writer);
+      int length = writer.result(target, 3);
+      assertThat(new String(target, 3, length, StandardCharsets.UTF_8)).isEqualTo("{\"id\":42,\"name\":\"hello\"}");
+      assertThatThrownBy(() -> writer.result(new byte[10], 0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+  }
+
+  @Test
+  void putIntoByteBuffer() {
+    ByteBuffer target = ByteBuffer.allocateDirect(64);
+    try (BytesJsonWriter writer = stream.bufferedWriterAsBytes()) {
+      writeContent(writer);
+      assertThat(writer.result(target)).isEqualTo(24);
+      assertThat(target.position()).isEqualTo(24);
+      assertThatThrownBy(() -> writer.result(ByteBuffer.allocate(5))).isInstanceOf(BufferOverflowException.class);
+    }
+  }
+
+  @Test
+  void sizeHint() {
+    JGenerator generator = new JGenerator(64);
+    generator.sizeHint(1000);
+    assertThat(generator.ensureCapacity(0).length).isEqualTo(1000);
+    generator.sizeHint(10);
+    assertThat(generator.ensureCapacity(0).length).isEqualTo(1000);
+
+    try (BytesJsonWriter writer = stream.bufferedWriterAsBytes(100_000)) {
+      writeContent(writer);
+      assertThat(writer.result()).hasSize(24);
+    }
+  }
+
+  private static void writeContent(BytesJsonWriter writer) {
+    writer.beginObject();
+    writer.name("id");
+    writer.value(42);
+    writer.name("name");
+    writer.value("hello");
+    writer.endObject();
+  }
+}
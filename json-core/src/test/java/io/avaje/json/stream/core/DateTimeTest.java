@@ -0,0 +1,135 @@
+package io.avaje.json.stream.core;
+
+import io.avaje.json.JsonReader;
+import io.avaje.json.JsonWriter;
+import io.avaje.json.stream.JsonStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.time.format.DateTimeParseException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DateTimeTest {
+
+  final JsonStream stream = JsonStream.builder().build();
+
+  @Test
+  void instant() {
+    assertRoundTrip(Instant.parse("2024-03-15T10:15:30Z"), JsonWriter::value, JsonReader::readInstant);
+    assertRoundTrip(Instant.parse("2024-03-15T10:15:30.100Z"), JsonWriter::value, JsonReader::readInstant);
+    assertRoundTrip(Instant.parse("2024-03-15T10:15:30.000100Z"), JsonWriter::value, JsonReader::readInstant);
+    assertRoundTrip(Instant.parse("2024-03-15T10:15:30.000000001Z"), JsonWriter::value, JsonReader::readInstant);
+    assertRoundTrip(Instant.parse("1969-12-31T23:59:59.999Z"), JsonWriter::value, JsonReader::readInstant);
+    assertRoundTrip(Instant.parse("0000-01-01T00:00:00Z"), JsonWriter::value, JsonReader::readInstant);
+    assertRoundTrip(Instant.parse("9999-12-31T23:59:59Z"), JsonWriter::value, JsonReader::readInstant);
+    // years outside 0000-9999 fallback to toString()
+    assertRoundTrip(Instant.MAX, JsonWriter::value, JsonReader::readInstant);
+    assertRoundTrip(Instant.MIN, JsonWriter::value, JsonReader::readInstant);
+  }
+
+  @Test
+  void instant_withOffset() {
+    assertThat(read("\"2024-03-15T10:15:30.5+10:00\"", JsonReader::readInstant))
+      .isEqualTo(Instant.parse("2024-03-15T00:15:30.5Z"));
+  }
+
+  @Test
+  void localDate() {
+    assertRoundTrip(LocalDate.of(2024, 2, 29), JsonWriter::value, JsonReader::readLocalDate);
+    assertRoundTrip(LocalDate.of(5, 1, 1), JsonWriter::value, JsonReader::readLocalDate);
+    assertRoundTrip(LocalDate.MIN, JsonWriter::value, JsonReader::readLocalDate);
+  }
+
+  @Test
+  void localTime() {
+    assertRoundTrip(LocalTime.of(10, 15), JsonWriter::value, JsonReader::readLocalTime);
+    assertRoundTrip(LocalTime.of(10, 15, 30), JsonWriter::value, JsonReader::readLocalTime);
+    assertRoundTrip(LocalTime.of(10, 15, 0, 1000), JsonWriter::value, JsonReader::readLocalTime);
+  }
+
+  @Test
+  void localDateTime() {
+    assertRoundTrip(LocalDateTime.of(2024, 3, 15, 10, 15), JsonWriter::value, JsonReader::readLocalDateTime);
+    assertRoundTrip(LocalDateTime.of(2024, 3, 15, 10, 15, 30, 123_456_789), JsonWriter::value, JsonReader::readLocalDateTime);
+  }
+
+  @Test
+  void offsetDateTime() {
+    assertRoundTrip(OffsetDateTime.of(2024, 3, 15, 10, 15, 30, 0, ZoneOffset.UTC), JsonWriter::value, JsonReader::readOffsetDateTime);
+    assertRoundTrip(OffsetDateTime.of(2024, 3, 15, 10, 15, 30, 0, ZoneOffset.ofHoursMinutes(-5, -30)), JsonWriter::value, JsonReader::readOffsetDateTime);
+    assertRoundTrip(OffsetDateTime.of(2024, 3, 15, 10, 15, 30, 0, ZoneOffset.ofHoursMinutesSeconds(1, 2, 3)), JsonWriter::value, JsonReader::readOffsetDateTime);
+  }
+
+  @Test
+  void zonedDateTime() {
+    assertRoundTrip(ZonedDateTime.of(2024, 3, 15, 10, 15, 30, 0, ZoneOffset.ofHours(2)), JsonWriter::value, JsonReader::readZonedDateTime);
+    assertRoundTrip(ZonedDateTime.of(2024, 7, 15, 10, 15, 30, 0, ZoneId.of("Europe/Paris")), JsonWriter::value, JsonReader::readZonedDateTime);
+    assertRoundTrip(ZonedDateTime.of(2024, 7, 15, 10, 15, 30, 0, ZoneId.of("UTC")), JsonWriter::value, JsonReader::readZonedDateTime);
+  }
+
+  @Test
+  void duration() {
+    assertRoundTrip(Duration.ZERO, JsonWriter::value, JsonReader::readDuration);
+    assertRoundTrip(Duration.ofHours(26), JsonWriter::value, JsonReader::readDuration);
+    assertRoundTrip(Duration.ofMillis(93_784_005), JsonWriter::value, JsonReader::readDuration);
+    assertRoundTrip(Duration.ofSeconds(60, 1), JsonWriter::value, JsonReader::readDuration);
+    // negative durations fallback to toString()
+    assertRoundTrip(Duration.ofMillis(-1500), JsonWriter::value, JsonReader::readDuration);
+    assertThat(read("\"P2DT1H\"", JsonReader::readDuration)).isEqualTo(Duration.ofHours(49));
+  }
+
+  @Test
+  void invalid_sameAsJdkParse() {
+    assertThatThrownBy(() -> read("\"2023-02-29\"", JsonReader::readLocalDate))
+      .isInstanceOf(DateTimeParseException.class);
+    assertThatThrownBy(() -> read("\"2024-03-15T24:15:30Z\"", JsonReader::readInstant))
+      .isInstanceOf(DateTimeParseException.class);
+    assertThatThrownBy(() -> read("\"2024-03-15T10:15:30+19:00\"", JsonReader::readOffsetDateTime))
+      .isInstanceOf(DateTimeParseException.class);
+    assertThatThrownBy(() -> read("\"PT1S1H\"", JsonReader::readDuration))
+      .isInstanceOf(DateTimeParseException.class);
+  }
+
+  @Test
+  void streamSmallBuffer() {
+    String json = "[\"2024-03-15T10:15:30.123456Z\",\"2024-03-15T10:15:30.123456Z\",\"2024-03-15T10:15:30.123456Z\"]";
+    char[] ch = new char[4];
+    byte[] by = new byte[40];
+    JParser jr = new JParser(ch, by, by.length, JParser.DoublePrecision.DEFAULT, JParser.UnknownNumberParsing.BIGDECIMAL, 100, 50_000);
+    jr.process(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+    try (JsonReader reader = new JsonReadAdapter(jr, Recyclers.ThreadLocalPool.shared(), true, true)) {
+      reader.beginArray();
+      for (int i = 0; i < 3; i++) {
+        assertThat(reader.hasNextElement()).isTrue();
+        assertThat(reader.readInstant()).isEqualTo(Instant.parse("2024-03-15T10:15:30.123456Z"));
+      }
+      assertThat(reader.hasNextElement()).isFalse();
+      reader.endArray();
+    }
+  }
+
+  private <T> void assertRoundTrip(T value, BiConsumer<JsonWriter, T> write, Function<JsonReader, T> read) {
+    StringWriter sw = new StringWriter();
+    try (JsonWriter writer = stream.writer(sw)) {
+      write.accept(writer, value);
+    }
+    String json = sw.toString();
+    assertThat(json).isEqualTo("\"" + value + "\"");
+    assertThat(read(json, read)).isEqualTo(value);
+  }
+
+  private <T> T read(String json, Function<JsonReader, T> read) {
+    try (JsonReader reader = stream.reader(json)) {
+      reader.isNullValue();
+      return read.apply(reader);
+    }
+  }
+}
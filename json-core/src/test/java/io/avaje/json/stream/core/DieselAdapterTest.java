@@ -51,6 +51,14 @@ class DieselAdapterTest {
     assertThat(jw1.result()).isEqualTo("{\"one\":\"hi\"}");
   }
 
+  @Test
+  void bufferedWriter_sizeInBytes() {
+    BufferedJsonWriter writer = adapter.bufferedWriter();
+    writeHello(writer, "h\u00e9llo\u20ac");
+    assertThat(writer.size()).isEqualTo(19);
+    assertThat(writer.result()).hasSize(16);
+  }
+
   @Test
   void write_to_writer() {
     StringWriter sw = new StringWriter();
@@ -2,6 +2,8 @@ package io.avaje.json.stream.core;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class JsonNamesTest {
@@ -34,4 +36,41 @@ class JsonNamesTest {
     assertThat(statusCode).isEqualTo(key);
   }
 
+  @Test
+  void indexOf() {
+    JsonNames names = JsonNames.of("one", "two", "three");
+    assertThat(names.indexOf("one")).isEqualTo(0);
+    assertThat(names.indexOf("two")).isEqualTo(1);
+    assertThat(names.indexOf("three")).isEqualTo(2);
+    assertThat(names.indexOf("four")).isEqualTo(-1);
+  }
+
+  @Test
+  void indexOf_bytes() {
+    JsonNames names = JsonNames.of("one", "two", "three");
+    byte[] buffer = "xxthreexx".getBytes(StandardCharsets.UTF_8);
+    assertThat(names.indexOf(Escape.nameHash("three"), buffer, 2, 7)).isEqualTo(2);
+    assertThat(names.indexOf(Escape.nameHash("three"), buffer, 2, 6)).isEqualTo(-1);
+    assertThat(names.indexOf(Escape.nameHash("thr"), buffer, 2, 5)).isEqualTo(-1);
+  }
+
+  @Test
+  void indexOf_hashClash() {
+    assertThat(Escape.nameHash("glbvs")).isEqualTo(Escape.nameHash("yacxa"));
+    JsonNames names = JsonNames.of("glbvs", "yacxa", "other");
+    int hash = Escape.nameHash("glbvs");
+
+    assertThat(names.lookup(hash)).isNull();
+    assertThat(names.indexOf(hash, "glbvs".getBytes(StandardCharsets.UTF_8), 0, 5)).isEqualTo(0);
+    assertThat(names.indexOf(hash, "yacxa".getBytes(StandardCharsets.UTF_8), 0, 5)).isEqualTo(1);
+    assertThat(names.indexOf(hash, "yacxa".toCharArray(), 5)).isEqualTo(1);
+  }
+
+  @Test
+  void indexOf_unknownWithSameHash() {
+    JsonNames names = JsonNames.of("glbvs", "other");
+    int hash = Escape.nameHash("yacxa");
+    assertThat(names.indexOf(hash, "yacxa".getBytes(StandardCharsets.UTF_8), 0, 5)).isEqualTo(-1);
+    assertThat(names.indexOf(hash, "yacxa".toCharArray(), 5)).isEqualTo(-1);
+  }
 }
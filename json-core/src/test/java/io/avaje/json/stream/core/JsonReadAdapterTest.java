@@ -2,11 +2,13 @@ package io.avaje.json.stream.core;
 
 import io.avaje.json.JsonDataException;
 import io.avaje.json.JsonReader;
+import io.avaje.json.PropertyNames;
 import io.avaje.json.stream.JsonStream;
 import io.avaje.json.stream.core.Recyclers.ThreadLocalPool;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.StringReader;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
@@ -67,6 +69,133 @@ class JsonReadAdapterTest {
     assertEquals("fooFooFoo", reader.readString());
   }
 
+  @Test
+  void nextFieldIndex() {
+    JsonStream adapter = JsonStream.builder().build();
+    var names = adapter.properties("name", "age", "notes");
+    try (JsonReader reader = adapter.reader(jsonStringInput)) {
+      readIndexWithAsserts(reader, names);
+    }
+  }
+
+  @Test
+  void nextFieldIndex_streamSmallBuffer() {
+    // minimal buffer such that field names span stream reads
+    char[] ch = new char[4];
+    byte[] by = new byte[40];
+    JParser jr = new JParser(ch, by, by.length, JParser.DoublePrecision.DEFAULT, JParser.UnknownNumberParsing.BIGDECIMAL, 100, 50_000);
+    jr.process(new ByteArrayInputStream(jsonStringInput.getBytes(StandardCharsets.UTF_8)));
+
+    JsonReadAdapter reader = new JsonReadAdapter(jr, ThreadLocalPool.shared(), true, true);
+    readIndexWithAsserts(reader, JsonNames.of("name", "age", "notes"));
+    reader.close();
+  }
+
+  @Test
+  void nextFieldIndex_unknown() {
+    JsonStream adapter = JsonStream.builder().build();
+    var names = adapter.properties("name", "notes");
+    try (JsonReader reader = adapter.reader(jsonStringInput)) {
+      reader.beginObject(names);
+      assertTrue(reader.hasNextField());
+      assertEquals(0, reader.nextFieldIndex(names));
+      assertEquals("roberto", reader.readString());
+      assertTrue(reader.hasNextField());
+      assertEquals(-1, reader.nextFieldIndex(names));
+      assertEquals("age", reader.lastFieldName());
+      reader.skipValue();
+      assertTrue(reader.hasNextField());
+      assertEquals(1, reader.nextFieldIndex(names));
+      assertEquals("notes", reader.lastFieldName());
+      assertEquals("fooFooFoo", reader.readString());
+      assertFalse(reader.hasNextField());
+      reader.endObject();
+    }
+  }
+
+  @Test
+  void readStringIndex() {
+    JsonStream adapter = JsonStream.builder().build();
+    var names = adapter.properties("RED", "GREEN", "a\"b");
+    try (JsonReader reader = adapter.reader("[\"GREEN\",\"RED\",\"BLUE\",\"a\\\"b\"]")) {
+      reader.beginArray();
+      assertTrue(reader.hasNextElement());
+      assertEquals(1, reader.readStringIndex(names));
+      assertTrue(reader.hasNextElement());
+      assertEquals(0, reader.readStringIndex(names));
+      assertTrue(reader.hasNextElement());
+      assertEquals(-1, reader.readStringIndex(names));
+      assertTrue(reader.hasNextElement());
+      assertEquals(2, reader.readStringIndex(names));
+      assertFalse(reader.hasNextElement());
+      reader.endArray();
+    }
+  }
+
+  @Test
+  void readStringIndex_unicodeEscape() {
+    JsonStream adapter = JsonStream.builder().build();
+    var names = adapter.properties("RED", "GREEN");
+    try (JsonReader reader = adapter.reader("[\"\\u0052ED\",\"GR\\u0045EN\",\"\\u0042LUE\"]")) {
+      reader.beginArray();
+      assertTrue(reader.hasNextElement());
+      assertEquals(0, reader.readStringIndex(names));
+      assertTrue(reader.hasNextElement());
+      assertEquals(1, reader.readStringIndex(names));
+      assertTrue(reader.hasNextElement());
+      assertEquals(-1, reader.readStringIndex(names));
+      assertFalse(reader.hasNextElement());
+      reader.endArray();
+    }
+  }
+
+  @Test
+  void readStringIndex_streamSmallBuffer() {
+    char[] ch = new char[4];
+    byte[] by = new byte[40];
+    JParser jr = new JParser(ch, by, by.length, JParser.DoublePrecision.DEFAULT, JParser.UnknownNumberParsing.BIGDECIMAL, 100, 50_000);
+    String json = "[\"GREEN\",\"RED\",\"GREEN\",\"RED\",\"GREEN\",\"RED\",\"GREEN\",\"RED\"]";
+    jr.process(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+    JsonReadAdapter reader = new JsonReadAdapter(jr, ThreadLocalPool.shared(), true, true);
+    PropertyNames names = JsonNames.of("RED", "GREEN");
+    reader.beginArray();
+    for (int i = 0; i < 4; i++) {
+      assertTrue(reader.hasNextElement());
+      assertEquals(1, reader.readStringIndex(names));
+      assertTrue(reader.hasNextElement());
+      assertEquals(0, reader.readStringIndex(names));
+    }
+    assertFalse(reader.hasNextElement());
+    reader.endArray();
+    reader.close();
+  }
+
+  @Test
+  void readStringIndex_notString() {
+    JsonStream adapter = JsonStream.builder().build();
+    var names = adapter.properties("RED");
+    try (JsonReader reader = adapter.reader("42")) {
+      assertThrows(JsonDataException.class, () -> reader.readStringIndex(names));
+    }
+  }
+
+  private void readIndexWithAsserts(JsonReader reader, PropertyNames names) {
+    reader.beginObject(names);
+    assertTrue(reader.hasNextField());
+    assertEquals(0, reader.nextFieldIndex(names));
+    assertEquals("name", reader.lastFieldName());
+    assertEquals("roberto", reader.readString());
+    assertTrue(reader.hasNextField());
+    assertEquals(1, reader.nextFieldIndex(names));
+    assertEquals(42, reader.readInt());
+    assertTrue(reader.hasNextField());
+    assertEquals(2, reader.nextFieldIndex(names));
+    assertEquals("fooFooFoo", reader.readString());
+    assertFalse(reader.hasNextField());
+    reader.endObject();
+  }
+
   @Test
   void isNullValue_topLevel_null() {
     JsonStream adapter = JsonStream.builder().build();
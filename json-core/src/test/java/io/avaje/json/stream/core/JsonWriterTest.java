@@ -145,6 +145,25 @@ class JsonWriterTest {
     assertThat(asJson).isEqualTo("[{\"one\":\"hello\",\"size\":43},{\"one\":\"another\",\"active\":true,\"flags\":[42,43]}]");
   }
 
+  @Test
+  void value_usingNames() {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    JGenerator dJsonWriter = new JGenerator();
+    dJsonWriter.prepare(JsonOutput.of(os));
+
+    JsonWriteAdapter fw = new JsonWriteAdapter(dJsonWriter, HybridBufferRecycler.shared(), true, true);
+    JsonNames names = JsonNames.of("RED", "GREEN", "a\"b");
+
+    fw.beginArray();
+    fw.value(names, 1);
+    fw.value(names, 0);
+    fw.value(names, 2);
+    fw.endArray();
+    fw.close();
+
+    assertThat(os.toString()).isEqualTo("[\"GREEN\",\"RED\",\"a\\\"b\"]");
+  }
+
   @Test
   void largeString() {
     ByteArrayOutputStream os = new ByteArrayOutputStream();
@@ -220,6 +239,29 @@ class JsonWriterTest {
       .isEqualTo(100);
   }
 
+  @Test
+  void rawValueBytes_large() {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    JGenerator dJsonWriter = new JGenerator(100);
+    dJsonWriter.prepare(JsonOutput.ofStream(os));
+
+    JsonWriteAdapter fw = new JsonWriteAdapter(dJsonWriter, HybridBufferRecycler.shared(), true, true);
+
+    String largeValue = '"' + "_1234567890123456789".repeat(21) + '"';
+    byte[] content = ("[" + largeValue + "]").getBytes(StandardCharsets.UTF_8);
+
+    fw.beginObject();
+    fw.name("key");
+    fw.rawValue(content, 1, content.length - 2);
+    fw.endObject();
+    fw.close();
+
+    assertThat(os.toString(StandardCharsets.UTF_8)).isEqualTo("{\"key\":" + largeValue + "}");
+    assertThat(dJsonWriter.ensureCapacity(0).length)
+      .describedAs("internal buffer should not grow")
+      .isEqualTo(100);
+  }
+
   @Test
   void rawValue() {
     JsonStream build = CoreJsonStream.builder().serializeNulls(true).build();
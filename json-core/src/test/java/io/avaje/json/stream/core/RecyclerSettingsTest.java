@@ -17,6 +17,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
  *   <li>JSONB_PARSER_CHAR_BUFFER_SIZE</li>
  *   <li>JSONB_PARSER_MAX_NUMBER_DIGITS</li>
  *   <li>JSONB_PARSER_MAX_STRING_BUFFER</li>
+ *   <li>JSONB_MAX_RETAINED_BUFFER_SIZE</li>
+ *   <li>JSONB_POOL_MAX_PER_STRIPE</li>
+ *   <li>JSONB_BUFFER_STATS</li>
  * </ul>
  */
 class RecyclerSettingsTest {
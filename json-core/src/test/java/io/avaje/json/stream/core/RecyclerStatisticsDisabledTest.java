@@ -0,0 +1,30 @@
+package io.avaje.json.stream.core;
+
+import io.avaje.json.JsonWriter;
+import io.avaje.json.stream.BufferStats;
+import io.avaje.json.stream.JsonStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs with the default configuration where {@code jsonb.bufferStats} is not set.
+ */
+class RecyclerStatisticsDisabledTest {
+
+  @Test
+  void disabled_notCounted() {
+    assertThat(JsonStream.bufferStats().enabled()).isFalse();
+
+    JsonStream stream = JsonStream.builder().build();
+    try (JsonWriter writer = stream.writer(new ByteArrayOutputStream())) {
+      writer.value("x".repeat(10_000));
+    }
+    BufferStats stats = JsonStream.bufferStats();
+    assertThat(stats.generatorAcquired()).isZero();
+    assertThat(stats.generatorCreated()).isZero();
+    assertThat(stats.generatorGrowth()).isZero();
+  }
+}
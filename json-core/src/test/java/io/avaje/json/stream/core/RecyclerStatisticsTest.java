@@ -0,0 +1,77 @@
+package io.avaje.json.stream.core;
+
+import io.avaje.json.JsonReader;
+import io.avaje.json.JsonWriter;
+import io.avaje.json.stream.BufferRecycleStrategy;
+import io.avaje.json.stream.BufferStats;
+import io.avaje.json.stream.JsonOutput;
+import io.avaje.json.stream.JsonStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Expects {@code jsonb.bufferStats=true} as set via the separate buffer-stats-test surefire execution.
+ */
+class RecyclerStatisticsTest {
+
+  @Test
+  void enabled() {
+    assertThat(JsonStream.bufferStats().enabled()).isTrue();
+  }
+
+  @Test
+  void nonRecycling_countsCreated() {
+    JsonStream stream = JsonStream.builder().bufferRecycling(BufferRecycleStrategy.NO_RECYCLING).build();
+    BufferStats before = JsonStream.bufferStats();
+    try (JsonWriter writer = stream.writer(new ByteArrayOutputStream())) {
+      writer.value("a");
+    }
+    try (JsonReader reader = stream.reader("[42]")) {
+      reader.beginArray();
+      assertThat(reader.hasNextElement()).isTrue();
+      assertThat(reader.readInt()).isEqualTo(42);
+      reader.endArray();
+    }
+    BufferStats after = JsonStream.bufferStats();
+    assertThat(after.generatorAcquired() - before.generatorAcquired()).isGreaterThanOrEqualTo(1);
+    assertThat(after.generatorCreated() - before.generatorCreated()).isGreaterThanOrEqualTo(1);
+    assertThat(after.parserAcquired() - before.parserAcquired()).isGreaterThanOrEqualTo(1);
+    assertThat(after.parserCreated() - before.parserCreated()).isGreaterThanOrEqualTo(1);
+  }
+
+  @Test
+  void generatorGrowthAndFlush() {
+    BufferStats before = JsonStream.bufferStats();
+    JGenerator generator = new JGenerator(64);
+    generator.write("x".repeat(1000));
+    assertThat(JsonStream.bufferStats().generatorGrowth()).isGreaterThan(before.generatorGrowth());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    JGenerator target = new JGenerator(64);
+    target.prepare(JsonOutput.of(out));
+    for (int i = 0; i < 100; i++) {
+      target.write(i);
+    }
+    assertThat(JsonStream.bufferStats().generatorFlushes()).isGreaterThan(before.generatorFlushes());
+  }
+
+  @Test
+  void parserCharGrowthAndTrim() {
+    BufferStats before = JsonStream.bufferStats();
+    JParser parser = Recyclers.createParser();
+    byte[] json = ("\"" + "x".repeat(20_000) + "\"").getBytes(StandardCharsets.UTF_8);
+    parser.process(json, json.length);
+    parser.nextToken();
+    parser.readString();
+    parser.trimBuffers(8192);
+
+    BufferStats after = JsonStream.bufferStats();
+    assertThat(after.parserCharGrowth()).isGreaterThan(before.parserCharGrowth());
+    assertThat(after.buffersTrimmed()).isGreaterThan(before.buffersTrimmed());
+    assertThat(after.toString()).contains("parserCharGrowth=");
+  }
+}
@@ -0,0 +1,75 @@
+package io.avaje.json.stream.core;
+
+import io.avaje.json.stream.core.HybridBufferRecycler.StripedLockFreePool;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecyclerTrimTest {
+
+  @Test
+  void generator_trimBuffers() {
+    JGenerator generator = new JGenerator(64);
+    generator.write("x".repeat(10_000));
+    assertThat(generator.ensureCapacity(0).length).isGreaterThan(10_000);
+
+    generator.trimBuffers(20_000);
+    assertThat(generator.ensureCapacity(0).length).isGreaterThan(10_000);
+
+    generator.trimBuffers(1024);
+    generator.prepare(null);
+    assertThat(generator.ensureCapacity(0).length).isEqualTo(64);
+    generator.write("after");
+    assertThat(generator.toString()).isEqualTo("\"after\"");
+  }
+
+  @Test
+  void parser_trimBuffers() {
+    JParser parser = Recyclers.createParser();
+    byte[] json = ("\"" + "x".repeat(20_000) + "\"").getBytes(StandardCharsets.UTF_8);
+    parser.process(json, json.length);
+    parser.nextToken();
+    assertThat(parser.readString()).hasSize(20_000);
+    assertThat(parser.chars.length).isGreaterThan(20_000);
+
+    parser.trimBuffers(Recyclers.MAX_RETAINED_BUFFER_SIZE);
+    assertThat(parser.chars.length).isGreaterThan(20_000);
+    parser.trimBuffers(8192);
+    assertThat(parser.chars.length).isEqualTo(Recyclers.PARSER_CHAR_BUFFER_SIZE);
+
+    byte[] next = "\"after\"".getBytes(StandardCharsets.UTF_8);
+    parser.process(next, next.length);
+    parser.nextToken();
+    assertThat(parser.readString()).isEqualTo("after");
+  }
+
+  @Test
+  void lockFreePool_boundedPerStripe() throws InterruptedException {
+    Map<JsonGenerator, Boolean> reused = new IdentityHashMap<>();
+    Thread thread = new Thread(() -> {
+      BufferRecycler pool = StripedLockFreePool.shared();
+      List<JsonGenerator> generators = new ArrayList<>();
+      for (int i = 0; i < Recyclers.POOL_MAX_PER_STRIPE * 2; i++) {
+        generators.add(pool.generator());
+      }
+      generators.forEach(pool::recycle);
+
+      Map<JsonGenerator, Boolean> recycled = new IdentityHashMap<>();
+      generators.forEach(generator -> recycled.put(generator, true));
+      JsonGenerator generator;
+      while (recycled.containsKey(generator = pool.generator())) {
+        reused.put(generator, true);
+      }
+    });
+    thread.start();
+    thread.join();
+    assertThat(reused).isNotEmpty();
+    assertThat(reused.size()).isLessThanOrEqualTo(Recyclers.POOL_MAX_PER_STRIPE);
+  }
+}
@@ -1,5 +1,12 @@
 package io.avaje.json.node;
 
+import io.avaje.json.node.adapter.DoubleArrayList;
+import io.avaje.json.node.adapter.FrozenArrayList;
+import io.avaje.json.node.adapter.LazyArrayList;
+import io.avaje.json.node.adapter.LongArrayList;
+import io.avaje.json.node.adapter.SharedArrayList;
+import org.jspecify.annotations.Nullable;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -15,7 +22,7 @@ public final class JsonArray implements JsonNode {
 
   private static final long serialVersionUID = 1L;
 
-  private static final JsonArray EMPTY = new JsonArray(Collections.emptyList());
+  private static final JsonArray EMPTY = new JsonArray(new FrozenArrayList(Collections.emptyList()));
 
   private final List<JsonNode> children;
 
@@ -37,6 +44,10 @@ public final class JsonArray implements JsonNode {
    * Create an unmodifiable JsonArray with the given elements.
    */
   public static JsonArray of(List<JsonNode> children) {
+    if (isFrozen(children)) {
+      // already unmodifiable, keep it visible to the adapter for raw or primitive writing and copy sharing
+      return new JsonArray(children);
+    }
     return new JsonArray(Collections.unmodifiableList(children));
   }
 
@@ -44,17 +55,46 @@ public final class JsonArray implements JsonNode {
     this.children = requireNonNull(children);
   }
 
+  /**
+   * Return true if the elements and all the nested objects and arrays were built unmodifiable
+   * by the library (read by JsonNodeMapper or via unmodifiable()) such that copies can share them.
+   */
+  private static boolean isFrozen(List<JsonNode> children) {
+    return children instanceof FrozenArrayList
+      || children instanceof LazyArrayList
+      || children instanceof LongArrayList
+      || children instanceof DoubleArrayList;
+  }
+
+  /**
+   * Return the elements for reading without copying elements shared by a copy.
+   */
+  private List<JsonNode> current() {
+    return children instanceof SharedArrayList ? ((SharedArrayList) children).current() : children;
+  }
+
+  /**
+   * Return the unmodifiable elements that a copy can share or null.
+   */
+  @Nullable
+  private List<JsonNode> shareable() {
+    if (children instanceof SharedArrayList) {
+      return ((SharedArrayList) children).base();
+    }
+    return isFrozen(children) ? children : null;
+  }
+
   @Override
   public boolean equals(Object object) {
     if (this == object) return true;
     if (!(object instanceof JsonArray)) return false;
     JsonArray jsonArray = (JsonArray) object;
-    return Objects.equals(children, jsonArray.children);
+    return Objects.equals(current(), jsonArray.current());
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(children);
+    return Objects.hashCode(current());
   }
 
   @Override
@@ -64,17 +104,37 @@ public final class JsonArray implements JsonNode {
 
   @Override
   public JsonArray unmodifiable() {
-    final var newList = new ArrayList<JsonNode>(children.size());
-    for (JsonNode child : children) {
+    if (isFrozen(children)) {
+      return this;
+    }
+    final var shared = shareable();
+    if (shared != null) {
+      return new JsonArray(shared);
+    }
+    final var elements = current();
+    final var newList = new ArrayList<JsonNode>(elements.size());
+    for (JsonNode child : elements) {
       newList.add(child.unmodifiable());
     }
-    return of(newList);
+    return new JsonArray(new FrozenArrayList(newList));
   }
 
+  /**
+   * Return a mutable deep copy of the JsonArray.
+   * <p>
+   * When this array is read by JsonNodeMapper or is the result of {@link #unmodifiable()} the copy is
+   * made in constant time. The copy shares the elements until it is modified, and then
+   * only copies the objects and arrays on the path to the modification.
+   */
   @Override
   public JsonArray copy() {
-    final var newList = new ArrayList<JsonNode>(children.size());
-    for (JsonNode child : children) {
+    final var shared = shareable();
+    if (shared != null) {
+      return new JsonArray(new SharedArrayList(shared));
+    }
+    final var elements = current();
+    final var newList = new ArrayList<JsonNode>(elements.size());
+    for (JsonNode child : elements) {
       newList.add(child.copy());
     }
     return new JsonArray(newList);
@@ -82,8 +142,9 @@ public final class JsonArray implements JsonNode {
 
   @Override
   public List<Object> toPlain() {
-    final var newList = new ArrayList<>(children.size());
-    for (JsonNode child : children) {
+    final var elements = current();
+    final var newList = new ArrayList<>(elements.size());
+    for (JsonNode child : elements) {
       newList.add(child.toPlain());
     }
     return newList;
@@ -96,7 +157,7 @@ public final class JsonArray implements JsonNode {
 
   @Override
   public String text() {
-    return children.toString();
+    return current().toString();
   }
 
   /**
@@ -120,6 +181,81 @@ public final class JsonArray implements JsonNode {
     return children;
   }
 
+  /**
+   * Return the element at the given index as a long.
+   * <p>
+   * Arrays of numbers read by the JsonNodeMapper are backed by a {@code long[]}
+   * or {@code double[]} and the value is returned without creating the element.
+   *
+   * @throws ClassCastException When the element is not a number
+   */
+  public long longAt(int index) {
+    final var elements = current();
+    if (elements instanceof LongArrayList) {
+      return ((LongArrayList) elements).longAt(index);
+    }
+    if (elements instanceof DoubleArrayList) {
+      return (long) ((DoubleArrayList) elements).doubleAt(index);
+    }
+    return ((JsonNumber) elements.get(index)).longValue();
+  }
+
+  /**
+   * Return the element at the given index as a double.
+   *
+   * @throws ClassCastException When the element is not a number
+   */
+  public double doubleAt(int index) {
+    final var elements = current();
+    if (elements instanceof DoubleArrayList) {
+      return ((DoubleArrayList) elements).doubleAt(index);
+    }
+    if (elements instanceof LongArrayList) {
+      return ((LongArrayList) elements).longAt(index);
+    }
+    return ((JsonNumber) elements.get(index)).doubleValue();
+  }
+
+  /**
+   * Return the elements as a new long array.
+   *
+   * @throws ClassCastException When an element is not a number
+   */
+  public long[] toLongArray() {
+    final var elements = current();
+    if (elements instanceof LongArrayList) {
+      return ((LongArrayList) elements).toLongArray();
+    }
+    if (elements instanceof DoubleArrayList) {
+      return ((DoubleArrayList) elements).toLongArray();
+    }
+    final long[] result = new long[elements.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = ((JsonNumber) elements.get(i)).longValue();
+    }
+    return result;
+  }
+
+  /**
+   * Return the elements as a new double array.
+   *
+   * @throws ClassCastException When an element is not a number
+   */
+  public double[] toDoubleArray() {
+    final var elements = current();
+    if (elements instanceof DoubleArrayList) {
+      return ((DoubleArrayList) elements).toDoubleArray();
+    }
+    if (elements instanceof LongArrayList) {
+      return ((LongArrayList) elements).toDoubleArray();
+    }
+    final double[] result = new double[elements.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = ((JsonNumber) elements.get(i)).doubleValue();
+    }
+    return result;
+  }
+
   /**
    * Return the stream of child elements.
    */
@@ -1,8 +1,10 @@
 package io.avaje.json.node;
 
+import io.avaje.json.mapper.JsonPath;
 import org.jspecify.annotations.Nullable;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -99,6 +101,37 @@ public /*sealed*/ interface JsonNode extends Serializable
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * Find a node given a compiled path that can include array indexes.
+   *
+   * <pre>{@code
+   *
+   *   static final JsonPath PRODUCT = JsonPath.compile("orders[2].lines[0].product");
+   *
+   *   JsonNode product = node.find(PRODUCT);
+   *
+   * }</pre>
+   *
+   * @param path The compiled path
+   * @return The found node or null
+   */
+  @Nullable
+  default JsonNode find(JsonPath path) {
+    JsonNode node = this;
+    for (int i = 0, size = path.size(); i < size && node != null; i++) {
+      if (path.isIndex(i)) {
+        if (!(node instanceof JsonArray)) {
+          return null;
+        }
+        final List<JsonNode> elements = ((JsonArray) node).elements();
+        node = path.index(i) < elements.size() ? elements.get(path.index(i)) : null;
+      } else {
+        node = node instanceof JsonObject ? ((JsonObject) node).elements().get(path.name(i)) : null;
+      }
+    }
+    return node;
+  }
+
   /**
    * Extract the text from the node at the given path.
    *
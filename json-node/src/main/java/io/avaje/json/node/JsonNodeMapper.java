@@ -6,6 +6,7 @@ import io.avaje.json.JsonWriter;
 import io.avaje.json.PropertyNames;
 import io.avaje.json.node.adapter.NodeAdapterBuilder;
 import io.avaje.json.mapper.JsonMapper;
+import io.avaje.json.mapper.JsonProjection;
 import io.avaje.json.stream.JsonStream;
 
 import java.io.InputStream;
@@ -174,6 +175,30 @@ public interface JsonNodeMapper {
    */
   <T extends JsonNode> T fromJson(Class<T> type, String json);
 
+  /**
+   * Return a projection that reads the nodes of the given paths in a single pass.
+   * <p>
+   * Rather than reading the full content into a JsonNode tree and then extracting the
+   * values, the projection only reads the nodes at the paths and skips the rest of the
+   * content. Reading stops as soon as all the paths have been found.
+   *
+   * <pre>{@code
+   *
+   * static final JsonProjection<JsonNode> PROJECTION = mapper.projection("id", "customer.name", "orders[0].total");
+   *
+   * Object[] nodes = PROJECTION.read(json);
+   *
+   * // or as a small JsonObject keyed by path
+   * try (JsonReader reader = jsonStream.reader(json)) {
+   *   JsonObject values = JsonObject.of(PROJECTION.readMap(reader));
+   * }
+   *
+   * }</pre>
+   *
+   * @param paths The paths using dot notation with {@code [n]} for array elements
+   */
+  JsonProjection<JsonNode> projection(String... paths);
+
   /**
    * Return the JsonAdapter for the given JsonNode type.
    *
@@ -240,6 +265,25 @@ public interface JsonNodeMapper {
      */
     Builder numberAdapter(JsonAdapter<JsonNumber> numberAdapter);
 
+    /**
+     * Set to true to read json content lazily.
+     * <p>
+     * In lazy mode the content is scanned once into a compact structural index
+     * (a tape of token offsets over the original bytes) and the JsonObject, JsonArray
+     * and value nodes are only materialised when they are accessed. This suits reading
+     * a few values from large documents via {@link JsonNode#find(String)} or
+     * {@link JsonNode#extract(String)}.
+     * <p>
+     * The structure is validated when reading but the values (numbers and strings) are
+     * only decoded when accessed. Lazy JsonObject and JsonArray are unmodifiable, use
+     * {@link JsonNode#copy()} to get a mutable copy. When written back to json, objects
+     * and arrays that contain no whitespace are copied from the original bytes as is.
+     * <p>
+     * When reading from {@code byte[]} content the array is retained by the nodes and
+     * must not be modified afterwards.
+     */
+    Builder lazy(boolean lazy);
+
     /**
      * Build and return the JsonNodeMapper.
      */
@@ -1,9 +1,11 @@
 package io.avaje.json.node;
 
+import io.avaje.json.node.adapter.FrozenObjectMap;
+import io.avaje.json.node.adapter.LazyObjectMap;
+import io.avaje.json.node.adapter.SharedObjectMap;
 import org.jspecify.annotations.Nullable;
 
 import java.util.*;
-import java.util.regex.Pattern;
 
 import static java.util.Objects.requireNonNull;
 
@@ -13,8 +15,7 @@ import static java.util.Objects.requireNonNull;
 public final class JsonObject implements JsonNode {
 
   private static final long serialVersionUID = 1L;
-  private static final JsonObject EMPTY = new JsonObject(Collections.emptyMap());
-  private static final Pattern PATH_PATTERN = Pattern.compile("\\.");
+  private static final JsonObject EMPTY = new JsonObject(new FrozenObjectMap(Collections.emptyMap()));
 
   private final Map<String, JsonNode> children;
 
@@ -36,6 +37,10 @@ public final class JsonObject implements JsonNode {
    * Create a unmodifiable JsonObject with the given elements.
    */
   public static JsonObject of(Map<String, JsonNode> elements) {
+    if (elements instanceof LazyObjectMap || elements instanceof FrozenObjectMap) {
+      // already unmodifiable, keep it visible to the adapter for raw writing and copy sharing
+      return new JsonObject(elements);
+    }
     return new JsonObject(Collections.unmodifiableMap(elements));
   }
 
@@ -43,17 +48,43 @@ public final class JsonObject implements JsonNode {
     this.children = requireNonNull(children);
   }
 
+  /**
+   * Return true if this object and all the nested objects and arrays were built unmodifiable
+   * by the library (read by JsonNodeMapper or via unmodifiable()) such that copies can share them.
+   */
+  private boolean isFrozen() {
+    return children instanceof FrozenObjectMap || children instanceof LazyObjectMap;
+  }
+
+  /**
+   * Return the elements for reading without copying elements shared by a copy.
+   */
+  private Map<String, JsonNode> current() {
+    return children instanceof SharedObjectMap ? ((SharedObjectMap) children).current() : children;
+  }
+
+  /**
+   * Return the unmodifiable elements that a copy can share or null.
+   */
+  @Nullable
+  private Map<String, JsonNode> shareable() {
+    if (children instanceof SharedObjectMap) {
+      return ((SharedObjectMap) children).base();
+    }
+    return isFrozen() ? children : null;
+  }
+
   @Override
   public boolean equals(Object object) {
     if (this == object) return true;
     if (!(object instanceof JsonObject)) return false;
     JsonObject that = (JsonObject) object;
-    return Objects.equals(children, that.children);
+    return Objects.equals(current(), that.current());
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(children);
+    return Objects.hashCode(current());
   }
 
   @Override
@@ -68,22 +99,40 @@ public final class JsonObject implements JsonNode {
 
   @Override
   public String text() {
-    return children.toString();
+    return current().toString();
   }
 
   @Override
   public JsonObject unmodifiable() {
+    if (isFrozen()) {
+      return this;
+    }
+    final var shared = shareable();
+    if (shared != null) {
+      return new JsonObject(shared);
+    }
     final var mapCopy = new LinkedHashMap<String, JsonNode>();
-    for (Map.Entry<String, JsonNode> entry : children.entrySet()) {
+    for (Map.Entry<String, JsonNode> entry : current().entrySet()) {
       mapCopy.put(entry.getKey(), entry.getValue().unmodifiable());
     }
-    return JsonObject.of(mapCopy);
+    return new JsonObject(new FrozenObjectMap(mapCopy));
   }
 
+  /**
+   * Return a mutable deep copy of the JsonObject.
+   * <p>
+   * When this object is read by JsonNodeMapper or is the result of {@link #unmodifiable()} the copy is
+   * made in constant time. The copy shares the elements until it is modified, and then
+   * only copies the objects and arrays on the path to the modification.
+   */
   @Override
   public JsonObject copy() {
+    final var shared = shareable();
+    if (shared != null) {
+      return new JsonObject(new SharedObjectMap(shared));
+    }
     final var mapCopy = new LinkedHashMap<String, JsonNode>();
-    for (Map.Entry<String, JsonNode> entry : children.entrySet()) {
+    for (Map.Entry<String, JsonNode> entry : current().entrySet()) {
       mapCopy.put(entry.getKey(), entry.getValue().copy());
     }
     return new JsonObject(mapCopy);
@@ -92,7 +141,7 @@ public final class JsonObject implements JsonNode {
   @Override
   public Map<String, Object> toPlain() {
     final var mapCopy = new LinkedHashMap<String, Object>();
-    for (Map.Entry<String, JsonNode> entry : children.entrySet()) {
+    for (Map.Entry<String, JsonNode> entry : current().entrySet()) {
       mapCopy.put(entry.getKey(), entry.getValue().toPlain());
     }
     return mapCopy;
@@ -196,14 +245,14 @@ public final class JsonObject implements JsonNode {
   @Nullable
   @Override
   public JsonNode find(String path) {
-    final String[] paths = PATH_PATTERN.split(path, 2);
-    final JsonNode child = children.get(paths[0]);
-    if (child == null || paths.length == 1) {
+    final int dot = path.indexOf('.');
+    final JsonNode child = children.get(dot < 0 ? path : path.substring(0, dot));
+    if (child == null || dot < 0) {
       return child;
     }
     if (child instanceof JsonObject) {
       JsonObject co = (JsonObject) child;
-      return co.find(paths[1]);
+      return co.find(path.substring(dot + 1));
     }
     return null;
   }
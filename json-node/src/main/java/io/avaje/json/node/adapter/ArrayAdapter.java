@@ -4,38 +4,152 @@ import io.avaje.json.JsonAdapter;
 import io.avaje.json.JsonReader;
 import io.avaje.json.JsonWriter;
 import io.avaje.json.node.JsonArray;
+import io.avaje.json.node.JsonLong;
 import io.avaje.json.node.JsonNode;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 final class ArrayAdapter implements JsonAdapter<JsonArray> {
 
+  /** Longs up to this magnitude convert to double exactly. */
+  private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
   private final JsonAdapter<JsonNode> elementAdapter;
+  private final boolean primitiveNumbers;
 
-  ArrayAdapter(JsonAdapter<JsonNode> elementAdapter) {
+  /**
+   * @param primitiveNumbers When true arrays of only numbers are backed by a long[] or double[]
+   */
+  ArrayAdapter(JsonAdapter<JsonNode> elementAdapter, boolean primitiveNumbers) {
     this.elementAdapter = elementAdapter;
+    this.primitiveNumbers = primitiveNumbers;
   }
 
   @Override
   public JsonArray fromJson(JsonReader reader) {
-    List<JsonNode> result = new ArrayList<>();
+    final List<JsonNode> result;
     reader.beginArray();
-    while (reader.hasNextElement()) {
-      result.add(elementAdapter.fromJson(reader));
+    if (!reader.hasNextElement()) {
+      result = new FrozenArrayList(new ArrayList<>());
+    } else if (primitiveNumbers && reader.currentToken() == JsonReader.Token.NUMBER) {
+      result = readNumbers(reader);
+    } else {
+      result = new FrozenArrayList(readElements(reader, new ArrayList<>(), elementAdapter.fromJson(reader)));
     }
     reader.endArray();
     return JsonArray.of(result);
   }
 
+  private List<JsonNode> readElements(JsonReader reader, List<JsonNode> result, JsonNode current) {
+    result.add(current);
+    while (reader.hasNextElement()) {
+      result.add(elementAdapter.fromJson(reader));
+    }
+    return result;
+  }
+
+  /**
+   * Read the numbers into a long[] while they are all integers, switching to a double[]
+   * on the first decimal. Falls back to a list of nodes when a non-number is read or
+   * the numbers can not be held exactly.
+   */
+  private List<JsonNode> readNumbers(JsonReader reader) {
+    long[] longs = new long[16];
+    double[] doubles = null;
+    int size = 0;
+    do {
+      if (reader.currentToken() != JsonReader.Token.NUMBER) {
+        return new FrozenArrayList(readElements(reader, nodes(longs, doubles, size), elementAdapter.fromJson(reader)));
+      }
+      final Number number = reader.readNumber();
+      if (doubles == null) {
+        final long value;
+        if (number instanceof Long) {
+          value = number.longValue();
+        } else {
+          final double d = number.doubleValue();
+          if (d % 1 != 0) {
+            doubles = toDoubles(longs, size);
+            if (doubles == null) {
+              return new FrozenArrayList(readElements(reader, nodes(longs, null, size), NumberAdapter.of(number)));
+            }
+            doubles[size++] = d;
+            continue;
+          }
+          value = (long) d;
+        }
+        if (size == longs.length) {
+          longs = Arrays.copyOf(longs, size << 1);
+        }
+        longs[size++] = value;
+      } else {
+        if (number instanceof Long && !exactDouble(number.longValue())) {
+          return new FrozenArrayList(readElements(reader, nodes(null, doubles, size), NumberAdapter.of(number)));
+        }
+        if (size == doubles.length) {
+          doubles = Arrays.copyOf(doubles, size << 1);
+        }
+        doubles[size++] = number.doubleValue();
+      }
+    } while (reader.hasNextElement());
+
+    return doubles == null
+      ? new LongArrayList(Arrays.copyOf(longs, size))
+      : new DoubleArrayList(Arrays.copyOf(doubles, size));
+  }
+
+  /**
+   * Return the longs as doubles with room for one more or null if they can not be held exactly.
+   */
+  private static double[] toDoubles(long[] longs, int size) {
+    final double[] doubles = new double[Math.max(longs.length, size + 1)];
+    for (int i = 0; i < size; i++) {
+      if (!exactDouble(longs[i])) {
+        return null;
+      }
+      doubles[i] = longs[i];
+    }
+    return doubles;
+  }
+
+  private static boolean exactDouble(long value) {
+    return value >= -MAX_EXACT_DOUBLE && value <= MAX_EXACT_DOUBLE;
+  }
+
+  private static List<JsonNode> nodes(long[] longs, double[] doubles, int size) {
+    final List<JsonNode> nodes = new ArrayList<>(size + 1);
+    for (int i = 0; i < size; i++) {
+      nodes.add(doubles == null ? JsonLong.of(longs[i]) : NumberAdapter.of(doubles[i]));
+    }
+    return nodes;
+  }
+
   @Override
   public void toJson(JsonWriter writer, JsonArray value) {
-    if (value.isEmpty()) {
+    var elements = value.elements();
+    if (elements instanceof SharedArrayList) {
+      // write the shared elements without copying them
+      elements = ((SharedArrayList) elements).current();
+    }
+    if (elements instanceof LazyArrayList && ((LazyArrayList) elements).writeRaw(writer)) {
+      return;
+    }
+    if (elements instanceof LongArrayList) {
+      ((LongArrayList) elements).writeTo(writer);
+      return;
+    }
+    if (elements instanceof DoubleArrayList) {
+      ((DoubleArrayList) elements).writeTo(writer);
+      return;
+    }
+    if (elements.isEmpty()) {
       writer.emptyArray();
       return;
     }
     writer.beginArray();
-    for (JsonNode element : value.elements()) {
+    for (JsonNode element : elements) {
       elementAdapter.toJson(writer, element);
     }
     writer.endArray();
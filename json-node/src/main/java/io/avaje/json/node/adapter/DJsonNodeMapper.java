@@ -6,9 +6,11 @@ import io.avaje.json.JsonWriter;
 import io.avaje.json.PropertyNames;
 import io.avaje.json.node.*;
 import io.avaje.json.mapper.JsonMapper;
+import io.avaje.json.mapper.JsonProjection;
 import io.avaje.json.stream.JsonStream;
 
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.function.Function;
 
 final class DJsonNodeMapper implements JsonNodeMapper {
@@ -26,11 +28,11 @@ final class DJsonNodeMapper implements JsonNodeMapper {
   private final JsonAdapter<JsonObject> objectAdapter;
   private final JsonAdapter<JsonArray> arrayAdapter;
 
-  DJsonNodeMapper(JsonStream jsonStream, NodeAdapter nodeAdapter, ObjectAdapter objectAdapter, ArrayAdapter arrayAdapter) {
+  DJsonNodeMapper(JsonStream jsonStream, JsonAdapter<JsonNode> nodeAdapter, JsonAdapter<JsonObject> objectAdapter, JsonAdapter<JsonArray> arrayAdapter) {
     this.jsonStream = jsonStream;
-    this.nodeAdapter = nodeAdapter.nullSafe();
-    this.objectAdapter = objectAdapter.nullSafe();
-    this.arrayAdapter = arrayAdapter.nullSafe();
+    this.nodeAdapter = nodeAdapter;
+    this.objectAdapter = objectAdapter;
+    this.arrayAdapter = arrayAdapter;
   }
 
   @Override
@@ -48,6 +50,11 @@ final class DJsonNodeMapper implements JsonNodeMapper {
     return type(adapterFunction.apply(this));
   }
 
+  @Override
+  public JsonProjection<JsonNode> projection(String... paths) {
+    return JsonProjection.of(jsonStream, nodeAdapter, paths);
+  }
+
   @Override
   public JsonMapper.Type<JsonNode> nodeMapper() {
     return new DMapper<>(nodeAdapter, jsonStream);
@@ -77,22 +84,26 @@ final class DJsonNodeMapper implements JsonNodeMapper {
 
   @Override
   public JsonNode fromJson(String json) {
-    try (JsonReader reader = jsonStream.reader(json)) {
-      return nodeAdapter.fromJson(reader);
-    }
+    return read(nodeAdapter, json);
   }
 
   @Override
   public JsonObject fromJsonObject(String json) {
-    try (JsonReader reader = jsonStream.reader(json)) {
-      return objectAdapter.fromJson(reader);
-    }
+    return read(objectAdapter, json);
   }
 
   @Override
   public JsonArray fromJsonArray(String json) {
+    return read(arrayAdapter, json);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T extends JsonNode> T read(JsonAdapter<T> adapter, String json) {
+    if (adapter instanceof LazyNodeAdapter) {
+      return ((LazyNodeAdapter<T>) adapter).fromJson(json.getBytes(StandardCharsets.UTF_8));
+    }
     try (JsonReader reader = jsonStream.reader(json)) {
-      return arrayAdapter.fromJson(reader);
+      return adapter.fromJson(reader);
     }
   }
 
@@ -113,10 +124,7 @@ final class DJsonNodeMapper implements JsonNodeMapper {
 
   @Override
   public <T extends JsonNode> T fromJson(Class<T> type, String json) {
-    JsonAdapter<T> adapter = adapter(type);
-    try (JsonReader reader = jsonStream.reader(json)) {
-      return adapter.fromJson(reader);
-    }
+    return read(adapter(type), json);
   }
 
   @SuppressWarnings("unchecked")
@@ -2,6 +2,7 @@ package io.avaje.json.node.adapter;
 
 import io.avaje.json.JsonAdapter;
 import io.avaje.json.JsonException;
+import io.avaje.json.JsonIoException;
 import io.avaje.json.JsonReader;
 import io.avaje.json.JsonWriter;
 import io.avaje.json.core.CoreTypes;
@@ -11,6 +12,7 @@ import io.avaje.json.stream.BytesJsonWriter;
 import io.avaje.json.stream.JsonStream;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -43,13 +45,20 @@ final class DMapper<T> implements JsonMapper.Type<T> {
 
   @Override
   public T fromJson(String content) {
+    if (adapter instanceof LazyNodeAdapter) {
+      return fromJson(content.getBytes(StandardCharsets.UTF_8));
+    }
     try (JsonReader reader = jsonStream.reader(content)) {
       return adapter.fromJson(reader);
     }
   }
 
+  @SuppressWarnings("unchecked")
   @Override
   public T fromJson(byte[] content) {
+    if (adapter instanceof LazyNodeAdapter) {
+      return (T) ((LazyNodeAdapter<?>) adapter).fromJson(content);
+    }
     try (JsonReader reader = jsonStream.reader(content)) {
       return adapter.fromJson(reader);
     }
@@ -57,6 +66,15 @@ final class DMapper<T> implements JsonMapper.Type<T> {
 
   @Override
   public T fromJson(Reader content) {
+    if (adapter instanceof LazyNodeAdapter) {
+      final var writer = new StringWriter();
+      try {
+        content.transferTo(writer);
+      } catch (IOException e) {
+        throw new JsonIoException(e);
+      }
+      return fromJson(writer.toString());
+    }
     try (JsonReader reader = jsonStream.reader(content)) {
       return adapter.fromJson(reader);
     }
@@ -64,6 +82,13 @@ final class DMapper<T> implements JsonMapper.Type<T> {
 
   @Override
   public T fromJson(InputStream content) {
+    if (adapter instanceof LazyNodeAdapter) {
+      try {
+        return fromJson(content.readAllBytes());
+      } catch (IOException e) {
+        throw new JsonIoException(e);
+      }
+    }
     try (JsonReader reader = jsonStream.reader(content)) {
       return adapter.fromJson(reader);
     }
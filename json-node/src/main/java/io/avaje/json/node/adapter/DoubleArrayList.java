@@ -0,0 +1,99 @@
+package io.avaje.json.node.adapter;
+
+import io.avaje.json.JsonWriter;
+import io.avaje.json.node.JsonDouble;
+import io.avaje.json.node.JsonLong;
+import io.avaje.json.node.JsonNode;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * The unmodifiable elements of a JsonArray of decimal numbers backed by a {@code double[]}.
+ * <p>
+ * The elements are created when accessed. Like the number adapter, whole values are
+ * JsonLong and other values are JsonDouble.
+ */
+public final class DoubleArrayList extends AbstractList<JsonNode> implements RandomAccess, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final double[] values;
+
+  DoubleArrayList(double[] values) {
+    this.values = values;
+  }
+
+  /**
+   * Return the value at the given index.
+   */
+  public double doubleAt(int index) {
+    return values[Objects.checkIndex(index, values.length)];
+  }
+
+  /**
+   * Return a copy of the values.
+   */
+  public double[] toDoubleArray() {
+    return values.clone();
+  }
+
+  /**
+   * Return the values converted to longs.
+   */
+  public long[] toLongArray() {
+    final long[] result = new long[values.length];
+    for (int i = 0; i < values.length; i++) {
+      result[i] = (long) values[i];
+    }
+    return result;
+  }
+
+  void writeTo(JsonWriter writer) {
+    writer.beginArray();
+    for (double value : values) {
+      if (value % 1 == 0) {
+        writer.value((long) value);
+      } else {
+        writer.value(value);
+      }
+    }
+    writer.endArray();
+  }
+
+  @Override
+  public JsonNode get(int index) {
+    final double value = doubleAt(index);
+    return value % 1 == 0 ? JsonLong.of((long) value) : JsonDouble.of(value);
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other instanceof DoubleArrayList) {
+      // json has no NaN, compare with == so that -0.0 equals 0.0 like the elements
+      final double[] otherValues = ((DoubleArrayList) other).values;
+      if (otherValues.length != values.length) {
+        return false;
+      }
+      for (int i = 0; i < values.length; i++) {
+        if (values[i] != otherValues[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return super.equals(other);
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+}
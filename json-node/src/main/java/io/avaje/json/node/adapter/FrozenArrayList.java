@@ -0,0 +1,53 @@
+package io.avaje.json.node.adapter;
+
+import io.avaje.json.node.JsonNode;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The unmodifiable elements of a JsonArray built by the library.
+ * <p>
+ * The elements are held by no one else and the nested objects and arrays are
+ * frozen in the same way, so copies of the JsonArray can share them.
+ */
+public final class FrozenArrayList extends AbstractList<JsonNode> implements RandomAccess, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final List<JsonNode> elements;
+
+  /**
+   * Create given elements that are not modified or held elsewhere and only contain frozen nodes.
+   */
+  public FrozenArrayList(List<JsonNode> elements) {
+    this.elements = elements;
+  }
+
+  @Override
+  public JsonNode get(int index) {
+    return elements.get(index);
+  }
+
+  @Override
+  public int size() {
+    return elements.size();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return elements.equals(other);
+  }
+
+  @Override
+  public int hashCode() {
+    return elements.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return elements.toString();
+  }
+}
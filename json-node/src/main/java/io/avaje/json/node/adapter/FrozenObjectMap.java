@@ -0,0 +1,69 @@
+package io.avaje.json.node.adapter;
+
+import io.avaje.json.node.JsonNode;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The unmodifiable elements of a JsonObject built by the library.
+ * <p>
+ * The elements are held by no one else and the nested objects and arrays are
+ * frozen in the same way, so copies of the JsonObject can share them.
+ */
+public final class FrozenObjectMap extends AbstractMap<String, JsonNode> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final Map<String, JsonNode> elements;
+
+  /**
+   * Create given elements that are not modified or held elsewhere and only contain frozen nodes.
+   */
+  public FrozenObjectMap(Map<String, JsonNode> elements) {
+    this.elements = Collections.unmodifiableMap(elements);
+  }
+
+  @Override
+  public JsonNode get(Object key) {
+    return elements.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return elements.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return elements.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return elements.isEmpty();
+  }
+
+  @Override
+  public Set<Entry<String, JsonNode>> entrySet() {
+    return elements.entrySet();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return elements.equals(other);
+  }
+
+  @Override
+  public int hashCode() {
+    return elements.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return elements.toString();
+  }
+}
@@ -0,0 +1,68 @@
+package io.avaje.json.node.adapter;
+
+import io.avaje.json.JsonWriter;
+import io.avaje.json.node.JsonNode;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The unmodifiable elements of a JsonArray read in lazy mode.
+ * <p>
+ * Elements are materialised from the tape when accessed.
+ */
+public final class LazyArrayList extends AbstractList<JsonNode> implements RandomAccess, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient NodeTape tape;
+  private final int index;
+  private final transient int[] positions;
+  private final transient AtomicReferenceArray<JsonNode> nodes;
+
+  LazyArrayList(NodeTape tape, int index) {
+    this.tape = tape;
+    this.index = index;
+    final int[] p = new int[tape.count(index)];
+    final int end = tape.next(index);
+    int i = 0;
+    for (int q = index + 2; q < end; q = tape.next(q)) {
+      p[i++] = q;
+    }
+    this.positions = p;
+    this.nodes = new AtomicReferenceArray<>(p.length);
+  }
+
+  /**
+   * Write the original json content returning false if it can not be copied as is.
+   */
+  boolean writeRaw(JsonWriter writer) {
+    return tape.writeRaw(index, writer);
+  }
+
+  @Override
+  public JsonNode get(int i) {
+    Objects.checkIndex(i, positions.length);
+    final JsonNode node = nodes.get(i);
+    if (node != null) {
+      return node;
+    }
+    // a json null element has no node to cache
+    final JsonNode created = tape.node(positions[i]);
+    return created == null || nodes.compareAndSet(i, null, created) ? created : nodes.get(i);
+  }
+
+  @Override
+  public int size() {
+    return positions.length;
+  }
+
+  private Object writeReplace() {
+    return Collections.unmodifiableList(new ArrayList<>(this));
+  }
+}
@@ -0,0 +1,58 @@
+package io.avaje.json.node.adapter;
+
+import io.avaje.json.JsonAdapter;
+import io.avaje.json.JsonDataException;
+import io.avaje.json.JsonReader;
+import io.avaje.json.JsonWriter;
+import io.avaje.json.node.JsonNode;
+import io.avaje.json.node.JsonNumber;
+import io.avaje.json.stream.JsonStream;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads json content into a NodeTape returning lazily materialised nodes.
+ */
+final class LazyNodeAdapter<T extends JsonNode> implements JsonAdapter<T> {
+
+  private final Class<T> type;
+  private final JsonAdapter<T> writeAdapter;
+  private final JsonAdapter<JsonNumber> numberAdapter;
+  private final JsonStream jsonStream;
+
+  LazyNodeAdapter(Class<T> type, JsonAdapter<T> writeAdapter, JsonAdapter<JsonNumber> numberAdapter, JsonStream jsonStream) {
+    this.type = type;
+    this.writeAdapter = writeAdapter.nullSafe();
+    this.numberAdapter = numberAdapter;
+    this.jsonStream = jsonStream;
+  }
+
+  @Override
+  public void toJson(JsonWriter writer, T value) {
+    writeAdapter.toJson(writer, value);
+  }
+
+  @Override
+  public T fromJson(JsonReader reader) {
+    if (reader.isNullValue()) {
+      return null;
+    }
+    return fromJson(reader.readRaw().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Read the json content retaining (not copying) the given bytes.
+   */
+  T fromJson(byte[] content) {
+    final JsonNode node = NodeTape.index(content, 0, content.length, numberAdapter, jsonStream).root();
+    if (node == null || type.isInstance(node)) {
+      return type.cast(node);
+    }
+    throw new JsonDataException("Expected " + type.getSimpleName() + " but was " + node.type());
+  }
+
+  @Override
+  public String toString() {
+    return "Lazy" + writeAdapter;
+  }
+}
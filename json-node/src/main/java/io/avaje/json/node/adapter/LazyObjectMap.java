@@ -0,0 +1,99 @@
+package io.avaje.json.node.adapter;
+
+import io.avaje.json.JsonDataException;
+import io.avaje.json.JsonWriter;
+import io.avaje.json.node.JsonNode;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The unmodifiable elements of a JsonObject read in lazy mode.
+ * <p>
+ * Values are materialised from the tape when accessed. Iterating the entries
+ * materialises all the values once.
+ */
+public final class LazyObjectMap extends AbstractMap<String, JsonNode> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient NodeTape tape;
+  private final int index;
+  private transient volatile Map<String, JsonNode> elements;
+  private int size = -1;
+
+  LazyObjectMap(NodeTape tape, int index) {
+    this.tape = tape;
+    this.index = index;
+  }
+
+  /**
+   * Write the original json content returning false if it can not be copied as is.
+   */
+  boolean writeRaw(JsonWriter writer) {
+    return tape.writeRaw(index, writer);
+  }
+
+  @Override
+  public JsonNode get(Object key) {
+    if (elements != null) {
+      return elements.get(key);
+    }
+    if (!(key instanceof String)) {
+      return null;
+    }
+    final int p = tape.member(index, (String) key);
+    return p < 0 ? null : tape.node(p);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    if (elements != null) {
+      return elements.containsKey(key);
+    }
+    return key instanceof String && tape.member(index, (String) key) >= 0;
+  }
+
+  @Override
+  public int size() {
+    if (size < 0) {
+      size = tape.count(index);
+    }
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public Set<Entry<String, JsonNode>> entrySet() {
+    return elements().entrySet();
+  }
+
+  private Map<String, JsonNode> elements() {
+    if (elements == null) {
+      final var map = new LinkedHashMap<String, JsonNode>();
+      final int end = tape.next(index);
+      for (int q = index + 2; q < end; q = tape.next(q + 2)) {
+        final String name = tape.string(q);
+        final JsonNode value = tape.node(q + 2);
+        final JsonNode replaced = map.put(name, value);
+        if (replaced != null) {
+          throw new JsonDataException(String.format("Map key '%s' has multiple values : %s and %s", name, replaced, value));
+        }
+      }
+      elements = Collections.unmodifiableMap(map);
+    }
+    return elements;
+  }
+
+  private Object writeReplace() {
+    return Collections.unmodifiableMap(new LinkedHashMap<>(elements()));
+  }
+}
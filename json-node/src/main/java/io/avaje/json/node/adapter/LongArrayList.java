@@ -0,0 +1,83 @@
+package io.avaje.json.node.adapter;
+
+import io.avaje.json.JsonWriter;
+import io.avaje.json.node.JsonLong;
+import io.avaje.json.node.JsonNode;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * The unmodifiable elements of a JsonArray of integer numbers backed by a {@code long[]}.
+ * <p>
+ * The JsonLong elements are created when accessed.
+ */
+public final class LongArrayList extends AbstractList<JsonNode> implements RandomAccess, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final long[] values;
+
+  LongArrayList(long[] values) {
+    this.values = values;
+  }
+
+  /**
+   * Return the value at the given index.
+   */
+  public long longAt(int index) {
+    return values[Objects.checkIndex(index, values.length)];
+  }
+
+  /**
+   * Return a copy of the values.
+   */
+  public long[] toLongArray() {
+    return values.clone();
+  }
+
+  /**
+   * Return the values converted to doubles.
+   */
+  public double[] toDoubleArray() {
+    final double[] result = new double[values.length];
+    for (int i = 0; i < values.length; i++) {
+      result[i] = values[i];
+    }
+    return result;
+  }
+
+  void writeTo(JsonWriter writer) {
+    writer.beginArray();
+    for (long value : values) {
+      writer.value(value);
+    }
+    writer.endArray();
+  }
+
+  @Override
+  public JsonNode get(int index) {
+    return JsonLong.of(longAt(index));
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other instanceof LongArrayList) {
+      return Arrays.equals(values, ((LongArrayList) other).values);
+    }
+    return super.equals(other);
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+}
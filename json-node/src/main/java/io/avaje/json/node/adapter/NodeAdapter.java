@@ -17,7 +17,7 @@ final class NodeAdapter implements JsonAdapter<JsonNode>  {
     this.booleanAdapter = DJsonNodeMapper.BOOLEAN_ADAPTER;
     this.stringAdapter = DJsonNodeMapper.STRING_ADAPTER;
     this.numberAdapter = numberAdapter;
-    this.arrayAdapter = new ArrayAdapter(this);
+    this.arrayAdapter = new ArrayAdapter(this, numberAdapter == DJsonNodeMapper.NUMBER_ADAPTER);
     this.objectAdapter = new ObjectAdapter(this);
   }
 
@@ -1,8 +1,11 @@
 package io.avaje.json.node.adapter;
 
 import io.avaje.json.JsonAdapter;
+import io.avaje.json.node.JsonArray;
+import io.avaje.json.node.JsonNode;
 import io.avaje.json.node.JsonNodeMapper;
 import io.avaje.json.node.JsonNumber;
+import io.avaje.json.node.JsonObject;
 import io.avaje.json.stream.JsonStream;
 
 /**
@@ -12,6 +15,7 @@ public final class NodeAdapterBuilder implements JsonNodeMapper.Builder {
 
   private JsonStream jsonStream;
   private JsonAdapter<JsonNumber> numberAdapter;
+  private boolean lazy;
 
   @Override
   public JsonNodeMapper.Builder jsonStream(JsonStream jsonStream) {
@@ -25,6 +29,12 @@ public final class NodeAdapterBuilder implements JsonNodeMapper.Builder {
     return this;
   }
 
+  @Override
+  public JsonNodeMapper.Builder lazy(boolean lazy) {
+    this.lazy = lazy;
+    return this;
+  }
+
   @Override
   public JsonNodeMapper build() {
     final var stream = jsonStream != null ? jsonStream : JsonStream.builder().build();
@@ -33,6 +43,12 @@ public final class NodeAdapterBuilder implements JsonNodeMapper.Builder {
     final var objectAdapter = nodeAdapter.objectAdapter();
     final var arrayAdapter = nodeAdapter.arrayAdapter();
 
-    return new DJsonNodeMapper(stream, nodeAdapter, objectAdapter, arrayAdapter);
+    if (lazy) {
+      return new DJsonNodeMapper(stream,
+        new LazyNodeAdapter<>(JsonNode.class, nodeAdapter, number, stream),
+        new LazyNodeAdapter<>(JsonObject.class, objectAdapter, number, stream),
+        new LazyNodeAdapter<>(JsonArray.class, arrayAdapter, number, stream));
+    }
+    return new DJsonNodeMapper(stream, nodeAdapter.nullSafe(), objectAdapter.nullSafe(), arrayAdapter.nullSafe());
   }
 }
@@ -0,0 +1,520 @@
+package io.avaje.json.node.adapter;
+
+import io.avaje.json.JsonAdapter;
+import io.avaje.json.JsonDataException;
+import io.avaje.json.JsonReader;
+import io.avaje.json.JsonWriter;
+import io.avaje.json.node.*;
+import io.avaje.json.stream.JsonStream;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A structural index over json content used to materialise JsonNodes lazily.
+ * <p>
+ * The content is scanned once and each value is recorded as 2 longs on the tape:
+ * <ul>
+ *   <li>flags (kind and attributes) and the start offset of the value</li>
+ *   <li>the tape position after the value (and its children) and the end offset</li>
+ * </ul>
+ * Object members are recorded as the key (a string) followed by the value, array
+ * elements are the values. Skipping a value of any size is then a single tape read
+ * and the content of any value is the original bytes between its offsets.
+ */
+final class NodeTape {
+
+  static final int OBJECT = 1;
+  static final int ARRAY = 2;
+  static final int STRING = 3;
+  static final int NUMBER = 4;
+  static final int TRUE = 5;
+  static final int FALSE = 6;
+  static final int NULL = 7;
+
+  private static final int KIND_MASK = 0x0F;
+  /** String contains escape sequences. */
+  private static final int ESCAPED = 0x10;
+  /** Object or array contains no whitespace and can be copied as is. */
+  private static final int COMPACT = 0x20;
+  /** Number has no fraction or exponent. */
+  private static final int INTEGRAL = 0x40;
+  /**
+   * Object or array contains a null member or an empty array that a writer
+   * drops when it does not serialize nulls or empty arrays.
+   */
+  private static final int OMITTABLE = 0x80;
+
+  private static final long INT_MASK = 0xFFFFFFFFL;
+
+  private final byte[] json;
+  private final long[] tape;
+  private final JsonAdapter<JsonNumber> numberAdapter;
+  private final JsonStream jsonStream;
+
+  private NodeTape(byte[] json, long[] tape, JsonAdapter<JsonNumber> numberAdapter, JsonStream jsonStream) {
+    this.json = json;
+    this.tape = tape;
+    this.numberAdapter = numberAdapter;
+    this.jsonStream = jsonStream;
+  }
+
+  /**
+   * Index the given json content. The content is retained (not copied).
+   */
+  static NodeTape index(byte[] json, int offset, int length, JsonAdapter<JsonNumber> numberAdapter, JsonStream jsonStream) {
+    final var indexer = new Indexer(json, offset, offset + length);
+    return new NodeTape(json, indexer.index(), numberAdapter, jsonStream);
+  }
+
+  /**
+   * Return the root node.
+   */
+  JsonNode root() {
+    return node(0);
+  }
+
+  int kind(int p) {
+    return (int) (tape[p] >>> 32) & KIND_MASK;
+  }
+
+  private int flags(int p) {
+    return (int) (tape[p] >>> 32);
+  }
+
+  private int start(int p) {
+    return (int) (tape[p] & INT_MASK);
+  }
+
+  private int end(int p) {
+    return (int) (tape[p + 1] & INT_MASK);
+  }
+
+  /**
+   * Return the tape position after the value at p (skipping all its children).
+   */
+  int next(int p) {
+    return (int) (tape[p + 1] >>> 32);
+  }
+
+  /**
+   * Return the number of elements of the array or members of the object at p.
+   */
+  int count(int p) {
+    final boolean object = kind(p) == OBJECT;
+    final int end = next(p);
+    int count = 0;
+    for (int q = p + 2; q < end; q = next(object ? q + 2 : q)) {
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Return the tape position of the value for the given key or -1 if not found.
+   */
+  int member(int p, String key) {
+    final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    final int end = next(p);
+    for (int q = p + 2; q < end; q = next(q + 2)) {
+      if (keyEquals(q, key, keyBytes)) {
+        return q + 2;
+      }
+    }
+    return -1;
+  }
+
+  private boolean keyEquals(int p, String key, byte[] keyBytes) {
+    if ((flags(p) & ESCAPED) != 0) {
+      return key.equals(string(p));
+    }
+    final int start = start(p) + 1;
+    return Arrays.equals(json, start, end(p) - 1, keyBytes, 0, keyBytes.length);
+  }
+
+  /**
+   * Write the raw content of the object or array at p returning false if it
+   * should instead be written as nodes. That is when it contains whitespace,
+   * the writer is pretty or the writer would drop null members or empty arrays.
+   */
+  boolean writeRaw(int p, JsonWriter writer) {
+    final int flags = flags(p);
+    if ((flags & COMPACT) == 0 || writer.pretty()) {
+      return false;
+    }
+    if ((flags & OMITTABLE) != 0 && !(writer.serializeNulls() && writer.serializeEmpty())) {
+      return false;
+    }
+    final int start = start(p);
+    writer.rawValue(json, start, end(p) - start);
+    return true;
+  }
+
+  /**
+   * Materialise the node at p.
+   */
+  JsonNode node(int p) {
+    switch (kind(p)) {
+      case OBJECT:
+        return JsonObject.of(new LazyObjectMap(this, p));
+      case ARRAY:
+        return JsonArray.of(new LazyArrayList(this, p));
+      case STRING:
+        return JsonString.of(string(p));
+      case NUMBER:
+        return number(p);
+      case TRUE:
+        return JsonBoolean.of(true);
+      case FALSE:
+        return JsonBoolean.of(false);
+      default:
+        return null;
+    }
+  }
+
+  String string(int p) {
+    final int start = start(p) + 1;
+    final int end = end(p) - 1;
+    if ((flags(p) & ESCAPED) == 0) {
+      return new String(json, start, end - start, StandardCharsets.UTF_8);
+    }
+    final var sb = new StringBuilder(end - start);
+    int run = start;
+    int i = start;
+    while (i < end) {
+      if (json[i] != '\\') {
+        i++;
+        continue;
+      }
+      if (i > run) {
+        sb.append(new String(json, run, i - run, StandardCharsets.UTF_8));
+      }
+      final byte escaped = json[i + 1];
+      i += 2;
+      switch (escaped) {
+        case 'b': sb.append('\b'); break;
+        case 'f': sb.append('\f'); break;
+        case 'n': sb.append('\n'); break;
+        case 'r': sb.append('\r'); break;
+        case 't': sb.append('\t'); break;
+        case 'u':
+          if (i + 4 > end) {
+            throw new JsonDataException("Invalid unicode escape at offset " + (i - 2));
+          }
+          sb.append((char) (hex(i) << 12 | hex(i + 1) << 8 | hex(i + 2) << 4 | hex(i + 3)));
+          i += 4;
+          break;
+        case '"':
+        case '\\':
+        case '/':
+          sb.append((char) escaped);
+          break;
+        default:
+          throw new JsonDataException("Invalid escape \\" + (char) escaped + " at offset " + (i - 2));
+      }
+      run = i;
+    }
+    if (end > run) {
+      sb.append(new String(json, run, end - run, StandardCharsets.UTF_8));
+    }
+    return sb.toString();
+  }
+
+  private int hex(int i) {
+    final byte b = json[i];
+    if (b >= '0' && b <= '9') {
+      return b - '0';
+    }
+    if (b >= 'a' && b <= 'f') {
+      return b - 'a' + 10;
+    }
+    if (b >= 'A' && b <= 'F') {
+      return b - 'A' + 10;
+    }
+    throw new JsonDataException("Invalid unicode escape at offset " + i);
+  }
+
+  private JsonNumber number(int p) {
+    final int start = start(p);
+    final int length = end(p) - start;
+    if (numberAdapter != DJsonNodeMapper.NUMBER_ADAPTER) {
+      try (JsonReader reader = jsonStream.reader(new String(json, start, length, StandardCharsets.ISO_8859_1))) {
+        return numberAdapter.fromJson(reader);
+      }
+    }
+    if ((flags(p) & INTEGRAL) != 0 && length <= 18) {
+      return JsonLong.of(parseLong(start, start + length));
+    }
+    // same as the default NumberAdapter, integers that fit are read exactly
+    try {
+      final var decimal = new BigDecimal(new String(json, start, length, StandardCharsets.ISO_8859_1));
+      if (decimal.scale() == 0 && decimal.unscaledValue().bitLength() < 64) {
+        return JsonLong.of(decimal.longValue());
+      }
+      final double d = decimal.doubleValue();
+      return d % 1 == 0 ? JsonLong.of((long) d) : JsonDouble.of(d);
+    } catch (NumberFormatException e) {
+      throw new JsonDataException("Invalid number at offset " + start, e);
+    }
+  }
+
+  private long parseLong(int start, int end) {
+    final boolean negative = json[start] == '-';
+    int i = negative ? start + 1 : start;
+    if (i == end) {
+      throw new JsonDataException("Invalid number at offset " + start);
+    }
+    long value = 0;
+    for (; i < end; i++) {
+      final int digit = json[i] - '0';
+      if (digit < 0 || digit > 9) {
+        throw new JsonDataException("Invalid number at offset " + start);
+      }
+      value = value * 10 + digit;
+    }
+    return negative ? -value : value;
+  }
+
+  /**
+   * Scans the json content building the tape.
+   */
+  private static final class Indexer {
+
+    private final byte[] json;
+    private final int limit;
+    private int pos;
+    private long[] tape;
+    private int size;
+    private int whitespace;
+    private int omittable;
+
+    Indexer(byte[] json, int offset, int limit) {
+      this.json = json;
+      this.pos = offset;
+      this.limit = limit;
+      this.tape = new long[Math.max(16, (limit - offset) >> 2)];
+    }
+
+    long[] index() {
+      skipWhitespace();
+      value();
+      skipWhitespace();
+      if (pos != limit) {
+        throw error("Unexpected content after json value");
+      }
+      return tape;
+    }
+
+    private JsonDataException error(String message) {
+      return new JsonDataException(message + " at offset " + pos);
+    }
+
+    private int reserve() {
+      if (size + 2 > tape.length) {
+        tape = Arrays.copyOf(tape, tape.length + (tape.length >> 1) + 2);
+      }
+      final int p = size;
+      size += 2;
+      return p;
+    }
+
+    private void set(int p, int flags, int start, int end) {
+      tape[p] = ((long) flags << 32) | start;
+      tape[p + 1] = ((long) size << 32) | end;
+    }
+
+    private void skipWhitespace() {
+      while (pos < limit) {
+        switch (json[pos]) {
+          case ' ':
+          case '\t':
+          case '\n':
+          case '\r':
+            pos++;
+            whitespace++;
+            break;
+          default:
+            return;
+        }
+      }
+    }
+
+    private byte nextByte() {
+      if (pos >= limit) {
+        throw error("Unexpected end of json");
+      }
+      return json[pos++];
+    }
+
+    private void value() {
+      if (pos >= limit) {
+        throw error("Unexpected end of json");
+      }
+      switch (json[pos]) {
+        case '{':
+          object();
+          break;
+        case '[':
+          array();
+          break;
+        case '"':
+          string();
+          break;
+        case 't':
+          literal(TRUE, "true");
+          break;
+        case 'f':
+          literal(FALSE, "false");
+          break;
+        case 'n':
+          literal(NULL, "null");
+          break;
+        default:
+          number();
+      }
+    }
+
+    private void object() {
+      final int p = reserve();
+      final int start = pos++;
+      final int ws = whitespace;
+      final int om = omittable;
+      skipWhitespace();
+      if (pos < limit && json[pos] == '}') {
+        pos++;
+      } else {
+        while (true) {
+          if (pos >= limit || json[pos] != '"') {
+            throw error("Expected '\"' for object key");
+          }
+          string();
+          skipWhitespace();
+          if (nextByte() != ':') {
+            throw error("Expected ':'");
+          }
+          skipWhitespace();
+          final int valuePosition = size;
+          value();
+          if (((int) (tape[valuePosition] >>> 32) & KIND_MASK) == NULL) {
+            omittable++;
+          }
+          skipWhitespace();
+          final byte b = nextByte();
+          if (b == '}') {
+            break;
+          }
+          if (b != ',') {
+            throw error("Expected ',' or '}'");
+          }
+          skipWhitespace();
+        }
+      }
+      set(p, OBJECT | (ws == whitespace ? COMPACT : 0) | (om == omittable ? 0 : OMITTABLE), start, pos);
+    }
+
+    private void array() {
+      final int p = reserve();
+      final int start = pos++;
+      final int ws = whitespace;
+      final int om = omittable;
+      skipWhitespace();
+      if (pos < limit && json[pos] == ']') {
+        pos++;
+        omittable++;
+      } else {
+        while (true) {
+          value();
+          skipWhitespace();
+          final byte b = nextByte();
+          if (b == ']') {
+            break;
+          }
+          if (b != ',') {
+            throw error("Expected ',' or ']'");
+          }
+          skipWhitespace();
+        }
+      }
+      set(p, ARRAY | (ws == whitespace ? COMPACT : 0) | (om == omittable ? 0 : OMITTABLE), start, pos);
+    }
+
+    private void string() {
+      final int p = reserve();
+      final int start = pos++;
+      int flags = STRING;
+      while (true) {
+        final byte b = nextByte();
+        if (b == '"') {
+          break;
+        }
+        if (b == '\\') {
+          flags |= ESCAPED;
+          nextByte();
+        }
+      }
+      set(p, flags, start, pos);
+    }
+
+    private void literal(int kind, String literal) {
+      final int p = reserve();
+      final int start = pos;
+      final int length = literal.length();
+      if (pos + length > limit) {
+        throw error("Unexpected end of json");
+      }
+      for (int i = 0; i < length; i++) {
+        if (json[pos + i] != literal.charAt(i)) {
+          throw error("Expected " + literal);
+        }
+      }
+      pos += length;
+      set(p, kind, start, pos);
+    }
+
+    /**
+     * Scan a number following the json grammar {@code -?(0|[1-9][0-9]*)(.[0-9]+)?([eE][+-]?[0-9]+)?}.
+     */
+    private void number() {
+      final int p = reserve();
+      final int start = pos;
+      int flags = NUMBER | INTEGRAL;
+      if (pos < limit && json[pos] == '-') {
+        pos++;
+      }
+      if (pos < limit && json[pos] == '0') {
+        pos++;
+      } else if (digits() == 0) {
+        throw pos < limit && pos == start
+          ? error("Unexpected character '" + (char) json[pos] + "'")
+          : error("Invalid number");
+      }
+      if (pos < limit && json[pos] == '.') {
+        pos++;
+        flags &= ~INTEGRAL;
+        if (digits() == 0) {
+          throw error("Invalid number");
+        }
+      }
+      if (pos < limit && (json[pos] == 'e' || json[pos] == 'E')) {
+        pos++;
+        flags &= ~INTEGRAL;
+        if (pos < limit && (json[pos] == '+' || json[pos] == '-')) {
+          pos++;
+        }
+        if (digits() == 0) {
+          throw error("Invalid number");
+        }
+      }
+      set(p, flags, start, pos);
+    }
+
+    private int digits() {
+      final int start = pos;
+      while (pos < limit && json[pos] >= '0' && json[pos] <= '9') {
+        pos++;
+      }
+      return pos - start;
+    }
+  }
+}
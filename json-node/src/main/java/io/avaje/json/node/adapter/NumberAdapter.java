@@ -16,8 +16,18 @@ final class NumberAdapter implements JsonAdapter<JsonNumber> {
 
   @Override
   public JsonNumber fromJson(JsonReader reader) {
-    // read unknown number type
-    double d = reader.readDouble();
+    // read unknown number type, integers that fit are read exactly
+    return of(reader.readNumber());
+  }
+
+  /**
+   * Return the JsonNumber for a number read by {@link JsonReader#readNumber()}.
+   */
+  static JsonNumber of(Number number) {
+    if (number instanceof Long) {
+      return JsonLong.of(number.longValue());
+    }
+    final double d = number.doubleValue();
     if (d % 1 == 0) {
       return JsonLong.of((long) d);
     }
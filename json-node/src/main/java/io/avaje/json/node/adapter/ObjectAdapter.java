@@ -23,8 +23,16 @@ final class ObjectAdapter implements JsonAdapter<JsonObject> {
 
   @Override
   public void toJson(JsonWriter writer, JsonObject value) {
+    var elements = value.elements();
+    if (elements instanceof SharedObjectMap) {
+      // write the shared elements without copying them
+      elements = ((SharedObjectMap) elements).current();
+    }
+    if (elements instanceof LazyObjectMap && ((LazyObjectMap) elements).writeRaw(writer)) {
+      return;
+    }
     writer.beginObject();
-    for (var entry : value.elements().entrySet()) {
+    for (var entry : elements.entrySet()) {
       if (entry.getKey() == null) {
         throw new JsonDataException("Map key is null at " + writer.path());
       }
@@ -47,7 +55,7 @@ final class ObjectAdapter implements JsonAdapter<JsonObject> {
       }
     }
     reader.endObject();
-    return JsonObject.of(result);
+    return JsonObject.of(new FrozenObjectMap(result));
   }
 
   @Override
@@ -0,0 +1,112 @@
+package io.avaje.json.node.adapter;
+
+import io.avaje.json.node.JsonArray;
+import io.avaje.json.node.JsonNode;
+import io.avaje.json.node.JsonObject;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The elements of a copied JsonArray that are shared with the unmodifiable source
+ * until they are modified.
+ * <p>
+ * Modifying the elements or getting a nested object or array copies the shared
+ * elements once. The nested objects and arrays are copied in the same way such
+ * that only the path to a modification is copied.
+ */
+public final class SharedArrayList extends AbstractList<JsonNode> implements RandomAccess, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient List<JsonNode> base;
+  private transient ArrayList<JsonNode> owned;
+
+  /**
+   * Create with the unmodifiable elements to share.
+   */
+  public SharedArrayList(List<JsonNode> base) {
+    this.base = base;
+  }
+
+  /**
+   * Return the shared elements or null once they have been copied.
+   */
+  public List<JsonNode> base() {
+    return owned == null ? base : null;
+  }
+
+  /**
+   * Return the current elements for reading without copying the shared elements.
+   */
+  public List<JsonNode> current() {
+    return owned == null ? base : owned;
+  }
+
+  private List<JsonNode> owned() {
+    if (owned == null) {
+      final var list = new ArrayList<JsonNode>(base.size() + 1);
+      for (JsonNode element : base) {
+        list.add(element == null ? null : element.copy());
+      }
+      owned = list;
+    }
+    return owned;
+  }
+
+  @Override
+  public JsonNode get(int index) {
+    if (owned == null) {
+      final JsonNode element = base.get(index);
+      if (!(element instanceof JsonObject) && !(element instanceof JsonArray)) {
+        // immutable leaf values do not need to be copied
+        return element;
+      }
+    }
+    return owned().get(index);
+  }
+
+  @Override
+  public int size() {
+    return current().size();
+  }
+
+  @Override
+  public JsonNode set(int index, JsonNode element) {
+    return owned().set(index, element);
+  }
+
+  @Override
+  public void add(int index, JsonNode element) {
+    modCount++;
+    owned().add(index, element);
+  }
+
+  @Override
+  public JsonNode remove(int index) {
+    modCount++;
+    return owned().remove(index);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return current().equals(other instanceof SharedArrayList ? ((SharedArrayList) other).current() : other);
+  }
+
+  @Override
+  public int hashCode() {
+    return current().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return current().toString();
+  }
+
+  private Object writeReplace() {
+    return owned();
+  }
+}
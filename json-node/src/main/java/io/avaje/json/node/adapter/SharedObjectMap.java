@@ -0,0 +1,121 @@
+package io.avaje.json.node.adapter;
+
+import io.avaje.json.node.JsonArray;
+import io.avaje.json.node.JsonNode;
+import io.avaje.json.node.JsonObject;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The elements of a copied JsonObject that are shared with the unmodifiable source
+ * until they are modified.
+ * <p>
+ * Modifying the elements, iterating the entries or getting a nested object or array
+ * copies the shared elements once. The nested objects and arrays are copied in the
+ * same way such that only the path to a modification is copied.
+ */
+public final class SharedObjectMap extends AbstractMap<String, JsonNode> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient Map<String, JsonNode> base;
+  private transient LinkedHashMap<String, JsonNode> owned;
+
+  /**
+   * Create with the unmodifiable elements to share.
+   */
+  public SharedObjectMap(Map<String, JsonNode> base) {
+    this.base = base;
+  }
+
+  /**
+   * Return the shared elements or null once they have been copied.
+   */
+  public Map<String, JsonNode> base() {
+    return owned == null ? base : null;
+  }
+
+  /**
+   * Return the current elements for reading without copying the shared elements.
+   */
+  public Map<String, JsonNode> current() {
+    return owned == null ? base : owned;
+  }
+
+  private Map<String, JsonNode> owned() {
+    if (owned == null) {
+      final var map = new LinkedHashMap<String, JsonNode>();
+      for (Map.Entry<String, JsonNode> entry : base.entrySet()) {
+        final JsonNode value = entry.getValue();
+        map.put(entry.getKey(), value == null ? null : value.copy());
+      }
+      owned = map;
+    }
+    return owned;
+  }
+
+  @Override
+  public JsonNode get(Object key) {
+    if (owned == null) {
+      final JsonNode value = base.get(key);
+      if (!(value instanceof JsonObject) && !(value instanceof JsonArray)) {
+        // immutable leaf values do not need to be copied
+        return value;
+      }
+    }
+    return owned().get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return current().containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return current().size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return current().isEmpty();
+  }
+
+  @Override
+  public JsonNode put(String key, JsonNode value) {
+    return owned().put(key, value);
+  }
+
+  @Override
+  public JsonNode remove(Object key) {
+    return owned().remove(key);
+  }
+
+  @Override
+  public Set<Entry<String, JsonNode>> entrySet() {
+    return owned().entrySet();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return current().equals(other instanceof SharedObjectMap ? ((SharedObjectMap) other).current() : other);
+  }
+
+  @Override
+  public int hashCode() {
+    return current().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return current().toString();
+  }
+
+  private Object writeReplace() {
+    return owned();
+  }
+}
@@ -1,5 +1,9 @@
 package io.avaje.json.node;
 
+import io.avaje.json.JsonReader;
+import io.avaje.json.mapper.JsonPath;
+import io.avaje.json.mapper.JsonProjection;
+import io.avaje.json.stream.JsonStream;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -125,4 +129,41 @@ class ExtractNodeTest {
     JsonNode result = object.extractNode("missing.path.here", JsonArray.empty());
     assertThat(result).isSameAs(JsonArray.empty());
   }
+
+  @Test
+  void findJsonPath() {
+    JsonObject object = mapper.fromJsonObject(content);
+    assertThat(object.find(JsonPath.compile("people[1].person.firstName"))).isEqualTo(JsonString.of("Bb"));
+    assertThat(object.find(JsonPath.compile("people[2].type"))).isEqualTo(JsonString.of("family"));
+    assertThat(object.find(JsonPath.compile("people[3].type"))).isNull();
+    assertThat(object.find(JsonPath.compile("people.type"))).isNull();
+    assertThat(object.find(JsonPath.compile("people[0].type[0]"))).isNull();
+
+    JsonArray people = (JsonArray) object.get("people");
+    assertThat(people.find(JsonPath.compile("[0].person.other"))).isEqualTo(JsonString.of("AOther"));
+  }
+
+  @Test
+  void findJsonPath_lazy() {
+    JsonNodeMapper lazyMapper = JsonNodeMapper.builder().lazy(true).build();
+    JsonObject object = lazyMapper.fromJsonObject("{\"people\":[{\"type\":\"contact\"},{\"type\":\"family\",\"tags\":[\"a\",\"b\"]}]}");
+    assertThat(object.find(JsonPath.compile("people[1].tags[1]"))).isEqualTo(JsonString.of("b"));
+    assertThat(object.find(JsonPath.compile("people[1].tags[2]"))).isNull();
+  }
+
+  @Test
+  void projection() {
+    JsonProjection<JsonNode> projection = mapper.projection("people[1].person.firstName", "people[2].type", "people[0].person", "missing");
+    Object[] values = projection.read(content);
+    assertThat(values[0]).isEqualTo(JsonString.of("Bb"));
+    assertThat(values[1]).isEqualTo(JsonString.of("family"));
+    assertThat(((JsonObject) values[2]).extract("other")).isEqualTo("AOther");
+    assertThat(values[3]).isNull();
+
+    JsonNodeMapper lazyMapper = JsonNodeMapper.builder().lazy(true).build();
+    try (JsonReader reader = JsonStream.builder().build().reader(content)) {
+      JsonObject small = JsonObject.of(lazyMapper.projection("people[1].type", "people[0].person.lastName").readMap(reader));
+      assertThat(small.toString()).isEqualTo("{people[1].type=family, people[0].person.lastName=ALast}");
+    }
+  }
 }
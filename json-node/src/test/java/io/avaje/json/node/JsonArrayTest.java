@@ -155,4 +155,99 @@ class JsonArrayTest {
     assertThat(asJson).isEqualTo("[[\"a\"],[\"b\"]]");
   }
 
+
+  @Test
+  void primitive_longs() {
+    JsonArray array = mapper.fromJsonArray("[1,2,-3,9007199254740993,4.0]");
+    assertThat(array.elements().getClass().getSimpleName()).isEqualTo("LongArrayList");
+    assertThat(array.size()).isEqualTo(5);
+    assertThat(array.longAt(3)).isEqualTo(9007199254740993L);
+    assertThat(array.doubleAt(2)).isEqualTo(-3D);
+    assertThat(array.toLongArray()).containsExactly(1, 2, -3, 9007199254740993L, 4);
+    assertThat(array.elements()).containsExactly(JsonLong.of(1), JsonLong.of(2), JsonLong.of(-3), JsonLong.of(9007199254740993L), JsonLong.of(4));
+    assertThat(array).isEqualTo(JsonArray.create().add(1L).add(2L).add(-3L).add(9007199254740993L).add(4L));
+    assertThat(array.unmodifiable()).isSameAs(array);
+    assertThat(mapper.toJson(array)).isEqualTo("[1,2,-3,9007199254740993,4]");
+    assertThatThrownBy(() -> array.add(5L)).isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> array.longAt(5)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void primitive_doubles() {
+    JsonArray array = mapper.fromJsonArray("[1, 2.5, -0.25, 3.0]");
+    assertThat(array.elements().getClass().getSimpleName()).isEqualTo("DoubleArrayList");
+    assertThat(array.elements()).containsExactly(JsonLong.of(1), JsonDouble.of(2.5), JsonDouble.of(-0.25), JsonLong.of(3));
+    assertThat(array.doubleAt(1)).isEqualTo(2.5D);
+    assertThat(array.longAt(1)).isEqualTo(2L);
+    assertThat(array.toDoubleArray()).containsExactly(1, 2.5, -0.25, 3);
+    assertThat(mapper.toJson(array)).isEqualTo("[1,2.5,-0.25,3]");
+    assertThat(array.toPlain()).isEqualTo(List.of(1L, 2.5D, -0.25D, 3L));
+    assertThat(array.copy().add(4L).size()).isEqualTo(5);
+  }
+
+  @Test
+  void primitive_fallback() {
+    JsonArray mixed = mapper.fromJsonArray("[1,2,\"a\",null,3]");
+    assertThat(mixed.elements()).containsExactly(JsonLong.of(1), JsonLong.of(2), JsonString.of("a"), null, JsonLong.of(3));
+
+    // longs that do not fit a double exactly stay as JsonLong
+    JsonArray big = mapper.fromJsonArray("[9007199254740993,1.5,2]");
+    assertThat(big.elements()).containsExactly(JsonLong.of(9007199254740993L), JsonDouble.of(1.5), JsonLong.of(2));
+    JsonArray bigAfter = mapper.fromJsonArray("[1.5,9007199254740993]");
+    assertThat(bigAfter.elements()).containsExactly(JsonDouble.of(1.5), JsonLong.of(9007199254740993L));
+    assertThat(bigAfter.toLongArray()).containsExactly(1, 9007199254740993L);
+
+    StringBuilder sb = new StringBuilder("[");
+    for (int i = 0; i < 100; i++) {
+      sb.append(i).append(',');
+    }
+    sb.append("0.5]");
+    JsonArray grown = mapper.fromJsonArray(sb.toString());
+    assertThat(grown.size()).isEqualTo(101);
+    assertThat(grown.doubleAt(99)).isEqualTo(99D);
+    assertThat(grown.doubleAt(100)).isEqualTo(0.5D);
+    assertThat(mapper.toJson(grown)).isEqualTo(sb.toString());
+
+    JsonObject obj = mapper.fromJsonObject("{\"points\":[[1,2],[3,4.5]]}");
+    assertThat(((JsonArray) obj.find("points")).elements().get(1)).isEqualTo(JsonArray.create().add(3L).add(JsonDouble.of(4.5)));
+    assertThat(JsonArray.create().add(3L).add(JsonDouble.of(4.5))).isEqualTo(((JsonArray) obj.find("points")).elements().get(1));
+  }
+
+  @Test
+  void copy_sharesUnmodifiable() {
+    JsonArray base = mapper.fromJsonArray("[{\"a\":1},[1,2.5],\"s\"]");
+    JsonArray copy = base.copy();
+    assertThat(copy.elements().getClass().getSimpleName()).isEqualTo("SharedArrayList");
+    assertThat(copy).isEqualTo(base);
+    assertThat(copy.elements().get(2)).isSameAs(base.elements().get(2));
+
+    JsonArray nested = (JsonArray) copy.elements().get(1);
+    assertThat(nested.doubleAt(1)).isEqualTo(2.5D);
+    nested.add(3L);
+    copy.add("t");
+    assertThat(mapper.toJson(copy)).isEqualTo("[{\"a\":1},[1,2.5,3],\"s\",\"t\"]");
+    assertThat(mapper.toJson(base)).isEqualTo("[{\"a\":1},[1,2.5],\"s\"]");
+    assertThat(base.unmodifiable()).isSameAs(base);
+
+    JsonArray longs = mapper.fromJsonArray("[1,2,3]");
+    JsonArray longsCopy = longs.copy();
+    assertThat(longsCopy.toLongArray()).containsExactly(1, 2, 3);
+    assertThat(mapper.toJson(longsCopy)).isEqualTo("[1,2,3]");
+    longsCopy.elements().set(0, JsonLong.of(9));
+    assertThat(longsCopy.toLongArray()).containsExactly(9, 2, 3);
+    assertThat(longs.toLongArray()).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void copy_ofIsDeepCopy() {
+    List<JsonNode> list = new java.util.ArrayList<>();
+    list.add(JsonInteger.of(1));
+    JsonArray source = JsonArray.of(list);
+    JsonArray copy = source.copy();
+    JsonObject child = JsonObject.create();
+    list.add(child);
+    child.add("x", 1);
+    assertThat(copy.size()).isEqualTo(1);
+    assertThat(source.unmodifiable().copy().elements().getClass().getSimpleName()).isEqualTo("SharedArrayList");
+  }
 }
@@ -1,7 +1,12 @@
 package io.avaje.json.node;
 
+import io.avaje.json.mapper.JsonPath;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -169,6 +174,87 @@ class JsonObjectTest {
     assertThat(source.containsKey("canMutate")).isFalse();
   }
 
+  @Test
+  void copy_sharesUnmodifiable() {
+    JsonNodeMapper mapper = JsonNodeMapper.builder().build();
+    String json = "{\"name\":\"base\",\"meta\":{\"region\":\"eu\",\"tags\":[\"a\",{\"b\":1}]},\"points\":[1,2],\"other\":{\"x\":1}}";
+    final JsonObject base = mapper.fromJsonObject(json);
+
+    JsonObject copy = base.copy();
+    assertThat(copy.elements().getClass().getSimpleName()).isEqualTo("SharedObjectMap");
+    assertThat(copy).isEqualTo(base);
+    assertThat(base).isEqualTo(copy);
+    assertThat(copy.hashCode()).isEqualTo(base.hashCode());
+    assertThat(mapper.toJson(copy)).isEqualTo(json);
+    assertThat(copy.toPlain()).isEqualTo(base.toPlain());
+
+    // modify nested values, only the path to the modification is copied
+    JsonObject meta = (JsonObject) copy.get("meta");
+    meta.add("region", "us");
+    ((JsonObject) ((JsonArray) meta.get("tags")).elements().get(1)).add("c", 2);
+    ((JsonArray) copy.get("points")).add(3);
+    copy.remove("name");
+    copy.add("tenant", "t1");
+
+    assertThat(mapper.toJson(copy)).isEqualTo("{\"meta\":{\"region\":\"us\",\"tags\":[\"a\",{\"b\":1,\"c\":2}]},\"points\":[1,2,3],\"other\":{\"x\":1},\"tenant\":\"t1\"}");
+    assertThat(mapper.toJson(base)).isEqualTo(json);
+    assertThat(copy.get("meta")).isSameAs(meta);
+    assertThat(copy.find(JsonPath.compile("meta.tags[1].c"))).isEqualTo(JsonInteger.of(2));
+
+    // copies of copies are independent
+    JsonObject copy2 = copy.copy();
+    ((JsonObject) copy2.get("other")).add("y", 2);
+    assertThat(copy.extract("other.y", 0)).isEqualTo(0);
+    assertThat(copy2.extract("other.y", 0)).isEqualTo(2);
+
+    JsonObject unmodifiable = copy.unmodifiable();
+    assertThat(unmodifiable).isEqualTo(copy);
+    assertThat(unmodifiable.copy().elements().getClass().getSimpleName()).isEqualTo("SharedObjectMap");
+    assertThatThrownBy(() -> unmodifiable.add("z", 1)).isInstanceOf(UnsupportedOperationException.class);
+    assertThat(base.unmodifiable()).isSameAs(base);
+    assertThat(base.copy().unmodifiable().elements()).isSameAs(base.elements());
+  }
+
+  @Test
+  void copy_unmodifiableWithMutableChild() {
+    JsonObject child = JsonObject.create().add("a", 1);
+    JsonObject source = JsonObject.of(Map.of("child", child));
+    JsonObject copy = source.copy();
+    child.add("b", 2);
+    assertThat(copy.get("child")).isEqualTo(JsonObject.create().add("a", 1));
+  }
+
+  @Test
+  void copy_ofIsDeepCopy() {
+    Map<String, JsonNode> map = new LinkedHashMap<>();
+    map.put("a", JsonInteger.of(1));
+    JsonObject source = JsonObject.of(map);
+    JsonObject copy = source.copy();
+    map.put("b", JsonInteger.of(2));
+    assertThat(copy.toString()).isEqualTo("{a=1}");
+    assertThat(copy.elements().getClass().getSimpleName()).isNotEqualTo("SharedObjectMap");
+
+    JsonObject frozen = source.unmodifiable();
+    assertThat(frozen.copy().elements().getClass().getSimpleName()).isEqualTo("SharedObjectMap");
+  }
+
+  @Test
+  void copy_serializable() throws Exception {
+    JsonObject base = JsonNodeMapper.builder().build().fromJsonObject("{\"a\":{\"b\":[1,{\"c\":true}]}}");
+    JsonObject copy = base.copy();
+    var bytes = new ByteArrayOutputStream();
+    try (var out = new ObjectOutputStream(bytes)) {
+      out.writeObject(copy);
+    }
+    try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      JsonObject read = (JsonObject) in.readObject();
+      assertThat(read).isEqualTo(base);
+      read.add("d", 1);
+      ((JsonObject) read.get("a")).add("e", 2);
+      assertThat(read.extract("a.e", 0)).isEqualTo(2);
+    }
+  }
+
   @Test
   void unmodifiable() {
     final JsonObject source = JsonObject.create()
@@ -0,0 +1,240 @@
+package io.avaje.json.node;
+
+import io.avaje.json.JsonAdapter;
+import io.avaje.json.JsonDataException;
+import io.avaje.json.JsonReader;
+import io.avaje.json.JsonWriter;
+import io.avaje.json.stream.BufferedJsonWriter;
+import io.avaje.json.stream.JsonStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LazyNodeTest {
+
+  static final JsonNodeMapper mapper = JsonNodeMapper.builder().lazy(true).build();
+  static final JsonNodeMapper eagerMapper = JsonNodeMapper.builder().build();
+
+  static final String JSON = "{\"id\":42,\"name\":\"route\\n\\\"a\\\" \\u00e9\",\"big\":9007199254740993,\"ratio\":1.5,\"whole\":2.0," +
+    "\"ok\":true,\"no\":false,\"héllo\":\"wörld\"," +
+    "\"meta\":{\"region\":\"eu\",\"tags\":[\"a\",\"b\"],\"deep\":{\"level\":3}},\"items\":[1,{\"x\":1},[],{}]}";
+
+  @Test
+  void extract() {
+    JsonObject obj = mapper.fromJsonObject(JSON);
+    assertThat(obj.extract("id", 0)).isEqualTo(42);
+    assertThat(obj.extract("name")).isEqualTo("route\n\"a\" é");
+    assertThat(obj.extract("big", 0L)).isEqualTo(9007199254740993L);
+    assertThat(obj.extract("ratio", 0D)).isEqualTo(1.5D);
+    assertThat(obj.get("whole")).isEqualTo(JsonLong.of(2));
+    assertThat(obj.extract("ok", false)).isTrue();
+    assertThat(obj.extract("no", true)).isFalse();
+    assertThat(obj.extract("héllo")).isEqualTo("wörld");
+    assertThat(obj.extract("meta.region")).isEqualTo("eu");
+    assertThat(obj.extract("meta.deep.level", 0)).isEqualTo(3);
+    assertThat(obj.find("meta.missing")).isNull();
+    assertThat(obj.find("missing")).isNull();
+    assertThat(obj.size()).isEqualTo(10);
+  }
+
+  @Test
+  void arrays() {
+    JsonObject obj = mapper.fromJsonObject(JSON);
+    JsonArray items = (JsonArray) obj.get("items");
+    assertThat(items.size()).isEqualTo(4);
+    assertThat(items.elements().get(0)).isEqualTo(JsonLong.of(1));
+    assertThat(items.elements().get(1)).isEqualTo(JsonObject.create().add("x", 1L));
+    assertThat(items.elements().get(1)).isSameAs(items.elements().get(1));
+    assertThat(((JsonArray) items.elements().get(2)).isEmpty()).isTrue();
+    assertThat(((JsonObject) items.elements().get(3)).isEmpty()).isTrue();
+
+    JsonArray array = mapper.fromJsonArray("[ 1 , \"a\" , null ]");
+    assertThat(array.elements()).containsExactly(JsonLong.of(1), JsonString.of("a"), null);
+
+    JsonObject withNull = mapper.fromJsonObject("{\"none\":null}");
+    assertThat(withNull.containsKey("none")).isTrue();
+    assertThat(withNull.find("none")).isNull();
+  }
+
+  @Test
+  void equalsEager() {
+    JsonNode lazy = mapper.fromJson(JSON);
+    JsonNode eager = eagerMapper.fromJson(JSON);
+    assertThat(lazy).isEqualTo(eager);
+    assertThat(eager).isEqualTo(lazy);
+    assertThat(lazy.hashCode()).isEqualTo(eager.hashCode());
+    assertThat(lazy.toPlain()).isEqualTo(eager.toPlain());
+  }
+
+  @Test
+  void toJson_copiesOriginalBytes() {
+    JsonNode node = mapper.fromJson(JSON);
+    // the empty array is dropped as the default writer does not serialize empty arrays
+    String expected = eagerMapper.toJson(eagerMapper.fromJson(JSON));
+    assertThat(mapper.toJson(node)).isEqualTo(expected);
+    assertThat(eagerMapper.toJson(node)).isEqualTo(expected);
+    String withoutEmpty = JSON.replace("[],", "");
+    assertThat(mapper.toJson(mapper.fromJson(withoutEmpty))).isEqualTo(withoutEmpty);
+    assertThat(mapper.nodeMapper().toJson(((JsonObject) node).get("meta")))
+      .isEqualTo("{\"region\":\"eu\",\"tags\":[\"a\",\"b\"],\"deep\":{\"level\":3}}");
+  }
+
+  @Test
+  void toJson_whitespaceWrittenCompact() {
+    JsonNode node = mapper.fromJson(" {\n  \"a\" : [ 1, 2 ],\n  \"b\": {\"c\":\"d\"}\n} ");
+    assertThat(mapper.toJson(node)).isEqualTo("{\"a\":[1,2],\"b\":{\"c\":\"d\"}}");
+  }
+
+  @Test
+  void unmodifiable_copyMutable() {
+    JsonObject obj = mapper.fromJsonObject(JSON);
+    assertThatThrownBy(() -> obj.add("extra", 1)).isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> obj.remove("id")).isInstanceOf(UnsupportedOperationException.class);
+
+    JsonObject copy = obj.copy();
+    copy.add("extra", 1);
+    copy.remove("items");
+    assertThat(copy.extract("meta.region")).isEqualTo("eu");
+    assertThat(mapper.toJson(copy)).startsWith("{\"id\":42,").endsWith("\"extra\":1}");
+  }
+
+  @Test
+  void fromJson_otherSources() {
+    byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+    JsonNode fromBytes = mapper.nodeMapper().fromJson(bytes);
+    JsonNode fromStream = mapper.nodeMapper().fromJson(new ByteArrayInputStream(bytes));
+    assertThat(fromBytes).isEqualTo(fromStream);
+
+    // embedded within other content read via the JsonReader
+    JsonArray outer = eagerMapper.fromJsonArray("[1," + JSON + "]");
+    try (JsonReader reader = io.avaje.json.stream.JsonStream.builder().build().reader("[1," + JSON + "]")) {
+      reader.beginArray();
+      reader.hasNextElement();
+      reader.skipValue();
+      reader.hasNextElement();
+      JsonObject obj = mapper.fromJsonObject(reader);
+      assertThat(obj).isEqualTo(outer.elements().get(1));
+      reader.endArray();
+    }
+    assertThat(mapper.fromJson("null")).isNull();
+  }
+
+  @Test
+  void duplicateKey() {
+    JsonObject obj = mapper.fromJsonObject("{\"a\":1,\"a\":2}");
+    assertThat(obj.get("a")).isEqualTo(JsonLong.of(1));
+    assertThatThrownBy(() -> obj.elements().entrySet())
+      .isInstanceOf(JsonDataException.class)
+      .hasMessageContaining("Map key 'a' has multiple values");
+  }
+
+  @Test
+  void invalid() {
+    assertThatThrownBy(() -> mapper.fromJson("{\"a\":1")).isInstanceOf(JsonDataException.class);
+    assertThatThrownBy(() -> mapper.fromJson("{\"a\" 1}")).isInstanceOf(JsonDataException.class);
+    assertThatThrownBy(() -> mapper.fromJson("[1,]")).isInstanceOf(JsonDataException.class);
+    assertThatThrownBy(() -> mapper.fromJson("[tru]")).isInstanceOf(JsonDataException.class);
+    assertThatThrownBy(() -> mapper.fromJson("{} {}")).isInstanceOf(JsonDataException.class);
+    assertThatThrownBy(() -> mapper.fromJsonObject("[1]"))
+      .isInstanceOf(JsonDataException.class)
+      .hasMessageContaining("Expected JsonObject but was ARRAY");
+
+    assertThatThrownBy(() -> mapper.fromJson("[1,1-2]")).isInstanceOf(JsonDataException.class);
+
+    // strings are only decoded on access
+    JsonArray array = mapper.fromJsonArray("[1,\"\\q\"]");
+    assertThat(array.elements().get(0)).isEqualTo(JsonLong.of(1));
+    assertThatThrownBy(() -> array.elements().get(1)).isInstanceOf(JsonDataException.class);
+  }
+
+  @Test
+  void customNumberAdapter() {
+    JsonNodeMapper decimalMapper = JsonNodeMapper.builder()
+      .lazy(true)
+      .numberAdapter(new JsonAdapter<>() {
+        @Override
+        public void toJson(JsonWriter writer, JsonNumber value) {
+          value.toJson(writer);
+        }
+
+        @Override
+        public JsonNumber fromJson(JsonReader reader) {
+          return JsonDecimal.of(reader.readDecimal());
+        }
+      })
+      .build();
+
+    JsonObject obj = decimalMapper.fromJsonObject("{\"a\":1.10}");
+    assertThat(obj.get("a")).isEqualTo(JsonDecimal.of(new BigDecimal("1.10")));
+  }
+
+  @Test
+  void serializable() throws Exception {
+    JsonObject obj = mapper.fromJsonObject(JSON);
+    var bytes = new ByteArrayOutputStream();
+    try (var out = new ObjectOutputStream(bytes)) {
+      out.writeObject(obj);
+    }
+    try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      Object read = in.readObject();
+      assertThat(read).isEqualTo(obj);
+      assertThat(((JsonObject) read).toPlain()).isEqualTo(obj.toPlain());
+    }
+  }
+
+  @Test
+  void toPlain() {
+    Map<String, Object> plain = mapper.fromJsonObject(JSON).toPlain();
+    assertThat(plain.get("items")).isEqualTo(List.of(1L, Map.of("x", 1L), List.of(), Map.of()));
+  }
+
+  @Test
+  void toJson_writerSettings() {
+    String json = "{\"a\":null,\"b\":{\"c\":1},\"d\":[]}";
+    JsonNode lazy = mapper.fromJson(json);
+    JsonNode eager = eagerMapper.fromJson(json);
+    for (boolean pretty : new boolean[]{false, true}) {
+      for (boolean nulls : new boolean[]{false, true}) {
+        for (boolean empty : new boolean[]{false, true}) {
+          JsonStream stream = JsonStream.builder().serializeNulls(nulls).serializeEmpty(empty).build();
+          assertThat(write(stream, lazy, pretty)).isEqualTo(write(stream, eager, pretty));
+        }
+      }
+    }
+    JsonStream all = JsonStream.builder().serializeNulls(true).serializeEmpty(true).build();
+    assertThat(write(all, lazy, false)).isEqualTo(json);
+  }
+
+  private static String write(JsonStream stream, JsonNode node, boolean pretty) {
+    BufferedJsonWriter writer = stream.bufferedWriter();
+    writer.pretty(pretty);
+    mapper.toJson(node, writer);
+    return writer.result();
+  }
+
+  @Test
+  void invalid_numbers() {
+    for (String json : new String[]{"[1-2]", "[+5]", "[1.]", "[.5]", "[1e]", "[1e+]", "[01]", "[-]", "[--1]", "[1.2.3]"}) {
+      assertThatThrownBy(() -> mapper.fromJsonArray(json)).as(json).isInstanceOf(JsonDataException.class);
+    }
+    assertThat(mapper.fromJsonArray("[0,-0,10,-1.5e+3,2E-2,0.25]").toPlain())
+      .isEqualTo(eagerMapper.fromJsonArray("[0,-0,10,-1.5e+3,2E-2,0.25]").toPlain());
+  }
+
+  @Test
+  void invalid_unicodeEscape() {
+    JsonObject obj = mapper.fromJsonObject("{\"a\":\"\\u00zz\",\"b\":\"\\u+fff\"}");
+    assertThatThrownBy(() -> obj.get("a")).isInstanceOf(JsonDataException.class);
+    assertThatThrownBy(() -> obj.get("b")).isInstanceOf(JsonDataException.class);
+  }
+}
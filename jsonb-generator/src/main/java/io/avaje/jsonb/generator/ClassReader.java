@@ -332,11 +332,35 @@ final class ClassReader implements BeanReader {
     if (hasSubTypes) {
       properties.add('"' + typeProperty + '"');
     }
-    properties.addAll(propertyNames());
+    if (useFieldIndex()) {
+      properties.addAll(fieldIndexNames());
+    } else {
+      properties.addAll(propertyNames());
+    }
     writer.append(String.join(", ", properties));
     writer.append(");").eol();
   }
 
+  /**
+   * Return true if fromJson switches on the field index rather than the field name.
+   */
+  private boolean useFieldIndex() {
+    return !caseInsensitiveKeys && !hasSubTypes && !readOnlyInterface;
+  }
+
+  /**
+   * Return the property names followed by the aliases, used by nextFieldIndex().
+   */
+  private List<String> fieldIndexNames() {
+    var names = new LinkedHashSet<>(propertyNames());
+    for (final FieldReader allField : allFields) {
+      for (final String alias : allField.aliases()) {
+        names.add('"' + alias + '"');
+      }
+    }
+    return new ArrayList<>(names);
+  }
+
   private List<String> propertyNames() {
     return readOnlyInterface ? propertyNamesReadOnly() : propertyNamesFields();
   }
@@ -461,10 +485,31 @@ final class ClassReader implements BeanReader {
         writer.append("  }").eol();
       } else {
         implementation.writeFromJsonImplementation(writer, varName);
+        implementation.writeIndexOfField(writer);
       }
       return;
     }
     writeFromJsonImplementation(writer, varName);
+    writeIndexOfField(writer);
+  }
+
+  /**
+   * Write the lookup of the field index by name used when the reader does not support nextFieldIndex().
+   */
+  private void writeIndexOfField(Append writer) {
+    if (!useFieldIndex()) {
+      return;
+    }
+    final var names = fieldIndexNames();
+    writer.eol();
+    writer.append("  private static int indexOfField(String name) {").eol();
+    writer.append("    switch (name) {").eol();
+    for (int i = 0; i < names.size(); i++) {
+      writer.append("      case %s: return %s;", names.get(i), i).eol();
+    }
+    writer.append("      default: return -1;").eol();
+    writer.append("    }").eol();
+    writer.append("  }").eol();
   }
 
   private void writeFromJsonImplementation(Append writer, String varName) {
@@ -669,6 +714,10 @@ final class ClassReader implements BeanReader {
   }
 
   private void writeFromJsonSwitch(Append writer, boolean defaultConstructor, String varName) {
+    if (useFieldIndex()) {
+      writeFromJsonSwitchIndex(writer, defaultConstructor, varName);
+      return;
+    }
     writer.eol();
     writer.append("    // read json").eol();
     writer.append("    reader.beginObject(names);").eol();
@@ -737,6 +786,38 @@ final class ClassReader implements BeanReader {
     writer.append("    reader.endObject();").eol();
   }
 
+  private void writeFromJsonSwitchIndex(Append writer, boolean defaultConstructor, String varName) {
+    writer.eol();
+    writer.append("    // read json").eol();
+    writer.append("    reader.beginObject(names);").eol();
+    writer.append("    final boolean fieldIndex = reader.supportsFieldIndex();").eol();
+    writer.append("    while (reader.hasNextField()) {").eol();
+    writer.append("      final String fieldName = fieldIndex ? null : reader.nextField();").eol();
+    writer.append("      switch (fieldName == null ? reader.nextFieldIndex(names) : indexOfField(fieldName)) {").eol();
+    final var names = fieldIndexNames();
+    final var seenIndex = new HashSet<Integer>();
+    for (final FieldReader allField : allFields) {
+      allField.writeFromJsonSwitchIndex(writer, defaultConstructor, varName, names, seenIndex);
+    }
+    writer.append("        default:").eol();
+    if (unmappedField != null) {
+      writer.append("          final String unmappedName = fieldName == null ? reader.lastFieldName() : fieldName;").eol();
+      if (unmappedJsonNodeType()) {
+        writer.append("          var value = jsonNodeAdapter.fromJson(reader);").eol();
+        writer.append("          unmapped.add(unmappedName, value);").eol();
+      } else {
+        writer.append("          var value = objectJsonAdapter.fromJson(reader);").eol();
+        writer.append("          unmapped.put(unmappedName, value);").eol();
+      }
+    } else {
+      writer.append("          reader.unmappedField(fieldName == null ? reader.lastFieldName() : fieldName);").eol();
+      writer.append("          reader.skipValue();").eol();
+    }
+    writer.append("      }").eol();
+    writer.append("    }").eol();
+    writer.append("    reader.endObject();").eol();
+  }
+
   private void writeSubTypeCase(String name, Append writer, List<FieldReader> commonFields, boolean defaultConstructor, String varName) {
     writer.append("        case \"%s\":", name).eol();
     // get all possible aliases of this field from the subtypes
@@ -749,7 +830,7 @@ final class ClassReader implements BeanReader {
     for (final FieldReader fieldReader : commonFields) {
       final var subtype = new ArrayList<>(fieldReader.subTypes().values()).get(0);
       final var setter = fieldReader.setter();
-      final var adapterFieldName = fieldReader.adapterFieldName();
+      final var readExpression = fieldReader.readExpression();
       final var fieldName = fieldReader.fieldNameWithNum();
       if (useEnum) {
         writer.append("          %sif (%s.equals(%s)) {", elseIf ? "else " : "", subtype.name(), "type").eol();
@@ -761,12 +842,12 @@ final class ClassReader implements BeanReader {
         writer.append("            reader.skipValue();");
       } else if (defaultConstructor) {
         if (setter != null) {
-          writer.append("            _$%s.%s(%s.fromJson(reader));", varName, setter.getName(), adapterFieldName);
+          writer.append("            _$%s.%s(%s);", varName, setter.getName(), readExpression);
         } else if (fieldReader.isPublicField()) {
-          writer.append("            _$%s.%s = %s.fromJson(reader);", varName, fieldName, adapterFieldName);
+          writer.append("            _$%s.%s = %s;", varName, fieldName, readExpression);
         }
       } else {
-        writer.append("            _val$%s = %s.fromJson(reader);", fieldName, adapterFieldName);
+        writer.append("            _val$%s = %s;", fieldName, readExpression);
         if (!fieldReader.isConstructorParam()) {
           writer.eol().append("            _set$%s = true;", fieldName);
         }
@@ -30,6 +30,7 @@ final class FieldProperty {
   private MethodReader getter;
   private MethodReader setter;
   private final Optional<String> customSerializer;
+  private String directRead;
 
   FieldProperty(MethodReader methodReader) {
     this(methodReader.element(),
@@ -87,6 +88,9 @@ final class FieldProperty {
           .map(Util::shortType)
           .map(s -> Character.toLowerCase(s.charAt(0)) + s.substring(1))
           .orElse((primitive && !optional ? "p" : "") + initShortName());
+      if (this.customSerializer.isEmpty() && !genericTypeParameter) {
+        directRead = PrimitiveUtil.directRead(rawType);
+      }
     }
   }
 
@@ -110,6 +114,7 @@ final class FieldProperty {
       this.adapterFieldName = "objectJsonAdapter";
     }
     this.defaultValue = "null";
+    this.directRead = null;
   }
 
   void setPosition(int pos) {
@@ -166,6 +171,14 @@ final class FieldProperty {
     return genericType.shortType();
   }
 
+  /**
+   * Return the expression used to read the property value. Primitives and their
+   * wrappers are read directly from the reader to avoid boxing via JsonAdapter.
+   */
+  String readExpression() {
+    return directRead != null ? directRead : adapterFieldName + ".fromJson(reader)";
+  }
+
   private String initAdapterShortType(String shortType) {
     String typeWrapped = "JsonAdapter<" + PrimitiveUtil.wrap(shortType) + ">";
     for (int i = 0; i < genericTypeParams.size(); i++) {
@@ -296,7 +309,11 @@ final class FieldProperty {
       writer.append("%s}", prefix).eol();
     } else {
       writer.append("%swriter.name(%s);", prefix, position).eol();
-      writer.append("%s%s.toJson(writer, ", prefix, adapterFieldName);
+      if (directRead != null) {
+        writer.append("%swriter.value(", prefix);
+      } else {
+        writer.append("%s%s.toJson(writer, ", prefix, adapterFieldName);
+      }
       writeGetValue(writer, varName, ");");
       writer.eol();
     }
@@ -379,14 +396,14 @@ final class FieldProperty {
   public void writeFromJsonSwitch(Append writer, String varName, boolean defaultConstructor, boolean useGetterAddAll) {
     if (defaultConstructor) {
       if (setter != null) {
-        writer.append("          _$%s.%s(%s.fromJson(reader));", varName, setter.getName(), adapterFieldName);
+        writer.append("          _$%s.%s(%s);", varName, setter.getName(), readExpression());
       } else if (publicField) {
-        writer.append("          _$%s.%s = %s.fromJson(reader);", varName, fieldName, adapterFieldName);
+        writer.append("          _$%s.%s = %s;", varName, fieldName, readExpression());
       } else if (useGetterAddAll) {
         writer.append("          _$%s.%s().addAll(Types.nullToEmpty(%s.fromJson(reader)));", varName, getter.getName(), adapterFieldName);
       }
     } else {
-      writer.append("          _val$%s = %s.fromJson(reader);", fieldName, adapterFieldName);
+      writer.append("          _val$%s = %s;", fieldName, readExpression());
       if (!constructorParam && !optional) {
         writer.eol().append("          _set$%s = true;", fieldName);
       }
@@ -300,6 +300,35 @@ final class FieldReader {
     if (!aliases.contains(propertyName)) {
       writer.append("        case \"%s\": ", propertyKey).eol();
     }
+    writeFromJsonSwitchBody(writer, defaultConstructor, varName);
+  }
+
+  /**
+   * Write the case statements by index position of the property name and aliases in names.
+   */
+  void writeFromJsonSwitchIndex(Append writer, boolean defaultConstructor, String varName, List<String> names, Set<Integer> seenIndex) {
+    if (unmapped) {
+      return;
+    }
+    boolean hasCase = false;
+    for (final String alias : aliases) {
+      hasCase |= writeCaseIndex(writer, names.indexOf('"' + alias + '"'), seenIndex);
+    }
+    hasCase |= writeCaseIndex(writer, names.indexOf('"' + propertyName + '"'), seenIndex);
+    if (hasCase) {
+      writeFromJsonSwitchBody(writer, defaultConstructor, varName);
+    }
+  }
+
+  private static boolean writeCaseIndex(Append writer, int index, Set<Integer> seenIndex) {
+    if (index < 0 || !seenIndex.add(index)) {
+      return false;
+    }
+    writer.append("        case %s:", index).eol();
+    return true;
+  }
+
+  private void writeFromJsonSwitchBody(Append writer, boolean defaultConstructor, String varName) {
     if (!deserialize) {
       writer.append("          reader.skipValue();");
     } else {
@@ -342,6 +371,10 @@ final class FieldReader {
     return property.adapterFieldName();
   }
 
+  String readExpression() {
+    return property.readExpression();
+  }
+
   MethodReader setter() {
     return property.setter();
   }
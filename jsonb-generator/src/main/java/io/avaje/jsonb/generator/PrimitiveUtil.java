@@ -6,6 +6,7 @@ import java.util.Map;
 final class PrimitiveUtil {
 
   private static Map<String, String> wrapperMap = new HashMap<>();
+  private static Map<String, String> directReadMap = new HashMap<>();
 
   static {
     wrapperMap.put("char", "Character");
@@ -20,6 +21,24 @@ final class PrimitiveUtil {
     wrapperMap.put("OptionalInt", "OptionalInt");
     wrapperMap.put("OptionalDouble", "OptionalDouble");
     wrapperMap.put("OptionalLong", "OptionalLong");
+
+    // types read and written directly via JsonReader / JsonWriter
+    directReadMap.put("int", "reader.readInt()");
+    directReadMap.put("long", "reader.readLong()");
+    directReadMap.put("double", "reader.readDouble()");
+    directReadMap.put("boolean", "reader.readBoolean()");
+    directReadMap.put("java.lang.Integer", "reader.isNullValue() ? null : reader.readInt()");
+    directReadMap.put("java.lang.Long", "reader.isNullValue() ? null : reader.readLong()");
+    directReadMap.put("java.lang.Double", "reader.isNullValue() ? null : reader.readDouble()");
+    directReadMap.put("java.lang.Boolean", "reader.isNullValue() ? null : reader.readBoolean()");
+  }
+
+  /**
+   * Return the expression that reads the type directly from the JsonReader
+   * or null when the type should be read via its JsonAdapter.
+   */
+  static String directRead(String rawType) {
+    return directReadMap.get(rawType);
   }
 
   static String wrap(String shortName) {
@@ -6,13 +6,21 @@ import java.io.IOException;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 
+import javax.lang.model.element.TypeElement;
 import javax.tools.JavaFileObject;
 
 final class SimpleComponentWriter {
 
+  /**
+   * Maximum number of adapters per generated method, keeping each method well under the
+   * bytecode size limit when a module has thousands of types.
+   */
+  private static final int CHUNK_SIZE = 500;
+
   private final ComponentMetaData metaData;
   private final Set<String> importTypes = new TreeSet<>();
   private Append writer;
@@ -61,10 +69,30 @@ final class SimpleComponentWriter {
       final String adapterShortName = Util.shortName(adapterFullName);
       writer.append("    builder.add(%s.FACTORY);", adapterShortName).eol();
     }
-    for (final String adapterFullName : metaData.all()) {
-      final String adapterShortName = Util.shortName(adapterFullName);
-      final String typeName = Util.shortType(Util.baseTypeOfAdapter(adapterFullName).replace("$", "."));
-      writer.append("    builder.add(%s.class, %s::new);", typeName, adapterShortName).eol();
+    final List<String> all = metaData.all();
+    final List<List<String>> groups = namedGroups(all);
+    final int chunks = groups.size();
+    int group = 0;
+    int i = 0;
+    while (i < all.size()) {
+      final String adapterFullName = all.get(i);
+      if (isCustomAdapter(adapterFullName)) {
+        // custom adapters are not required to have a Jsonb constructor
+        final String adapterShortName = Util.shortName(adapterFullName);
+        final String typeName = Util.shortType(Util.baseTypeOfAdapter(adapterFullName).replace("$", "."));
+        writer.append("    builder.add(%s.class, %s::new);", typeName, adapterShortName).eol();
+        i++;
+      } else {
+        // registered in place to keep the precedence relative to the custom adapters
+        final List<String> named = groups.get(group);
+        writer.append("    builder.add(this::%s", adapterMethod(group, chunks));
+        for (final String namedAdapter : named) {
+          writer.append(",").eol().append("      \"%s\"", binaryName(Util.baseTypeOfAdapter(namedAdapter)));
+        }
+        writer.append(");").eol();
+        group++;
+        i += named.size();
+      }
     }
     writer.append("  }").eol().eol();
     writer.append("  @Override").eol();
@@ -72,6 +100,69 @@ final class SimpleComponentWriter {
     writer.append("    return MethodHandles.lookup();").eol();
     writer.append("  }").eol().eol();
 
+    for (int g = 0; g < chunks; g++) {
+      writeAdapterMethod(adapterMethod(g, chunks), groups.get(g));
+    }
+  }
+
+  /**
+   * Return the consecutive runs of adapters registered by name, split by the custom
+   * adapters between them and into chunks of at most CHUNK_SIZE.
+   */
+  private static List<List<String>> namedGroups(List<String> all) {
+    final List<List<String>> groups = new ArrayList<>();
+    List<String> current = null;
+    for (final String adapterFullName : all) {
+      if (isCustomAdapter(adapterFullName)) {
+        current = null;
+      } else {
+        if (current == null || current.size() == CHUNK_SIZE) {
+          current = new ArrayList<>();
+          groups.add(current);
+        }
+        current.add(adapterFullName);
+      }
+    }
+    return groups;
+  }
+
+  /**
+   * Return true for a custom adapter. Adapters generated in the same round have no type element yet.
+   */
+  private static boolean isCustomAdapter(String adapterFullName) {
+    return Optional.ofNullable(APContext.typeElement(adapterFullName))
+      .filter(CustomAdapterPrism::isPresent)
+      .isPresent();
+  }
+
+  /**
+   * Write the method that builds the adapters on first use of their type. Nothing is
+   * loaded for a type until its name is matched.
+   */
+  private void writeAdapterMethod(String method, List<String> adapters) {
+    writer.append("  private JsonAdapter<?> %s(String type, Jsonb jsonb) {", method).eol();
+    writer.append("    switch (type) {").eol();
+    for (final String adapterFullName : adapters) {
+      final String adapterShortName = Util.shortName(adapterFullName);
+      writer.append("      case \"%s\":", binaryName(Util.baseTypeOfAdapter(adapterFullName))).eol();
+      writer.append("        return new %s(jsonb);", adapterShortName).eol();
+    }
+    writer.append("      default:").eol();
+    writer.append("        return null;").eol();
+    writer.append("    }").eol();
+    writer.append("  }").eol().eol();
+  }
+
+  private static String adapterMethod(int index, int chunks) {
+    return chunks == 1 ? "adapter" : "adapter" + index;
+  }
+
+  /**
+   * Return the binary class name (as per Class.getName()) of the adapted type.
+   */
+  private static String binaryName(String baseType) {
+    final TypeElement element = APContext.typeElement(baseType.replace("$", "."));
+    return element == null ? baseType : APContext.elements().getBinaryName(element).toString();
   }
 
   private void writeClassEnd() {
@@ -108,6 +199,7 @@ final class SimpleComponentWriter {
 
   private void writeImports() {
     importTypes.add(Constants.JSONB);
+    importTypes.add("io.avaje.json.JsonAdapter");
     importTypes.addAll(metaData.allImports());
     importTypes.add("io.avaje.jsonb.spi.Generated");
     importTypes.add("io.avaje.jsonb.spi.GeneratedComponent");
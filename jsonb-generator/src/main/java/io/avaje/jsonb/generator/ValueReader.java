@@ -24,6 +24,7 @@ final class ValueReader implements BeanReader {
   private final GenericType genericType;
   private final String adapterShortType;
   private final boolean isEnum;
+  private final boolean stringEnum;
   private final Map<String, List<String>> enumAliases = new LinkedHashMap<>();
   private final ExecutableElement constructor;
   private final boolean pkgPrivate;
@@ -48,6 +49,7 @@ final class ValueReader implements BeanReader {
     this.returnTypeStr = PrimitiveUtil.wrap(Util.shortType(returnType.toString()));
     this.type = Util.trimAnnotations(returnType.toString());
     this.shortName = shortName(beanType);
+    this.stringEnum = isEnum && "String".equals(returnTypeStr);
 
     genericType = GenericType.parse(returnType.toString());
     final String shortType = genericType.shortType();
@@ -99,6 +101,7 @@ final class ValueReader implements BeanReader {
 
   private Set<String> importTypes() {
     importTypes.add(Constants.IOEXCEPTION);
+    importTypes.add("java.util.Arrays");
     importTypes.add("java.util.EnumMap");
     importTypes.add("java.util.HashMap");
     importTypes.add("java.util.Map");
@@ -127,6 +130,11 @@ final class ValueReader implements BeanReader {
 
   @Override
   public void writeFields(Append writer) {
+    if (stringEnum) {
+      writer.append("  private final %s[] constants;", shortName).eol();
+      writer.append("  private final PropertyNames names;").eol().eol();
+      return;
+    }
     if (isEnum) {
       writer.append("  private static final Map<%s, %s> toValue = new EnumMap<>(%s.class);", shortName, returnTypeStr, shortName).eol();
       writer.append("  private static final Map<%s, %s> toEnum = new HashMap<>();", returnTypeStr, shortName).eol();
@@ -136,6 +144,10 @@ final class ValueReader implements BeanReader {
 
   @Override
   public void writeConstructor(Append writer) {
+    if (stringEnum) {
+      writeStringEnumConstructor(writer);
+      return;
+    }
     writer.append("    this.adapter = jsonb.adapter(%s);", genericType.asTypeDeclaration().replace("? extends ", "")).eol();
     if (isEnum) {
       writer.append("    if (toValue.isEmpty()) {").eol();
@@ -154,12 +166,38 @@ final class ValueReader implements BeanReader {
     }
   }
 
+  /**
+   * String valued enums use pre-encoded names with the enum constant at the matching index.
+   */
+  private void writeStringEnumConstructor(Append writer) {
+    final int aliasCount = enumAliases.values().stream().mapToInt(List::size).sum();
+    writer.append("    final var enumConstants = %s.values();", shortName).eol();
+    writer.append("    final var values = new String[enumConstants.length + %s];", aliasCount).eol();
+    writer.append("    this.constants = Arrays.copyOf(enumConstants, values.length);").eol();
+    writer.append("    for (final var enumConst : enumConstants) {").eol();
+    writer.append("      var val = enumConst.%s();", method.getSimpleName()).eol();
+    writer.append("      if (Arrays.asList(values).contains(val)) throw new IllegalArgumentException(\"Duplicate value \" + val + \" from enum method %s. @Json.Value methods must return unique values\");", method.getSimpleName()).eol();
+    writer.append("      values[enumConst.ordinal()] = val;").eol();
+    writer.append("    }").eol();
+    int pos = 0;
+    for (var entry : enumAliases.entrySet()) {
+      for (var alias : entry.getValue()) {
+        writer.append("    values[enumConstants.length + %s] = \"%s\";", pos, alias).eol();
+        writer.append("    constants[enumConstants.length + %s] = %s.%s;", pos, shortName, entry.getKey()).eol();
+        pos++;
+      }
+    }
+    writer.append("    this.names = jsonb.properties(values);").eol();
+  }
+
   @Override
   public void writeToJson(Append writer) {
     writer.eol();
     writer.append("  @Override").eol();
     writer.append("  public void toJson(JsonWriter writer, %s value) {", shortName).eol();
-    if (isEnum) {
+    if (stringEnum) {
+      writer.append("    writer.value(names, value.ordinal());").eol();
+    } else if (isEnum) {
       writer.append("    adapter.toJson(writer, toValue.get(value));").eol();
     } else {
       writer.append("    adapter.toJson(writer, value.%s());", method.getSimpleName()).eol();
@@ -181,6 +219,11 @@ final class ValueReader implements BeanReader {
           : shortName + "." + constructor.getSimpleName();
       writer.append("    return %s(adapter.fromJson(reader));", constructMethod).eol();
 
+    } else if (stringEnum) {
+      writer.append("    final int index = reader.readStringIndex(names);").eol();
+      writer.append("    if (index < 0)").eol();
+      writer.append("      throw new JsonDataException(\"Unable to determine %s enum value at \" + reader.location());", shortName).eol();
+      writer.append("    return constants[index];").eol();
     } else {
       writer.append("    final var value = adapter.fromJson(reader);").eol();
       writer.append("    final var enumConstant = toEnum.get(value);").eol();
@@ -14,6 +14,7 @@ import io.avaje.json.stream.JsonStream;
 import io.avaje.json.stream.JsonOutput;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 
 /**
  * Jackson Core implementation of JsonStreamAdapter.
@@ -198,6 +199,20 @@ public class JacksonAdapter implements JsonStream {
     }
   }
 
+  @Override
+  public JsonReader reader(ByteBuffer json) {
+    if (!json.hasArray()) {
+      final byte[] bytes = new byte[json.remaining()];
+      json.duplicate().get(bytes);
+      return reader(bytes);
+    }
+    try {
+      return new JacksonReader(jsonFactory.createParser(json.array(), json.arrayOffset() + json.position(), json.remaining()), failOnUnknown);
+    } catch (IOException e) {
+      throw new JsonIoException(e);
+    }
+  }
+
   @Override
   public JsonReader reader(InputStream inputStream) {
     try {
@@ -3,21 +3,45 @@ package io.avaje.jsonb.jackson;
 import com.fasterxml.jackson.core.io.SerializedString;
 import io.avaje.json.PropertyNames;
 
+import java.util.HashMap;
+import java.util.Map;
+
 final class JacksonNames implements PropertyNames {
 
   static final JacksonNames EMPTY = new JacksonNames(new String[0]);
 
   private static final NameCache NAME_CACHE = new NameCache();
 
+  private final String[] names;
   private final SerializedString[] keys;
+  private final Map<String, Integer> nameIndex;
 
   JacksonNames(String[] names) {
+    this.names = names;
     keys = new SerializedString[names.length];
+    nameIndex = new HashMap<>();
     for (int i = 0; i < names.length; i++) {
       keys[i] = obtain(names[i]);
+      nameIndex.putIfAbsent(names[i], i);
     }
   }
 
+  @Override
+  public boolean supportsIndex() {
+    return true;
+  }
+
+  @Override
+  public int indexOf(String name) {
+    final Integer index = nameIndex.get(name);
+    return index == null ? -1 : index;
+  }
+
+  @Override
+  public String name(int index) {
+    return names[index];
+  }
+
   SerializedString key(int pos) {
     return keys[pos];
   }
@@ -16,6 +16,7 @@ final class JacksonReader implements JsonReader {
   private final JsonParser parser;
   private final boolean failOnUnknown;
   private boolean streamArray;
+  private String lastFieldName;
 
   JacksonReader(JsonParser parser, boolean failOnUnknown) {
     this.parser = parser;
@@ -128,15 +129,31 @@ final class JacksonReader implements JsonReader {
   @Override
   public String nextField() {
     try {
-      String nextName = parser.getCurrentName();
+      lastFieldName = parser.getCurrentName();
       // move to next token
       parser.nextToken();
-      return nextName;
+      return lastFieldName;
     } catch (IOException e) {
       throw new JsonIoException(e);
     }
   }
 
+  @Override
+  public boolean supportsFieldIndex() {
+    return true;
+  }
+
+  @Override
+  public int nextFieldIndex(PropertyNames names) {
+    // jackson canonicalizes field names so the lookup does not create a String
+    return ((JacksonNames) names).indexOf(nextField());
+  }
+
+  @Override
+  public String lastFieldName() {
+    return lastFieldName;
+  }
+
   @Override
   public boolean isNullValue() {
     return parser.hasToken(JsonToken.VALUE_NULL);
@@ -169,6 +186,28 @@ final class JacksonReader implements JsonReader {
     }
   }
 
+  @Override
+  public String readRawNumber() {
+    try {
+      return parser.getText();
+    } catch (IOException e) {
+      throw new JsonIoException(e);
+    }
+  }
+
+  @Override
+  public Number readNumber() {
+    try {
+      final JsonParser.NumberType numberType = parser.getNumberType();
+      if (numberType == JsonParser.NumberType.INT || numberType == JsonParser.NumberType.LONG) {
+        return parser.getLongValue();
+      }
+      return parser.getDoubleValue();
+    } catch (IOException e) {
+      throw new JsonIoException(e);
+    }
+  }
+
   @Override
   public BigInteger readBigInteger() {
     try {
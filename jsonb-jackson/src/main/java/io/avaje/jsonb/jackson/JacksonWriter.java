@@ -66,6 +66,11 @@ final class JacksonWriter implements JsonWriter {
     }
   }
 
+  @Override
+  public boolean pretty() {
+    return generator.getPrettyPrinter() != null;
+  }
+
   @Override
   public <T> T unwrap(Class<T> type) {
     return type.cast(generator);
@@ -219,6 +224,16 @@ final class JacksonWriter implements JsonWriter {
     }
   }
 
+  @Override
+  public void value(PropertyNames names, int index) {
+    try {
+      writeDeferredName();
+      generator.writeString(((JacksonNames) names).key(index));
+    } catch (IOException e) {
+      throw new JsonIoException(e);
+    }
+  }
+
   @Override
   public void value(String value) {
     if (value == null) {
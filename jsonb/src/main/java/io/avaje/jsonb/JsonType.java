@@ -2,17 +2,22 @@ package io.avaje.jsonb;
 
 import io.avaje.json.JsonReader;
 import io.avaje.json.mapper.JsonMapper;
+import io.avaje.json.stream.JsonOutput;
+import io.avaje.json.stream.JsonPushParser;
+import io.avaje.jsonb.core.FlowProcessor;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 /**
@@ -111,6 +116,63 @@ public interface JsonType<T> extends JsonView<T>, JsonMapper.Type<T> {
    */
   JsonType<Stream<T>> streamAsLines();
 
+  /**
+   * Return a parallel Stream reading the newline delimited json file.
+   * <p>
+   * The file is split on newline boundaries into chunks that are memory mapped and
+   * decoded in parallel. The stream is ordered such that {@code forEachOrdered()} and
+   * {@code toList()} return the values in file order. Use {@code unordered()} or
+   * {@code forEach()} when the order is not needed.
+   * <p>
+   * The stream runs on the common ForkJoinPool or on the ForkJoinPool of the thread
+   * that runs the terminal operation. Use a try-with-resources block to close the file.
+   *
+   * <pre>{@code
+   *
+   *  try (Stream<MyBean> values = type.parallelLines(path)) {
+   *    values.unordered().forEach(bean -> ...);
+   *  }
+   *
+   * }</pre>
+   *
+   * <p>
+   * The default implementation reads the file sequentially via {@link #streamAsLines()}.
+   *
+   * @param path The newline delimited json file
+   */
+  default Stream<T> parallelLines(Path path) {
+    final InputStream inputStream;
+    try {
+      inputStream = Files.newInputStream(path);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return streamAsLines().fromJson(inputStream).onClose(() -> {
+      try {
+        inputStream.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  /**
+   * Write the values as a json array to the output serialising slices of the list in parallel.
+   * <p>
+   * Contiguous slices of the list are written into separate buffers on a ForkJoinPool
+   * and then written to the output in order. The content is the same as
+   * {@code list().toJson(values, output)} which is used for small lists. The output is
+   * closed after writing.
+   * <p>
+   * The default implementation writes the values sequentially via {@link #list()}.
+   *
+   * @param values The values to write as a json array
+   * @param output The output to write to
+   */
+  default void toJsonParallel(List<T> values, JsonOutput output) {
+    list().toJson(values, output);
+  }
+
   /**
    * Return the set type for this JsonType.
    */
@@ -151,6 +213,19 @@ public interface JsonType<T> extends JsonView<T>, JsonMapper.Type<T> {
    */
   T fromJson(InputStream inputStream);
 
+  /**
+   * Read and return the value from the remaining bytes of the buffer.
+   * <p>
+   * Heap buffers are read without copying the content and the position of the
+   * buffer is not changed. A {@code MemorySegment} can be read via
+   * {@code fromJson(segment.asByteBuffer())}.
+   */
+  default T fromJson(ByteBuffer content) {
+    final byte[] bytes = new byte[content.remaining()];
+    content.duplicate().get(bytes);
+    return fromJson(bytes);
+  }
+
   /**
    * Read and return the value from the path.
    */
@@ -211,4 +286,28 @@ public interface JsonType<T> extends JsonView<T>, JsonMapper.Type<T> {
    */
   Stream<T> stream(JsonReader reader);
 
+  /**
+   * Return a Flow.Processor that decodes ByteBuffer chunks into values of this type
+   * without blocking.
+   * <p>
+   * The given push parser determines if the content is a top level json array or newline
+   * delimited json. Chunks are requested from upstream as decoded values are requested
+   * by the subscriber. The processor supports a single subscriber.
+   *
+   * <pre>{@code
+   *
+   *  JsonType<MyBean> type =  jsonb.type(MyBean.class);
+   *
+   *  Flow.Processor<ByteBuffer, MyBean> processor = type.processor(JsonPushParser.ofArray());
+   *  byteBufferPublisher.subscribe(processor);
+   *  processor.subscribe(myBeanSubscriber);
+   *
+   * }</pre>
+   *
+   * @param parser The push parser that splits the input into json values
+   */
+  default Flow.Processor<ByteBuffer, T> processor(JsonPushParser parser) {
+    return new FlowProcessor<>(this, parser);
+  }
+
 }
@@ -6,6 +6,7 @@ import io.avaje.json.JsonWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -51,6 +52,38 @@ public interface JsonView<T> {
    */
   byte[] toJsonBytes(T value);
 
+  /**
+   * Write the value as json into the target array starting at offset returning the number of bytes.
+   * <p>
+   * The json is written directly into the array such that there is no intermediate buffer or
+   * final copy. When the json does not fit the content of the array after offset is undefined.
+   *
+   * @throws IndexOutOfBoundsException when the json content does not fit in the array
+   */
+  default int toJson(T value, byte[] target, int offset) {
+    final byte[] content = toJsonBytes(value);
+    if (content.length > target.length - offset) {
+      throw new IndexOutOfBoundsException("Json content of " + content.length + " bytes does not fit in the array from offset " + offset);
+    }
+    System.arraycopy(content, 0, target, offset, content.length);
+    return content.length;
+  }
+
+  /**
+   * Write the value as json into the target buffer returning the number of bytes.
+   * <p>
+   * The position of the buffer is advanced by the number of bytes. Heap buffers with no content
+   * in their backing array after the limit are written directly. Other buffers are written via an
+   * intermediate buffer.
+   *
+   * @throws java.nio.BufferOverflowException when the json content does not fit in the buffer
+   */
+  default int toJson(T value, ByteBuffer target) {
+    final byte[] content = toJsonBytes(value);
+    target.put(content);
+    return content.length;
+  }
+
   /**
    * Write to the given writer.
    */
@@ -5,7 +5,11 @@ import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import io.avaje.json.JsonAdapter;
@@ -13,11 +17,14 @@ import io.avaje.json.JsonReader;
 import io.avaje.json.JsonWriter;
 import io.avaje.json.PropertyNames;
 import io.avaje.json.stream.BufferRecycleStrategy;
+import io.avaje.json.stream.BufferStats;
 import io.avaje.json.stream.JsonOutput;
 import io.avaje.json.stream.JsonStream;
+import io.avaje.json.stream.NumberMode;
 import io.avaje.jsonb.core.DefaultBootstrap;
 import io.avaje.jsonb.spi.JsonStreamFactory;
 import io.avaje.jsonb.spi.JsonbComponent;
+import io.avaje.jsonb.spi.JsonbMetrics;
 
 /**
  * Provides access to json adapters by type.
@@ -118,6 +125,16 @@ public interface Jsonb {
     return DefaultBootstrap.defaultInstance();
   }
 
+  /**
+   * Return a snapshot of the buffer recycling statistics.
+   * <p>
+   * This is a convenience method for {@code JsonStream.bufferStats()} and is only
+   * collected when the {@code jsonb.bufferStats} system property is set to true.
+   */
+  static BufferStats bufferStats() {
+    return JsonStream.bufferStats();
+  }
+
   /**
    * Return json content for the given object.
    * <p>
@@ -327,6 +344,16 @@ public interface Jsonb {
    */
   JsonReader reader(InputStream inputStream);
 
+  /**
+   * Return the JsonReader used to read the json content in the remaining bytes of the
+   * given buffer. Heap buffers are read without copying the content.
+   */
+  default JsonReader reader(ByteBuffer json) {
+    final byte[] content = new byte[json.remaining()];
+    json.duplicate().get(content);
+    return reader(content);
+  }
+
   /**
    * Return the JsonWriter used to write json to the given writer.
    */
@@ -402,6 +429,50 @@ public interface Jsonb {
    */
   boolean hasAdapter(Type type);
 
+  /**
+   * Warm up before taking load, such as before readiness probes pass or before a CRaC checkpoint.
+   * <p>
+   * Builds the adapters of the given types and the views given in the options, pre-fills
+   * the buffer pool, and optionally runs synthetic round trips of sample values to drive
+   * JIT compilation.
+   *
+   * <pre>{@code
+   *
+   *   jsonb.warmup(List.of(Customer.class, Order.class), WarmupOptions.options()
+   *     .pooledBuffers(8)
+   *     .sample(Customer.class, sampleCustomer)
+   *     .iterations(10_000));
+   *
+   * }</pre>
+   *
+   * <p>
+   * The default implementation builds the adapters and views and runs the round trips
+   * but does not pre-fill the buffer pool.
+   *
+   * @param types   The types to build the adapters for
+   * @param options The views to build, buffers to pool and round trips to run
+   */
+  default void warmup(Collection<? extends Type> types, WarmupOptions options) {
+    final Set<Type> all = new LinkedHashSet<>(types);
+    for (WarmupOptions.Sample sample : options.samples()) {
+      all.add(sample.type());
+    }
+    for (Type type : all) {
+      final JsonType<Object> jsonType = type(type);
+      if (adapter(type).isViewBuilderAware()) {
+        for (String dsl : options.views()) {
+          jsonType.view(dsl);
+        }
+      }
+    }
+    for (WarmupOptions.Sample sample : options.samples()) {
+      final JsonType<Object> jsonType = type(sample.type());
+      for (int i = 0; i < options.iterations(); i++) {
+        jsonType.fromJson(jsonType.toJsonBytes(sample.value()));
+      }
+    }
+  }
+
   /**
    * Build the Jsonb instance adding JsonAdapter, Factory or AdapterBuilder.
    */
@@ -449,6 +520,21 @@ public interface Jsonb {
      */
     Builder bufferRecycling(BufferRecycleStrategy strategy);
 
+    /**
+     * Set how numbers are read for untyped values such as {@code Object} and {@code Map<String,Object>}.
+     * <p>
+     * Defaults to {@link NumberMode#WHOLE_AS_LONG}. The default implementation only supports
+     * that mode.
+     *
+     * @throws UnsupportedOperationException when the number mode is not supported by the builder
+     */
+    default Builder numberMode(NumberMode numberMode) {
+      if (numberMode != NumberMode.WHOLE_AS_LONG) {
+        throw new UnsupportedOperationException("numberMode " + numberMode + " not supported by " + getClass().getName());
+      }
+      return this;
+    }
+
     /**
      * Explicitly set the adapter to use.
      *
@@ -459,6 +545,24 @@ public interface Jsonb {
      */
     Builder adapter(JsonStream streamAdapter);
 
+    /**
+     * Set the metrics listener used to record per type serialization metrics.
+     * <p>
+     * When not set there is no timing or recording of metrics.
+     *
+     * <p>
+     * The default implementation only supports not recording metrics.
+     *
+     * @param metrics The listener that provides a Recorder per type and direction
+     * @throws UnsupportedOperationException when metrics are not supported by the builder
+     */
+    default Builder metrics(JsonbMetrics metrics) {
+      if (metrics != null) {
+        throw new UnsupportedOperationException("metrics not supported by " + getClass().getName());
+      }
+      return this;
+    }
+
     /**
      * Add a JsonAdapter to use for the given type.
      */
@@ -474,6 +578,34 @@ public interface Jsonb {
      */
     Builder add(Type type, AdapterBuilder builder);
 
+    /**
+     * Add a NamedAdapterBuilder which provides the JsonAdapters for the given type names.
+     * <p>
+     * The adapters are built on first use of their type. Generated components register
+     * their adapters this way such that neither the adapter nor the type it adapts is
+     * loaded until that type is used.
+     *
+     * <p>
+     * The default implementation loads the types and adds them via
+     * {@link #add(Type, AdapterBuilder)} such that the adapters are still built on first use.
+     *
+     * @param builder   Builds the JsonAdapter given the name of the type
+     * @param typeNames The binary class names of the types the builder provides adapters for
+     */
+    default Builder add(NamedAdapterBuilder builder, String... typeNames) {
+      final ClassLoader classLoader = builder.getClass().getClassLoader();
+      for (String typeName : typeNames) {
+        final Class<?> type;
+        try {
+          type = Class.forName(typeName, false, classLoader);
+        } catch (ClassNotFoundException e) {
+          throw new IllegalArgumentException("Type " + typeName + " not found", e);
+        }
+        add(type, jsonb -> builder.build(typeName, jsonb));
+      }
+      return this;
+    }
+
     /**
      * Add a Component which can provide multiple JsonAdapters and or configuration.
      */
@@ -508,4 +640,16 @@ public interface Jsonb {
      */
     JsonAdapter<?> build(Jsonb jsonb);
   }
+
+  /**
+   * Function to build a JsonAdapter for a type given the binary class name of the type.
+   */
+  @FunctionalInterface
+  interface NamedAdapterBuilder {
+
+    /**
+     * Create the JsonAdapter for the named type given the Jsonb instance.
+     */
+    JsonAdapter<?> build(String typeName, Jsonb jsonb);
+  }
 }
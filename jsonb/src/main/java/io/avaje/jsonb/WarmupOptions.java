@@ -0,0 +1,138 @@
+package io.avaje.jsonb;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Options for {@link Jsonb#warmup(java.util.Collection, WarmupOptions)}.
+ *
+ * <pre>{@code
+ *
+ *   jsonb.warmup(List.of(Customer.class, Order.class), WarmupOptions.options()
+ *     .view("(id,name)")
+ *     .pooledBuffers(8)
+ *     .sample(Customer.class, sampleCustomer)
+ *     .iterations(10_000));
+ *
+ * }</pre>
+ */
+public final class WarmupOptions {
+
+  private final List<String> views = new ArrayList<>();
+  private final List<Sample> samples = new ArrayList<>();
+  private int pooledBuffers;
+  private int iterations;
+
+  private WarmupOptions() {
+  }
+
+  /**
+   * Return new options that by default only build the adapters of the types.
+   */
+  public static WarmupOptions options() {
+    return new WarmupOptions();
+  }
+
+  /**
+   * Add a view to build for each of the types that support views.
+   *
+   * @param dsl The view dsl like {@code (id,name,billingAddress(*))}
+   */
+  public WarmupOptions view(String dsl) {
+    views.add(requireNonNull(dsl));
+    return this;
+  }
+
+  /**
+   * Set the number of generators and parsers to pre-fill the buffer pool with.
+   * <p>
+   * For pools shared across threads this is the target per stripe of the pool, and is
+   * limited by the maximum retained per stripe. Thread local pools are filled for the
+   * calling thread only. Defaults to 0 (not pre-filled).
+   */
+  public WarmupOptions pooledBuffers(int pooledBuffers) {
+    this.pooledBuffers = pooledBuffers;
+    return this;
+  }
+
+  /**
+   * Add a sample value of the given type used for synthetic round trips.
+   * <p>
+   * The type is warmed up along with the types passed to warmup.
+   */
+  public WarmupOptions sample(Type type, Object value) {
+    samples.add(new Sample(requireNonNull(type), requireNonNull(value)));
+    return this;
+  }
+
+  /**
+   * Set the number of synthetic round trips for each sample to drive JIT compilation of
+   * the adapters, views and parser. Defaults to 0 (no round trips).
+   * <p>
+   * Round trips go directly through the adapters and so are not recorded as JFR events
+   * or by {@link io.avaje.jsonb.spi.JsonbMetrics}.
+   */
+  public WarmupOptions iterations(int iterations) {
+    this.iterations = iterations;
+    return this;
+  }
+
+  /**
+   * Return the views to build.
+   */
+  public List<String> views() {
+    return views;
+  }
+
+  /**
+   * Return the number of generators and parsers to pre-fill the buffer pool with.
+   */
+  public int pooledBuffers() {
+    return pooledBuffers;
+  }
+
+  /**
+   * Return the sample values used for round trips.
+   */
+  public List<Sample> samples() {
+    return samples;
+  }
+
+  /**
+   * Return the number of round trips for each sample.
+   */
+  public int iterations() {
+    return iterations;
+  }
+
+  /**
+   * A sample value and its type.
+   */
+  public static final class Sample {
+
+    private final Type type;
+    private final Object value;
+
+    Sample(Type type, Object value) {
+      this.type = type;
+      this.value = value;
+    }
+
+    /**
+     * Return the type of the sample.
+     */
+    public Type type() {
+      return type;
+    }
+
+    /**
+     * Return the sample value.
+     */
+    public Object value() {
+      return value;
+    }
+  }
+}
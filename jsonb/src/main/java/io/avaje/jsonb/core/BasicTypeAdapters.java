@@ -15,6 +15,7 @@
  */
 package io.avaje.jsonb.core;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Type;
 import java.net.Inet4Address;
 import java.net.Inet6Address;
@@ -36,6 +37,9 @@ import io.avaje.json.JsonAdapter;
 import io.avaje.json.JsonDataException;
 import io.avaje.json.JsonReader;
 import io.avaje.json.JsonWriter;
+import io.avaje.json.PropertyNames;
+import io.avaje.json.stream.LazyNumber;
+import io.avaje.json.stream.NumberMode;
 import io.avaje.jsonb.AdapterFactory;
 import io.avaje.jsonb.Jsonb;
 import io.avaje.jsonb.Types;
@@ -51,8 +55,8 @@ final class BasicTypeAdapters {
         if (type == Byte.class) return new ByteAdapter().nullSafe();
         if (type == Character.class) return new CharacterAdapter().nullSafe();
         if (type == Short.class) return new ShortAdapter().nullSafe();
-        if (type == Object.class) return new ObjectJsonAdapter(jsonb).nullSafe();
         if (type == UUID.class) return new UuidAdapter().nullSafe();
+        if (type == LazyNumber.class) return new LazyNumberAdapter().nullSafe();
         if (type == URL.class) return new UrlAdapter().nullSafe();
         if (type == URI.class) return new UriAdapter().nullSafe();
         if (type == Properties.class) return new PropertiesAdapter(jsonb).nullSafe();
@@ -64,11 +68,48 @@ final class BasicTypeAdapters {
 
         final Class<?> rawType = Util.rawType(type);
         if (rawType.isEnum()) {
-          return new EnumJsonAdapter(rawType).nullSafe();
+          return new EnumJsonAdapter(jsonb, rawType).nullSafe();
         }
         return null;
       };
 
+  /**
+   * Factory for the Object adapter given how untyped numbers are read.
+   */
+  static final class ObjectFactory implements AdapterFactory {
+
+    private final NumberMode numberMode;
+
+    ObjectFactory(NumberMode numberMode) {
+      this.numberMode = numberMode;
+    }
+
+    @Override
+    public JsonAdapter<?> create(Type type, Jsonb jsonb) {
+      if (type == Object.class) {
+        return new ObjectJsonAdapter(jsonb, numberMode).nullSafe();
+      }
+      return null;
+    }
+  }
+
+  private static final class LazyNumberAdapter implements JsonAdapter<LazyNumber> {
+    @Override
+    public LazyNumber fromJson(JsonReader reader) {
+      return new LazyNumber(reader.readRawNumber());
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, LazyNumber value) {
+      writer.rawValue(value.toString());
+    }
+
+    @Override
+    public String toString() {
+      return "JsonAdapter(LazyNumber)";
+    }
+  }
+
   private static final class UuidAdapter implements JsonAdapter<UUID> {
     @Override
     public UUID fromJson(JsonReader reader) {
@@ -319,15 +360,27 @@ final class BasicTypeAdapters {
     private final JsonAdapter<List> listAdapter;
     private final JsonAdapter<Map> mapAdapter;
     private final JsonAdapter<String> stringAdapter;
-    private final JsonAdapter<Double> doubleAdapter;
     private final JsonAdapter<Boolean> booleanAdapter;
+    private final NumberMode numberMode;
+
+    /**
+     * Adapter per runtime class. The value is a weak reference such that the ClassValue
+     * entries of system classes (String, Long etc.) do not retain this Jsonb instance,
+     * the adapters are otherwise held by the Jsonb adapter cache.
+     */
+    private final ClassValue<WeakReference<JsonAdapter<Object>>> runtimeAdapters = new ClassValue<>() {
+      @Override
+      protected WeakReference<JsonAdapter<Object>> computeValue(Class<?> valueClass) {
+        return new WeakReference<>(jsonb.adapter(toJsonType(valueClass)));
+      }
+    };
 
-    ObjectJsonAdapter(Jsonb jsonb) {
+    ObjectJsonAdapter(Jsonb jsonb, NumberMode numberMode) {
       this.jsonb = jsonb;
+      this.numberMode = numberMode;
       this.listAdapter = jsonb.adapter(List.class);
       this.mapAdapter = jsonb.adapter(Map.class);
       this.stringAdapter = jsonb.adapter(String.class);
-      this.doubleAdapter = jsonb.adapter(Double.class);
       this.booleanAdapter = jsonb.adapter(Boolean.class);
     }
 
@@ -341,11 +394,7 @@ final class BasicTypeAdapters {
         case STRING:
           return stringAdapter.fromJson(reader);
         case NUMBER:
-          var d = doubleAdapter.fromJson(reader);
-          if (d % 1 == 0) {
-            return d.longValue();
-          }
-          return d;
+          return numberMode.read(reader);
         case BOOLEAN:
           return booleanAdapter.fromJson(reader);
         case NULL:
@@ -366,8 +415,17 @@ final class BasicTypeAdapters {
         final var op = (Optional<Object>) value;
         op.ifPresentOrElse(v -> toJson(writer, v), writer::nullValue);
       } else {
-        this.jsonb.adapter(toJsonType(valueClass)).toJson(writer, value);
+        runtimeAdapter(valueClass).toJson(writer, value);
+      }
+    }
+
+    private JsonAdapter<Object> runtimeAdapter(Class<?> valueClass) {
+      final JsonAdapter<Object> adapter = runtimeAdapters.get(valueClass).get();
+      if (adapter != null) {
+        return adapter;
       }
+      runtimeAdapters.remove(valueClass);
+      return jsonb.adapter(toJsonType(valueClass));
     }
 
     private Type toJsonType(Class<?> valueClass) {
@@ -384,26 +442,50 @@ final class BasicTypeAdapters {
     }
   }
 
-  private static class EnumJsonAdapter<T extends Enum<T>> implements JsonAdapter<T> {
+  private static final class EnumJsonAdapter<T extends Enum<T>> implements JsonAdapter<T> {
 
-    protected final Class<T> enumType;
+    private final Class<T> enumType;
+    private final T[] constants;
+    private final String[] constantNames;
+    private final PropertyNames names;
+    private final boolean indexed;
 
-    EnumJsonAdapter(Class<T> enumType) {
+    EnumJsonAdapter(Jsonb jsonb, Class<T> enumType) {
       this.enumType = enumType;
+      this.constants = enumType.getEnumConstants();
+      this.constantNames = new String[constants.length];
+      for (int i = 0; i < constants.length; i++) {
+        constantNames[i] = constants[i].name();
+      }
+      this.names = jsonb.properties(constantNames);
+      this.indexed = names.supportsIndex();
     }
 
     @Override
     public T fromJson(JsonReader reader) {
-      final String value = reader.readString();
-      return Enum.valueOf(enumType, value);
+      if (!indexed) {
+        final String value = reader.readString();
+        try {
+          return Enum.valueOf(enumType, value);
+        } catch (IllegalArgumentException e) {
+          throw new JsonDataException("Unable to determine " + enumType.getName() + " enum value " + value + " at " + reader.location());
+        }
+      }
+      final int index = reader.readStringIndex(names);
+      if (index < 0) {
+        throw new JsonDataException("Unable to determine " + enumType.getName() + " enum value at " + reader.location());
+      }
+      return constants[index];
     }
 
     @Override
     public void toJson(JsonWriter writer, T value) {
-      if (value != null) {
-        writer.value(value.name());
-      } else {
+      if (value == null) {
         writer.value((String) null);
+      } else if (indexed) {
+        writer.value(names, value.ordinal());
+      } else {
+        writer.value(constantNames[value.ordinal()]);
       }
     }
 
@@ -18,6 +18,7 @@ package io.avaje.jsonb.core;
 import io.avaje.json.JsonAdapter;
 import io.avaje.json.JsonReader;
 import io.avaje.json.JsonWriter;
+import io.avaje.json.stream.NumberMode;
 import io.avaje.jsonb.AdapterFactory;
 
 import java.lang.reflect.Type;
@@ -36,12 +37,13 @@ final class CoreAdapterBuilder {
   private final Map<Object, JsonAdapter<?>> adapterCache = new ConcurrentHashMap<>();
   private final ReentrantLock lock = new ReentrantLock();
 
-  CoreAdapterBuilder(DJsonb context, List<AdapterFactory> userFactories, boolean mathAsString, boolean calendarAsString) {
+  CoreAdapterBuilder(DJsonb context, List<AdapterFactory> userFactories, boolean mathAsString, boolean calendarAsString, NumberMode numberMode) {
     this.context = context;
     this.factories = new ArrayList<>();
     this.factories.addAll(userFactories);
     this.factories.add(CoreAdapters.FACTORY);
     this.factories.add(BasicTypeAdapters.FACTORY);
+    this.factories.add(new BasicTypeAdapters.ObjectFactory(numberMode));
     this.factories.add(JavaTimeAdapters.FACTORY);
     this.factories.add(new JavaTimeAdapters.CalendarFactory(calendarAsString));
     this.factories.add(new MathAdapters(mathAsString));
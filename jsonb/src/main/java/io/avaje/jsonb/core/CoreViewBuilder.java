@@ -4,6 +4,7 @@ import io.avaje.json.*;
 import io.avaje.jsonb.*;
 import io.avaje.json.stream.*;
 import io.avaje.json.view.ViewBuilder;
+import io.avaje.jsonb.spi.JsonbMetrics;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -11,7 +12,10 @@ import java.io.Writer;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.function.Function;
 
 final class CoreViewBuilder implements ViewBuilder {
 
@@ -108,8 +112,9 @@ final class CoreViewBuilder implements ViewBuilder {
     }
   }
 
-  <T> JsonView<T> build(DJsonb jsonb) {
-    return new DView<>(jsonb, resultElement, jsonb.properties(names.properties()));
+  <T> JsonView<T> build(DJsonb jsonb, Type type, String dsl) {
+    final var toMetrics = MetricsRecorder.of(jsonb.metrics(), type, JsonbMetrics.Direction.TO_JSON, dsl);
+    return new DView<>(jsonb, resultElement, jsonb.properties(names.properties()), type.getTypeName(), dsl, toMetrics);
   }
 
   /**
@@ -169,14 +174,21 @@ final class CoreViewBuilder implements ViewBuilder {
     private final DJsonb jsonb;
     private final PropertyNames properties;
     private final Element element;
+    private final String typeName;
+    private final String dsl;
+    private final MetricsRecorder toMetrics;
+    private final SizeEstimate size = new SizeEstimate();
 
     /**
      * Create top level view.
      */
-    DView(DJsonb jsonb, Element element, PropertyNames properties) {
+    DView(DJsonb jsonb, Element element, PropertyNames properties, String typeName, String dsl, MetricsRecorder toMetrics) {
       this.jsonb = jsonb;
       this.element = element;
       this.properties = properties;
+      this.typeName = typeName;
+      this.dsl = dsl;
+      this.toMetrics = toMetrics;
     }
 
     /**
@@ -186,33 +198,82 @@ final class CoreViewBuilder implements ViewBuilder {
       this.element = element;
       this.jsonb = null;
       this.properties = null;
+      this.typeName = null;
+      this.dsl = null;
+      this.toMetrics = MetricsRecorder.NONE;
     }
 
     @Override
     public String toJson(T value) {
-      try (BufferedJsonWriter writer = jsonb.bufferedWriter()) {
+      final var event = JsonEvents.toJson();
+      final long start = toMetrics.start();
+      try (BufferedJsonWriter writer = jsonb.bufferedWriter(size)) {
         toJson(value, writer);
-        return writer.result();
+        final int bytes = writer.size();
+        final String result = writer.result();
+        final long length;
+        if (bytes >= 0) {
+          size.record(bytes);
+          length = bytes;
+        } else {
+          length = MetricsRecorder.utf8Length(result);
+        }
+        event.record(typeName, dsl, jsonb.recycleStrategy(), length);
+        toMetrics.record(start, length);
+        return result;
       }
     }
 
     @Override
     public String toJsonPretty(T value) {
+      final var event = JsonEvents.toJson();
+      final long start = toMetrics.start();
       try (BufferedJsonWriter writer = jsonb.bufferedWriter()) {
         writer.pretty(true);
         toJson(value, writer);
-        return writer.result();
+        final int bytes = writer.size();
+        final String result = writer.result();
+        final long length = bytes >= 0 ? bytes : MetricsRecorder.utf8Length(result);
+        event.record(typeName, dsl, jsonb.recycleStrategy(), length);
+        toMetrics.record(start, length);
+        return result;
       }
     }
 
     @Override
     public byte[] toJsonBytes(T value) {
-      try (BytesJsonWriter writer = jsonb.bufferedWriterAsBytes()) {
+      final var event = JsonEvents.toJson();
+      final long start = toMetrics.start();
+      try (BytesJsonWriter writer = jsonb.bufferedWriterAsBytes(size)) {
         toJson(value, writer);
-        return writer.result();
+        final byte[] result = writer.result();
+        size.record(result.length);
+        event.record(typeName, dsl, jsonb.recycleStrategy(), result.length);
+        toMetrics.record(start, result.length);
+        return result;
       }
     }
 
+    @Override
+    public int toJson(T value, byte[] target, int offset) {
+      final var event = JsonEvents.toJson();
+      final long start = toMetrics.start();
+      final int length = jsonb.write(this, value, target, offset);
+      event.record(typeName, dsl, jsonb.recycleStrategy(), length);
+      toMetrics.record(start, length);
+      return length;
+    }
+
+    @Override
+    public int toJson(T value, ByteBuffer target) {
+      final var event = JsonEvents.toJson();
+      final long start = toMetrics.start();
+      final int length = jsonb.write(this, value, target, size);
+      event.record(typeName, dsl, jsonb.recycleStrategy(), length);
+      toMetrics.record(start, length);
+      return length;
+    }
+
     @Override
     public void toJson(T value, JsonWriter writer) {
       if (properties != null) {
@@ -227,23 +288,35 @@ final class CoreViewBuilder implements ViewBuilder {
 
     @Override
     public void toJson(T value, Writer writer) {
+      final var event = JsonEvents.toJson();
+      final long start = toMetrics.start();
       try (JsonWriter jsonWriter = jsonb.writer(writer)) {
         toJson(value, jsonWriter);
       }
+      event.record(typeName, dsl, jsonb.recycleStrategy(), 0);
+      toMetrics.record(start, 0);
     }
 
     @Override
     public void toJson(T value, OutputStream outputStream) {
+      final var event = JsonEvents.toJson();
+      final long start = toMetrics.start();
       try (JsonWriter writer = jsonb.writer(outputStream)) {
         toJson(value, writer);
       }
+      event.record(typeName, dsl, jsonb.recycleStrategy(), 0);
+      toMetrics.record(start, 0);
     }
 
     @Override
     public void toJson(T value, JsonOutput output) {
+      final var event = JsonEvents.toJson();
+      final long start = toMetrics.start();
       try (JsonWriter writer = jsonb.writer(output)) {
         toJson(value, writer);
       }
+      event.record(typeName, dsl, jsonb.recycleStrategy(), 0);
+      toMetrics.record(start, 0);
     }
   }
 
@@ -252,19 +325,19 @@ final class CoreViewBuilder implements ViewBuilder {
 
     private final int namePosition;
     private final JsonAdapter adapter;
-    private final MethodHandle methodHandle;
+    private final Function<Object, Object> accessor;
 
     Scalar(int namePosition, JsonAdapter adapter, MethodHandle methodHandle) {
       this.namePosition = namePosition;
       this.adapter = adapter;
-      this.methodHandle = methodHandle;
+      this.accessor = ViewAccessor.of(methodHandle);
     }
 
     @Override
     public void write(JsonWriter writer, Object object) {
       try {
         writer.name(namePosition);
-        adapter.toJson(writer, methodHandle.invoke(object));
+        adapter.toJson(writer, accessor.apply(object));
       } catch (Throwable e) {
         throw JsonException.of(e);
       }
@@ -296,12 +369,12 @@ final class CoreViewBuilder implements ViewBuilder {
   private static final class NestedObject implements Element {
 
     private final int namePosition;
-    private final MethodHandle methodHandle;
+    private final Function<Object, Object> accessor;
     private final Element[] elements;
 
     NestedObject(List<Element> elements, int namePosition, MethodHandle methodHandle) {
       this.namePosition = namePosition;
-      this.methodHandle = methodHandle;
+      this.accessor = ViewAccessor.of(methodHandle);
       this.elements = elements.toArray(new Element[0]);
     }
 
@@ -310,7 +383,7 @@ final class CoreViewBuilder implements ViewBuilder {
       try {
         writer.name(namePosition);
         writer.beginObject();
-        final Object nested = methodHandle.invoke(object);
+        final Object nested = accessor.apply(object);
         for (final Element element : elements) {
           element.write(writer, nested);
         }
@@ -350,19 +423,19 @@ final class CoreViewBuilder implements ViewBuilder {
 
     private final JsonView child;
     private final int namePosition;
-    private final MethodHandle methodHandle;
+    private final Function<Object, Object> accessor;
 
     NestedCollection(JsonView child, int namePosition, MethodHandle methodHandle) {
       this.child = child;
       this.namePosition = namePosition;
-      this.methodHandle = methodHandle;
+      this.accessor = ViewAccessor.of(methodHandle);
     }
 
     @Override
     public void write(JsonWriter writer, Object object) {
       try {
         writer.name(namePosition);
-        final Collection<?> collection = (Collection<?>) methodHandle.invoke(object);
+        final Collection<?> collection = (Collection<?>) accessor.apply(object);
         if (collection.isEmpty()) {
           writer.emptyArray();
         } else {
@@ -2,11 +2,15 @@ package io.avaje.jsonb.core;
 
 import io.avaje.json.JsonAdapter;
 import io.avaje.json.JsonReader;
+import io.avaje.json.stream.JsonPushParser;
 import io.avaje.jsonb.JsonType;
 
 import java.io.InputStream;
 import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 final class DJsonStreamType<T> extends DJsonType<T> {
@@ -24,31 +28,74 @@ final class DJsonStreamType<T> extends DJsonType<T> {
     throw new UnsupportedOperationException("Not allowed streaming type of an underlying streaming type");
   }
 
+  @Override
+  public Stream<T> parallelLines(Path path) {
+    throw new UnsupportedOperationException("Not allowed parallelLines of an underlying streaming type");
+  }
+
+  @Override
+  public Flow.Processor<ByteBuffer, T> processor(JsonPushParser parser) {
+    throw new UnsupportedOperationException("Not allowed processor of an underlying streaming type");
+  }
+
   @Override
   public T fromJson(String content) {
+    final var event = JsonEvents.fromJson();
+    final long start = fromMetrics.start();
+    final long size = content.length();
     // closing Stream, closes the JsonReader
     JsonReader reader = jsonb.reader(content);
-    return streamAdapter.fromJsonWithClose(reader);
+    return withEvent(streamAdapter.fromJsonWithClose(reader), event, start, size);
   }
 
   @Override
   public T fromJson(byte[] content) {
+    final var event = JsonEvents.fromJson();
+    final long start = fromMetrics.start();
+    final long size = content.length;
     // closing Stream, closes the JsonReader
     JsonReader reader = jsonb.reader(content);
-    return streamAdapter.fromJsonWithClose(reader);
+    return withEvent(streamAdapter.fromJsonWithClose(reader), event, start, size);
   }
 
   @Override
   public T fromJson(Reader content) {
+    final var event = JsonEvents.fromJson();
+    final long start = fromMetrics.start();
     // closing Stream, closes the JsonReader
     JsonReader reader = jsonb.reader(content);
-    return streamAdapter.fromJsonWithClose(reader);
+    return withEvent(streamAdapter.fromJsonWithClose(reader), event, start, 0);
   }
 
   @Override
   public T fromJson(InputStream inputStream) {
+    final var event = JsonEvents.fromJson();
+    final long start = fromMetrics.start();
     // closing Stream, closes the JsonReader
     JsonReader reader = jsonb.reader(inputStream);
-    return streamAdapter.fromJsonWithClose(reader);
+    return withEvent(streamAdapter.fromJsonWithClose(reader), event, start, 0);
+  }
+
+  @Override
+  public T fromJson(ByteBuffer content) {
+    final var event = JsonEvents.fromJson();
+    final long start = fromMetrics.start();
+    final long size = content.remaining();
+    // closing Stream, closes the JsonReader
+    JsonReader reader = jsonb.reader(content);
+    return withEvent(streamAdapter.fromJsonWithClose(reader), event, start, size);
+  }
+
+  /**
+   * Record the parsing event and metrics when the Stream is closed.
+   */
+  private T withEvent(T stream, JsonEvents.FromJson event, long start, long size) {
+    if (event.isEnabled() || fromMetrics.enabled()) {
+      ((Stream<?>) stream).onClose(() -> {
+        event.record(typeName, jsonb.recycleStrategy(), size);
+        fromMetrics.record(start, size);
+      });
+    }
+    return stream;
   }
 }
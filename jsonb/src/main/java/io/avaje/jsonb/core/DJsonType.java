@@ -6,13 +6,17 @@ import io.avaje.json.JsonReader;
 import io.avaje.json.JsonWriter;
 import io.avaje.json.stream.*;
 import io.avaje.jsonb.*;
+import io.avaje.jsonb.spi.JsonbMetrics;
 
 import java.io.*;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 class DJsonType<T> implements JsonType<T> {
@@ -20,11 +24,18 @@ class DJsonType<T> implements JsonType<T> {
   protected final DJsonb jsonb;
   protected final Type type;
   protected final JsonAdapter<T> adapter;
+  protected final String typeName;
+  protected final MetricsRecorder toMetrics;
+  protected final MetricsRecorder fromMetrics;
+  private final SizeEstimate size = new SizeEstimate();
 
   DJsonType(DJsonb jsonb, Type type, JsonAdapter<T> adapter) {
     this.jsonb = jsonb;
     this.type = type;
     this.adapter = adapter;
+    this.typeName = type.getTypeName();
+    this.toMetrics = MetricsRecorder.of(jsonb.metrics(), type, JsonbMetrics.Direction.TO_JSON, null);
+    this.fromMetrics = MetricsRecorder.of(jsonb.metrics(), type, JsonbMetrics.Direction.FROM_JSON, null);
   }
 
   @Override
@@ -42,6 +53,11 @@ class DJsonType<T> implements JsonType<T> {
     return stream(true);
   }
 
+  @Override
+  public Stream<T> parallelLines(Path path) {
+    return ParallelLines.stream(jsonb, adapter, path, ParallelLines.CHUNK_SIZE);
+  }
+
   private JsonType<Stream<T>> stream(boolean lineDelimited) {
     return new DJsonStreamType<>(jsonb, Types.newParameterizedType(Stream.class, type), new StreamAdapter<>(adapter, lineDelimited));
   }
@@ -68,29 +84,75 @@ class DJsonType<T> implements JsonType<T> {
 
   @Override
   public final String toJson(T value) {
-    try (BufferedJsonWriter writer = jsonb.bufferedWriter()) {
+    final var event = JsonEvents.toJson();
+    final long start = toMetrics.start();
+    try (BufferedJsonWriter writer = jsonb.bufferedWriter(size)) {
       toJson(value, writer);
-      return writer.result();
+      final int bytes = writer.size();
+      final String result = writer.result();
+      final long length;
+      if (bytes >= 0) {
+        size.record(bytes);
+        length = bytes;
+      } else {
+        length = MetricsRecorder.utf8Length(result);
+      }
+      event.record(typeName, null, jsonb.recycleStrategy(), length);
+      toMetrics.record(start, length);
+      return result;
     }
   }
 
   @Override
   public final String toJsonPretty(T value) {
+    final var event = JsonEvents.toJson();
+    final long start = toMetrics.start();
     try (BufferedJsonWriter writer = jsonb.bufferedWriter()) {
       writer.pretty(true);
       toJson(value, writer);
-      return writer.result();
+      final int bytes = writer.size();
+      final String result = writer.result();
+      final long length = bytes >= 0 ? bytes : MetricsRecorder.utf8Length(result);
+      event.record(typeName, null, jsonb.recycleStrategy(), length);
+      toMetrics.record(start, length);
+      return result;
     }
   }
 
   @Override
   public final byte[] toJsonBytes(T value) {
-    try (BytesJsonWriter writer = jsonb.bufferedWriterAsBytes()) {
+    final var event = JsonEvents.toJson();
+    final long start = toMetrics.start();
+    try (BytesJsonWriter writer = jsonb.bufferedWriterAsBytes(size)) {
       toJson(value, writer);
-      return writer.result();
+      final byte[] result = writer.result();
+      size.record(result.length);
+      event.record(typeName, null, jsonb.recycleStrategy(), result.length);
+      toMetrics.record(start, result.length);
+      return result;
     }
   }
 
+  @Override
+  public final int toJson(T value, byte[] target, int offset) {
+    final var event = JsonEvents.toJson();
+    final long start = toMetrics.start();
+    final int length = jsonb.write(this, value, target, offset);
+    event.record(typeName, null, jsonb.recycleStrategy(), length);
+    toMetrics.record(start, length);
+    return length;
+  }
+
+  @Override
+  public final int toJson(T value, ByteBuffer target) {
+    final var event = JsonEvents.toJson();
+    final long start = toMetrics.start();
+    final int length = jsonb.write(this, value, target, size);
+    event.record(typeName, null, jsonb.recycleStrategy(), length);
+    toMetrics.record(start, length);
+    return length;
+  }
+
   @Override
   public final void toJson(T value, JsonWriter writer) {
     try {
@@ -103,25 +165,42 @@ class DJsonType<T> implements JsonType<T> {
 
   @Override
   public final void toJson(T value, Writer writer) {
+    final var event = JsonEvents.toJson();
+    final long start = toMetrics.start();
     try (JsonWriter jsonWriter = jsonb.writer(writer)) {
       toJson(value, jsonWriter);
     }
+    event.record(typeName, null, jsonb.recycleStrategy(), 0);
+    toMetrics.record(start, 0);
   }
 
   @Override
   public final void toJson(T value, OutputStream outputStream) {
+    final var event = JsonEvents.toJson();
+    final long start = toMetrics.start();
     try (JsonWriter writer = jsonb.writer(outputStream)) {
       toJson(value, writer);
     }
     close(outputStream);
+    event.record(typeName, null, jsonb.recycleStrategy(), 0);
+    toMetrics.record(start, 0);
   }
 
   @Override
   public final void toJson(T value, JsonOutput output) {
+    final var event = JsonEvents.toJson();
+    final long start = toMetrics.start();
     try (JsonWriter writer = jsonb.writer(output)) {
       toJson(value, writer);
     }
     close(output);
+    event.record(typeName, null, jsonb.recycleStrategy(), 0);
+    toMetrics.record(start, 0);
+  }
+
+  @Override
+  public final void toJsonParallel(List<T> values, JsonOutput output) {
+    ParallelArrayWriter.write(jsonb, list(), jsonb.adapter(Types.listOf(type)), values, output);
   }
 
   private void close(Closeable outputStream) {
@@ -137,6 +216,11 @@ class DJsonType<T> implements JsonType<T> {
     return new StreamAdapter<>(adapter, false).fromJson(reader);
   }
 
+  @Override
+  public Flow.Processor<ByteBuffer, T> processor(JsonPushParser parser) {
+    return new FlowProcessor<>(this, parser);
+  }
+
   @Override
   public final T fromObject(Object value) {
     try (JsonReader reader = jsonb.objectReader(value)) {
@@ -151,29 +235,65 @@ class DJsonType<T> implements JsonType<T> {
 
   @Override
   public T fromJson(String content) {
+    final var event = JsonEvents.fromJson();
+    final long start = fromMetrics.start();
     try (JsonReader reader = jsonb.reader(content)) {
-      return adapter.fromJson(reader);
+      final T result = adapter.fromJson(reader);
+      if (event.isEnabled() || fromMetrics.enabled()) {
+        final long length = MetricsRecorder.utf8Length(content);
+        event.record(typeName, jsonb.recycleStrategy(), length);
+        fromMetrics.record(start, length);
+      }
+      return result;
     }
   }
 
   @Override
   public T fromJson(byte[] content) {
+    final var event = JsonEvents.fromJson();
+    final long start = fromMetrics.start();
     try (JsonReader reader = jsonb.reader(content)) {
-      return adapter.fromJson(reader);
+      final T result = adapter.fromJson(reader);
+      event.record(typeName, jsonb.recycleStrategy(), content.length);
+      fromMetrics.record(start, content.length);
+      return result;
     }
   }
 
   @Override
   public T fromJson(Reader content) {
+    final var event = JsonEvents.fromJson();
+    final long start = fromMetrics.start();
     try (JsonReader reader = jsonb.reader(content)) {
-      return adapter.fromJson(reader);
+      final T result = adapter.fromJson(reader);
+      event.record(typeName, jsonb.recycleStrategy(), 0);
+      fromMetrics.record(start, 0);
+      return result;
     }
   }
 
   @Override
   public T fromJson(InputStream inputStream) {
+    final var event = JsonEvents.fromJson();
+    final long start = fromMetrics.start();
     try (JsonReader reader = jsonb.reader(inputStream)) {
-      return adapter.fromJson(reader);
+      final T result = adapter.fromJson(reader);
+      event.record(typeName, jsonb.recycleStrategy(), 0);
+      fromMetrics.record(start, 0);
+      return result;
+    }
+  }
+
+  @Override
+  public T fromJson(ByteBuffer content) {
+    final var event = JsonEvents.fromJson();
+    final long start = fromMetrics.start();
+    final int size = content.remaining();
+    try (JsonReader reader = jsonb.reader(content)) {
+      final T result = adapter.fromJson(reader);
+      event.record(typeName, jsonb.recycleStrategy(), size);
+      fromMetrics.record(start, size);
+      return result;
     }
   }
 }
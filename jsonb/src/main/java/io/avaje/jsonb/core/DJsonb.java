@@ -11,10 +11,15 @@ import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
@@ -27,12 +32,15 @@ import io.avaje.json.stream.BufferedJsonWriter;
 import io.avaje.json.stream.BytesJsonWriter;
 import io.avaje.json.stream.JsonOutput;
 import io.avaje.json.stream.JsonStream;
+import io.avaje.json.stream.NumberMode;
 import io.avaje.jsonb.AdapterFactory;
 import io.avaje.jsonb.JsonType;
 import io.avaje.jsonb.JsonView;
 import io.avaje.jsonb.Jsonb;
+import io.avaje.jsonb.WarmupOptions;
 import io.avaje.jsonb.spi.GeneratedComponent;
 import io.avaje.jsonb.spi.JsonbComponent;
+import io.avaje.jsonb.spi.JsonbMetrics;
 
 /**
  * Default implementation of Jsonb.
@@ -44,6 +52,8 @@ final class DJsonb implements Jsonb {
   private final Map<Type, DJsonType<?>> typeCache = new ConcurrentHashMap<>();
   private final ConcurrentHashMap<ViewKey, JsonView<?>> viewCache = new ConcurrentHashMap<>();
   private final JsonType<Object> anyType;
+  private final String recycleStrategy;
+  private final JsonbMetrics metrics;
 
   DJsonb(
       JsonStream adapter,
@@ -54,16 +64,22 @@ final class DJsonb implements Jsonb {
       boolean failOnNullPrimitives,
       boolean mathAsString,
       boolean calendarAsString,
-      BufferRecycleStrategy strategy) {
+      BufferRecycleStrategy strategy,
+      JsonbMetrics metrics,
+      NumberMode numberMode) {
 
-    this.builder = new CoreAdapterBuilder(this, factories, mathAsString, calendarAsString);
+    this.metrics = metrics;
+    this.builder = new CoreAdapterBuilder(this, factories, mathAsString, calendarAsString, numberMode);
     if (adapter != null) {
       this.io = adapter;
+      this.recycleStrategy = adapter.getClass().getSimpleName();
     } else {
       var adapterFactoryOptional = ExtensionLoader.adapterFactory();
       if (adapterFactoryOptional.isPresent()) {
         this.io = adapterFactoryOptional.get().create(serializeNulls, serializeEmpty, failOnUnknown);
+        this.recycleStrategy = io.getClass().getSimpleName();
       } else {
+        this.recycleStrategy = strategy.name();
         this.io = JsonStream.builder()
           .serializeNulls(serializeNulls)
           .serializeEmpty(serializeEmpty)
@@ -120,10 +136,56 @@ final class DJsonb implements Jsonb {
     return io.bufferedWriter();
   }
 
+  BufferedJsonWriter bufferedWriter(SizeEstimate size) {
+    return io.bufferedWriter(size.hint());
+  }
+
   BytesJsonWriter bufferedWriterAsBytes() {
     return io.bufferedWriterAsBytes();
   }
 
+  BytesJsonWriter bufferedWriterAsBytes(SizeEstimate size) {
+    return io.bufferedWriterAsBytes(size.hint());
+  }
+
+  /**
+   * Write the value as json directly into the target array.
+   */
+  <T> int write(JsonView<T> view, T value, byte[] target, int offset) {
+    try (BytesJsonWriter writer = io.bufferedWriterAsBytes(target, offset)) {
+      view.toJson(value, writer);
+      return writer.result(target, offset);
+    }
+  }
+
+  /**
+   * Write the value as json into the target buffer, directly into the backing array
+   * when there is no content after the limit that could be overwritten.
+   */
+  <T> int write(JsonView<T> view, T value, ByteBuffer target, SizeEstimate size) {
+    if (target.hasArray() && target.arrayOffset() + target.limit() == target.array().length) {
+      final byte[] array = target.array();
+      final int offset = target.arrayOffset() + target.position();
+      try (BytesJsonWriter writer = io.bufferedWriterAsBytes(array, offset)) {
+        view.toJson(value, writer);
+        final int length;
+        try {
+          length = writer.result(array, offset);
+        } catch (IndexOutOfBoundsException e) {
+          throw new BufferOverflowException();
+        }
+        target.position(target.position() + length);
+        return length;
+      }
+    }
+    try (BytesJsonWriter writer = bufferedWriterAsBytes(size)) {
+      view.toJson(value, writer);
+      final int length = writer.result(target);
+      size.record(length);
+      return length;
+    }
+  }
+
   @Override
   public JsonWriter writer(Writer writer) {
     return io.writer(writer);
@@ -159,6 +221,11 @@ final class DJsonb implements Jsonb {
     return io.reader(json);
   }
 
+  @Override
+  public JsonReader reader(ByteBuffer json) {
+    return io.reader(json);
+  }
+
   @Override
   public <T> JsonType<T> type(Class<T> cls) {
     return typeWithCache(cls);
@@ -224,6 +291,72 @@ final class DJsonb implements Jsonb {
     return builder.hasAdapter(type);
   }
 
+  @Override
+  public void warmup(Collection<? extends Type> types, WarmupOptions options) {
+    requireNonNull(options);
+    final Set<Type> all = new LinkedHashSet<>(types);
+    for (WarmupOptions.Sample sample : options.samples()) {
+      all.add(sample.type());
+    }
+    for (Type type : all) {
+      final JsonType<Object> jsonType = type(type);
+      if (adapter(type).isViewBuilderAware()) {
+        for (String dsl : options.views()) {
+          jsonType.view(dsl);
+        }
+      }
+    }
+    if (options.pooledBuffers() > 0) {
+      io.prefillBuffers(options.pooledBuffers());
+    }
+    for (WarmupOptions.Sample sample : options.samples()) {
+      roundTrips(sample.type(), sample.value(), options);
+    }
+  }
+
+  /**
+   * Round trip the sample directly via its adapter and views, bypassing events and metrics.
+   */
+  private void roundTrips(Type type, Object value, WarmupOptions options) {
+    final JsonAdapter<Object> adapter = adapter(type);
+    final List<JsonView<Object>> views = new ArrayList<>();
+    if (adapter.isViewBuilderAware()) {
+      final JsonType<Object> jsonType = type(type);
+      for (String dsl : options.views()) {
+        views.add(jsonType.view(dsl));
+      }
+    }
+    for (int i = 0; i < options.iterations(); i++) {
+      final byte[] bytes;
+      try (BytesJsonWriter writer = io.bufferedWriterAsBytes()) {
+        adapter.toJson(writer, value);
+        bytes = writer.result();
+      }
+      try (JsonReader reader = io.reader(bytes)) {
+        adapter.fromJson(reader);
+      }
+      for (JsonView<Object> view : views) {
+        try (BufferedJsonWriter writer = io.bufferedWriter()) {
+          view.toJson(value, writer);
+        }
+      }
+    }
+  }
+
+  /**
+   * Return the buffer recycle strategy (or JsonStream implementation) for diagnostics.
+   */
+  String recycleStrategy() {
+    return recycleStrategy;
+  }
+
+  /**
+   * Return the metrics listener or null when not configured.
+   */
+  JsonbMetrics metrics() {
+    return metrics;
+  }
+
   JsonReader objectReader(Object value) {
     return new ObjectJsonReader(value);
   }
@@ -235,7 +368,7 @@ final class DJsonb implements Jsonb {
       try {
         CoreViewBuilder viewBuilder = new CoreViewBuilder(ViewDsl.parse(dsl));
         adapter.viewBuild().build(viewBuilder);
-        return viewBuilder.build(this);
+        return viewBuilder.build(this, type, dsl);
       } catch (Exception e) {
         throw new IllegalStateException(e);
       }
@@ -281,6 +414,8 @@ final class DJsonb implements Jsonb {
     private boolean serializeEmpty = true;
     private JsonStream adapter;
     private BufferRecycleStrategy strategy = HYBRID_POOL;
+    private JsonbMetrics metrics;
+    private NumberMode numberMode = NumberMode.WHOLE_AS_LONG;
     private ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
 
     @Override
@@ -331,6 +466,18 @@ final class DJsonb implements Jsonb {
       return this;
     }
 
+    @Override
+    public Builder metrics(JsonbMetrics metrics) {
+      this.metrics = metrics;
+      return this;
+    }
+
+    @Override
+    public Builder numberMode(NumberMode numberMode) {
+      this.numberMode = requireNonNull(numberMode);
+      return this;
+    }
+
     @Override
     public Builder add(Type type, AdapterBuilder builder) {
       return add(newAdapterFactory(type, builder));
@@ -346,6 +493,12 @@ final class DJsonb implements Jsonb {
       return add(newAdapterFactory(type, jsonAdapter));
     }
 
+    @Override
+    public Builder add(NamedAdapterBuilder builder, String... typeNames) {
+      factories.add(new NamedAdapterFactory(requireNonNull(builder), typeNames));
+      return this;
+    }
+
     @Override
     public Builder add(JsonbComponent component) {
       component.register(this);
@@ -381,12 +534,13 @@ final class DJsonb implements Jsonb {
         return DEFAULT;
       }
       registerComponents();
-      return new DJsonb(adapter, factories, serializeNulls, serializeEmpty, failOnUnknown, failOnNullPrimitives, mathTypesAsString, calendarAsString, strategy);
+      return new DJsonb(adapter, factories, serializeNulls, serializeEmpty, failOnUnknown, failOnNullPrimitives, mathTypesAsString, calendarAsString, strategy, metrics, numberMode);
     }
 
     private boolean hasCustomizations() {
       return DEFAULT == null
         || adapter != null
+        || metrics != null
         || !factories.isEmpty()
         || failOnUnknown
         || failOnNullPrimitives
@@ -394,7 +548,8 @@ final class DJsonb implements Jsonb {
         || calendarAsString
         || serializeNulls
         || !serializeEmpty
-        || HYBRID_POOL != strategy;
+        || HYBRID_POOL != strategy
+        || NumberMode.WHOLE_AS_LONG != numberMode;
     }
 
   static <T> AdapterFactory newAdapterFactory(Type type, JsonAdapter<T> jsonAdapter) {
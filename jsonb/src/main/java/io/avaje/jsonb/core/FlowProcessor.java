@@ -0,0 +1,207 @@
+package io.avaje.jsonb.core;
+
+import io.avaje.json.stream.JsonPushParser;
+import io.avaje.jsonb.JsonType;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Flow.Processor that decodes ByteBuffer chunks into values using a JsonPushParser.
+ * <p>
+ * A single chunk is requested from upstream at a time and only when there is demand
+ * for a value that is not yet available. The drain loop serialises pushing chunks,
+ * splitting values and signalling the subscriber.
+ * <p>
+ * Public as it is also the default {@link JsonType#processor(JsonPushParser)} implementation.
+ */
+public final class FlowProcessor<T> implements Flow.Processor<ByteBuffer, T>, Flow.Subscription {
+
+  private final JsonType<T> type;
+  private final JsonPushParser parser;
+  private final Queue<ByteBuffer> chunks = new ConcurrentLinkedQueue<>();
+  private final AtomicLong requested = new AtomicLong();
+  private final AtomicInteger wip = new AtomicInteger();
+
+  private volatile Flow.Subscription upstream;
+  private volatile Flow.Subscriber<? super T> downstream;
+  private volatile boolean chunkRequested;
+  private volatile boolean upstreamDone;
+  private volatile Throwable upstreamError;
+  private volatile boolean cancelled;
+
+  // only accessed in the drain loop
+  private ByteBuffer nextValue;
+  private boolean terminated;
+
+  /**
+   * Create given the type to decode values with and the parser that splits the input.
+   */
+  public FlowProcessor(JsonType<T> type, JsonPushParser parser) {
+    this.type = type;
+    this.parser = parser;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super T> subscriber) {
+    Objects.requireNonNull(subscriber);
+    synchronized (this) {
+      if (downstream != null) {
+        subscriber.onSubscribe(NoopSubscription.INSTANCE);
+        subscriber.onError(new IllegalStateException("Only a single subscriber is supported"));
+        return;
+      }
+      downstream = subscriber;
+    }
+    subscriber.onSubscribe(this);
+    drain();
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    if (upstream != null) {
+      subscription.cancel();
+      return;
+    }
+    upstream = subscription;
+    if (cancelled) {
+      subscription.cancel();
+    } else {
+      drain();
+    }
+  }
+
+  @Override
+  public void onNext(ByteBuffer chunk) {
+    chunks.add(chunk);
+    chunkRequested = false;
+    drain();
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    upstreamError = throwable;
+    upstreamDone = true;
+    drain();
+  }
+
+  @Override
+  public void onComplete() {
+    upstreamDone = true;
+    drain();
+  }
+
+  @Override
+  public void request(long n) {
+    if (n <= 0) {
+      upstreamError = new IllegalArgumentException("request must be positive but was " + n);
+      upstreamDone = true;
+      cancelUpstream();
+    } else {
+      requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+    }
+    drain();
+  }
+
+  @Override
+  public void cancel() {
+    cancelled = true;
+    cancelUpstream();
+  }
+
+  private void cancelUpstream() {
+    Flow.Subscription subscription = upstream;
+    if (subscription != null) {
+      subscription.cancel();
+    }
+  }
+
+  private void drain() {
+    if (wip.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    do {
+      if (!terminated && upstream != null && downstream != null) {
+        drainLoop();
+      }
+      missed = wip.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private void drainLoop() {
+    final Flow.Subscriber<? super T> subscriber = downstream;
+    while (!cancelled) {
+      if (upstreamError != null) {
+        terminate(upstreamError);
+        return;
+      }
+      T value;
+      try {
+        if (nextValue == null) {
+          nextValue = parser.next();
+          if (nextValue == null) {
+            ByteBuffer chunk = chunks.poll();
+            if (chunk != null) {
+              parser.push(chunk);
+              continue;
+            }
+            if (upstreamDone) {
+              if (parser.isComplete()) {
+                terminate(null);
+                return;
+              }
+              parser.end();
+              continue;
+            }
+            if (!chunkRequested) {
+              chunkRequested = true;
+              upstream.request(1);
+            }
+            return;
+          }
+        }
+        if (requested.get() == 0) {
+          return;
+        }
+        value = type.fromJson(nextValue);
+        nextValue = null;
+      } catch (RuntimeException e) {
+        cancelUpstream();
+        terminate(e);
+        return;
+      }
+      requested.decrementAndGet();
+      subscriber.onNext(value);
+    }
+  }
+
+  private void terminate(Throwable error) {
+    terminated = true;
+    if (error == null) {
+      downstream.onComplete();
+    } else {
+      downstream.onError(error);
+    }
+  }
+
+  private static final class NoopSubscription implements Flow.Subscription {
+
+    static final NoopSubscription INSTANCE = new NoopSubscription();
+
+    @Override
+    public void request(long n) {
+      // do nothing
+    }
+
+    @Override
+    public void cancel() {
+      // do nothing
+    }
+  }
+}
@@ -64,12 +64,12 @@ final class JavaTimeAdapters {
   private static final JsonAdapter<Date> UTIL_DATE = new JsonAdapter<>() {
     @Override
     public Date fromJson(JsonReader reader) {
-      return Date.from(Instant.parse(reader.readString()));
+      return Date.from(reader.readInstant());
     }
 
     @Override
     public void toJson(JsonWriter writer, Date value) {
-      writer.value(value.toInstant().toString());
+      writer.value(value.toInstant());
     }
 
     @Override
@@ -81,12 +81,12 @@ final class JavaTimeAdapters {
   private static final JsonAdapter<Duration> DURATION_ADAPTER = new JsonAdapter<>() {
     @Override
     public Duration fromJson(JsonReader reader) {
-      return Duration.parse(reader.readString());
+      return reader.readDuration();
     }
 
     @Override
     public void toJson(JsonWriter writer, Duration value) {
-      writer.value(value.toString());
+      writer.value(value);
     }
 
     @Override
@@ -98,12 +98,12 @@ final class JavaTimeAdapters {
   private static final JsonAdapter<Instant> INSTANT_ADAPTER = new JsonAdapter<>() {
     @Override
     public Instant fromJson(JsonReader reader) {
-      return Instant.parse(reader.readString());
+      return reader.readInstant();
     }
 
     @Override
     public void toJson(JsonWriter writer, Instant value) {
-      writer.value(value.toString());
+      writer.value(value);
     }
 
     @Override
@@ -115,12 +115,12 @@ final class JavaTimeAdapters {
   private static final JsonAdapter<OffsetDateTime> OFFSET_DATE_TIME_ADAPTER = new JsonAdapter<>() {
     @Override
     public OffsetDateTime fromJson(JsonReader reader) {
-      return OffsetDateTime.parse(reader.readString());
+      return reader.readOffsetDateTime();
     }
 
     @Override
     public void toJson(JsonWriter writer, OffsetDateTime value) {
-      writer.value(value.toString());
+      writer.value(value);
     }
 
     @Override
@@ -149,12 +149,12 @@ final class JavaTimeAdapters {
   private static final JsonAdapter<ZonedDateTime> ZONED_DATE_TIME_ADAPTER = new JsonAdapter<>() {
     @Override
     public ZonedDateTime fromJson(JsonReader reader) {
-      return ZonedDateTime.parse(reader.readString());
+      return reader.readZonedDateTime();
     }
 
     @Override
     public void toJson(JsonWriter writer, ZonedDateTime value) {
-      writer.value(value.toString());
+      writer.value(value);
     }
 
     @Override
@@ -166,15 +166,14 @@ final class JavaTimeAdapters {
   private static final JsonAdapter<Calendar> CALENDAR_ZONED = new JsonAdapter<>() {
     @Override
     public Calendar fromJson(JsonReader reader) {
-      final ZonedDateTime zdt = ZonedDateTime.parse(reader.readString());
-      return GregorianCalendar.from(zdt);
+      return GregorianCalendar.from(reader.readZonedDateTime());
     }
 
     @Override
     public void toJson(JsonWriter writer, Calendar value) {
       TimeZone timeZone = value.getTimeZone();
       ZonedDateTime zonedDateTime = ZonedDateTime.ofInstant(value.toInstant(), timeZone.toZoneId());
-      writer.value(zonedDateTime.toString());
+      writer.value(zonedDateTime);
     }
 
     @Override
@@ -243,12 +242,12 @@ final class JavaTimeAdapters {
   private static final JsonAdapter<LocalDate> LOCAL_DATE_ADAPTER = new JsonAdapter<>() {
     @Override
     public LocalDate fromJson(JsonReader reader) {
-      return LocalDate.parse(reader.readString());
+      return reader.readLocalDate();
     }
 
     @Override
     public void toJson(JsonWriter writer, LocalDate value) {
-      writer.value(value.toString());
+      writer.value(value);
     }
 
     @Override
@@ -260,12 +259,12 @@ final class JavaTimeAdapters {
   private static final JsonAdapter<LocalDateTime> LOCAL_DATE_TIME_ADAPTER = new JsonAdapter<>() {
     @Override
     public LocalDateTime fromJson(JsonReader reader) {
-      return LocalDateTime.parse(reader.readString());
+      return reader.readLocalDateTime();
     }
 
     @Override
     public void toJson(JsonWriter writer, LocalDateTime value) {
-      writer.value(value.toString());
+      writer.value(value);
     }
 
     @Override
@@ -277,12 +276,12 @@ final class JavaTimeAdapters {
   private static final JsonAdapter<LocalTime> LOCAL_TIME_ADAPTER = new JsonAdapter<>() {
     @Override
     public LocalTime fromJson(JsonReader reader) {
-      return LocalTime.parse(reader.readString());
+      return reader.readLocalTime();
     }
 
     @Override
     public void toJson(JsonWriter writer, LocalTime value) {
-      writer.value(value.toString());
+      writer.value(value);
     }
 
     @Override
@@ -0,0 +1,93 @@
+package io.avaje.jsonb.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * The JDK Flight Recorder event types, only loaded when the jdk.jfr module is present.
+ *
+ * @see JsonEvents
+ */
+final class JfrEvents {
+
+  private JfrEvents() {}
+
+  static JsonEvents.ToJson toJson() {
+    final ToJson event = new ToJson();
+    event.begin();
+    return event;
+  }
+
+  static JsonEvents.FromJson fromJson() {
+    final FromJson event = new FromJson();
+    event.begin();
+    return event;
+  }
+
+  @Name("io.avaje.jsonb.ToJson")
+  @Label("Json Serialization")
+  @Category({"Avaje", "Jsonb"})
+  @Description("Writing a value as json via JsonType or JsonView")
+  @Threshold("1 ms")
+  static final class ToJson extends Event implements JsonEvents.ToJson {
+
+    @Label("Type")
+    String type;
+
+    @Label("View")
+    @Description("The view dsl when written via a JsonView")
+    String view;
+
+    @Label("Length")
+    @Description("The size of the json content in bytes, or 0 when written to a stream")
+    long length;
+
+    @Label("Recycle Strategy")
+    String recycleStrategy;
+
+    @Override
+    public void record(String type, String view, String recycleStrategy, long length) {
+      end();
+      if (shouldCommit()) {
+        this.type = type;
+        this.view = view;
+        this.recycleStrategy = recycleStrategy;
+        this.length = length;
+        commit();
+      }
+    }
+  }
+
+  @Name("io.avaje.jsonb.FromJson")
+  @Label("Json Parsing")
+  @Category({"Avaje", "Jsonb"})
+  @Description("Reading a value from json via JsonType")
+  @Threshold("1 ms")
+  static final class FromJson extends Event implements JsonEvents.FromJson {
+
+    @Label("Type")
+    String type;
+
+    @Label("Length")
+    @Description("The size of the json content in bytes, or 0 when read from a stream")
+    long length;
+
+    @Label("Recycle Strategy")
+    String recycleStrategy;
+
+    @Override
+    public void record(String type, String recycleStrategy, long length) {
+      end();
+      if (shouldCommit()) {
+        this.type = type;
+        this.recycleStrategy = recycleStrategy;
+        this.length = length;
+        commit();
+      }
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package io.avaje.jsonb.core;
+
+/**
+ * JDK Flight Recorder events for json serialization and parsing.
+ * <p>
+ * The events are only recorded when enabled in the JFR settings and by default only when
+ * they take longer than the threshold of 1 ms. The threshold is adjusted via the recording
+ * settings, for example {@code io.avaje.jsonb.ToJson#threshold=0 ms}.
+ * <p>
+ * When not enabled the JIT removes the event allocation such that the cost is negligible.
+ * When the optional jdk.jfr module is not present the events are no-ops.
+ */
+final class JsonEvents {
+
+  private static final boolean JFR = jfrPresent();
+
+  private static final ToJson NO_TO_JSON = (type, view, recycleStrategy, length) -> { };
+  private static final FromJson NO_FROM_JSON = (type, recycleStrategy, length) -> { };
+
+  private JsonEvents() {}
+
+  private static boolean jfrPresent() {
+    try {
+      Class.forName("jdk.jfr.Event", false, JsonEvents.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  /**
+   * Create and begin a serialization event.
+   */
+  static ToJson toJson() {
+    return JFR ? JfrEvents.toJson() : NO_TO_JSON;
+  }
+
+  /**
+   * Create and begin a parsing event.
+   */
+  static FromJson fromJson() {
+    return JFR ? JfrEvents.fromJson() : NO_FROM_JSON;
+  }
+
+  /**
+   * Serialization event.
+   */
+  interface ToJson {
+
+    /**
+     * Return true if the event is enabled in the recording settings.
+     */
+    default boolean isEnabled() {
+      return false;
+    }
+
+    /**
+     * End the event and commit it if it passes the threshold.
+     */
+    void record(String type, String view, String recycleStrategy, long length);
+  }
+
+  /**
+   * Parsing event.
+   */
+  interface FromJson {
+
+    /**
+     * Return true if the event is enabled in the recording settings.
+     */
+    default boolean isEnabled() {
+      return false;
+    }
+
+    /**
+     * End the event and commit it if it passes the threshold.
+     */
+    void record(String type, String recycleStrategy, long length);
+  }
+}
@@ -0,0 +1,76 @@
+package io.avaje.jsonb.core;
+
+import io.avaje.jsonb.spi.JsonbMetrics;
+
+import java.lang.reflect.Type;
+
+/**
+ * Recorder bound to a type and direction at JsonType creation.
+ * <p>
+ * When no metrics are configured the recorder is null and start() and record()
+ * do nothing, including not reading the clock.
+ */
+final class MetricsRecorder {
+
+  static final MetricsRecorder NONE = new MetricsRecorder(null);
+
+  private final JsonbMetrics.Recorder recorder;
+
+  private MetricsRecorder(JsonbMetrics.Recorder recorder) {
+    this.recorder = recorder;
+  }
+
+  static MetricsRecorder of(JsonbMetrics metrics, Type type, JsonbMetrics.Direction direction, String view) {
+    if (metrics == null) {
+      return NONE;
+    }
+    final JsonbMetrics.Recorder recorder = metrics.recorder(type, direction, view);
+    return recorder == null ? NONE : new MetricsRecorder(recorder);
+  }
+
+  /**
+   * Return true if metrics are recorded.
+   */
+  boolean enabled() {
+    return recorder != null;
+  }
+
+  /**
+   * Return the UTF-8 encoded length of the content without encoding it.
+   */
+  static long utf8Length(String content) {
+    final int length = content.length();
+    long bytes = length;
+    for (int i = 0; i < length; i++) {
+      final char ch = content.charAt(i);
+      if (ch >= 0x80) {
+        if (ch < 0x800) {
+          bytes++;
+        } else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(content.charAt(i + 1))) {
+          // 4 bytes for the surrogate pair
+          bytes += 2;
+          i++;
+        } else {
+          bytes += 2;
+        }
+      }
+    }
+    return bytes;
+  }
+
+  /**
+   * Return the start time or 0 when not recording.
+   */
+  long start() {
+    return recorder == null ? 0 : System.nanoTime();
+  }
+
+  /**
+   * Record the read or write given the start time.
+   */
+  void record(long start, long bytes) {
+    if (recorder != null) {
+      recorder.record(bytes, System.nanoTime() - start);
+    }
+  }
+}
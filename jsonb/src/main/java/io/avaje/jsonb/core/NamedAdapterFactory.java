@@ -0,0 +1,42 @@
+package io.avaje.jsonb.core;
+
+import io.avaje.json.JsonAdapter;
+import io.avaje.jsonb.AdapterFactory;
+import io.avaje.jsonb.Jsonb;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Factory for the adapters registered by type name that are built on first use.
+ * <p>
+ * Registering does not load the adapter or the adapted type, and matching a type is a
+ * single map lookup on the class name rather than a check against each registered type.
+ * There is a factory per registration such that it keeps its precedence relative to the
+ * other registered adapters and factories.
+ */
+final class NamedAdapterFactory implements AdapterFactory {
+
+  private final Jsonb.NamedAdapterBuilder builder;
+  private final Set<String> typeNames;
+
+  NamedAdapterFactory(Jsonb.NamedAdapterBuilder builder, String... typeNames) {
+    this.builder = builder;
+    this.typeNames = new HashSet<>(Arrays.asList(typeNames));
+  }
+
+  @Override
+  public JsonAdapter<?> create(Type type, Jsonb jsonb) {
+    if (!(type instanceof Class)) {
+      return null;
+    }
+    final String typeName = ((Class<?>) type).getName();
+    if (!typeNames.contains(typeName)) {
+      return null;
+    }
+    final JsonAdapter<?> adapter = builder.build(typeName, jsonb);
+    return adapter == null ? null : adapter.nullSafe();
+  }
+}
@@ -18,6 +18,7 @@ final class ObjectJsonReader implements JsonReader {
   private Object currentValue;
   private Iterator<?> collectionIterator;
   private Iterator<Map.Entry<String, Object>> mapIterator;
+  private String lastFieldName;
 
   ObjectJsonReader(Object source) {
     this.source = source;
@@ -89,7 +90,17 @@ final class ObjectJsonReader implements JsonReader {
   public String nextField() {
     final Map.Entry<String, Object> mapEntry = mapIterator.next();
     currentValue = mapEntry.getValue();
-    return mapEntry.getKey();
+    return lastFieldName = mapEntry.getKey();
+  }
+
+  @Override
+  public int nextFieldIndex(PropertyNames names) {
+    return names.indexOf(nextField());
+  }
+
+  @Override
+  public String lastFieldName() {
+    return lastFieldName;
   }
 
   @Override
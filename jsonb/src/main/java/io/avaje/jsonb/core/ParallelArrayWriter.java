@@ -0,0 +1,77 @@
+package io.avaje.jsonb.core;
+
+import io.avaje.json.JsonAdapter;
+import io.avaje.json.JsonIoException;
+import io.avaje.json.stream.BytesJsonWriter;
+import io.avaje.json.stream.JsonOutput;
+import io.avaje.jsonb.JsonType;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+/**
+ * Writes a large list as a json array by serialising contiguous slices in parallel.
+ * <p>
+ * Each slice is written as a json array via the list adapter into a recycled generator
+ * buffer. The slices are then written to the output in order, replacing the '[' of each
+ * following slice with a comma and dropping the ']' of each preceding slice. The result
+ * is the same bytes as writing the list sequentially.
+ */
+final class ParallelArrayWriter {
+
+  /** Lists smaller than this are written sequentially. */
+  static final int MIN_SLICE_SIZE = 512;
+
+  private ParallelArrayWriter() {}
+
+  static <T> void write(DJsonb jsonb, JsonType<List<T>> listType, JsonAdapter<List<T>> listAdapter, List<T> values, JsonOutput output) {
+    final int size = values.size();
+    final int slices = sliceCount(size);
+    if (slices <= 1) {
+      listType.toJson(values, output);
+      return;
+    }
+    try (output) {
+      final byte[][] parts = IntStream.range(0, slices)
+        .parallel()
+        .mapToObj(i -> slice(jsonb, listAdapter, values.subList(sliceStart(size, slices, i), sliceStart(size, slices, i + 1))))
+        .toArray(byte[][]::new);
+
+      final int last = slices - 1;
+      output.write(parts[0], 0, parts[0].length - 1);
+      for (int i = 1; i < last; i++) {
+        parts[i][0] = ',';
+        output.write(parts[i], 0, parts[i].length - 1);
+      }
+      parts[last][0] = ',';
+      output.writeLast(parts[last], 0, parts[last].length);
+      output.flush();
+    } catch (IOException e) {
+      throw new JsonIoException(e);
+    }
+  }
+
+  /**
+   * Write the slice directly via the adapter such that it has no events or metrics of its own.
+   */
+  private static <T> byte[] slice(DJsonb jsonb, JsonAdapter<List<T>> listAdapter, List<T> slice) {
+    try (BytesJsonWriter writer = jsonb.bufferedWriterAsBytes()) {
+      listAdapter.toJson(writer, slice);
+      return writer.result();
+    }
+  }
+
+  private static int sliceCount(int size) {
+    final int parallelism = ForkJoinTask.inForkJoinPool()
+      ? ForkJoinTask.getPool().getParallelism()
+      : ForkJoinPool.getCommonPoolParallelism();
+    return Math.min(parallelism * 4, size / MIN_SLICE_SIZE);
+  }
+
+  private static int sliceStart(int size, int slices, int index) {
+    return (int) ((long) size * index / slices);
+  }
+}
@@ -0,0 +1,180 @@
+package io.avaje.jsonb.core;
+
+import io.avaje.json.JsonAdapter;
+import io.avaje.json.JsonReader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parallel Stream of the values of a newline delimited json file.
+ * <p>
+ * The file is split on newline boundaries into chunks. Each chunk is memory mapped and
+ * decoded by the worker thread processing it using the parser recycled for that thread.
+ */
+final class ParallelLines<T> {
+
+  static final int CHUNK_SIZE = 4 * 1024 * 1024;
+
+  private static final int SCAN_SIZE = 8 * 1024;
+
+  private final DJsonb jsonb;
+  private final JsonAdapter<T> adapter;
+  private final FileChannel channel;
+  private final int chunkSize;
+
+  private ParallelLines(DJsonb jsonb, JsonAdapter<T> adapter, FileChannel channel, int chunkSize) {
+    this.jsonb = jsonb;
+    this.adapter = adapter;
+    this.channel = channel;
+    this.chunkSize = chunkSize;
+  }
+
+  static <T> Stream<T> stream(DJsonb jsonb, JsonAdapter<T> adapter, Path path, int chunkSize) {
+    final FileChannel channel;
+    long size;
+    try {
+      channel = FileChannel.open(path, StandardOpenOption.READ);
+      size = channel.size();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    final var lines = new ParallelLines<>(jsonb, adapter, channel, chunkSize);
+    return StreamSupport.stream(lines.new Chunks(0, size), true)
+      .flatMap(lines::decode)
+      .onClose(lines::close);
+  }
+
+  private Stream<T> decode(Chunk chunk) {
+    final ByteBuffer buffer;
+    try {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start, chunk.end - chunk.start);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    if (blank(buffer)) {
+      return Stream.empty();
+    }
+    final JsonReader reader = jsonb.reader(buffer);
+    final var iterator = new StreamAdapter.Iter<>(adapter, reader, false);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+      .onClose(reader::close);
+  }
+
+  private static boolean blank(ByteBuffer buffer) {
+    for (int i = buffer.position(); i < buffer.limit(); i++) {
+      final byte b = buffer.get(i);
+      if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void close() {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Return the position after the next newline at or after the given position, or end.
+   */
+  private long afterNewline(long position, long end) {
+    final ByteBuffer scan = ByteBuffer.allocate(SCAN_SIZE);
+    while (position < end) {
+      scan.clear();
+      if (end - position < SCAN_SIZE) {
+        scan.limit((int) (end - position));
+      }
+      final int read;
+      try {
+        read = channel.read(scan, position);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      if (read <= 0) {
+        return end;
+      }
+      final byte[] bytes = scan.array();
+      for (int i = 0; i < read; i++) {
+        if (bytes[i] == '\n') {
+          return position + i + 1;
+        }
+      }
+      position += read;
+    }
+    return end;
+  }
+
+  private static final class Chunk {
+
+    final long start;
+    final long end;
+
+    Chunk(long start, long end) {
+      this.start = start;
+      this.end = end;
+    }
+  }
+
+  /**
+   * Spliterator of chunks that splits on newline boundaries.
+   */
+  private final class Chunks implements Spliterator<Chunk> {
+
+    private long start;
+    private final long end;
+
+    Chunks(long start, long end) {
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Chunk> action) {
+      if (start >= end) {
+        return false;
+      }
+      final long chunkEnd = end - start <= chunkSize ? end : afterNewline(start + chunkSize, end);
+      action.accept(new Chunk(start, chunkEnd));
+      start = chunkEnd;
+      return true;
+    }
+
+    @Override
+    public Spliterator<Chunk> trySplit() {
+      if (end - start < 2L * chunkSize) {
+        return null;
+      }
+      final long mid = afterNewline(start + (end - start) / 2, end);
+      if (mid >= end) {
+        return null;
+      }
+      final Chunks prefix = new Chunks(start, mid);
+      start = mid;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return (end - start + chunkSize - 1) / chunkSize;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | NONNULL | IMMUTABLE;
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package io.avaje.jsonb.core;
+
+/**
+ * Adaptive estimate of the serialized size of a type used to size the generator buffer
+ * up front, avoiding repeated buffer growth and copying for large content.
+ * <p>
+ * The estimate grows immediately to the largest recently written size (plus some headroom)
+ * and decays slowly when the content is consistently smaller. It is only updated when it
+ * changes such that types written concurrently do not contend on it. The field is
+ * deliberately not volatile as a stale estimate is harmless.
+ */
+final class SizeEstimate {
+
+  private int estimate;
+
+  /**
+   * Return the expected size of the content.
+   */
+  int hint() {
+    return estimate;
+  }
+
+  /**
+   * Record the size of written content.
+   */
+  void record(int size) {
+    final int current = estimate;
+    if (size > current) {
+      estimate = size + (size >> 3);
+    } else if (size < current >> 1) {
+      estimate = current - (current >> 2);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package io.avaje.jsonb.core;
+
+import io.avaje.json.JsonException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+/**
+ * Converts the MethodHandle of a view property accessor into a Function.
+ * <p>
+ * Getter methods are spun into a Function via LambdaMetafactory when the view is built such
+ * that the accessor is a plain interface call that the JIT can inline, rather than invoking
+ * a non-constant MethodHandle for every property of every value written. Field accessors and
+ * getters that the lookup can not spin fall back to an exact invocation of the handle adapted
+ * to {@code (Object)Object}.
+ */
+final class ViewAccessor {
+
+  private static final MethodType FUNCTION = MethodType.methodType(Function.class);
+  private static final MethodType APPLY = MethodType.methodType(Object.class, Object.class);
+
+  private ViewAccessor() {}
+
+  /**
+   * Return the accessor Function for the given getter or field MethodHandle.
+   */
+  static Function<Object, Object> of(MethodHandle handle) {
+    final Function<Object, Object> function = spin(handle);
+    return function != null ? function : invoker(handle);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Function<Object, Object> spin(MethodHandle handle) {
+    final Class<?> owner = handle.type().parameterType(0);
+    final Lookup lookup = ExtensionLoader.lookupLookup(owner);
+    try {
+      final MethodHandleInfo info = lookup.revealDirect(handle);
+      final int kind = info.getReferenceKind();
+      if ((kind != MethodHandleInfo.REF_invokeVirtual && kind != MethodHandleInfo.REF_invokeInterface) || !accessible(lookup, owner, info)) {
+        return null;
+      }
+      final CallSite site = LambdaMetafactory.metafactory(lookup, "apply", FUNCTION, APPLY, handle, handle.type().wrap());
+      return (Function<Object, Object>) site.getTarget().invoke();
+    } catch (Throwable e) {
+      // not a direct handle or not able to spin, use the handle
+      return null;
+    }
+  }
+
+  /**
+   * Return true if the spun class (defined in the package of the lookup class) can
+   * access the getter. The handle being obtained via the same lookup means that holds
+   * for the same module, otherwise the getter needs to be public and readable.
+   */
+  private static boolean accessible(Lookup lookup, Class<?> owner, MethodHandleInfo info) {
+    final Module from = lookup.lookupClass().getModule();
+    final Module to = owner.getModule();
+    return from == to
+      || from.canRead(to)
+      && to.isExported(owner.getPackageName(), from)
+      && Modifier.isPublic(owner.getModifiers())
+      && Modifier.isPublic(info.getModifiers());
+  }
+
+  private static Function<Object, Object> invoker(MethodHandle handle) {
+    final MethodHandle generic = handle.asType(APPLY);
+    return object -> {
+      try {
+        return generic.invokeExact(object);
+      } catch (Throwable e) {
+        throw JsonException.of(e);
+      }
+    };
+  }
+}
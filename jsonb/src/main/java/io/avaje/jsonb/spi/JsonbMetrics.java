@@ -0,0 +1,67 @@
+package io.avaje.jsonb.spi;
+
+import java.lang.reflect.Type;
+
+/**
+ * Listener for collecting per type serialization metrics such as throughput and latency.
+ * <p>
+ * A {@link Recorder} is obtained once for each type and direction when the JsonType or
+ * JsonView is created and is then called for each top level read or write. This means
+ * there is no per call lookup or allocation and implementations can bind their timers
+ * and counters in {@link #recorder(Type, Direction, String)}.
+ *
+ * <pre>{@code
+ *
+ *   Jsonb jsonb = Jsonb.builder()
+ *     .metrics((type, direction, view) -> {
+ *       Timer timer = registry.timer("json." + direction, "type", type.getTypeName());
+ *       return (bytes, nanos) -> timer.record(nanos, TimeUnit.NANOSECONDS);
+ *     })
+ *     .build();
+ *
+ * }</pre>
+ *
+ * <p>When no metrics are registered there is no timing or recording.
+ *
+ * @see io.avaje.jsonb.Jsonb.Builder#metrics(JsonbMetrics)
+ */
+@FunctionalInterface
+public interface JsonbMetrics {
+
+  /**
+   * The direction of the json processing.
+   */
+  enum Direction {
+
+    /** Writing values as json. */
+    TO_JSON,
+
+    /** Reading values from json. */
+    FROM_JSON
+  }
+
+  /**
+   * Return the recorder to use for the given type and direction.
+   *
+   * @param type      The type being read or written
+   * @param direction Writing to json or reading from json
+   * @param view      The view dsl when writing via a JsonView, otherwise null
+   * @return The recorder to use or null to not record metrics for this type
+   */
+  Recorder recorder(Type type, Direction direction, String view);
+
+  /**
+   * Records the metrics for a type and direction.
+   */
+  @FunctionalInterface
+  interface Recorder {
+
+    /**
+     * Record a read or write.
+     *
+     * @param bytes The size of the json content or 0 when streaming to or from a Writer, Reader or stream
+     * @param nanos The execution time in nanoseconds including nested adapters
+     */
+    void record(long bytes, long nanos);
+  }
+}
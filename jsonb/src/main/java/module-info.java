@@ -6,6 +6,7 @@ module io.avaje.jsonb {
   uses io.avaje.jsonb.spi.JsonbExtension;
 
   requires transitive io.avaje.json;
+  requires static jdk.jfr;
   requires static io.avaje.spi;
 
 }
@@ -0,0 +1,105 @@
+package io.avaje.jsonb.core;
+
+import io.avaje.json.JsonDataException;
+import io.avaje.json.JsonReader;
+import io.avaje.json.JsonWriter;
+import io.avaje.json.PropertyNames;
+import io.avaje.json.stream.BufferedJsonWriter;
+import io.avaje.json.stream.BytesJsonWriter;
+import io.avaje.json.stream.JsonOutput;
+import io.avaje.json.stream.JsonStream;
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.Jsonb;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EnumAdapterTest {
+
+  enum Color { RED, GREEN }
+
+  @Test
+  void fromJson_escaped() {
+    JsonType<Color> type = Jsonb.builder().build().type(Color.class);
+    assertThat(type.fromJson("\"\\u0052ED\"")).isEqualTo(Color.RED);
+    assertThat(type.toJson(Color.GREEN)).isEqualTo("\"GREEN\"");
+  }
+
+  @Test
+  void namesWithoutIndexSupport() {
+    JsonType<Color> type = Jsonb.builder().adapter(new PlainStream(JsonStream.builder().build())).build().type(Color.class);
+    assertThat(type.toJson(Color.GREEN)).isEqualTo("\"GREEN\"");
+    assertThat(type.fromJson("\"RED\"")).isEqualTo(Color.RED);
+    assertThatThrownBy(() -> type.fromJson("\"BLUE\""))
+      .isInstanceOf(JsonDataException.class)
+      .hasMessageContaining("BLUE");
+  }
+
+  /**
+   * A JsonStream returning property names that only implement the marker interface.
+   */
+  static final class PlainStream implements JsonStream {
+
+    private final JsonStream delegate;
+
+    PlainStream(JsonStream delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public PropertyNames properties(String... names) {
+      return new PropertyNames() {};
+    }
+
+    @Override
+    public JsonReader reader(String json) {
+      return delegate.reader(json);
+    }
+
+    @Override
+    public JsonReader reader(byte[] json) {
+      return delegate.reader(json);
+    }
+
+    @Override
+    public JsonReader reader(Reader reader) {
+      return delegate.reader(reader);
+    }
+
+    @Override
+    public JsonReader reader(InputStream inputStream) {
+      return delegate.reader(inputStream);
+    }
+
+    @Override
+    public JsonWriter writer(Writer writer) {
+      return delegate.writer(writer);
+    }
+
+    @Override
+    public JsonWriter writer(OutputStream outputStream) {
+      return delegate.writer(outputStream);
+    }
+
+    @Override
+    public JsonWriter writer(JsonOutput output) {
+      return delegate.writer(output);
+    }
+
+    @Override
+    public BufferedJsonWriter bufferedWriter() {
+      return delegate.bufferedWriter();
+    }
+
+    @Override
+    public BytesJsonWriter bufferedWriterAsBytes() {
+      return delegate.bufferedWriterAsBytes();
+    }
+  }
+}
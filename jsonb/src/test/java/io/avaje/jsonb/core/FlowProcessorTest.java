@@ -0,0 +1,102 @@
+package io.avaje.jsonb.core;
+
+import io.avaje.json.JsonDataException;
+import io.avaje.json.stream.JsonPushParser;
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.Jsonb;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlowProcessorTest {
+
+  static final Jsonb jsonb = Jsonb.builder().build();
+
+  @Test
+  void array() throws Exception {
+    JsonType<Map<String, Object>> type = jsonb.type(Object.class).map();
+    String content = "[{\"a\":{\"x\":1}},{\"b\":{\"y\":\"two\"}},{}]";
+
+    List<Map<String, Object>> values = publish(content, 3, type.processor(JsonPushParser.ofArray()), 1).get(5, TimeUnit.SECONDS);
+    assertThat(values).hasSize(3);
+    assertThat(values.get(0)).containsEntry("a", Map.of("x", 1L));
+    assertThat(values.get(1)).containsEntry("b", Map.of("y", "two"));
+    assertThat(values.get(2)).isEmpty();
+  }
+
+  @Test
+  void newlineDelimited() throws Exception {
+    JsonType<String> type = jsonb.type(String.class);
+    StringBuilder content = new StringBuilder();
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      expected.add("value " + i);
+      content.append("\"value ").append(i).append("\"\n");
+    }
+    List<String> values = publish(content.toString(), 7, type.processor(JsonPushParser.ofValues()), Long.MAX_VALUE).get(5, TimeUnit.SECONDS);
+    assertThat(values).isEqualTo(expected);
+  }
+
+  @Test
+  void invalidContent_onError() {
+    JsonType<String> type = jsonb.type(String.class);
+    CompletableFuture<List<String>> result = publish("[\"a\" \"b\"]", 4, type.processor(JsonPushParser.ofArray()), 1);
+    assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+      .hasCauseInstanceOf(JsonDataException.class);
+  }
+
+  static <T> CompletableFuture<List<T>> publish(String content, int chunkSize, Flow.Processor<ByteBuffer, T> processor, long batch) {
+    CompletableFuture<List<T>> result = new CompletableFuture<>();
+    processor.subscribe(new Flow.Subscriber<>() {
+      final List<T> values = new ArrayList<>();
+      Flow.Subscription subscription;
+      long outstanding;
+
+      @Override
+      public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        outstanding = batch;
+        subscription.request(batch);
+      }
+
+      @Override
+      public void onNext(T item) {
+        values.add(item);
+        if (--outstanding == 0) {
+          outstanding = batch;
+          subscription.request(batch);
+        }
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+        result.completeExceptionally(throwable);
+      }
+
+      @Override
+      public void onComplete() {
+        result.complete(values);
+      }
+    });
+
+    byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    try (SubmissionPublisher<ByteBuffer> publisher = new SubmissionPublisher<>()) {
+      publisher.subscribe(processor);
+      for (int i = 0; i < bytes.length; i += chunkSize) {
+        publisher.submit(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)));
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,56 @@
+package io.avaje.jsonb.core;
+
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.Jsonb;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonEventsTest {
+
+  static final Jsonb jsonb = Jsonb.builder().build();
+
+  @Test
+  void toJsonAndFromJson_recorded() throws Exception {
+    JsonType<Map<String, Object>> type = jsonb.type(Object.class).map();
+    Path file = Files.createTempFile("jsonb-events", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("io.avaje.jsonb.ToJson").withThreshold(Duration.ZERO);
+      recording.enable("io.avaje.jsonb.FromJson").withThreshold(Duration.ZERO);
+      recording.start();
+
+      byte[] json = type.toJsonBytes(Map.of("a", 1L));
+      assertThat(type.fromJson(json)).containsEntry("a", 1L);
+      try (Stream<Map<String, Object>> stream = type.streamAsLines().fromJson("{\"b\":2}\n{\"c\":3}")) {
+        assertThat(stream.count()).isEqualTo(2);
+      }
+
+      recording.stop();
+      recording.dump(file);
+    }
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+      .filter(e -> e.getEventType().getName().startsWith("io.avaje.jsonb."))
+      .collect(Collectors.toList());
+    Files.deleteIfExists(file);
+
+    RecordedEvent toJson = events.stream().filter(e -> e.getEventType().getName().equals("io.avaje.jsonb.ToJson")).findFirst().orElseThrow();
+    assertThat(toJson.getString("type")).isEqualTo("java.util.Map<java.lang.String, java.lang.Object>");
+    assertThat(toJson.getLong("length")).isEqualTo(7);
+    assertThat(toJson.getString("recycleStrategy")).isEqualTo("HYBRID_POOL");
+
+    List<RecordedEvent> fromJson = events.stream().filter(e -> e.getEventType().getName().equals("io.avaje.jsonb.FromJson")).collect(Collectors.toList());
+    assertThat(fromJson).hasSize(2);
+    assertThat(fromJson.get(1).getString("type")).startsWith("java.util.stream.Stream<");
+  }
+}
@@ -0,0 +1,180 @@
+package io.avaje.jsonb.core;
+
+import io.avaje.json.JsonReader;
+import io.avaje.json.JsonWriter;
+import io.avaje.json.stream.JsonOutput;
+import io.avaje.json.stream.JsonPushParser;
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.JsonView;
+import io.avaje.jsonb.Jsonb;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The default methods of JsonType when implemented outside of jsonb core.
+ */
+class JsonTypeDefaultsTest {
+
+  final JsonType<Map<String, Object>> type = new PlainType<>(Jsonb.builder().build().type(Object.class).map());
+
+  @Test
+  void parallelLines() throws Exception {
+    Path file = Files.createTempFile("parallel-lines", ".json");
+    try {
+      Files.writeString(file, "{\"id\":1}\n{\"id\":2}\n{\"id\":3}\n");
+      try (Stream<Map<String, Object>> values = type.parallelLines(file)) {
+        assertThat(values.map(value -> value.get("id")).collect(Collectors.toList())).containsExactly(1L, 2L, 3L);
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  void toJsonParallel() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    type.toJsonParallel(List.of(Map.of("id", 1L), Map.of("id", 2L)), JsonOutput.of(out));
+    assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("[{\"id\":1},{\"id\":2}]");
+  }
+
+  @Test
+  void processor() throws Exception {
+    List<Map<String, Object>> values = FlowProcessorTest.publish("[{\"id\":1},{\"id\":2}]", 3, type.processor(JsonPushParser.ofArray()), 1)
+      .get(5, TimeUnit.SECONDS);
+    assertThat(values).containsExactly(Map.of("id", 1L), Map.of("id", 2L));
+  }
+
+  /**
+   * Delegates only the abstract methods such that all the default methods are used.
+   */
+  static final class PlainType<T> implements JsonType<T> {
+
+    private final JsonType<T> delegate;
+
+    PlainType(JsonType<T> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public JsonView<T> view(String dsl) {
+      return delegate.view(dsl);
+    }
+
+    @Override
+    public JsonType<List<T>> list() {
+      return delegate.list();
+    }
+
+    @Override
+    public JsonType<Stream<T>> stream() {
+      return delegate.stream();
+    }
+
+    @Override
+    public JsonType<Stream<T>> streamAsLines() {
+      return delegate.streamAsLines();
+    }
+
+    @Override
+    public JsonType<Set<T>> set() {
+      return delegate.set();
+    }
+
+    @Override
+    public JsonType<Map<String, T>> map() {
+      return delegate.map();
+    }
+
+    @Override
+    public JsonType<Optional<T>> optional() {
+      return delegate.optional();
+    }
+
+    @Override
+    public T fromJson(JsonReader reader) {
+      return delegate.fromJson(reader);
+    }
+
+    @Override
+    public T fromJson(String content) {
+      return delegate.fromJson(content);
+    }
+
+    @Override
+    public T fromJson(byte[] content) {
+      return delegate.fromJson(content);
+    }
+
+    @Override
+    public T fromJson(Reader reader) {
+      return delegate.fromJson(reader);
+    }
+
+    @Override
+    public T fromJson(InputStream inputStream) {
+      return delegate.fromJson(inputStream);
+    }
+
+    @Override
+    public T fromObject(Object value) {
+      return delegate.fromObject(value);
+    }
+
+    @Override
+    public Stream<T> stream(JsonReader reader) {
+      return delegate.stream(reader);
+    }
+
+    @Override
+    public String toJson(T value) {
+      return delegate.toJson(value);
+    }
+
+    @Override
+    public String toJsonPretty(T value) {
+      return delegate.toJsonPretty(value);
+    }
+
+    @Override
+    public byte[] toJsonBytes(T value) {
+      return delegate.toJsonBytes(value);
+    }
+
+    @Override
+    public void toJson(T value, JsonWriter writer) {
+      delegate.toJson(value, writer);
+    }
+
+    @Override
+    public void toJson(T value, Writer writer) {
+      delegate.toJson(value, writer);
+    }
+
+    @Override
+    public void toJson(T value, OutputStream outputStream) {
+      delegate.toJson(value, outputStream);
+    }
+
+    @Override
+    public void toJson(T value, JsonOutput output) {
+      delegate.toJson(value, output);
+    }
+  }
+}
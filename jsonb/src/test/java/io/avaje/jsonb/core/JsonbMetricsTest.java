@@ -0,0 +1,97 @@
+package io.avaje.jsonb.core;
+
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.Jsonb;
+import io.avaje.jsonb.spi.JsonbMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonbMetricsTest {
+
+  static final class Captured {
+    final String type;
+    final JsonbMetrics.Direction direction;
+    final String view;
+    final long bytes;
+    final long nanos;
+
+    Captured(Type type, JsonbMetrics.Direction direction, String view, long bytes, long nanos) {
+      this.type = type.getTypeName();
+      this.direction = direction;
+      this.view = view;
+      this.bytes = bytes;
+      this.nanos = nanos;
+    }
+  }
+
+  final List<Captured> captured = new ArrayList<>();
+  final AtomicInteger bound = new AtomicInteger();
+
+  final Jsonb jsonb = Jsonb.builder()
+    .metrics((type, direction, view) -> {
+      bound.incrementAndGet();
+      return (bytes, nanos) -> captured.add(new Captured(type, direction, view, bytes, nanos));
+    })
+    .build();
+
+  @Test
+  void recordsToJsonAndFromJson() {
+    JsonType<Map<String, Object>> type = jsonb.type(Object.class).map();
+    int boundBefore = bound.get();
+
+    String json = type.toJson(Map.of("a", 1L));
+    assertThat(type.fromJson(json)).containsEntry("a", 1L);
+    type.fromJson(json.getBytes());
+
+    assertThat(captured).hasSize(3);
+    assertThat(captured.get(0).type).isEqualTo("java.util.Map<java.lang.String, java.lang.Object>");
+    assertThat(captured.get(0).direction).isEqualTo(JsonbMetrics.Direction.TO_JSON);
+    assertThat(captured.get(0).bytes).isEqualTo(json.length());
+    assertThat(captured.get(0).nanos).isGreaterThan(0);
+    assertThat(captured.get(1).direction).isEqualTo(JsonbMetrics.Direction.FROM_JSON);
+    assertThat(captured.get(2).bytes).isEqualTo(json.length());
+    // recorders are bound when the JsonType is created, not per call
+    assertThat(bound.get()).isEqualTo(boundBefore);
+  }
+
+  @Test
+  void stringContent_recordedInBytes() {
+    JsonType<String> type = jsonb.type(String.class);
+    String json = type.toJson("h\u00e9llo\u20ac\uD83D\uDE00");
+    type.fromJson(json);
+    type.toJsonPretty("h\u00e9llo\u20ac\uD83D\uDE00");
+
+    long bytes = json.getBytes(StandardCharsets.UTF_8).length;
+    assertThat(bytes).isEqualTo(15);
+    assertThat(captured).hasSize(3);
+    assertThat(captured.get(0).bytes).isEqualTo(bytes);
+    assertThat(captured.get(1).bytes).isEqualTo(bytes);
+    assertThat(captured.get(2).bytes).isEqualTo(bytes);
+  }
+
+  @Test
+  void stream_recordedOnClose() {
+    JsonType<Stream<Map<String, Object>>> type = jsonb.type(Object.class).map().streamAsLines();
+    try (Stream<Map<String, Object>> stream = type.fromJson("{\"a\":1}\n{\"b\":2}")) {
+      assertThat(stream.count()).isEqualTo(2);
+      assertThat(captured).isEmpty();
+    }
+    assertThat(captured).hasSize(1);
+    assertThat(captured.get(0).type).startsWith("java.util.stream.Stream<");
+  }
+
+  @Test
+  void nullRecorder_notRecorded() {
+    Jsonb none = Jsonb.builder().metrics((type, direction, view) -> null).build();
+    assertThat(none.type(String.class).toJson("x")).isEqualTo("\"x\"");
+  }
+}
@@ -0,0 +1,235 @@
+package io.avaje.jsonb.core;
+
+import io.avaje.json.JsonAdapter;
+import io.avaje.json.JsonReader;
+import io.avaje.json.JsonWriter;
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.Jsonb;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NamedAdapterTest {
+
+  static final class Point {
+    final int x;
+    final int y;
+
+    Point(int x, int y) {
+      this.x = x;
+      this.y = y;
+    }
+  }
+
+  static final class Line {
+    final Point from;
+    final Point to;
+
+    Line(Point from, Point to) {
+      this.from = from;
+      this.to = to;
+    }
+  }
+
+  static final class PointAdapter implements JsonAdapter<Point> {
+
+    private final JsonAdapter<Integer> intAdapter;
+
+    PointAdapter(Jsonb jsonb) {
+      this.intAdapter = jsonb.adapter(Integer.TYPE);
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Point value) {
+      writer.beginArray();
+      intAdapter.toJson(writer, value.x);
+      intAdapter.toJson(writer, value.y);
+      writer.endArray();
+    }
+
+    @Override
+    public Point fromJson(JsonReader reader) {
+      int[] values = new int[2];
+      int index = 0;
+      reader.beginArray();
+      while (reader.hasNextElement()) {
+        values[index++] = intAdapter.fromJson(reader);
+      }
+      reader.endArray();
+      return new Point(values[0], values[1]);
+    }
+  }
+
+  static final class LineAdapter implements JsonAdapter<Line> {
+
+    private final JsonAdapter<Point> pointAdapter;
+
+    LineAdapter(Jsonb jsonb) {
+      this.pointAdapter = jsonb.adapter(Point.class);
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Line value) {
+      writer.beginArray();
+      pointAdapter.toJson(writer, value.from);
+      pointAdapter.toJson(writer, value.to);
+      writer.endArray();
+    }
+
+    @Override
+    public Line fromJson(JsonReader reader) {
+      Point[] values = new Point[2];
+      int index = 0;
+      reader.beginArray();
+      while (reader.hasNextElement()) {
+        values[index++] = pointAdapter.fromJson(reader);
+      }
+      reader.endArray();
+      return new Line(values[0], values[1]);
+    }
+  }
+
+  /**
+   * Registers like a generated component, counting the adapters built.
+   */
+  static final class Component {
+
+    final AtomicInteger points = new AtomicInteger();
+    final AtomicInteger lines = new AtomicInteger();
+
+    void register(Jsonb.Builder builder) {
+      builder.add(this::adapter,
+        "io.avaje.jsonb.core.NamedAdapterTest$Point",
+        "io.avaje.jsonb.core.NamedAdapterTest$Line");
+    }
+
+    private JsonAdapter<?> adapter(String type, Jsonb jsonb) {
+      switch (type) {
+        case "io.avaje.jsonb.core.NamedAdapterTest$Point":
+          points.incrementAndGet();
+          return new PointAdapter(jsonb);
+        case "io.avaje.jsonb.core.NamedAdapterTest$Line":
+          lines.incrementAndGet();
+          return new LineAdapter(jsonb);
+        default:
+          return null;
+      }
+    }
+  }
+
+  @Test
+  void builtOnFirstUse() {
+    Component component = new Component();
+    Jsonb.Builder builder = Jsonb.builder();
+    component.register(builder);
+    Jsonb jsonb = builder.build();
+    assertThat(component.points.get()).isZero();
+    assertThat(component.lines.get()).isZero();
+
+    JsonType<Point> pointType = jsonb.type(Point.class);
+    assertThat(pointType.toJson(new Point(1, 2))).isEqualTo("[1,2]");
+    assertThat(component.points.get()).isEqualTo(1);
+    assertThat(component.lines.get()).isZero();
+
+    JsonType<Line> lineType = jsonb.type(Line.class);
+    String json = lineType.toJson(new Line(new Point(1, 2), new Point(3, 4)));
+    assertThat(json).isEqualTo("[[1,2],[3,4]]");
+    Line line = lineType.fromJson(json);
+    assertThat(line.to.y).isEqualTo(4);
+    assertThat(lineType.fromJson("null")).isNull();
+
+    assertThat(component.points.get()).isEqualTo(1);
+    assertThat(component.lines.get()).isEqualTo(1);
+  }
+
+  @Test
+  void firstRegistrationWins() {
+    Component component = new Component();
+    Jsonb.Builder builder = Jsonb.builder();
+    component.register(builder);
+    builder.add((type, jsonb) -> {
+      throw new IllegalStateException("not expected");
+    }, "io.avaje.jsonb.core.NamedAdapterTest$Point");
+    Jsonb jsonb = builder.build();
+
+    assertThat(jsonb.toJson(new Point(5, 6))).isEqualTo("[5,6]");
+    assertThat(jsonb.hasAdapter(String.class)).isTrue();
+  }
+
+  @Test
+  void mixedOrder_keepsPrecedence() {
+    JsonAdapter<Point> custom = new JsonAdapter<>() {
+      @Override
+      public void toJson(JsonWriter writer, Point value) {
+        writer.value("custom");
+      }
+
+      @Override
+      public Point fromJson(JsonReader reader) {
+        throw new UnsupportedOperationException();
+      }
+    };
+    // named, then custom for the same type, then named again
+    Jsonb.Builder builder = Jsonb.builder();
+    builder.add((type, jsonb) -> new LineAdapter(jsonb), "io.avaje.jsonb.core.NamedAdapterTest$Line");
+    builder.add(Point.class, custom);
+    builder.add((type, jsonb) -> new PointAdapter(jsonb), "io.avaje.jsonb.core.NamedAdapterTest$Point");
+    Jsonb jsonb = builder.build();
+
+    assertThat(jsonb.toJson(new Point(1, 2))).isEqualTo("\"custom\"");
+    assertThat(jsonb.toJson(new Line(new Point(1, 2), new Point(3, 4)))).isEqualTo("[\"custom\",\"custom\"]");
+  }
+
+  @Test
+  void unknownType() {
+    Jsonb.Builder builder = Jsonb.builder();
+    builder.add((type, jsonb) -> null, "io.avaje.jsonb.core.NamedAdapterTest$Point");
+    Jsonb jsonb = builder.build();
+
+    assertThat(jsonb.hasAdapter(Point.class)).isFalse();
+    assertThatThrownBy(() -> jsonb.type(Line.class))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("No JsonAdapter for");
+  }
+
+  @Test
+  void concurrentFirstUse() throws Exception {
+    Component component = new Component();
+    Jsonb.Builder builder = Jsonb.builder();
+    component.register(builder);
+    Jsonb jsonb = builder.build();
+
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        final int index = i;
+        results.add(executor.submit(() -> {
+          start.await();
+          return jsonb.toJson(new Line(new Point(index, 0), new Point(0, index)));
+        }));
+      }
+      start.countDown();
+      for (int i = 0; i < threads; i++) {
+        assertThat(results.get(i).get(10, TimeUnit.SECONDS)).isEqualTo("[[" + i + ",0],[0," + i + "]]");
+      }
+    } finally {
+      executor.shutdown();
+    }
+    // racing threads may each build an adapter but all then share the cached one
+    assertThat(component.lines.get()).isBetween(1, threads);
+    assertThat(jsonb.adapter(Line.class)).isSameAs(jsonb.adapter(Line.class));
+  }
+}
@@ -0,0 +1,75 @@
+package io.avaje.jsonb.core;
+
+import io.avaje.json.stream.LazyNumber;
+import io.avaje.json.stream.NumberMode;
+import io.avaje.jsonb.Jsonb;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectAdapterTest {
+
+  final Jsonb jsonb = Jsonb.builder().build();
+
+  @Test
+  void toJson_runtimeTypes() {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("str", "a");
+    map.put("long", 1L);
+    map.put("int", 2);
+    map.put("double", 1.5);
+    map.put("bool", true);
+    map.put("tree", new TreeMap<>(Map.of("b", 2, "a", 1)));
+    map.put("set", new LinkedHashSet<>(List.of("x", "y")));
+    map.put("list", new ArrayList<>(List.of(1, "two")));
+    map.put("optional", Optional.of("opt"));
+    map.put("empty", Optional.empty());
+    map.put("object", new Object());
+
+    String expected = "{\"str\":\"a\",\"long\":1,\"int\":2,\"double\":1.5,\"bool\":true,\"tree\":{\"a\":1,\"b\":2},"
+      + "\"set\":[\"x\",\"y\"],\"list\":[1,\"two\"],\"optional\":\"opt\",\"object\":{}}";
+    // repeated to use the cached adapters
+    assertThat(jsonb.toJson(map)).isEqualTo(expected);
+    assertThat(jsonb.toJson(map)).isEqualTo(expected);
+  }
+
+  @Test
+  void toJson_separateJsonbInstances() {
+    Jsonb other = Jsonb.builder().serializeNulls(true).build();
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("a", null);
+    map.put("b", List.of(1));
+    assertThat(jsonb.toJson(map)).isEqualTo("{\"b\":[1]}");
+    assertThat(other.toJson(map)).isEqualTo("{\"a\":null,\"b\":[1]}");
+  }
+
+  @Test
+  void fromJson_numbers() {
+    Object value = jsonb.type(Object.class).fromJson("9007199254740993");
+    assertThat(value).isEqualTo(9007199254740993L);
+
+    Map<String, Object> map = jsonb.type(Object.class).map().fromJson("{\"a\":2.0,\"b\":2.5,\"c\":-7}");
+    assertThat(map).containsEntry("a", 2L).containsEntry("b", 2.5D).containsEntry("c", -7L);
+
+    Jsonb longOrDouble = Jsonb.builder().numberMode(NumberMode.LONG_OR_DOUBLE).build();
+    assertThat(longOrDouble.type(Object.class).fromJson("2.0")).isEqualTo(2.0D);
+  }
+
+  @Test
+  void fromJson_lazyNumbers() {
+    Jsonb lazy = Jsonb.builder().numberMode(NumberMode.LAZY).build();
+    String json = "{\"a\":1.10,\"b\":[12345678901234567890123,-0.5e-3]}";
+    Map<String, Object> map = lazy.type(Object.class).map().fromJson(json);
+    assertThat(map.get("a")).isInstanceOf(LazyNumber.class);
+    assertThat(((LazyNumber) map.get("a")).doubleValue()).isEqualTo(1.1D);
+    assertThat(lazy.toJson(map)).isEqualTo(json);
+  }
+}
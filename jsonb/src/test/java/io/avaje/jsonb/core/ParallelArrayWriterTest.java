@@ -0,0 +1,89 @@
+package io.avaje.jsonb.core;
+
+import io.avaje.json.stream.JsonOutput;
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.Jsonb;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelArrayWriterTest {
+
+  static final Jsonb jsonb = Jsonb.builder().build();
+  static final JsonType<Map<String, Object>> type = jsonb.type(Object.class).map();
+
+  @Test
+  void sameAsSequential() {
+    List<Map<String, Object>> values = values(100_000);
+    byte[] expected = type.list().toJsonBytes(values);
+    assertThat(toJsonParallel(values)).isEqualTo(expected);
+  }
+
+  @Test
+  void sameAsSequential_customPool() throws Exception {
+    List<Map<String, Object>> values = values(5_000);
+    byte[] expected = type.list().toJsonBytes(values);
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      assertThat(pool.submit(() -> toJsonParallel(values)).get()).isEqualTo(expected);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void smallList_sequential() {
+    List<Map<String, Object>> values = values(3);
+    assertThat(toJsonParallel(values)).isEqualTo(type.list().toJsonBytes(values));
+    assertThat(toJsonParallel(List.of())).isEqualTo("[]".getBytes());
+  }
+
+  @Test
+  void sliceThrows_outputClosed() {
+    List<Map<String, Object>> values = values(5_000);
+    values.set(4_000, new LinkedHashMap<>() {
+      @Override
+      public Set<Map.Entry<String, Object>> entrySet() {
+        throw new IllegalStateException("bad value");
+      }
+    });
+    AtomicBoolean closed = new AtomicBoolean();
+    JsonOutput output = JsonOutput.ofStream(new ByteArrayOutputStream() {
+      @Override
+      public void close() {
+        closed.set(true);
+      }
+    });
+    assertThatThrownBy(() -> type.toJsonParallel(values, output)).hasMessageContaining("bad value");
+    assertThat(closed).isTrue();
+  }
+
+  private static byte[] toJsonParallel(List<Map<String, Object>> values) {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    type.toJsonParallel(values, JsonOutput.ofStream(os));
+    return os.toByteArray();
+  }
+
+  private static List<Map<String, Object>> values(int count) {
+    List<Map<String, Object>> values = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Map<String, Object> value = new LinkedHashMap<>();
+      value.put("id", i);
+      value.put("name", "name \"" + i + "\" é");
+      value.put("tags", i % 3 == 0 ? List.of() : List.of("a", i));
+      value.put("notes", null);
+      values.add(value);
+    }
+    return values;
+  }
+}
@@ -0,0 +1,83 @@
+package io.avaje.jsonb.core;
+
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.Jsonb;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelLinesTest {
+
+  static final DJsonb jsonb = (DJsonb) Jsonb.builder().build();
+
+  @Test
+  void ordered() throws Exception {
+    Path file = Files.createTempFile("parallel-lines", ".json");
+    try {
+      List<Map<String, Object>> expected = writeLines(file, 5_000);
+      JsonType<Map<String, Object>> type = jsonb.type(Object.class).map();
+      try (Stream<Map<String, Object>> values = type.parallelLines(file)) {
+        assertThat(values.collect(Collectors.toList())).isEqualTo(expected);
+      }
+      // small chunks such that the file is split into many chunks
+      for (int chunkSize : new int[]{1, 7, 100, 4096}) {
+        try (Stream<Map<String, Object>> values = ParallelLines.stream(jsonb, ((DJsonType<Map<String, Object>>) type).adapter, file, chunkSize)) {
+          assertThat(values.collect(Collectors.toList())).isEqualTo(expected);
+        }
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  void unordered_customPool() throws Exception {
+    Path file = Files.createTempFile("parallel-lines", ".json");
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      Files.writeString(file, "{\"id\":1}\n\n{\"id\":2}\n{\"id\":3}\n  \n");
+      JsonType<Map<String, Object>> type = jsonb.type(Object.class).map();
+      long sum = pool.submit(() -> {
+        try (Stream<Map<String, Object>> values = ParallelLines.stream(jsonb, ((DJsonType<Map<String, Object>>) type).adapter, file, 8)) {
+          return values.unordered().mapToLong(value -> (Long) value.get("id")).sum();
+        }
+      }).get();
+      assertThat(sum).isEqualTo(6L);
+    } finally {
+      pool.shutdown();
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  void emptyFile() throws IOException {
+    Path file = Files.createTempFile("parallel-lines", ".json");
+    try (Stream<Map<String, Object>> values = jsonb.type(Object.class).map().parallelLines(file)) {
+      assertThat(values.count()).isEqualTo(0);
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  private static List<Map<String, Object>> writeLines(Path file, int count) throws IOException {
+    List<Map<String, Object>> expected = new ArrayList<>();
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      String value = "value " + i + " é";
+      expected.add(Map.of("id", (long) i, "value", value));
+      content.append("{\"id\":").append(i).append(",\"value\":\"").append(value).append("\"}\n");
+    }
+    Files.writeString(file, content);
+    return expected;
+  }
+}
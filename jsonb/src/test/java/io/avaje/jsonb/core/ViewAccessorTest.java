@@ -0,0 +1,133 @@
+package io.avaje.jsonb.core;
+
+import io.avaje.json.JsonAdapter;
+import io.avaje.json.JsonException;
+import io.avaje.json.JsonReader;
+import io.avaje.json.JsonWriter;
+import io.avaje.json.view.ViewBuilder;
+import io.avaje.json.view.ViewBuilderAware;
+import io.avaje.jsonb.JsonView;
+import io.avaje.jsonb.Jsonb;
+import io.avaje.jsonb.Types;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ViewAccessorTest {
+
+  public static class Customer {
+    public final long id;
+    private final String name;
+    private final int rank;
+    private final List<String> tags;
+
+    public Customer(long id, String name, int rank, List<String> tags) {
+      this.id = id;
+      this.name = name;
+      this.rank = rank;
+      this.tags = tags;
+    }
+
+    public String name() {
+      return name;
+    }
+
+    public int rank() {
+      if (rank < 0) {
+        throw new IllegalStateException("negative rank");
+      }
+      return rank;
+    }
+
+    public List<String> tags() {
+      return tags;
+    }
+  }
+
+  static final class CustomerAdapter implements JsonAdapter<Customer>, ViewBuilderAware {
+
+    private final JsonAdapter<Long> longAdapter;
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Integer> intAdapter;
+    private final JsonAdapter<List<String>> listAdapter;
+
+    CustomerAdapter(Jsonb jsonb) {
+      this.longAdapter = jsonb.adapter(Long.TYPE);
+      this.stringAdapter = jsonb.adapter(String.class);
+      this.intAdapter = jsonb.adapter(Integer.TYPE);
+      this.listAdapter = jsonb.adapter(Types.listOf(String.class));
+    }
+
+    @Override
+    public boolean isViewBuilderAware() {
+      return true;
+    }
+
+    @Override
+    public ViewBuilderAware viewBuild() {
+      return this;
+    }
+
+    @Override
+    public void build(ViewBuilder builder, String name, MethodHandle handle) {
+      builder.beginObject(name, handle);
+      builder.add("id", longAdapter, builder.field(Customer.class, "id"));
+      builder.add("name", stringAdapter, builder.method(Customer.class, "name", String.class));
+      builder.add("rank", intAdapter, builder.method(Customer.class, "rank", int.class));
+      builder.add("tags", listAdapter, builder.method(Customer.class, "tags", List.class));
+      builder.endObject();
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Customer value) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Customer fromJson(JsonReader reader) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  final Jsonb jsonb = Jsonb.builder().add(Customer.class, CustomerAdapter::new).build();
+
+  @Test
+  void view() {
+    JsonView<Customer> view = jsonb.type(Customer.class).view("(id,name,rank,tags)");
+    assertThat(view.toJson(new Customer(42, "fred", 7, List.of("a", "b"))))
+      .isEqualTo("{\"id\":42,\"name\":\"fred\",\"rank\":7,\"tags\":[\"a\",\"b\"]}");
+
+    JsonView<Customer> partial = jsonb.type(Customer.class).view("(name,rank)");
+    assertThat(partial.toJson(new Customer(42, "fred", 7, List.of()))).isEqualTo("{\"name\":\"fred\",\"rank\":7}");
+  }
+
+  @Test
+  void view_getterException_wrapped() {
+    JsonView<Customer> view = jsonb.type(Customer.class).view("(rank)");
+    assertThatThrownBy(() -> view.toJson(new Customer(42, "fred", -1, List.of())))
+      .isInstanceOf(JsonException.class)
+      .hasRootCauseMessage("negative rank");
+  }
+
+  @Test
+  void getter_spunAsLambda() throws Exception {
+    MethodHandle handle = MethodHandles.lookup().findVirtual(Customer.class, "rank", MethodType.methodType(int.class));
+    Function<Object, Object> accessor = ViewAccessor.of(handle);
+    assertThat(accessor.getClass().isSynthetic() || accessor.getClass().getName().contains("$$Lambda")).isTrue();
+    assertThat(accessor.apply(new Customer(1, "a", 9, List.of()))).isEqualTo(9);
+  }
+
+  @Test
+  void field_usesHandle() throws Exception {
+    MethodHandle handle = MethodHandles.lookup().unreflectGetter(Customer.class.getField("id"));
+    Function<Object, Object> accessor = ViewAccessor.of(handle);
+    assertThat(accessor.apply(new Customer(77, "a", 9, List.of()))).isEqualTo(77L);
+  }
+}
@@ -0,0 +1,100 @@
+package io.avaje.jsonb.core;
+
+import io.avaje.json.JsonAdapter;
+import io.avaje.json.JsonReader;
+import io.avaje.json.JsonWriter;
+import io.avaje.json.stream.BufferRecycleStrategy;
+import io.avaje.jsonb.JsonView;
+import io.avaje.jsonb.Jsonb;
+import io.avaje.jsonb.Types;
+import io.avaje.jsonb.WarmupOptions;
+import io.avaje.jsonb.core.ViewAccessorTest.Customer;
+import io.avaje.jsonb.core.ViewAccessorTest.CustomerAdapter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WarmupTest {
+
+  static final class Counter {
+    final int value;
+
+    Counter(int value) {
+      this.value = value;
+    }
+  }
+
+  static final class CounterAdapter implements JsonAdapter<Counter> {
+
+    final AtomicInteger writes = new AtomicInteger();
+    final AtomicInteger reads = new AtomicInteger();
+
+    @Override
+    public void toJson(JsonWriter writer, Counter value) {
+      writes.incrementAndGet();
+      writer.value(value.value);
+    }
+
+    @Override
+    public Counter fromJson(JsonReader reader) {
+      reads.incrementAndGet();
+      return new Counter(reader.readInt());
+    }
+  }
+
+  @Test
+  void buildsAdaptersAndViews() {
+    AtomicInteger built = new AtomicInteger();
+    Jsonb jsonb = Jsonb.builder()
+      .add(Customer.class, json -> {
+        built.incrementAndGet();
+        return new CustomerAdapter(json);
+      })
+      .build();
+
+    jsonb.warmup(List.of(Customer.class, Types.mapOf(String.class)), WarmupOptions.options().view("(id,name)"));
+    assertThat(built.get()).isEqualTo(1);
+
+    JsonView<Customer> view = jsonb.type(Customer.class).view("(id,name)");
+    assertThat(view).isSameAs(jsonb.type(Customer.class).view("(id,name)"));
+    assertThat(view.toJson(new Customer(1, "a", 2, List.of()))).isEqualTo("{\"id\":1,\"name\":\"a\"}");
+    assertThat(built.get()).isEqualTo(1);
+  }
+
+  @Test
+  void roundTrips_notRecordedByMetrics() {
+    CounterAdapter adapter = new CounterAdapter();
+    AtomicInteger recorded = new AtomicInteger();
+    Jsonb jsonb = Jsonb.builder()
+      .add(Counter.class, adapter)
+      .metrics((type, direction, view) -> (bytes, nanos) -> recorded.incrementAndGet())
+      .build();
+
+    jsonb.warmup(List.of(), WarmupOptions.options()
+      .sample(Counter.class, new Counter(42))
+      .sample(Types.mapOf(Integer.class), Map.of("a", 1))
+      .iterations(100));
+
+    assertThat(adapter.writes.get()).isEqualTo(100);
+    assertThat(adapter.reads.get()).isEqualTo(100);
+    assertThat(recorded.get()).isZero();
+  }
+
+  @Test
+  void pooledBuffers_lockFree() {
+    Jsonb jsonb = Jsonb.builder().bufferRecycling(BufferRecycleStrategy.LOCK_FREE).build();
+    jsonb.warmup(List.of(String.class), WarmupOptions.options().pooledBuffers(4));
+
+    long created = Jsonb.bufferStats().generatorCreated();
+    jsonb.warmup(List.of(String.class), WarmupOptions.options().pooledBuffers(4));
+    assertThat(Jsonb.bufferStats().generatorCreated()).isEqualTo(created);
+
+    assertThat(jsonb.toJson("hello")).isEqualTo("\"hello\"");
+    assertThat(jsonb.type(String.class).fromJson("\"hello\"")).isEqualTo("hello");
+    assertThat(Jsonb.bufferStats().generatorCreated()).isEqualTo(created);
+  }
+}
@@ -0,0 +1,86 @@
+package io.avaje.jsonb.core;
+
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.Jsonb;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WriteTargetTest {
+
+  static final Jsonb jsonb = Jsonb.builder().build();
+  static final JsonType<Map<String, Object>> type = jsonb.type(Object.class).map();
+
+  static Map<String, Object> value() {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("a", 1L);
+    map.put("b", "two");
+    return map;
+  }
+
+  @Test
+  void toJson_array() {
+    byte[] target = new byte[100];
+    int length = type.toJson(value(), target, 10);
+    assertThat(new String(target, 10, length, StandardCharsets.UTF_8)).isEqualTo("{\"a\":1,\"b\":\"two\"}");
+    assertThatThrownBy(() -> type.toJson(value(), new byte[20], 10)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void toJson_heapByteBuffer() {
+    ByteBuffer target = ByteBuffer.allocate(100);
+    target.put((byte) '[');
+    int length = type.toJson(value(), target);
+    assertThat(length).isEqualTo(17);
+    assertThat(target.position()).isEqualTo(18);
+    assertThat(new String(target.array(), 1, length, StandardCharsets.UTF_8)).isEqualTo("{\"a\":1,\"b\":\"two\"}");
+    assertThatThrownBy(() -> type.toJson(value(), ByteBuffer.allocate(10))).isInstanceOf(BufferOverflowException.class);
+  }
+
+  @Test
+  void toJson_limitedOrDirectByteBuffer() {
+    byte[] backing = new byte[100];
+    ByteBuffer limited = ByteBuffer.wrap(backing, 0, 50);
+    assertThat(type.toJson(value(), limited)).isEqualTo(17);
+    // content after the limit is not overwritten
+    assertThat(backing[60]).isEqualTo((byte) 0);
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(100);
+    assertThat(type.toJson(value(), direct)).isEqualTo(17);
+    direct.flip();
+    assertThat(StandardCharsets.UTF_8.decode(direct).toString()).isEqualTo("{\"a\":1,\"b\":\"two\"}");
+  }
+
+  @Test
+  void sizeEstimate() {
+    SizeEstimate size = new SizeEstimate();
+    size.record(10_000);
+    assertThat(size.hint()).isEqualTo(11_250);
+    size.record(9_000);
+    assertThat(size.hint()).isEqualTo(11_250);
+    size.record(100);
+    assertThat(size.hint()).isEqualTo(8_438);
+    for (int i = 0; i < 50; i++) {
+      size.record(100);
+    }
+    assertThat(size.hint()).isLessThan(300);
+  }
+
+  @Test
+  void toJsonBytes_largeContent() {
+    Map<String, Object> large = new LinkedHashMap<>();
+    for (int i = 0; i < 2_000; i++) {
+      large.put("key" + i, "value" + i);
+    }
+    String first = type.toJson(large);
+    assertThat(type.toJson(large)).isEqualTo(first);
+    assertThat(new String(type.toJsonBytes(large), StandardCharsets.UTF_8)).isEqualTo(first);
+  }
+}